@@ -18,6 +18,7 @@
 package com.alee.api.clone.behavior;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
 import com.alee.api.clone.CloneException;
 import com.alee.api.clone.GlobalCloneBehavior;
@@ -28,7 +29,10 @@ import com.alee.utils.reflection.ModifierType;
 import com.alee.utils.reflection.Unsafe;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link GlobalCloneBehavior} for any types of {@link Object}.
@@ -52,6 +56,12 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
     @NotNull
     private final List<ModifierType> ignoredModifiers;
 
+    /**
+     * {@link ClonePlan}s cached for each cloned {@link Class}.
+     */
+    @Nullable
+    private transient volatile Map<Class<?>, ClonePlan> plans;
+
     /**
      * Constructs new {@link ReflectionCloneBehavior} ignoring fields with specified modifiers.
      *
@@ -83,59 +93,50 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
 
         /**
          * Cloning field values.
+         * All field information is resolved only once per class and is cached within {@link ClonePlan}.
          */
-        final List<Field> fields = ReflectUtils.getFields ( object );
-        if ( !fields.isEmpty () )
+        final ClonePlan plan = getPlan ( object.getClass () );
+        if ( plan.hasFields )
         {
             // Storing object copy
             clone.store ( object, copy );
 
             // Cloning all field values excluding ones with ignored modifiers or annotated with OmitFieldClone
-            for ( final Field field : fields )
+            for ( final FieldPlan field : plan.fields )
             {
-                if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                if ( field.preserve )
                 {
-                    final boolean preserve = field.getAnnotation ( PreserveOnClone.class ) != null;
-                    final boolean omit = field.getAnnotation ( OmitOnClone.class ) != null;
-                    if ( preserve && omit )
+                    try
+                    {
+                        // Retrieving original object field value
+                        final Object value = field.field.get ( object );
+
+                        // Updating field
+                        field.set ( copy, value );
+                    }
+                    catch ( final Exception e )
                     {
-                        // Ensure annotations are used properly and objective is clear
-                        throw new CloneException ( "Mutually exclusive annotations are used for field: " + field );
+                        // Something went totally wrong
+                        throw new CloneException ( "Unable to preserve object field: " + field.field, e );
                     }
-                    else if ( preserve )
+                }
+                else
+                {
+                    try
                     {
-                        try
-                        {
-                            // Retrieving original object field value
-                            final Object value = field.get ( object );
-
-                            // Updating field
-                            ReflectUtils.setFieldValue ( copy, field, value );
-                        }
-                        catch ( final Exception e )
-                        {
-                            // Something went totally wrong
-                            throw new CloneException ( "Unable to preserve object field: " + field, e );
-                        }
+                        // Retrieving original object field value
+                        final Object value = field.field.get ( object );
+
+                        // Creating value clone if possible
+                        final Object valueCopy = clone.clone ( value, depth + 1 );
+
+                        // Updating field
+                        field.set ( copy, valueCopy );
                     }
-                    else if ( !omit )
+                    catch ( final Exception e )
                     {
-                        try
-                        {
-                            // Retrieving original object field value
-                            final Object value = field.get ( object );
-
-                            // Creating value clone if possible
-                            final Object valueCopy = clone.clone ( value, depth + 1 );
-
-                            // Updating field
-                            ReflectUtils.setFieldValue ( copy, field, valueCopy );
-                        }
-                        catch ( final Exception e )
-                        {
-                            // Something went totally wrong
-                            throw new CloneException ( "Unable to clone object field: " + field, e );
-                        }
+                        // Something went totally wrong
+                        throw new CloneException ( "Unable to clone object field: " + field.field, e );
                     }
                 }
             }
@@ -144,12 +145,149 @@ public class ReflectionCloneBehavior<O> implements GlobalCloneBehavior<O>
         return copy;
     }
 
+    /**
+     * Returns {@link ClonePlan} for the specified {@link Class}.
+     *
+     * @param type {@link Class} to return {@link ClonePlan} for
+     * @return {@link ClonePlan} for the specified {@link Class}
+     */
+    @NotNull
+    protected ClonePlan getPlan ( @NotNull final Class<?> type )
+    {
+        if ( plans == null )
+        {
+            synchronized ( this )
+            {
+                if ( plans == null )
+                {
+                    plans = new ConcurrentHashMap<Class<?>, ClonePlan> ();
+                }
+            }
+        }
+        ClonePlan plan = plans.get ( type );
+        if ( plan == null )
+        {
+            plan = createPlan ( type );
+            plans.put ( type, plan );
+        }
+        return plan;
+    }
+
+    /**
+     * Returns new {@link ClonePlan} for the specified {@link Class}.
+     *
+     * @param type {@link Class} to create {@link ClonePlan} for
+     * @return new {@link ClonePlan} for the specified {@link Class}
+     */
+    @NotNull
+    protected ClonePlan createPlan ( @NotNull final Class<?> type )
+    {
+        final List<Field> fields = ReflectUtils.getFields ( type );
+        final List<FieldPlan> fieldPlans = new ArrayList<FieldPlan> ( fields.size () );
+        for ( final Field field : fields )
+        {
+            if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+            {
+                final boolean preserve = field.getAnnotation ( PreserveOnClone.class ) != null;
+                final boolean omit = field.getAnnotation ( OmitOnClone.class ) != null;
+                if ( preserve && omit )
+                {
+                    // Ensure annotations are used properly and objective is clear
+                    throw new CloneException ( "Mutually exclusive annotations are used for field: " + field );
+                }
+                else if ( !omit )
+                {
+                    fieldPlans.add ( new FieldPlan ( field, preserve || field.getType ().isPrimitive () ) );
+                }
+            }
+        }
+        return new ClonePlan ( !fields.isEmpty (), fieldPlans.toArray ( new FieldPlan[ fieldPlans.size () ] ) );
+    }
+
     @Override
     public boolean isStorable ()
     {
         return true;
     }
 
+    /**
+     * Resolved information about {@link Class} fields required to clone its instances.
+     */
+    protected static final class ClonePlan
+    {
+        /**
+         * Whether or not {@link Class} has any non-static fields.
+         */
+        protected final boolean hasFields;
+
+        /**
+         * {@link FieldPlan}s for fields that should be copied.
+         */
+        @NotNull
+        protected final FieldPlan[] fields;
+
+        /**
+         * Constructs new {@link ClonePlan}.
+         *
+         * @param hasFields whether or not {@link Class} has any non-static fields
+         * @param fields    {@link FieldPlan}s for fields that should be copied
+         */
+        protected ClonePlan ( final boolean hasFields, @NotNull final FieldPlan[] fields )
+        {
+            this.hasFields = hasFields;
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Resolved information about single {@link Field}.
+     */
+    protected static final class FieldPlan
+    {
+        /**
+         * Accessible {@link Field}.
+         */
+        @NotNull
+        protected final Field field;
+
+        /**
+         * Whether or not field value should be preserved instead of being cloned.
+         * Primitive values are always preserved as there is nothing to clone.
+         */
+        protected final boolean preserve;
+
+        /**
+         * Whether or not field value can be set directly.
+         * It is not possible for some final fields in which case {@link ReflectUtils#setFieldValue(Object, Field, Object)} is used.
+         */
+        protected boolean direct;
+
+        /**
+         * Constructs new {@link FieldPlan}.
+         *
+         * @param field    accessible {@link Field}
+         * @param preserve whether or not field value should be preserved instead of being cloned
+         */
+        protected FieldPlan ( @NotNull final Field field, final boolean preserve )
+        {
+            this.field = field;
+            this.preserve = preserve;
+            this.direct = true;
+        }
+
+        /**
+         * Sets field value for the specified object.
+         *
+         * @param object object to set field value for
+         * @param value  field value
+         * @throws IllegalAccessException if field is inaccessible
+         */
+        protected void set ( @NotNull final Object object, @Nullable final Object value ) throws IllegalAccessException
+        {
+            direct = ReflectUtils.setFieldValue ( object, field, value, direct );
+        }
+    }
+
     /**
      * Behavior policy.
      */
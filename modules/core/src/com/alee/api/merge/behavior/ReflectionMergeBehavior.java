@@ -18,6 +18,7 @@
 package com.alee.api.merge.behavior;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.merge.*;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.ReflectUtils;
@@ -25,7 +26,10 @@ import com.alee.utils.reflection.ClassRelationType;
 import com.alee.utils.reflection.ModifierType;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tricky merge behavior for any types of {@link Object} with related class types.
@@ -53,6 +57,12 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
     @NotNull
     private final List<ModifierType> ignoredModifiers;
 
+    /**
+     * {@link MergePlan}s cached for each merged {@link Class}.
+     */
+    @Nullable
+    private transient volatile Map<Class<?>, MergePlan> plans;
+
     /**
      * Constructs new {@link ReflectionMergeBehavior} ignoring fields with specified modifiers.
      *
@@ -86,78 +96,59 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
         if ( relation.isSame () || relation.isAncestor () )
         {
             // Using fields from merged object as it is either an instance of the same or parent class
-            final List<Field> fields = ReflectUtils.getFields ( merged.getClass () );
+            // All field information is resolved only once per class and is cached within MergePlan
+            final MergePlan plan = getPlan ( merged.getClass () );
 
-            // Continue only if there are any fields to merge
-            if ( CollectionUtils.notEmpty ( fields ) )
+            // Performing merge for each separate field
+            for ( final FieldPlan field : plan.fields )
             {
-                // Performing merge for each separate field
-                for ( final Field field : fields )
+                if ( field.omit )
                 {
-                    // Ensure that this field should not be ignored
-                    if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+                    try
                     {
-                        final Class<?> fieldType = field.getType ();
-                        if ( field.getAnnotation ( OmitOnMerge.class ) != null )
+                        // Nullifying field value
+                        field.set ( base, field.omitValue );
+                    }
+                    catch ( final Exception e )
+                    {
+                        // Throwing merge exception
+                        final String message = "Unable to omit field {%s} value";
+                        throw new MergeException ( String.format ( message, field.field ), e );
+                    }
+                }
+                else
+                {
+                    try
+                    {
+                        // Resolving merge result
+                        final Object mergeResult;
+                        final Object baseValue = field.field.get ( base );
+                        final Object mergedValue = field.field.get ( merged );
+                        if ( !field.overwrite )
                         {
-                            try
-                            {
-                                // Retrieving default value
-                                final Object value;
-                                if ( fieldType.isPrimitive () )
-                                {
-                                    value = ReflectUtils.getDefaultPrimitiveValue ( fieldType );
-                                }
-                                else
-                                {
-                                    value = null;
-                                }
-
-                                // Nullifying field value
-                                ReflectUtils.setFieldValue ( base, field, value );
-                            }
-                            catch ( final Exception e )
-                            {
-                                // Throwing merge exception
-                                final String message = "Unable to omit field {%s} value";
-                                throw new MergeException ( String.format ( message, field ), e );
-                            }
+                            /**
+                             * Allowing {@link Merge} to merge field values.
+                             * It is important to delegate this task to {@link Merge} as soon as possible to preserve its behavior.
+                             */
+                            mergeResult = merge.merge ( field.field.getType (), baseValue, mergedValue, depth + 1 );
                         }
-                        else if ( field.getAnnotation ( PreserveOnMerge.class ) == null )
+                        else
                         {
-                            try
-                            {
-                                // Resolving merge result
-                                final Object mergeResult;
-                                final Object baseValue = field.get ( base );
-                                final Object mergedValue = field.get ( merged );
-                                if ( field.getAnnotation ( OverwriteOnMerge.class ) == null )
-                                {
-                                    /**
-                                     * Allowing {@link Merge} to merge field values.
-                                     * It is important to delegate this task to {@link Merge} as soon as possible to preserve its behavior.
-                                     */
-                                    mergeResult = merge.merge ( fieldType, baseValue, mergedValue, depth + 1 );
-                                }
-                                else
-                                {
-                                    /**
-                                     * Allowing {@link Merge} to overwrite field value.
-                                     * We have to rely on {@link Merge} due to merged object possibly being {@code null}.
-                                     */
-                                    mergeResult = merge.overwrite ( baseValue, mergedValue );
-                                }
-
-                                // Saving merged value
-                                ReflectUtils.setFieldValue ( base, field, mergeResult );
-                            }
-                            catch ( final Exception e )
-                            {
-                                // Throwing merge exception
-                                final String message = "Unable to merge field {%s} values for objects {%s} and {%s}";
-                                throw new MergeException ( String.format ( message, field, base, merged ), e );
-                            }
+                            /**
+                             * Allowing {@link Merge} to overwrite field value.
+                             * We have to rely on {@link Merge} due to merged object possibly being {@code null}.
+                             */
+                            mergeResult = merge.overwrite ( baseValue, mergedValue );
                         }
+
+                        // Saving merged value
+                        field.set ( base, mergeResult );
+                    }
+                    catch ( final Exception e )
+                    {
+                        // Throwing merge exception
+                        final String message = "Unable to merge field {%s} values for objects {%s} and {%s}";
+                        throw new MergeException ( String.format ( message, field.field, base, merged ), e );
                     }
                 }
             }
@@ -174,6 +165,152 @@ public class ReflectionMergeBehavior implements GlobalMergeBehavior<Object, Obje
         return result;
     }
 
+    /**
+     * Returns {@link MergePlan} for the specified {@link Class}.
+     *
+     * @param type {@link Class} to return {@link MergePlan} for
+     * @return {@link MergePlan} for the specified {@link Class}
+     */
+    @NotNull
+    protected MergePlan getPlan ( @NotNull final Class<?> type )
+    {
+        if ( plans == null )
+        {
+            synchronized ( this )
+            {
+                if ( plans == null )
+                {
+                    plans = new ConcurrentHashMap<Class<?>, MergePlan> ();
+                }
+            }
+        }
+        MergePlan plan = plans.get ( type );
+        if ( plan == null )
+        {
+            plan = createPlan ( type );
+            plans.put ( type, plan );
+        }
+        return plan;
+    }
+
+    /**
+     * Returns new {@link MergePlan} for the specified {@link Class}.
+     *
+     * @param type {@link Class} to create {@link MergePlan} for
+     * @return new {@link MergePlan} for the specified {@link Class}
+     */
+    @NotNull
+    protected MergePlan createPlan ( @NotNull final Class<?> type )
+    {
+        final List<Field> fields = ReflectUtils.getFields ( type );
+        final List<FieldPlan> fieldPlans = new ArrayList<FieldPlan> ( fields.size () );
+        for ( final Field field : fields )
+        {
+            // Ensure that this field should not be ignored
+            if ( ReflectUtils.hasNoneOfModifiers ( field, ignoredModifiers ) )
+            {
+                if ( field.getAnnotation ( OmitOnMerge.class ) != null )
+                {
+                    // Retrieving default value
+                    final Class<?> fieldType = field.getType ();
+                    final Object value = fieldType.isPrimitive () ? ReflectUtils.getDefaultPrimitiveValue ( fieldType ) : null;
+                    fieldPlans.add ( new FieldPlan ( field, true, value, false ) );
+                }
+                else if ( field.getAnnotation ( PreserveOnMerge.class ) == null )
+                {
+                    final boolean overwrite = field.getAnnotation ( OverwriteOnMerge.class ) != null;
+                    fieldPlans.add ( new FieldPlan ( field, false, null, overwrite ) );
+                }
+            }
+        }
+        return new MergePlan ( fieldPlans.toArray ( new FieldPlan[ fieldPlans.size () ] ) );
+    }
+
+    /**
+     * Resolved information about {@link Class} fields required to merge its instances.
+     */
+    protected static final class MergePlan
+    {
+        /**
+         * {@link FieldPlan}s for fields that should be merged or omitted.
+         */
+        @NotNull
+        protected final FieldPlan[] fields;
+
+        /**
+         * Constructs new {@link MergePlan}.
+         *
+         * @param fields {@link FieldPlan}s for fields that should be merged or omitted
+         */
+        protected MergePlan ( @NotNull final FieldPlan[] fields )
+        {
+            this.fields = fields;
+        }
+    }
+
+    /**
+     * Resolved information about single {@link Field}.
+     */
+    protected static final class FieldPlan
+    {
+        /**
+         * Accessible {@link Field}.
+         */
+        @NotNull
+        protected final Field field;
+
+        /**
+         * Whether or not field value should be omitted.
+         */
+        protected final boolean omit;
+
+        /**
+         * Value set into omitted field.
+         */
+        @Nullable
+        protected final Object omitValue;
+
+        /**
+         * Whether or not field value should be overwritten instead of being merged.
+         */
+        protected final boolean overwrite;
+
+        /**
+         * Whether or not field value can be set directly.
+         * It is not possible for some final fields in which case {@link ReflectUtils#setFieldValue(Object, Field, Object)} is used.
+         */
+        protected boolean direct;
+
+        /**
+         * Constructs new {@link FieldPlan}.
+         *
+         * @param field     accessible {@link Field}
+         * @param omit      whether or not field value should be omitted
+         * @param omitValue value set into omitted field
+         * @param overwrite whether or not field value should be overwritten instead of being merged
+         */
+        protected FieldPlan ( @NotNull final Field field, final boolean omit, @Nullable final Object omitValue, final boolean overwrite )
+        {
+            this.field = field;
+            this.omit = omit;
+            this.omitValue = omitValue;
+            this.overwrite = overwrite;
+            this.direct = true;
+        }
+
+        /**
+         * Sets field value for the specified object.
+         *
+         * @param object object to set field value for
+         * @param value  field value
+         * @throws IllegalAccessException if field is inaccessible
+         */
+        protected void set ( @NotNull final Object object, @Nullable final Object value ) throws IllegalAccessException
+        {
+            direct = ReflectUtils.setFieldValue ( object, field, value, direct );
+        }
+    }
+
     /**
      * Behavior policy.
      */
@@ -94,8 +94,8 @@ public class BoxBlurFilter extends AbstractBufferedImageOp
             dst = createCompatibleDestImage ( src, null );
         }
 
-        final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
+        final int[] inPixels = FilterExecutor.acquireBuffer ( width * height );
+        final int[] outPixels = FilterExecutor.acquireBuffer ( width * height );
         getRGB ( src, 0, 0, width, height, inPixels );
 
         for ( int i = 0; i < iterations; i++ )
@@ -105,12 +105,13 @@ public class BoxBlurFilter extends AbstractBufferedImageOp
         }
 
         setRGB ( dst, 0, 0, width, height, inPixels );
+        FilterExecutor.releaseBuffer ( inPixels );
+        FilterExecutor.releaseBuffer ( outPixels );
         return dst;
     }
 
     public static void blur ( final int[] in, final int[] out, final int width, final int height, final int radius )
     {
-        final int widthMinus1 = width - 1;
         final int tableSize = 2 * radius + 1;
         final int[] divide = new int[ 256 * tableSize ];
 
@@ -119,9 +120,35 @@ public class BoxBlurFilter extends AbstractBufferedImageOp
             divide[ i ] = i / tableSize;
         }
 
-        int inIndex = 0;
+        FilterExecutor.execute ( height, width, new RowsTask ()
+        {
+            @Override
+            public void process ( final int from, final int to )
+            {
+                blur ( in, out, width, height, radius, divide, from, to );
+            }
+        } );
+    }
+
+    /**
+     * Blur and transpose a range of rows.
+     *
+     * @param in     the input pixels
+     * @param out    the output pixels
+     * @param width  the width
+     * @param height the height
+     * @param radius the blur radius
+     * @param divide the division table
+     * @param from   first row index, inclusive
+     * @param to     last row index, exclusive
+     */
+    private static void blur ( final int[] in, final int[] out, final int width, final int height, final int radius,
+                               final int[] divide, final int from, final int to )
+    {
+        final int widthMinus1 = width - 1;
+        int inIndex = from * width;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = from; y < to; y++ )
         {
             int outIndex = y;
             int ta = 0, tr = 0, tg = 0, tb = 0;
@@ -107,13 +107,15 @@ public class ConvolveFilter extends AbstractBufferedImageOp
             dst = createCompatibleDestImage ( src, null );
         }
 
-        final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
+        final int[] inPixels = FilterExecutor.acquireBuffer ( width * height );
+        final int[] outPixels = FilterExecutor.acquireBuffer ( width * height );
         getRGB ( src, 0, 0, width, height, inPixels );
 
         convolve ( kernel, inPixels, outPixels, width, height, alpha, edgeAction );
 
         setRGB ( dst, 0, 0, width, height, outPixels );
+        FilterExecutor.releaseBuffer ( inPixels );
+        FilterExecutor.releaseBuffer ( outPixels );
         return dst;
     }
 
@@ -177,14 +179,30 @@ public class ConvolveFilter extends AbstractBufferedImageOp
      */
     public static void convolveHV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
     {
-        int index = 0;
+        FilterExecutor.execute ( height, width, new RowsTask ()
+        {
+            @Override
+            public void process ( final int from, final int to )
+            {
+                convolveHV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, from, to );
+            }
+        } );
+    }
+
+    /**
+     * Convolve a range of rows with a 2D kernel
+     */
+    private static void convolveHV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                   final boolean alpha, final int edgeAction, final int from, final int to )
+    {
+        int index = from * width;
         final float[] matrix = kernel.getKernelData ( null );
         final int rows = kernel.getHeight ();
         final int cols = kernel.getWidth ();
         final int rows2 = rows / 2;
         final int cols2 = cols / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = from; y < to; y++ )
         {
             for ( int x = 0; x < width; x++ )
             {
@@ -255,12 +273,28 @@ public class ConvolveFilter extends AbstractBufferedImageOp
      */
     public static void convolveH ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
     {
-        int index = 0;
+        FilterExecutor.execute ( height, width, new RowsTask ()
+        {
+            @Override
+            public void process ( final int from, final int to )
+            {
+                convolveH ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, from, to );
+            }
+        } );
+    }
+
+    /**
+     * Convolve a range of rows with a kernel consisting of one row
+     */
+    private static void convolveH ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                  final boolean alpha, final int edgeAction, final int from, final int to )
+    {
+        int index = from * width;
         final float[] matrix = kernel.getKernelData ( null );
         final int cols = kernel.getWidth ();
         final int cols2 = cols / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = from; y < to; y++ )
         {
             final int iOffset = y * width;
             for ( int x = 0; x < width; x++ )
@@ -316,12 +350,28 @@ public class ConvolveFilter extends AbstractBufferedImageOp
      */
     public static void convolveV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height, final boolean alpha, final int edgeAction )
     {
-        int index = 0;
+        FilterExecutor.execute ( height, width, new RowsTask ()
+        {
+            @Override
+            public void process ( final int from, final int to )
+            {
+                convolveV ( kernel, inPixels, outPixels, width, height, alpha, edgeAction, from, to );
+            }
+        } );
+    }
+
+    /**
+     * Convolve a range of rows with a kernel consisting of one column
+     */
+    private static void convolveV ( final Kernel kernel, final int[] inPixels, final int[] outPixels, final int width, final int height,
+                                  final boolean alpha, final int edgeAction, final int from, final int to )
+    {
+        int index = from * width;
         final float[] matrix = kernel.getKernelData ( null );
         final int rows = kernel.getHeight ();
         final int rows2 = rows / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = from; y < to; y++ )
         {
             for ( int x = 0; x < width; x++ )
             {
@@ -0,0 +1,256 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.utils.UtilityException;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Utility class providing tiled execution and pixel buffers reuse for filters.
+ *
+ * Filters that process image rows independently split them into tiles of adjacent rows.
+ * Tiles are processed on a shared pool of daemon threads while the calling thread processes the first tile itself.
+ * Small images are processed on the calling thread right away since splitting them only adds overhead.
+ *
+ * Pixel buffers used by filters internally can be acquired from and released back into a small pool to avoid allocating
+ * new arrays on each filter call. Only buffers that do not exceed {@link #MAX_POOLED_BUFFER_SIZE} are kept in the pool.
+ *
+ * @author Mikle Garin
+ */
+public final class FilterExecutor
+{
+    /**
+     * Default minimum amount of pixels processed at which work is split into tiles.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 128 * 128;
+
+    /**
+     * Maximum size of pixel buffer kept in the pool.
+     */
+    public static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+
+    /**
+     * Maximum amount of pixel buffers kept in the pool.
+     */
+    private static final int MAX_POOLED_BUFFERS = 4;
+
+    /**
+     * Amount of threads available for tiles processing.
+     */
+    private static final int parallelism = Runtime.getRuntime ().availableProcessors ();
+
+    /**
+     * Minimum amount of pixels processed at which work is split into tiles.
+     */
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * Tiles {@link ExecutorService}.
+     * It is created lazily upon first tiled execution.
+     */
+    private static ExecutorService executor;
+
+    /**
+     * Pooled pixel buffers.
+     */
+    @NotNull
+    private static final List<int[]> buffers = new ArrayList<int[]> ( MAX_POOLED_BUFFERS );
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private FilterExecutor ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns minimum amount of pixels processed at which work is split into tiles.
+     *
+     * @return minimum amount of pixels processed at which work is split into tiles
+     */
+    public static int getParallelThreshold ()
+    {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets minimum amount of pixels processed at which work is split into tiles.
+     * {@link Integer#MAX_VALUE} can be used to disable tiled execution.
+     *
+     * @param threshold minimum amount of pixels processed at which work is split into tiles
+     */
+    public static void setParallelThreshold ( final int threshold )
+    {
+        FilterExecutor.parallelThreshold = threshold;
+    }
+
+    /**
+     * Processes specified amount of rows using {@link RowsTask}.
+     * Rows are split into tiles processed in parallel if total amount of pixels exceeds {@link #getParallelThreshold()}.
+     * This method returns only once all rows are processed.
+     *
+     * @param rows   amount of rows to process
+     * @param length amount of pixels in each row
+     * @param task   {@link RowsTask}
+     */
+    public static void execute ( final int rows, final int length, @NotNull final RowsTask task )
+    {
+        final int tiles = Math.min ( parallelism, rows );
+        if ( tiles > 1 && ( long ) rows * length >= parallelThreshold )
+        {
+            final ExecutorService executor = getExecutor ();
+            final List<Future<?>> futures = new ArrayList<Future<?>> ( tiles - 1 );
+            for ( int tile = 1; tile < tiles; tile++ )
+            {
+                final int from = rows * tile / tiles;
+                final int to = rows * ( tile + 1 ) / tiles;
+                futures.add ( executor.submit ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        task.process ( from, to );
+                    }
+                } ) );
+            }
+            task.process ( 0, rows / tiles );
+            try
+            {
+                for ( final Future<?> future : futures )
+                {
+                    future.get ();
+                }
+            }
+            catch ( final InterruptedException e )
+            {
+                Thread.currentThread ().interrupt ();
+                throw new RuntimeException ( "Filter execution was interrupted", e );
+            }
+            catch ( final ExecutionException e )
+            {
+                throw new RuntimeException ( "Unable to process filter tile", e.getCause () );
+            }
+        }
+        else
+        {
+            task.process ( 0, rows );
+        }
+    }
+
+    /**
+     * Returns pixel buffer that can hold at least specified amount of pixels.
+     * Returned buffer might be larger than requested and might contain data left from previous usage.
+     *
+     * @param size minimum amount of pixels
+     * @return pixel buffer that can hold at least specified amount of pixels
+     */
+    @NotNull
+    public static int[] acquireBuffer ( final int size )
+    {
+        if ( size <= MAX_POOLED_BUFFER_SIZE )
+        {
+            synchronized ( buffers )
+            {
+                int[] best = null;
+                for ( final int[] buffer : buffers )
+                {
+                    if ( buffer.length >= size && ( best == null || buffer.length < best.length ) )
+                    {
+                        best = buffer;
+                    }
+                }
+                if ( best != null )
+                {
+                    // Removing exactly this array instance
+                    final Iterator<int[]> iterator = buffers.iterator ();
+                    while ( iterator.hasNext () )
+                    {
+                        if ( iterator.next () == best )
+                        {
+                            iterator.remove ();
+                            break;
+                        }
+                    }
+                    return best;
+                }
+            }
+        }
+        return new int[ size ];
+    }
+
+    /**
+     * Returns pixel buffer into the pool.
+     * Buffer must not be used by the caller afterwards.
+     *
+     * @param buffer pixel buffer
+     */
+    public static void releaseBuffer ( @NotNull final int[] buffer )
+    {
+        if ( buffer.length <= MAX_POOLED_BUFFER_SIZE )
+        {
+            synchronized ( buffers )
+            {
+                if ( buffers.size () < MAX_POOLED_BUFFERS )
+                {
+                    buffers.add ( buffer );
+                }
+                else
+                {
+                    // Replacing smallest pooled buffer to keep more useful ones
+                    int smallest = 0;
+                    for ( int i = 1; i < buffers.size (); i++ )
+                    {
+                        if ( buffers.get ( i ).length < buffers.get ( smallest ).length )
+                        {
+                            smallest = i;
+                        }
+                    }
+                    if ( buffers.get ( smallest ).length < buffer.length )
+                    {
+                        buffers.set ( smallest, buffer );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns tiles {@link ExecutorService}.
+     *
+     * @return tiles {@link ExecutorService}
+     */
+    @NotNull
+    private static synchronized ExecutorService getExecutor ()
+    {
+        if ( executor == null )
+        {
+            executor = Executors.newFixedThreadPool ( parallelism - 1, new DaemonThreadFactory ( "FilterExecutor" ) );
+        }
+        return executor;
+    }
+}
@@ -27,8 +27,14 @@ import java.awt.image.Kernel;
  */
 public class GaussianFilter extends ConvolveFilter
 {
+    /**
+     * Default radius starting from which blur is approximated with three box blur passes.
+     */
+    public static final float DEFAULT_APPROXIMATION_RADIUS = 32;
+
     protected float radius;
     protected Kernel kernel;
+    protected float approximationRadius = DEFAULT_APPROXIMATION_RADIUS;
 
     /**
      * Construct a Gaussian filter
@@ -69,6 +75,28 @@ public class GaussianFilter extends ConvolveFilter
         return radius;
     }
 
+    /**
+     * Set the radius starting from which blur is approximated with three running-sum box blur passes.
+     * Approximation takes the same time for any radius while convolution time grows linearly with the radius.
+     * Approximation is only used when alpha channel is blurred as well.
+     *
+     * @param approximationRadius radius starting from which blur is approximated, {@link Float#MAX_VALUE} to disable approximation
+     */
+    public void setApproximationRadius ( final float approximationRadius )
+    {
+        this.approximationRadius = approximationRadius;
+    }
+
+    /**
+     * Get the radius starting from which blur is approximated with three running-sum box blur passes.
+     *
+     * @return the radius starting from which blur is approximated
+     */
+    public float getApproximationRadius ()
+    {
+        return approximationRadius;
+    }
+
     @Override
     public BufferedImage filter ( final BufferedImage src, BufferedImage dst )
     {
@@ -80,14 +108,30 @@ public class GaussianFilter extends ConvolveFilter
             dst = createCompatibleDestImage ( src, null );
         }
 
-        final int[] inPixels = new int[ width * height ];
-        final int[] outPixels = new int[ width * height ];
+        final int[] inPixels = FilterExecutor.acquireBuffer ( width * height );
+        final int[] outPixels = FilterExecutor.acquireBuffer ( width * height );
         src.getRGB ( 0, 0, width, height, inPixels, 0, width );
 
-        convolveAndTranspose ( kernel, inPixels, outPixels, width, height, alpha, CLAMP_EDGES );
-        convolveAndTranspose ( kernel, outPixels, inPixels, height, width, alpha, CLAMP_EDGES );
+        if ( alpha && radius >= approximationRadius )
+        {
+            // Three box blur passes with matching variance
+            final float sigma = radius / 3;
+            final int boxRadius = Math.round ( ( ( float ) Math.sqrt ( 4 * sigma * sigma + 1 ) - 1 ) / 2 );
+            for ( int i = 0; i < 3; i++ )
+            {
+                BoxBlurFilter.blur ( inPixels, outPixels, width, height, boxRadius );
+                BoxBlurFilter.blur ( outPixels, inPixels, height, width, boxRadius );
+            }
+        }
+        else
+        {
+            convolveAndTranspose ( kernel, inPixels, outPixels, width, height, alpha, CLAMP_EDGES );
+            convolveAndTranspose ( kernel, outPixels, inPixels, height, width, alpha, CLAMP_EDGES );
+        }
 
         dst.setRGB ( 0, 0, width, height, inPixels, 0, width );
+        FilterExecutor.releaseBuffer ( inPixels );
+        FilterExecutor.releaseBuffer ( outPixels );
         return dst;
     }
 
@@ -96,9 +140,37 @@ public class GaussianFilter extends ConvolveFilter
     {
         final float[] matrix = kernel.getKernelData ( null );
         final int cols = kernel.getWidth ();
+        FilterExecutor.execute ( height, width, new RowsTask ()
+        {
+            @Override
+            public void process ( final int from, final int to )
+            {
+                convolveAndTranspose ( matrix, cols, inPixels, outPixels, width, height, alpha, edgeAction, from, to );
+            }
+        } );
+    }
+
+    /**
+     * Blur and transpose a range of rows.
+     *
+     * @param matrix     the kernel data
+     * @param cols       the kernel width
+     * @param inPixels   the input pixels
+     * @param outPixels  the output pixels
+     * @param width      the width
+     * @param height     the height
+     * @param alpha      whether to blur the alpha channel
+     * @param edgeAction what to do at the edges
+     * @param from       first row index, inclusive
+     * @param to         last row index, exclusive
+     */
+    private static void convolveAndTranspose ( final float[] matrix, final int cols, final int[] inPixels, final int[] outPixels,
+                                               final int width, final int height, final boolean alpha, final int edgeAction,
+                                               final int from, final int to )
+    {
         final int cols2 = cols / 2;
 
-        for ( int y = 0; y < height; y++ )
+        for ( int y = from; y < to; y++ )
         {
             int index = y;
             final int iOffset = y * width;
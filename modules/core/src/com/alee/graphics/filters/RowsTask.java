@@ -0,0 +1,35 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.filters;
+
+/**
+ * Task processing a range of image rows for {@link FilterExecutor}.
+ * It must only write pixels of the rows within the range since different ranges are processed simultaneously.
+ *
+ * @author Mikle Garin
+ */
+public interface RowsTask
+{
+    /**
+     * Processes rows within the specified range.
+     *
+     * @param from first row index, inclusive
+     * @param to   last row index, exclusive
+     */
+    public void process ( int from, int to );
+}
@@ -20,13 +20,19 @@ package com.alee.graphics.image.gif;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
-import java.io.BufferedInputStream;
-import java.io.FileInputStream;
-import java.io.IOException;
+import java.io.*;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
+ * GIF decoder.
+ *
+ * By default all frames are decoded into separate {@link BufferedImage}s while reading GIF.
+ * In streaming mode only compressed frame data is kept in memory and frames are decoded on demand into a small ring of reusable
+ * {@link BufferedImage}s, see {@link #setStreaming(boolean)}. Sequential frames access is cheap in that mode since each frame is
+ * composed on top of the previous one, while accessing frames in reverse order requires replaying them from the first frame.
+ *
  * @author Kevin Weiner, FM Software; LZW decoder adapted from John Cristy's ImageMagick.
  * @version 1.01 July 2001
  */
@@ -95,6 +101,59 @@ public class GifDecoder
     // frames read from current file
     private ArrayList frames;
     private int frameCount;
+    private int frameIndex;       // index of the frame being composed
+
+    // streaming mode
+    private boolean streaming = false;
+    private ArrayList<FrameData> framesData;  // compressed frames data
+    private BufferedImage[] canvases;         // reusable frame images
+    private int[] canvasFrames;               // indices of frames composed on canvases, -1 if none
+    private int displayedCanvas;              // canvas returned last, it is never composed on
+    private int composedFrame;                // index of the last composed frame
+    private GifDecoder copyDecoder;           // separate decoder composing frame copies
+
+    /**
+     * Returns whether or not streaming mode is enabled.
+     *
+     * @return {@code true} if streaming mode is enabled, {@code false} otherwise
+     */
+    public boolean isStreaming ()
+    {
+        return streaming;
+    }
+
+    /**
+     * Sets whether or not streaming mode is enabled.
+     * In streaming mode only compressed frames data is kept and frames are decoded on demand.
+     * {@link BufferedImage}s returned by {@link #getFrame(int)} in streaming mode are reused for subsequent frames.
+     * This mode must be set before reading GIF.
+     *
+     * @param streaming whether or not streaming mode is enabled
+     */
+    public void setStreaming ( final boolean streaming )
+    {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Returns full image width.
+     *
+     * @return full image width
+     */
+    public int getWidth ()
+    {
+        return width;
+    }
+
+    /**
+     * Returns full image height.
+     *
+     * @return full image height
+     */
+    public int getHeight ()
+    {
+        return height;
+    }
 
     /**
      * Returns pixel aspect ratio.
@@ -117,13 +176,14 @@ public class GifDecoder
         delay = -1;
         if ( n >= 0 && n < frameCount )
         {
-            delay = ( ( GifFrame ) frames.get ( n ) ).delay;
+            delay = streaming ? framesData.get ( n ).delay : ( ( GifFrame ) frames.get ( n ) ).delay;
         }
         return delay;
     }
 
     /**
      * Gets the image contents of frame n.
+     * In streaming mode frame is decoded on demand and returned {@link BufferedImage} is reused for subsequent frames.
      *
      * @param n frame number
      * @return {@link BufferedImage} representation of frame, or {@code null} if n is invalid
@@ -133,11 +193,77 @@ public class GifDecoder
         BufferedImage bi = null;
         if ( n >= 0 && n < frameCount )
         {
-            bi = ( ( GifFrame ) frames.get ( n ) ).bufferedImage;
+            bi = streaming ? composeFrames ( n ) : ( ( GifFrame ) frames.get ( n ) ).bufferedImage;
         }
         return bi;
     }
 
+    /**
+     * Returns copy of the image contents of frame n which is not reused by this decoder.
+     * In streaming mode copies are composed by a separate decoder, so images returned by {@link #getFrame(int)} are not affected.
+     *
+     * @param n frame number
+     * @return copy of the image contents of frame n, or {@code null} if n is invalid
+     */
+    public BufferedImage getFrameCopy ( final int n )
+    {
+        BufferedImage copy = null;
+        if ( n >= 0 && n < frameCount )
+        {
+            if ( streaming )
+            {
+                final GifDecoder decoder = getCopyDecoder ();
+                synchronized ( decoder )
+                {
+                    copy = copy ( decoder.composeFrames ( n ) );
+                }
+            }
+            else
+            {
+                copy = copy ( getFrame ( n ) );
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Returns copy of the specified frame image.
+     *
+     * @param frame frame image
+     * @return copy of the specified frame image
+     */
+    protected BufferedImage copy ( final BufferedImage frame )
+    {
+        final BufferedImage copy = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
+        final int[] src = ( ( DataBufferInt ) frame.getRaster ().getDataBuffer () ).getData ();
+        final int[] dest = ( ( DataBufferInt ) copy.getRaster ().getDataBuffer () ).getData ();
+        System.arraycopy ( src, 0, dest, 0, width * height );
+        return copy;
+    }
+
+    /**
+     * Returns decoder sharing compressed frames data with this one but composing frames into its own images.
+     * It is used in streaming mode to compose frame copies without touching images this decoder returns.
+     *
+     * @return decoder sharing compressed frames data with this one
+     */
+    protected synchronized GifDecoder getCopyDecoder ()
+    {
+        if ( copyDecoder == null )
+        {
+            copyDecoder = new GifDecoder ();
+            copyDecoder.init ();
+            copyDecoder.streaming = true;
+            copyDecoder.width = width;
+            copyDecoder.height = height;
+            copyDecoder.pixelAspect = pixelAspect;
+            copyDecoder.loopCount = loopCount;
+            copyDecoder.frameCount = frameCount;
+            copyDecoder.framesData = framesData;
+        }
+        return copyDecoder;
+    }
+
     /**
      * Gets the number of frames read from file.
      *
@@ -407,6 +533,13 @@ public class GifDecoder
         status = STATUS_OK;
         frameCount = 0;
         frames = new ArrayList ();
+        framesData = new ArrayList<FrameData> ();
+        canvases = new BufferedImage[ 4 ];
+        canvasFrames = new int[ 4 ];
+        Arrays.fill ( canvasFrames, -1 );
+        displayedCanvas = -1;
+        composedFrame = -1;
+        copyDecoder = null;
         gct = null;
         lct = null;
     }
@@ -663,22 +796,48 @@ public class GifDecoder
             return;
         }
 
-        decodeImageData ();   // decode pixel data
-        skip ();
-
-        if ( err () )
+        if ( streaming )
         {
-            return;
+            // keep compressed data to decode frame on demand
+            final FrameData data = new FrameData ();
+            data.x = ix;
+            data.y = iy;
+            data.width = iw;
+            data.height = ih;
+            data.interlace = interlace;
+            data.transparency = transparency;
+            data.colors = transparency ? act.clone () : act;
+            data.bgColor = bgColor;
+            data.dispose = dispose;
+            data.delay = delay;
+            data.data = readImageData ();
+            if ( err () )
+            {
+                return;
+            }
+            frameCount++;
+            framesData.add ( data );
         }
+        else
+        {
+            decodeImageData ();   // decode pixel data
+            skip ();
+
+            if ( err () )
+            {
+                return;
+            }
 
-        frameCount++;
+            frameCount++;
+            frameIndex = frameCount - 1;
 
-        // create new image to receive frame data
-        currentBufImg = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
+            // create new image to receive frame data
+            currentBufImg = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
 
-        setPixels ();   // transfer pixel data to image
+            setPixels ();   // transfer pixel data to image
 
-        frames.add ( new GifFrame ( currentBufImg, delay ) );   // add image to frame list
+            frames.add ( new GifFrame ( currentBufImg, delay ) );   // add image to frame list
+        }
 
         if ( transparency )
         {
@@ -767,10 +926,10 @@ public class GifDecoder
             if ( lastDispose == 3 )
             {
                 // use image before last
-                final int n = frameCount - 2;
-                if ( n > 0 )
+                final int n = frameIndex - 2;
+                if ( n >= 0 )
                 {
-                    prevBufImg = getFrame ( n - 1 );
+                    prevBufImg = streaming ? canvases[ findCanvas ( n ) ] : getFrame ( n );
                 }
                 else
                 {
@@ -859,6 +1018,129 @@ public class GifDecoder
         }
     }
 
+    /**
+     * Reads LZW minimum code size and all image data blocks up to and including next zero length block.
+     *
+     * @return compressed image data in the same format it is stored in GIF
+     */
+    protected byte[] readImageData ()
+    {
+        final ByteArrayOutputStream data = new ByteArrayOutputStream ();
+        data.write ( read () );
+        do
+        {
+            final int count = readBlock ();
+            data.write ( count );
+            data.write ( currentDataBlock, 0, count );
+        }
+        while ( blockSize > 0 && !err () );
+        if ( blockSize > 0 )
+        {
+            data.write ( 0 );
+        }
+        return data.toByteArray ();
+    }
+
+    /**
+     * Composes frames in streaming mode until frame n is composed.
+     * Frames are composed sequentially since each frame is drawn on top of the previous ones.
+     * Returned {@link BufferedImage} stays intact until the next call of this method, so it can be displayed while next frame
+     * is being composed.
+     *
+     * @param n frame number
+     * @return {@link BufferedImage} containing frame n
+     */
+    protected synchronized BufferedImage composeFrames ( final int n )
+    {
+        if ( n < composedFrame )
+        {
+            // start over from the first frame
+            composedFrame = -1;
+            Arrays.fill ( canvasFrames, -1 );
+        }
+        final BufferedInputStream source = in;
+        final int sourceStatus = status;
+        while ( composedFrame < n )
+        {
+            composeFrame ( composedFrame + 1 );
+        }
+        in = source;
+        status = sourceStatus;
+        displayedCanvas = findCanvas ( n );
+        return canvases[ displayedCanvas ];
+    }
+
+    /**
+     * Returns index of the canvas frame n is composed on or -1 if it isn't composed on any canvas.
+     *
+     * @param n frame number
+     * @return index of the canvas frame n is composed on or -1 if it isn't composed on any canvas
+     */
+    protected int findCanvas ( final int n )
+    {
+        int canvas = -1;
+        for ( int i = 0; i < canvasFrames.length; i++ )
+        {
+            if ( canvasFrames[ i ] == n )
+            {
+                canvas = i;
+                break;
+            }
+        }
+        return canvas;
+    }
+
+    /**
+     * Composes frame n in streaming mode on top of the previously composed frame.
+     *
+     * @param n frame number
+     */
+    protected void composeFrame ( final int n )
+    {
+        final FrameData data = framesData.get ( n );
+        if ( n == 0 )
+        {
+            lastDispose = 0;
+            lastRect = null;
+            lastBgColor = 0;
+            prevBufImg = null;
+        }
+        ix = data.x;
+        iy = data.y;
+        iw = data.width;
+        ih = data.height;
+        interlace = data.interlace;
+        transparency = data.transparency;
+        act = data.colors;
+        bgColor = data.bgColor;
+        dispose = data.dispose;
+        frameIndex = n;
+
+        // reusing canvas that is neither displayed nor contains two previous frames which might be needed for composition
+        int canvas = 0;
+        while ( canvas == displayedCanvas || canvasFrames[ canvas ] != -1 && canvasFrames[ canvas ] >= n - 2 )
+        {
+            canvas++;
+        }
+        canvasFrames[ canvas ] = n;
+        currentBufImg = canvases[ canvas ];
+        if ( currentBufImg == null )
+        {
+            currentBufImg = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB_PRE );
+            canvases[ canvas ] = currentBufImg;
+        }
+        else
+        {
+            Arrays.fill ( ( ( DataBufferInt ) currentBufImg.getRaster ().getDataBuffer () ).getData (), 0 );
+        }
+
+        in = new BufferedInputStream ( new ByteArrayInputStream ( data.data ) );
+        decodeImageData ();
+        setPixels ();
+        resetFrame ();
+        composedFrame = n;
+    }
+
     /**
      * Skips variable length blocks up to and including next zero length block.
      */
@@ -880,4 +1162,19 @@ public class GifDecoder
     {
         return status;
     }
-}
\ No newline at end of file
+
+    /**
+     * Compressed frame data kept in streaming mode.
+     */
+    private static final class FrameData
+    {
+        private int x, y, width, height;  // image rectangle
+        private boolean interlace;        // interlace flag
+        private boolean transparency;     // use transparent color
+        private int[] colors;             // active color table
+        private int bgColor;              // background color
+        private int dispose;              // disposal method
+        private int delay;                // delay in milliseconds
+        private byte[] data;              // compressed image data
+    }
+}
@@ -23,30 +23,59 @@ import com.alee.api.resource.Resource;
 import com.alee.api.ui.DisabledCopySupplier;
 import com.alee.api.ui.TransparentCopySupplier;
 import com.alee.utils.CollectionUtils;
+import com.alee.utils.swing.SharedTimerScheduler;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Future;
 
 /**
  * Simple GIF {@link Icon} implementation.
  *
+ * Frames of all {@link GifIcon}s are advanced on the threads of shared {@link SharedTimerScheduler} instead of separate threads.
+ * Animation is paused automatically once none of the components this icon was painted on are showing and resumed as soon as
+ * this icon is painted again. For renderer components visibility of the component using the renderer is tracked instead. {@link GifIcon} that is no longer referenced stops its animation and can be garbage collected.
+ *
+ * Long animations which frames would take more than {@link #getStreamingThreshold()} bytes of memory are not decoded up front.
+ * Instead {@link GifDecoder} in streaming mode is kept and frames are decoded on demand as animation advances.
+ *
  * @author Mikle Garin
  * @see GifDecoder
  * @see GifEncoder
  */
 public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, TransparentCopySupplier<GifIcon>
 {
+    /**
+     * Default amount of memory in bytes decoded frames can take before streaming decoding is used.
+     */
+    public static final long DEFAULT_STREAMING_THRESHOLD = 8 * 1024 * 1024;
+
+    /**
+     * Amount of memory in bytes decoded frames can take before streaming decoding is used.
+     */
+    private static volatile long streamingThreshold = DEFAULT_STREAMING_THRESHOLD;
+
     /**
      * {@link List} of all {@link GifFrame}s in this {@link GifIcon}.
      */
     @NotNull
     protected final List<GifFrame> frames;
 
+    /**
+     * {@link GifDecoder} in streaming mode used to decode frames on demand.
+     * It is only available for long animations, otherwise all frames are decoded up front into {@link #frames}.
+     */
+    @Nullable
+    protected final transient GifDecoder decoder;
+
     /**
      * {@link GifIcon} loading status.
      *
@@ -68,10 +97,33 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     protected transient int displayedFrame;
 
     /**
-     * Daemon {@link Thread} that handles {@link GifIcon} animation.
+     * Currently displayed {@link BufferedImage}.
+     * It is only used when frames are decoded on demand.
+     */
+    @Nullable
+    protected transient BufferedImage displayedImage;
+
+    /**
+     * Weak references to components this {@link GifIcon} was painted on.
+     */
+    @NotNull
+    protected final transient Map<Component, Boolean> components;
+
+    /**
+     * Whether or not animation is started.
+     */
+    protected transient boolean animated;
+
+    /**
+     * Whether or not animation is paused because none of the components this icon was painted on are showing.
+     */
+    protected transient boolean paused;
+
+    /**
+     * Next {@link GifFrame} change scheduled in {@link SharedTimerScheduler}.
      */
     @Nullable
-    protected transient Thread gifAnimator;
+    protected transient Future<?> nextFrame;
 
     /**
      * Constructs new {@link GifIcon}.
@@ -91,8 +143,10 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     public GifIcon ( @NotNull final InputStream inputStream )
     {
         this.frames = new ArrayList<GifFrame> ();
+        this.components = new WeakHashMap<Component, Boolean> ( 1 );
 
         final GifDecoder gifDecoder = new GifDecoder ();
+        gifDecoder.setStreaming ( true );
         this.status = gifDecoder.read ( inputStream instanceof BufferedInputStream
                 ? ( BufferedInputStream ) inputStream
                 : new BufferedInputStream ( inputStream ) );
@@ -101,12 +155,23 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
 
         if ( this.status == GifDecoder.STATUS_OK )
         {
-            if ( gifDecoder.getFrameCount () > 0 )
+            final int frameCount = gifDecoder.getFrameCount ();
+            if ( frameCount > 0 )
             {
                 this.displayedFrame = 0;
-                for ( int i = 0; i < gifDecoder.getFrameCount (); i++ )
+                final long size = 4L * gifDecoder.getWidth () * gifDecoder.getHeight () * frameCount;
+                if ( frameCount > 1 && size > streamingThreshold )
+                {
+                    this.decoder = gifDecoder;
+                    this.displayedImage = gifDecoder.getFrame ( 0 );
+                }
+                else
                 {
-                    frames.add ( new GifFrame ( gifDecoder.getFrame ( i ), gifDecoder.getDelay ( i ) ) );
+                    this.decoder = null;
+                    for ( int i = 0; i < frameCount; i++ )
+                    {
+                        frames.add ( new GifFrame ( gifDecoder.getFrameCopy ( i ), gifDecoder.getDelay ( i ) ) );
+                    }
                 }
                 startAnimation ();
             }
@@ -141,6 +206,8 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
         if ( frames.size () > 0 )
         {
             this.frames = frames;
+            this.decoder = null;
+            this.components = new WeakHashMap<Component, Boolean> ( 1 );
             this.status = GifDecoder.STATUS_OK;
             this.listeners = new ArrayList<FrameChangeListener> ();
             this.displayedFrame = 0;
@@ -152,6 +219,37 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
         }
     }
 
+    /**
+     * Returns amount of memory in bytes decoded frames can take before streaming decoding is used.
+     *
+     * @return amount of memory in bytes decoded frames can take before streaming decoding is used
+     */
+    public static long getStreamingThreshold ()
+    {
+        return streamingThreshold;
+    }
+
+    /**
+     * Sets amount of memory in bytes decoded frames can take before streaming decoding is used.
+     * This setting only affects {@link GifIcon}s created afterwards.
+     *
+     * @param threshold amount of memory in bytes decoded frames can take before streaming decoding is used
+     */
+    public static void setStreamingThreshold ( final long threshold )
+    {
+        GifIcon.streamingThreshold = threshold;
+    }
+
+    /**
+     * Returns whether or not frames of this {@link GifIcon} are decoded on demand.
+     *
+     * @return {@code true} if frames of this {@link GifIcon} are decoded on demand, {@code false} otherwise
+     */
+    public boolean isStreaming ()
+    {
+        return decoder != null;
+    }
+
     /**
      * Returns {@link GifIcon} loading status.
      *
@@ -172,22 +270,37 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
      */
     public int getFrameCount ()
     {
-        return frames.size ();
+        return decoder != null ? decoder.getFrameCount () : frames.size ();
     }
 
     /**
      * Returns copy of the {@link List} of all {@link GifFrame}s in this {@link GifIcon}.
+     * If frames are decoded on demand this method decodes all of them which might take a lot of memory.
      *
      * @return copy of the {@link List} of all {@link GifFrame}s in this {@link GifIcon}
      */
     @NotNull
     public List<GifFrame> getFrames ()
     {
-        return CollectionUtils.copy ( frames );
+        final List<GifFrame> copy;
+        if ( decoder != null )
+        {
+            copy = new ArrayList<GifFrame> ( getFrameCount () );
+            for ( int i = 0; i < getFrameCount (); i++ )
+            {
+                copy.add ( getFrame ( i ) );
+            }
+        }
+        else
+        {
+            copy = CollectionUtils.copy ( frames );
+        }
+        return copy;
     }
 
     /**
      * Returns {@link GifFrame} at the specified index.
+     * If frames are decoded on demand this method decodes new copy of the {@link GifFrame} on each call.
      *
      * @param index {@link GifFrame} index
      * @return {@link GifFrame} at the specified index
@@ -195,7 +308,31 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @NotNull
     public GifFrame getFrame ( final int index )
     {
-        return frames.get ( index );
+        final GifFrame frame;
+        if ( decoder != null )
+        {
+            if ( index < 0 || index >= decoder.getFrameCount () )
+            {
+                throw new IndexOutOfBoundsException ( "Index: " + index + ", Size: " + decoder.getFrameCount () );
+            }
+            frame = new GifFrame ( decoder.getFrameCopy ( index ), decoder.getDelay ( index ) );
+        }
+        else
+        {
+            frame = frames.get ( index );
+        }
+        return frame;
+    }
+
+    /**
+     * Returns delay of the {@link GifFrame} at the specified index.
+     *
+     * @param index {@link GifFrame} index
+     * @return delay of the {@link GifFrame} at the specified index
+     */
+    protected int getDelay ( final int index )
+    {
+        return decoder != null ? decoder.getDelay ( index ) : frames.get ( index ).delay;
     }
 
     /**
@@ -216,71 +353,145 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @NotNull
     public BufferedImage getDisplayedImage ()
     {
-        return frames.get ( displayedFrame ).bufferedImage;
+        return decoder != null ? displayedImage : frames.get ( displayedFrame ).bufferedImage;
     }
 
     /**
-     * Starts animation {@link Thread}.
+     * Starts animation.
      */
-    public void startAnimation ()
+    public synchronized void startAnimation ()
     {
-        if ( getFrameCount () > 1 && gifAnimator == null )
+        if ( getFrameCount () > 1 && !animated )
         {
-            displayedFrame = 0;
-            gifAnimator = new Thread ( new Runnable ()
+            animated = true;
+            paused = false;
+            if ( displayedFrame != 0 )
             {
-                @Override
-                public void run ()
+                displayedFrame = 0;
+                if ( decoder != null )
                 {
-                    try
-                    {
-                        while ( true )
-                        {
-                            final int delay = frames.get ( displayedFrame ).delay;
-                            Thread.sleep ( delay == 0 ? 100 : delay );
-
-                            // Refresh displayed frame
-                            if ( displayedFrame == getFrameCount () - 1 )
-                            {
-                                displayedFrame = 0;
-                            }
-                            else
-                            {
-                                displayedFrame++;
-                            }
-
-                            fireFrameChanged ( displayedFrame );
-                        }
-                    }
-                    catch ( final InterruptedException ignored )
-                    {
-                        // Animation interrupted
-                    }
+                    displayedImage = decoder.getFrame ( 0 );
                 }
-            } );
-            gifAnimator.setDaemon ( true );
-            gifAnimator.start ();
+            }
+            scheduleNextFrame ();
+        }
+    }
+
+    /**
+     * Stops animation.
+     */
+    public synchronized void stopAnimation ()
+    {
+        animated = false;
+        paused = false;
+        if ( nextFrame != null )
+        {
+            nextFrame.cancel ( false );
+            nextFrame = null;
         }
     }
 
     /**
-     * Stops animation {@link Thread}.
+     * Returns whether or not animation is paused because none of the components this icon was painted on are showing.
+     *
+     * @return {@code true} if animation is paused because none of the components this icon was painted on are showing,
+     * {@code false} otherwise
+     */
+    public synchronized boolean isPaused ()
+    {
+        return paused;
+    }
+
+    /**
+     * Schedules next {@link GifFrame} change according to currently displayed {@link GifFrame} delay.
+     * Scheduled task only keeps weak reference to this {@link GifIcon} so it doesn't prevent it from being garbage collected.
      */
-    public void stopAnimation ()
+    protected void scheduleNextFrame ()
     {
-        if ( gifAnimator != null && gifAnimator.isAlive () )
+        final int delay = getDelay ( displayedFrame );
+        final WeakReference<GifIcon> reference = new WeakReference<GifIcon> ( this );
+        nextFrame = SharedTimerScheduler.get ().schedule ( new Runnable ()
         {
-            gifAnimator.interrupt ();
-            try
+            @Override
+            public void run ()
             {
-                gifAnimator.join ();
-                gifAnimator = null;
+                final GifIcon icon = reference.get ();
+                if ( icon != null )
+                {
+                    icon.advanceFrame ();
+                }
             }
-            catch ( final InterruptedException ignored )
+        }, delay == 0 ? 100 : delay, true );
+    }
+
+    /**
+     * Displays next {@link GifFrame} and schedules the one after it unless animation should be paused.
+     * If frames are decoded on demand next frame is decoded outside of this {@link GifIcon} lock so painting is not blocked.
+     */
+    protected void advanceFrame ()
+    {
+        final int index;
+        synchronized ( this )
+        {
+            if ( !animated )
             {
-                //
+                return;
+            }
+            if ( isHidden () )
+            {
+                paused = true;
+                nextFrame = null;
+                return;
+            }
+            index = displayedFrame == getFrameCount () - 1 ? 0 : displayedFrame + 1;
+        }
+        final BufferedImage image = decoder != null ? decoder.getFrame ( index ) : null;
+        synchronized ( this )
+        {
+            if ( !animated )
+            {
+                return;
+            }
+            displayedFrame = index;
+            displayedImage = image;
+            scheduleNextFrame ();
+        }
+        fireFrameChanged ( index );
+    }
+
+    /**
+     * Returns whether or not this {@link GifIcon} was painted on some components but none of them are showing now.
+     *
+     * @return {@code true} if this {@link GifIcon} was painted on some components but none of them are showing now,
+     * {@code false} otherwise
+     */
+    protected boolean isHidden ()
+    {
+        boolean hidden = !components.isEmpty ();
+        for ( final Component component : components.keySet () )
+        {
+            if ( component != null && component.isShowing () )
+            {
+                hidden = false;
+                break;
             }
         }
+        return hidden;
+    }
+
+    /**
+     * Returns component which visibility should be tracked when this {@link GifIcon} is painted on the specified component.
+     * Renderer components are painted on {@link CellRendererPane} that is never showing, so the component that contains
+     * {@link CellRendererPane} is tracked instead. Nothing is tracked for {@link CellRendererPane} that isn't added anywhere.
+     *
+     * @param component component this {@link GifIcon} is painted on
+     * @return component which visibility should be tracked
+     */
+    @Nullable
+    protected Component getTrackedComponent ( @NotNull final Component component )
+    {
+        final Component rendererPane = SwingUtilities.getAncestorOfClass ( CellRendererPane.class, component );
+        return rendererPane != null ? rendererPane.getParent () : component;
     }
 
     @Override
@@ -288,20 +499,36 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     {
         if ( getFrameCount () > 0 )
         {
-            g.drawImage ( frames.get ( displayedFrame ).bufferedImage, x, y, c );
+            if ( c != null && getFrameCount () > 1 )
+            {
+                synchronized ( this )
+                {
+                    final Component component = getTrackedComponent ( c );
+                    if ( component != null )
+                    {
+                        components.put ( component, Boolean.TRUE );
+                    }
+                    if ( paused )
+                    {
+                        paused = false;
+                        scheduleNextFrame ();
+                    }
+                }
+            }
+            g.drawImage ( getDisplayedImage (), x, y, c );
         }
     }
 
     @Override
     public int getIconWidth ()
     {
-        return frames.get ( displayedFrame ).bufferedImage.getWidth ();
+        return decoder != null ? decoder.getWidth () : frames.get ( displayedFrame ).bufferedImage.getWidth ();
     }
 
     @Override
     public int getIconHeight ()
     {
-        return frames.get ( displayedFrame ).bufferedImage.getHeight ();
+        return decoder != null ? decoder.getHeight () : frames.get ( displayedFrame ).bufferedImage.getHeight ();
     }
 
     /**
@@ -326,6 +553,7 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
 
     /**
      * Fires displayed {@link GifFrame} change.
+     * If frames are decoded on demand provided {@link GifFrame} image is reused for subsequent frames and must not be kept.
      *
      * @param index new displayed {@link GifFrame} index
      */
@@ -333,7 +561,7 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     {
         if ( CollectionUtils.notEmpty ( listeners ) )
         {
-            final GifFrame frame = getFrame ( index );
+            final GifFrame frame = decoder != null ? new GifFrame ( getDisplayedImage (), getDelay ( index ) ) : getFrame ( index );
             for ( final FrameChangeListener listener : listeners )
             {
                 listener.frameChanged ( this, index, frame );
@@ -350,7 +578,7 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @Override
     public GifIcon createDisabledCopy ()
     {
-        return new GifIcon ( CollectionUtils.asList ( frames.get ( 0 ).createDisabledCopy () ) );
+        return new GifIcon ( CollectionUtils.asList ( getFrame ( 0 ).createDisabledCopy () ) );
     }
 
     /**
@@ -363,6 +591,6 @@ public class GifIcon implements Icon, DisabledCopySupplier<GifIcon>, Transparent
     @Override
     public GifIcon createTransparentCopy ( final float opacity )
     {
-        return new GifIcon ( CollectionUtils.asList ( frames.get ( 0 ).createTransparentCopy ( opacity ) ) );
+        return new GifIcon ( CollectionUtils.asList ( getFrame ( 0 ).createTransparentCopy ( opacity ) ) );
     }
 }
\ No newline at end of file
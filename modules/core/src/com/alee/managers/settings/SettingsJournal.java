@@ -0,0 +1,576 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.settings;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.resource.FileResource;
+import com.alee.utils.FileUtils;
+import com.alee.utils.XmlUtils;
+import com.alee.utils.concurrent.DaemonThreadFactory;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Journaled {@link SettingsGroup} persistence used by {@link SettingsManager} when journaling is enabled.
+ *
+ * Instead of serializing whole {@link SettingsGroup} on every change only the changed key is serialized on the calling thread.
+ * Resulting record is then appended to the group journal file on a dedicated I/O thread. All records queued at the time I/O thread
+ * wakes up are written at once and each affected journal is synchronized with the storage device only once per such batch.
+ *
+ * Once journal grows beyond the compaction threshold I/O thread reads group snapshot, replays journal on top of it and writes
+ * new snapshot into a temporary file which replaces the old snapshot, after that journal is removed. Old snapshot is kept as a backup
+ * file until new one is in place, so {@link SettingsManager} always restores either old snapshot with the full journal or new one.
+ *
+ * Full {@link SettingsGroup} saves are queued as snapshot records and written on the same I/O thread, so they never overlap with
+ * compaction. Snapshot only replaces records queued before it, records queued afterwards are appended to the new journal.
+ *
+ * Journal consists of records with the following structure:
+ * 1. record type byte - either {@link #PUT} or {@link #REMOVE}
+ * 2. settings key in modified UTF-8 encoding
+ * 3. for {@link #PUT} records only - boolean marking non-null value followed by value XML length and UTF-8 bytes
+ * Incomplete record at the end of the journal that might be left after crash is ignored and truncated on replay.
+ * Record with value length exceeding the remaining journal size is treated the same way.
+ *
+ * @author Mikle Garin
+ * @see SettingsManager#setJournalingEnabled(boolean)
+ */
+final class SettingsJournal
+{
+    /**
+     * Record types.
+     */
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte SNAPSHOT = 3;
+
+    /**
+     * Single I/O thread executor.
+     */
+    @NotNull
+    private final ExecutorService executor;
+
+    /**
+     * Records waiting to be written.
+     */
+    @NotNull
+    private final List<Record> pending;
+
+    /**
+     * Journal size in bytes after which group is compacted.
+     */
+    private volatile long compactionThreshold;
+
+    /**
+     * Constructs new {@link SettingsJournal}.
+     *
+     * @param compactionThreshold journal size in bytes after which group is compacted
+     */
+    public SettingsJournal ( final long compactionThreshold )
+    {
+        this.executor = Executors.newSingleThreadExecutor ( new DaemonThreadFactory ( "SettingsManager.journal" ) );
+        this.pending = new ArrayList<Record> ();
+        this.compactionThreshold = compactionThreshold;
+        Runtime.getRuntime ().addShutdownHook ( new Thread ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                flush ();
+            }
+        }, "SettingsManager.journal.shutdown" ) );
+    }
+
+    /**
+     * Sets journal size in bytes after which group is compacted.
+     *
+     * @param compactionThreshold journal size in bytes after which group is compacted
+     */
+    public void setCompactionThreshold ( final long compactionThreshold )
+    {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Queues value change record.
+     * Value is serialized right away so that it can be safely modified afterwards.
+     *
+     * @param group    {@link SettingsGroup} name
+     * @param snapshot {@link SettingsGroup} snapshot file
+     * @param journal  {@link SettingsGroup} journal file
+     * @param key      settings key
+     * @param value    new value
+     */
+    public void put ( @NotNull final String group, @NotNull final File snapshot, @NotNull final File journal,
+                      @NotNull final String key, @Nullable final Object value )
+    {
+        queue ( new Record ( group, snapshot, journal, PUT, key, value != null ? XmlUtils.toXML ( value ) : null ) );
+    }
+
+    /**
+     * Queues value removal record.
+     *
+     * @param group    {@link SettingsGroup} name
+     * @param snapshot {@link SettingsGroup} snapshot file
+     * @param journal  {@link SettingsGroup} journal file
+     * @param key      settings key
+     */
+    public void remove ( @NotNull final String group, @NotNull final File snapshot, @NotNull final File journal,
+                         @NotNull final String key )
+    {
+        queue ( new Record ( group, snapshot, journal, REMOVE, key, null ) );
+    }
+
+    /**
+     * Queues full {@link SettingsGroup} snapshot record.
+     * {@link SettingsGroup} is serialized right away so snapshot covers exactly the records queued before it.
+     *
+     * @param group    {@link SettingsGroup} to save
+     * @param snapshot {@link SettingsGroup} snapshot file
+     * @param journal  {@link SettingsGroup} journal file
+     */
+    public void save ( @NotNull final SettingsGroup group, @NotNull final File snapshot, @NotNull final File journal )
+    {
+        queue ( new Record ( group.getName (), snapshot, journal, SNAPSHOT, group.getName (), XmlUtils.toXML ( group ) ) );
+    }
+
+    /**
+     * Waits until all queued records are written.
+     */
+    public void flush ()
+    {
+        try
+        {
+            executor.submit ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    // All previously submitted tasks are already completed at this point
+                }
+            } ).get ();
+        }
+        catch ( final Exception e )
+        {
+            LoggerFactory.getLogger ( SettingsJournal.class ).error ( "Unable to flush settings journal", e );
+        }
+    }
+
+    /**
+     * Queues specified {@link Record} and schedules write if it wasn't scheduled yet.
+     *
+     * @param record {@link Record} to queue
+     */
+    private void queue ( @NotNull final Record record )
+    {
+        final boolean schedule;
+        synchronized ( pending )
+        {
+            schedule = pending.isEmpty ();
+            pending.add ( record );
+        }
+        if ( schedule )
+        {
+            executor.execute ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    write ();
+                }
+            } );
+        }
+    }
+
+    /**
+     * Writes all queued records, synchronizes affected journals and compacts the ones that grew too big.
+     * Records preceding the last queued snapshot of a journal are covered by that snapshot and are not written.
+     * This method is only called on the I/O thread.
+     */
+    private void write ()
+    {
+        final List<Record> records;
+        synchronized ( pending )
+        {
+            records = new ArrayList<Record> ( pending );
+            pending.clear ();
+        }
+
+        // Grouping records by journal preserving their order
+        final Map<File, List<Record>> journals = new LinkedHashMap<File, List<Record>> ();
+        for ( final Record record : records )
+        {
+            List<Record> journalRecords = journals.get ( record.journal );
+            if ( journalRecords == null )
+            {
+                journalRecords = new ArrayList<Record> ();
+                journals.put ( record.journal, journalRecords );
+            }
+            journalRecords.add ( record );
+        }
+
+        for ( final Map.Entry<File, List<Record>> entry : journals.entrySet () )
+        {
+            final File journal = entry.getKey ();
+            final List<Record> journalRecords = entry.getValue ();
+            try
+            {
+                if ( FileUtils.ensureDirectoryExists ( journal.getParentFile () ) )
+                {
+                    // Writing last snapshot, journal records queued before it are covered by it
+                    int first = 0;
+                    for ( int i = journalRecords.size () - 1; i >= 0; i-- )
+                    {
+                        final Record record = journalRecords.get ( i );
+                        if ( record.type == SNAPSHOT )
+                        {
+                            writeSnapshot ( record.snapshot, record.value );
+                            FileUtils.deleteFile ( journal );
+                            first = i + 1;
+                            break;
+                        }
+                    }
+
+                    // Appending records queued after snapshot
+                    if ( first < journalRecords.size () )
+                    {
+                        final FileOutputStream fos = new FileOutputStream ( journal, true );
+                        try
+                        {
+                            final DataOutputStream dos = new DataOutputStream ( new BufferedOutputStream ( fos ) );
+                            for ( int i = first; i < journalRecords.size (); i++ )
+                            {
+                                journalRecords.get ( i ).write ( dos );
+                            }
+                            dos.flush ();
+                            fos.getFD ().sync ();
+                        }
+                        finally
+                        {
+                            fos.close ();
+                        }
+
+                        if ( journal.length () > compactionThreshold )
+                        {
+                            final Record record = journalRecords.get ( first );
+                            compact ( record.group, record.snapshot, journal );
+                        }
+                    }
+                }
+                else
+                {
+                    final String msg = "Cannot create settings directory: %s";
+                    throw new SettingsException ( String.format ( msg, journal.getParentFile ().getAbsolutePath () ) );
+                }
+            }
+            catch ( final Exception e )
+            {
+                final String msg = "Unable to write settings journal: %s";
+                LoggerFactory.getLogger ( SettingsJournal.class ).error ( String.format ( msg, journal.getAbsolutePath () ), e );
+            }
+        }
+    }
+
+    /**
+     * Merges journal into {@link SettingsGroup} snapshot.
+     * This method is only called on the I/O thread.
+     *
+     * @param name     {@link SettingsGroup} name
+     * @param snapshot {@link SettingsGroup} snapshot file
+     * @param journal  {@link SettingsGroup} journal file
+     * @throws IOException if snapshot or journal cannot be read or written
+     */
+    private void compact ( @NotNull final String name, @NotNull final File snapshot, @NotNull final File journal ) throws IOException
+    {
+        // Reading latest settings state
+        final SettingsGroup group = snapshot.exists () ? XmlUtils.<SettingsGroup>fromXML ( new FileResource ( snapshot ) ) :
+                new SettingsGroup ( name );
+        replay ( journal, group );
+
+        // Writing new snapshot and removing journal
+        writeSnapshot ( snapshot, XmlUtils.toXML ( group ) );
+        FileUtils.deleteFile ( journal );
+    }
+
+    /**
+     * Writes {@link SettingsGroup} snapshot into a temporary file which then replaces the old snapshot.
+     * Old snapshot is kept as a backup file until new one is in place.
+     * This method is only called on the I/O thread.
+     *
+     * @param snapshot {@link SettingsGroup} snapshot file
+     * @param xml      serialized {@link SettingsGroup}
+     * @throws IOException if snapshot cannot be written
+     */
+    private void writeSnapshot ( @NotNull final File snapshot, @NotNull final String xml ) throws IOException
+    {
+        final File backup = new File ( snapshot.getPath () + SettingsManager.getBackupFilesExtension () );
+        final File temp = new File ( snapshot.getParentFile (), snapshot.getName () + ".tmp" );
+
+        // Writing new snapshot
+        final FileOutputStream fos = new FileOutputStream ( temp );
+        try
+        {
+            final Writer writer = new OutputStreamWriter ( fos, "UTF-8" );
+            writer.write ( xml );
+            writer.flush ();
+            fos.getFD ().sync ();
+        }
+        finally
+        {
+            fos.close ();
+        }
+
+        // Replacing snapshot while keeping old one as backup until journal is removed
+        if ( snapshot.exists () && ( backup.exists () && !backup.delete () || !snapshot.renameTo ( backup ) ) )
+        {
+            throw new IOException ( "Unable to backup settings snapshot: " + snapshot.getAbsolutePath () );
+        }
+        if ( !temp.renameTo ( snapshot ) )
+        {
+            throw new IOException ( "Unable to replace settings snapshot: " + snapshot.getAbsolutePath () );
+        }
+        FileUtils.deleteFile ( backup );
+    }
+
+    /**
+     * Replays journal records on top of the specified {@link SettingsGroup}.
+     * Incomplete or corrupted record at the end of the journal is ignored and truncated.
+     *
+     * @param journal {@link SettingsGroup} journal file
+     * @param group   {@link SettingsGroup} to replay records on
+     * @return amount of replayed records
+     * @throws IOException if journal cannot be read
+     */
+    public static int replay ( @NotNull final File journal, @NotNull final SettingsGroup group ) throws IOException
+    {
+        int count = 0;
+        long valid = 0;
+        final long size = journal.length ();
+        final CountingInputStream cis = new CountingInputStream ( new BufferedInputStream ( new FileInputStream ( journal ) ) );
+        try
+        {
+            final DataInputStream dis = new DataInputStream ( cis );
+            while ( true )
+            {
+                try
+                {
+                    final byte type = dis.readByte ();
+                    final String key = dis.readUTF ();
+                    if ( type == PUT )
+                    {
+                        final Object value;
+                        if ( dis.readBoolean () )
+                        {
+                            // Value length is checked against the remaining journal size to avoid trusting corrupted data
+                            final int length = dis.readInt ();
+                            if ( length < 0 || length > size - cis.count )
+                            {
+                                break;
+                            }
+                            final byte[] data = new byte[ length ];
+                            dis.readFully ( data );
+                            value = XmlUtils.fromXML ( new String ( data, "UTF-8" ) );
+                        }
+                        else
+                        {
+                            value = null;
+                        }
+                        group.put ( key, value );
+                    }
+                    else if ( type == REMOVE )
+                    {
+                        group.remove ( key );
+                    }
+                    else
+                    {
+                        throw new IOException ( "Unknown settings journal record type: " + type );
+                    }
+                    valid = cis.count;
+                    count++;
+                }
+                catch ( final EOFException e )
+                {
+                    break;
+                }
+            }
+        }
+        finally
+        {
+            cis.close ();
+        }
+
+        // Removing incomplete record
+        if ( valid < size )
+        {
+            final RandomAccessFile raf = new RandomAccessFile ( journal, "rw" );
+            try
+            {
+                raf.setLength ( valid );
+            }
+            finally
+            {
+                raf.close ();
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Single journal record.
+     */
+    private static final class Record
+    {
+        /**
+         * {@link SettingsGroup} name.
+         */
+        @NotNull
+        private final String group;
+
+        /**
+         * {@link SettingsGroup} snapshot file.
+         */
+        @NotNull
+        private final File snapshot;
+
+        /**
+         * {@link SettingsGroup} journal file.
+         */
+        @NotNull
+        private final File journal;
+
+        /**
+         * Record type.
+         */
+        private final byte type;
+
+        /**
+         * Settings key.
+         */
+        @NotNull
+        private final String key;
+
+        /**
+         * Serialized value or serialized {@link SettingsGroup} for snapshot records.
+         */
+        @Nullable
+        private final String value;
+
+        /**
+         * Constructs new {@link Record}.
+         *
+         * @param group    {@link SettingsGroup} name
+         * @param snapshot {@link SettingsGroup} snapshot file
+         * @param journal  {@link SettingsGroup} journal file
+         * @param type     record type
+         * @param key      settings key
+         * @param value    serialized value
+         */
+        public Record ( @NotNull final String group, @NotNull final File snapshot, @NotNull final File journal, final byte type,
+                        @NotNull final String key, @Nullable final String value )
+        {
+            this.group = group;
+            this.snapshot = snapshot;
+            this.journal = journal;
+            this.type = type;
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Writes this record into the specified {@link DataOutputStream}.
+         *
+         * @param dos {@link DataOutputStream} to write record into
+         * @throws IOException if record cannot be written
+         */
+        public void write ( @NotNull final DataOutputStream dos ) throws IOException
+        {
+            dos.writeByte ( type );
+            dos.writeUTF ( key );
+            if ( type == PUT )
+            {
+                dos.writeBoolean ( value != null );
+                if ( value != null )
+                {
+                    final byte[] data = value.getBytes ( "UTF-8" );
+                    dos.writeInt ( data.length );
+                    dos.write ( data );
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link FilterInputStream} counting read bytes.
+     * It is used to find the end of the last complete journal record.
+     */
+    private static final class CountingInputStream extends FilterInputStream
+    {
+        /**
+         * Amount of read bytes.
+         */
+        private long count;
+
+        /**
+         * Constructs new {@link CountingInputStream}.
+         *
+         * @param in source {@link InputStream}
+         */
+        public CountingInputStream ( @NotNull final InputStream in )
+        {
+            super ( in );
+        }
+
+        @Override
+        public int read () throws IOException
+        {
+            final int result = super.read ();
+            if ( result != -1 )
+            {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read ( @NotNull final byte[] b, final int off, final int len ) throws IOException
+        {
+            final int result = super.read ( b, off, len );
+            if ( result > 0 )
+            {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip ( final long n ) throws IOException
+        {
+            final long result = super.skip ( n );
+            count += result;
+            return result;
+        }
+    }
+}
@@ -74,6 +74,11 @@ public final class SettingsManager
      */
     private static String backupFilesExtension = ".backup";
 
+    /**
+     * Journal files extension.
+     */
+    private static String journalFilesExtension = ".journal";
+
     /**
      * Default settings directory location.
      */
@@ -140,6 +145,21 @@ public final class SettingsManager
      */
     private static final List<String> groupsToSaveOnChange = new ArrayList<String> ();
 
+    /**
+     * Whether or not settings changes are appended to group journals on a dedicated I/O thread instead of saving whole groups.
+     */
+    private static boolean journalingEnabled = false;
+
+    /**
+     * Journal size in bytes after which it is merged into {@link SettingsGroup} file.
+     */
+    private static long journalCompactionThreshold = 64 * 1024;
+
+    /**
+     * {@link SettingsJournal} used when journaling is enabled.
+     */
+    private static SettingsJournal journal = null;
+
     /**
      * Whether or not settings save logging is enabled.
      */
@@ -339,13 +359,24 @@ public final class SettingsManager
         // Get SettingsGroup safely
         final SettingsGroup settingsGroup = getSettingsGroup ( group );
 
-        // Put new value
-        final T oldValue = settingsGroup.put ( key, object );
-
-        // Save group if needed
-        if ( saveOnChange )
+        // Put new value and save group if needed
+        final T oldValue;
+        if ( saveOnChange && journalingEnabled )
+        {
+            // Change is journaled under the same lock group snapshots are taken with to keep them ordered
+            synchronized ( saveOnChangeLock )
+            {
+                oldValue = settingsGroup.put ( key, object );
+                journalSettingsChange ( group, key, object, false );
+            }
+        }
+        else
         {
-            delayedSaveSettingsGroup ( group );
+            oldValue = settingsGroup.put ( key, object );
+            if ( saveOnChange )
+            {
+                delayedSaveSettingsGroup ( group );
+            }
         }
 
         // Inform about changes
@@ -374,9 +405,11 @@ public final class SettingsManager
         final File dir = new File ( getGroupFilePath ( group ) );
         if ( dir.exists () && dir.isDirectory () )
         {
+            flushJournal ();
             final File file = getGroupFile ( group, dir );
             final File backupFile = getGroupBackupFile ( group, dir );
-            FileUtils.deleteFiles ( file, backupFile );
+            final File journalFile = getGroupJournalFile ( group, dir );
+            FileUtils.deleteFiles ( file, backupFile, journalFile );
         }
 
         // Resetting group if it was already loaded
@@ -414,13 +447,27 @@ public final class SettingsManager
         final SettingsGroup settingsGroup = getSettingsGroup ( group );
         if ( settingsGroup != null )
         {
-            oldValue = settingsGroup.remove ( key );
-        }
-
-        // Forcing settings group save in case value was reset
-        if ( oldValue != null )
-        {
-            saveSettingsGroup ( group );
+            if ( journalingEnabled )
+            {
+                // Change is journaled under the same lock group snapshots are taken with to keep them ordered
+                synchronized ( saveOnChangeLock )
+                {
+                    oldValue = settingsGroup.remove ( key );
+                    if ( oldValue != null )
+                    {
+                        journalSettingsChange ( group, key, null, true );
+                    }
+                }
+            }
+            else
+            {
+                // Forcing settings group save in case value was reset
+                oldValue = settingsGroup.remove ( key );
+                if ( oldValue != null )
+                {
+                    saveSettingsGroup ( group );
+                }
+            }
         }
 
         return oldValue;
@@ -537,6 +584,9 @@ public final class SettingsManager
             settingsGroup = new SettingsGroup ( group );
         }
 
+        // Replaying changes made after last save
+        replayJournal ( settingsGroup, dir );
+
         groups.put ( group, settingsGroup );
         return settingsGroup;
     }
@@ -587,24 +637,52 @@ public final class SettingsManager
                 // Ensure group settings directory exists and perform save
                 if ( FileUtils.ensureDirectoryExists ( dir ) )
                 {
-                    // Settings file
+                    // Settings files
                     final File file = getGroupFile ( group, dir );
+                    final File journalFile = getGroupJournalFile ( group, dir );
 
-                    // Creating settings backup if there are old settings
-                    File backupFile = null;
-                    if ( file.exists () )
+                    // Queueing snapshot if changes are journaled
+                    // Group is serialized under the same lock changes are journaled with, so snapshot written on I/O thread
+                    // replaces exactly the journal records queued before it and never overlaps with journal compaction
+                    final SettingsJournal journal;
+                    synchronized ( saveOnChangeLock )
                     {
-                        backupFile = getGroupBackupFile ( group, dir );
-                        FileUtils.copyFile ( file, backupFile );
+                        journal = journalingEnabled ? getJournal () : SettingsManager.journal;
+                        if ( journal != null )
+                        {
+                            journal.save ( settingsGroup, file, journalFile );
+                        }
                     }
 
-                    // Saving settings
-                    XmlUtils.toXML ( settingsGroup, file );
-
-                    // Removing backup file if save was successful
-                    if ( backupFile != null && backupFile.exists () )
+                    if ( journal != null )
                     {
-                        FileUtils.deleteFile ( backupFile );
+                        // Waiting for snapshot to be written
+                        journal.flush ();
+                    }
+                    else
+                    {
+                        // Creating settings backup if there are old settings
+                        File backupFile = null;
+                        if ( file.exists () )
+                        {
+                            backupFile = getGroupBackupFile ( group, dir );
+                            FileUtils.copyFile ( file, backupFile );
+                        }
+
+                        // Saving settings
+                        XmlUtils.toXML ( settingsGroup, file );
+
+                        // Removing backup file if save was successful
+                        if ( backupFile != null && backupFile.exists () )
+                        {
+                            FileUtils.deleteFile ( backupFile );
+                        }
+
+                        // Removing journal left from previous sessions since all changes are saved
+                        if ( journalFile.exists () )
+                        {
+                            FileUtils.deleteFile ( journalFile );
+                        }
                     }
 
                     if ( saveLoggingEnabled )
@@ -651,6 +729,114 @@ public final class SettingsManager
         return new File ( dir, group + settingsFilesExtension + backupFilesExtension );
     }
 
+    /**
+     * Returns {@link SettingsGroup} journal file.
+     *
+     * @param group {@link SettingsGroup} name
+     * @param dir   settings directory
+     * @return {@link SettingsGroup} journal file
+     */
+    private static File getGroupJournalFile ( final String group, final File dir )
+    {
+        return new File ( dir, group + settingsFilesExtension + journalFilesExtension );
+    }
+
+    /**
+     * Replays {@link SettingsGroup} journal on top of the specified {@link SettingsGroup} if it exists.
+     *
+     * @param settingsGroup {@link SettingsGroup} to replay journal on
+     * @param dir           settings directory
+     */
+    private static void replayJournal ( final SettingsGroup settingsGroup, final File dir )
+    {
+        final String group = settingsGroup.getName ();
+        final File journalFile = getGroupJournalFile ( group, dir );
+        if ( journalFile.exists () && journalFile.isFile () )
+        {
+            try
+            {
+                flushJournal ();
+                final int changes = SettingsJournal.replay ( journalFile, settingsGroup );
+
+                final String msg = "Settings group '%s' journal replayed: %d changes";
+                LoggerFactory.getLogger ( SettingsManager.class ).info ( String.format ( msg, group, changes ) );
+            }
+            catch ( final Exception e )
+            {
+                final String msg = "Unable to replay settings group '%s' journal";
+                LoggerFactory.getLogger ( SettingsManager.class ).error ( String.format ( msg, group ), e );
+            }
+        }
+    }
+
+    /**
+     * Queues {@link SettingsGroup} change to be appended to its journal on the I/O thread.
+     *
+     * @param group   {@link SettingsGroup} name
+     * @param key     settings key
+     * @param value   new value
+     * @param removed whether or not value was removed
+     */
+    private static void journalSettingsChange ( final String group, final String key, final Object value, final boolean removed )
+    {
+        if ( allowSave )
+        {
+            try
+            {
+                final File dir = new File ( getGroupFilePath ( group ) );
+                final File file = getGroupFile ( group, dir );
+                final File journalFile = getGroupJournalFile ( group, dir );
+                synchronized ( saveOnChangeLock )
+                {
+                    if ( removed )
+                    {
+                        getJournal ().remove ( group, file, journalFile, key );
+                    }
+                    else
+                    {
+                        getJournal ().put ( group, file, journalFile, key, value );
+                    }
+                }
+            }
+            catch ( final Exception e )
+            {
+                final String msg = "Unable to journal settings group '%s' change due to unexpected exception";
+                LoggerFactory.getLogger ( SettingsManager.class ).error ( String.format ( msg, group ), e );
+            }
+        }
+    }
+
+    /**
+     * Returns {@link SettingsJournal}, creates it if it doesn't exist yet.
+     * This method should only be called under {@link #saveOnChangeLock}.
+     *
+     * @return {@link SettingsJournal}
+     */
+    private static SettingsJournal getJournal ()
+    {
+        if ( journal == null )
+        {
+            journal = new SettingsJournal ( journalCompactionThreshold );
+        }
+        return journal;
+    }
+
+    /**
+     * Waits until all journaled changes are written.
+     */
+    private static void flushJournal ()
+    {
+        final SettingsJournal journal;
+        synchronized ( saveOnChangeLock )
+        {
+            journal = SettingsManager.journal;
+        }
+        if ( journal != null )
+        {
+            journal.flush ();
+        }
+    }
+
     /**
      * Delays {@link SettingsGroup} save or performs it immediately according to {@link SettingsManager} configuration.
      *
@@ -1032,6 +1218,76 @@ public final class SettingsManager
         SettingsManager.saveDefaultValues = saveDefaultValues;
     }
 
+    /**
+     * Returns journal files extension.
+     *
+     * @return journal files extension
+     */
+    public static String getJournalFilesExtension ()
+    {
+        return journalFilesExtension;
+    }
+
+    /**
+     * Sets journal files extension.
+     *
+     * @param journalFilesExtension new journal files extension
+     */
+    public static void setJournalFilesExtension ( final String journalFilesExtension )
+    {
+        SettingsManager.journalFilesExtension = journalFilesExtension;
+    }
+
+    /**
+     * Returns whether or not settings changes are appended to group journals on a dedicated I/O thread.
+     *
+     * @return {@code true} if settings changes are appended to group journals on a dedicated I/O thread, {@code false} otherwise
+     */
+    public static boolean isJournalingEnabled ()
+    {
+        return journalingEnabled;
+    }
+
+    /**
+     * Sets whether or not settings changes are appended to group journals on a dedicated I/O thread.
+     * When enabled only changed keys are serialized on the calling thread and written into group journal in background.
+     * Journal is merged into {@link SettingsGroup} file once it exceeds {@link #getJournalCompactionThreshold()}.
+     * Full {@link SettingsGroup} saves are still performed by {@link #saveSettings()} and {@link #saveSettingsGroup(String)}.
+     *
+     * @param enabled whether or not settings changes are appended to group journals on a dedicated I/O thread
+     */
+    public static void setJournalingEnabled ( final boolean enabled )
+    {
+        SettingsManager.journalingEnabled = enabled;
+    }
+
+    /**
+     * Returns journal size in bytes after which it is merged into {@link SettingsGroup} file.
+     *
+     * @return journal size in bytes after which it is merged into {@link SettingsGroup} file
+     */
+    public static long getJournalCompactionThreshold ()
+    {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Sets journal size in bytes after which it is merged into {@link SettingsGroup} file.
+     *
+     * @param threshold journal size in bytes after which it is merged into {@link SettingsGroup} file
+     */
+    public static void setJournalCompactionThreshold ( final long threshold )
+    {
+        synchronized ( saveOnChangeLock )
+        {
+            SettingsManager.journalCompactionThreshold = threshold;
+            if ( journal != null )
+            {
+                journal.setCompactionThreshold ( threshold );
+            }
+        }
+    }
+
     /**
      * Returns save-on-change delay in milliseconds.
      *
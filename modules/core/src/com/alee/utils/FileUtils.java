@@ -26,6 +26,10 @@ import com.alee.utils.compare.Filter;
 import com.alee.utils.file.FileComparator;
 import com.alee.utils.file.FileDescription;
 import com.alee.utils.file.FileDownloadListener;
+import com.alee.utils.file.FileMetadataCache;
+import com.alee.utils.file.FileMetadataProperty;
+import com.alee.utils.file.FileSortKey;
+import com.alee.utils.file.FileTracker;
 import com.alee.utils.file.SystemFileListener;
 import com.alee.utils.filefilter.AbstractFileFilter;
 import com.alee.utils.filefilter.AllFilesFilter;
@@ -56,9 +60,10 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * This class provides a set of utilities to work with files, file names and their extensions.
  * <p>
- * Note that methods which request information about files from the system has their own caches to improve performance.
+ * Note that methods which request information about files from the system cache their results in {@link FileMetadataCache}.
  * If you will need to clear that cache simply call the corresponding clearCache method, for example:
  * For method "isHidden" you will need to call "clearIsHiddenCache" and all cached values will be reset.
+ * Cache can also be replaced or configured through {@link #setFileMetadataCache(FileMetadataCache)}.
  *
  * @author Mikle Garin
  */
@@ -129,61 +134,6 @@ public final class FileUtils
     private static final char[] ILLEGAL_CHARACTERS = { '/', '\n', '\r', '\t', '\0', '\f', '\"', '`', '!', '?', '*', '\\', '<', '>', '|',
             ':', ';', '.', ',', '%', '$', '@', '#', '^', '{', '}', '[', ']', ']' };
 
-    /**
-     * Cache for "isDrive" method result.
-     */
-    private static final Map<String, Boolean> isDriveCache = new ConcurrentHashMap<String, Boolean> ();
-
-    /**
-     * Cache for "isComputer" method result.
-     */
-    private static final Map<String, Boolean> isComputerCache = new ConcurrentHashMap<String, Boolean> ();
-
-    /**
-     * Cache for "isCdDrive" method result.
-     */
-    private static final Map<String, Boolean> isCdDriveCache = new ConcurrentHashMap<String, Boolean> ();
-
-    /**
-     * Cache for "isFile" method result.
-     */
-    private static final Map<String, Boolean> isFileCache = new ConcurrentHashMap<String, Boolean> ();
-
-    /**
-     * Cache for "isDirectory" method result.
-     */
-    private static final Map<String, Boolean> isDirectoryCache = new ConcurrentHashMap<String, Boolean> ();
-
-    /**
-     * Cache for "isHidden" method result.
-     */
-    private static final Map<String, Boolean> isHiddenCache = new ConcurrentHashMap<String, Boolean> ();
-
-    /**
-     * Cache for "getDisplayFileName" method result.
-     */
-    private static final Map<String, String> displayFileNameCache = new ConcurrentHashMap<String, String> ();
-
-    /**
-     * Cache for "getFileDescription" method result.
-     */
-    private static final Map<String, FileDescription> fileDescriptionCache = new ConcurrentHashMap<String, FileDescription> ();
-
-    /**
-     * Cache for "getFileTypeDescription" method result.
-     */
-    private static final Map<String, String> fileTypeDescriptionCache = new ConcurrentHashMap<String, String> ();
-
-    /**
-     * Cache for "getDisplayFileCreationDate" method result.
-     */
-    private static final Map<String, String> displayFileCreationDateCache = new ConcurrentHashMap<String, String> ();
-
-    /**
-     * Cache for "getDisplayFileModificationDate" method result.
-     */
-    private static final Map<String, String> displayFileModificationDateCache = new ConcurrentHashMap<String, String> ();
-
     /**
      * File extension icons cache lock.
      */
@@ -199,6 +149,12 @@ public final class FileUtils
      */
     private static final Map<String, Icon> resourceIconsCache = new ConcurrentHashMap<String, Icon> ();
 
+    /**
+     * Cache for file metadata requested from the system.
+     */
+    @NotNull
+    private static FileMetadataCache fileMetadataCache = new FileMetadataCache ();
+
     /**
      * Default file tracking updates delay.
      */
@@ -261,6 +217,27 @@ public final class FileUtils
         return file;
     }
 
+    /**
+     * Returns {@link FileMetadataCache} used to cache file metadata requested from the system.
+     *
+     * @return {@link FileMetadataCache} used to cache file metadata requested from the system
+     */
+    @NotNull
+    public static FileMetadataCache getFileMetadataCache ()
+    {
+        return fileMetadataCache;
+    }
+
+    /**
+     * Sets {@link FileMetadataCache} used to cache file metadata requested from the system.
+     *
+     * @param cache {@link FileMetadataCache} used to cache file metadata requested from the system
+     */
+    public static void setFileMetadataCache ( @NotNull final FileMetadataCache cache )
+    {
+        fileMetadataCache = cache;
+    }
+
     /**
      * Clears all caches for specified files.
      *
@@ -297,17 +274,7 @@ public final class FileUtils
      */
     public static void clearFileCaches ( @NotNull final String path )
     {
-        clearDisplayFileNameCache ( path );
-        clearIsHiddenCache ( path );
-        clearIsFileCache ( path );
-        clearIsDirectoryCache ( path );
-        clearIsComputerCache ( path );
-        clearIsDriveCache ( path );
-        clearIsCdDriveCache ( path );
-        clearFileDescriptionCache ( path );
-        clearFileTypeDescriptionCache ( path );
-        clearDisplayFileCreationDateCache ( path );
-        clearDisplayFileModificationDateCache ( path );
+        fileMetadataCache.remove ( path );
     }
 
     /**
@@ -1124,6 +1091,7 @@ public final class FileUtils
 
     /**
      * Returns sorted list of files.
+     * Files are sorted in the same order {@link #FILE_COMPARATOR} provides.
      *
      * @param files list of files to sort
      * @return sorted list of files
@@ -1131,15 +1099,22 @@ public final class FileUtils
     @Nullable
     public static List<File> sortFiles ( @Nullable final List<File> files )
     {
-        if ( files != null )
+        if ( files != null && files.size () > 1 )
         {
-            Collections.sort ( files, FILE_COMPARATOR );
+            final FileSortKey[] keys = sortKeys ( files.toArray ( new File[ files.size () ] ) );
+            final ListIterator<File> iterator = files.listIterator ();
+            for ( final FileSortKey key : keys )
+            {
+                iterator.next ();
+                iterator.set ( key.getFile () );
+            }
         }
         return files;
     }
 
     /**
      * Returns sorted array of files.
+     * Files are sorted in the same order {@link #FILE_COMPARATOR} provides.
      *
      * @param files array of files to sort
      * @return sorted array of files
@@ -1147,13 +1122,36 @@ public final class FileUtils
     @Nullable
     public static File[] sortFiles ( @Nullable final File[] files )
     {
-        if ( files != null )
+        if ( files != null && files.length > 1 )
         {
-            Arrays.sort ( files, FILE_COMPARATOR );
+            final FileSortKey[] keys = sortKeys ( files );
+            for ( int i = 0; i < keys.length; i++ )
+            {
+                files[ i ] = keys[ i ].getFile ();
+            }
         }
         return files;
     }
 
+    /**
+     * Returns sorted {@link FileSortKey}s for the specified files.
+     * Keys are created once per file so that file metadata isn't requested on each comparison.
+     *
+     * @param files files to create sorted {@link FileSortKey}s for
+     * @return sorted {@link FileSortKey}s for the specified files
+     */
+    @NotNull
+    public static FileSortKey[] sortKeys ( @NotNull final File[] files )
+    {
+        final FileSortKey[] keys = new FileSortKey[ files.length ];
+        for ( int i = 0; i < files.length; i++ )
+        {
+            keys[ i ] = new FileSortKey ( files[ i ] );
+        }
+        Arrays.sort ( keys );
+        return keys;
+    }
+
     /**
      * Returns available file name in the specified directory and which is similar the specified name.
      *
@@ -2406,7 +2404,7 @@ public final class FileUtils
      */
     public static void clearIsDriveCache ()
     {
-        isDriveCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.drive );
     }
 
     /**
@@ -2416,7 +2414,7 @@ public final class FileUtils
      */
     public static void clearIsDriveCache ( @NotNull final String absolutePath )
     {
-        isDriveCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.drive );
     }
 
     /**
@@ -2429,9 +2427,10 @@ public final class FileUtils
     {
         final boolean isDrive;
         final String absolutePath = file.getAbsolutePath ();
-        if ( isDriveCache.containsKey ( absolutePath ) )
+        final Boolean cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.drive, Boolean.class );
+        if ( cached != null )
         {
-            isDrive = isDriveCache.get ( absolutePath );
+            isDrive = cached;
         }
         else if ( file.exists () )
         {
@@ -2439,7 +2438,7 @@ public final class FileUtils
             {
                 isDrive = fsv.isDrive ( file );
             }
-            isDriveCache.put ( absolutePath, isDrive );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.drive, isDrive );
         }
         else
         {
@@ -2453,7 +2452,7 @@ public final class FileUtils
      */
     public static void clearIsComputerCache ()
     {
-        isComputerCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.computer );
     }
 
     /**
@@ -2463,7 +2462,7 @@ public final class FileUtils
      */
     public static void clearIsComputerCache ( @NotNull final String absolutePath )
     {
-        isComputerCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.computer );
     }
 
     /**
@@ -2476,9 +2475,10 @@ public final class FileUtils
     {
         final boolean isComputer;
         final String absolutePath = file.getAbsolutePath ();
-        if ( isComputerCache.containsKey ( absolutePath ) )
+        final Boolean cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.computer, Boolean.class );
+        if ( cached != null )
         {
-            isComputer = isComputerCache.get ( absolutePath );
+            isComputer = cached;
         }
         else if ( file.exists () )
         {
@@ -2486,7 +2486,7 @@ public final class FileUtils
             {
                 isComputer = fsv.isComputerNode ( file );
             }
-            isComputerCache.put ( absolutePath, isComputer );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.computer, isComputer );
         }
         else
         {
@@ -2500,7 +2500,7 @@ public final class FileUtils
      */
     public static void clearIsCdDriveCache ()
     {
-        isCdDriveCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.cdDrive );
     }
 
     /**
@@ -2510,7 +2510,7 @@ public final class FileUtils
      */
     public static void clearIsCdDriveCache ( @NotNull final String absolutePath )
     {
-        isCdDriveCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.cdDrive );
     }
 
     /**
@@ -2525,9 +2525,10 @@ public final class FileUtils
     {
         final boolean isCdDrive;
         final String absolutePath = file.getAbsolutePath ();
-        if ( isCdDriveCache.containsKey ( absolutePath ) )
+        final Boolean cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.cdDrive, Boolean.class );
+        if ( cached != null )
         {
-            isCdDrive = isCdDriveCache.get ( absolutePath );
+            isCdDrive = cached;
         }
         else if ( file.exists () )
         {
@@ -2550,7 +2551,7 @@ public final class FileUtils
             {
                 isCdDrive = false;
             }
-            isCdDriveCache.put ( absolutePath, isCdDrive );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.cdDrive, isCdDrive );
         }
         else
         {
@@ -2564,7 +2565,7 @@ public final class FileUtils
      */
     public static void clearIsFileCache ()
     {
-        isFileCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.file );
     }
 
     /**
@@ -2574,7 +2575,7 @@ public final class FileUtils
      */
     public static void clearIsFileCache ( @NotNull final String absolutePath )
     {
-        isFileCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.file );
     }
 
     /**
@@ -2589,14 +2590,15 @@ public final class FileUtils
         if ( file != null )
         {
             final String absolutePath = file.getAbsolutePath ();
-            if ( isFileCache.containsKey ( absolutePath ) )
+            final Boolean cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.file, Boolean.class );
+            if ( cached != null )
             {
-                isFile = isFileCache.get ( absolutePath );
+                isFile = cached;
             }
             else if ( file.exists () )
             {
                 isFile = file.isFile ();
-                isFileCache.put ( absolutePath, isFile );
+                fileMetadataCache.put ( absolutePath, FileMetadataProperty.file, isFile );
             }
         }
         return isFile;
@@ -2607,7 +2609,7 @@ public final class FileUtils
      */
     public static void clearIsDirectoryCache ()
     {
-        isDirectoryCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.directory );
     }
 
     /**
@@ -2617,7 +2619,7 @@ public final class FileUtils
      */
     public static void clearIsDirectoryCache ( @NotNull final String absolutePath )
     {
-        isDirectoryCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.directory );
     }
 
     /**
@@ -2632,14 +2634,15 @@ public final class FileUtils
         if ( file != null )
         {
             final String absolutePath = file.getAbsolutePath ();
-            if ( isDirectoryCache.containsKey ( absolutePath ) )
+            final Boolean cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.directory, Boolean.class );
+            if ( cached != null )
             {
-                isDirectory = isDirectoryCache.get ( absolutePath );
+                isDirectory = cached;
             }
             else if ( file.exists () )
             {
                 isDirectory = file.isDirectory ();
-                isDirectoryCache.put ( absolutePath, isDirectory );
+                fileMetadataCache.put ( absolutePath, FileMetadataProperty.directory, isDirectory );
             }
         }
         return isDirectory;
@@ -2650,7 +2653,7 @@ public final class FileUtils
      */
     public static void clearIsHiddenCache ()
     {
-        isHiddenCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.hidden );
     }
 
     /**
@@ -2660,7 +2663,7 @@ public final class FileUtils
      */
     public static void clearIsHiddenCache ( @NotNull final String absolutePath )
     {
-        isHiddenCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.hidden );
     }
 
     /**
@@ -2675,15 +2678,16 @@ public final class FileUtils
         if ( file != null )
         {
             final String absolutePath = file.getAbsolutePath ();
-            if ( isHiddenCache.containsKey ( absolutePath ) )
+            final Boolean cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.hidden, Boolean.class );
+            if ( cached != null )
             {
-                isHidden = isHiddenCache.get ( absolutePath );
+                isHidden = cached;
             }
             else if ( file.exists () )
             {
                 final File absoluteFile = file.getAbsoluteFile ();
                 isHidden = getParent ( absoluteFile ) != null && absoluteFile.isHidden ();
-                isHiddenCache.put ( absolutePath, isHidden );
+                fileMetadataCache.put ( absolutePath, FileMetadataProperty.hidden, isHidden );
             }
         }
         return isHidden;
@@ -2694,7 +2698,7 @@ public final class FileUtils
      */
     public static void clearFileDescriptionCache ()
     {
-        fileDescriptionCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.description );
     }
 
     /**
@@ -2704,7 +2708,7 @@ public final class FileUtils
      */
     public static void clearFileDescriptionCache ( @NotNull final String absolutePath )
     {
-        fileDescriptionCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.description );
     }
 
     /**
@@ -2718,14 +2722,15 @@ public final class FileUtils
     {
         final FileDescription fileDescription;
         final String absolutePath = file.getAbsolutePath ();
-        if ( fileDescriptionCache.containsKey ( absolutePath ) )
+        final FileDescription cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.description, FileDescription.class );
+        if ( cached != null )
         {
-            fileDescription = fileDescriptionCache.get ( absolutePath );
+            fileDescription = cached;
         }
         else if ( file.exists () )
         {
             fileDescription = createFileDescription ( file, fileSize );
-            fileDescriptionCache.put ( absolutePath, fileDescription );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.description, fileDescription );
         }
         else
         {
@@ -2764,7 +2769,7 @@ public final class FileUtils
      */
     public static void clearDisplayFileNameCache ()
     {
-        displayFileNameCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.displayName );
     }
 
     /**
@@ -2774,7 +2779,7 @@ public final class FileUtils
      */
     public static void clearDisplayFileNameCache ( @NotNull final String absolutePath )
     {
-        displayFileNameCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.displayName );
     }
 
     /**
@@ -2788,9 +2793,10 @@ public final class FileUtils
     {
         String name;
         final String absolutePath = file.getAbsolutePath ();
-        if ( displayFileNameCache.containsKey ( absolutePath ) )
+        final String cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.displayName, String.class );
+        if ( cached != null )
         {
-            name = displayFileNameCache.get ( absolutePath );
+            name = cached;
         }
         else if ( file.exists () )
         {
@@ -2802,11 +2808,11 @@ public final class FileUtils
             {
                 name = getFileTypeDescription ( file );
             }
-            displayFileNameCache.put ( absolutePath, name );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.displayName, name );
         }
         else if ( !file.exists () )
         {
-            displayFileNameCache.put ( absolutePath, file.getName () );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.displayName, file.getName () );
             name = file.getName ();
         }
         else
@@ -2821,7 +2827,7 @@ public final class FileUtils
      */
     public static void clearDisplayFileCreationDateCache ()
     {
-        displayFileCreationDateCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.creationDate );
     }
 
     /**
@@ -2831,7 +2837,7 @@ public final class FileUtils
      */
     public static void clearDisplayFileCreationDateCache ( @NotNull final String absolutePath )
     {
-        displayFileCreationDateCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.creationDate );
     }
 
     /**
@@ -2845,14 +2851,15 @@ public final class FileUtils
     {
         final String date;
         final String absolutePath = file.getAbsolutePath ();
-        if ( displayFileCreationDateCache.containsKey ( absolutePath ) )
+        final String cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.creationDate, String.class );
+        if ( cached != null )
         {
-            date = displayFileCreationDateCache.get ( absolutePath );
+            date = cached;
         }
         else if ( file.exists () )
         {
             date = sdf.format ( new Date ( file.lastModified () ) );
-            displayFileCreationDateCache.put ( absolutePath, date );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.creationDate, date );
         }
         else
         {
@@ -2866,7 +2873,7 @@ public final class FileUtils
      */
     public static void clearDisplayFileModificationDateCache ()
     {
-        displayFileModificationDateCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.modificationDate );
     }
 
     /**
@@ -2876,7 +2883,7 @@ public final class FileUtils
      */
     public static void clearDisplayFileModificationDateCache ( @NotNull final String absolutePath )
     {
-        displayFileModificationDateCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.modificationDate );
     }
 
     /**
@@ -2890,14 +2897,15 @@ public final class FileUtils
     {
         final String date;
         final String absolutePath = file.getAbsolutePath ();
-        if ( displayFileModificationDateCache.containsKey ( absolutePath ) )
+        final String cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.modificationDate, String.class );
+        if ( cached != null )
         {
-            date = displayFileModificationDateCache.get ( absolutePath );
+            date = cached;
         }
         else if ( file.exists () )
         {
             date = sdf.format ( new Date ( file.lastModified () ) );
-            displayFileModificationDateCache.put ( absolutePath, date );
+            fileMetadataCache.put ( absolutePath, FileMetadataProperty.modificationDate, date );
         }
         else
         {
@@ -2911,7 +2919,7 @@ public final class FileUtils
      */
     public static void clearFileTypeDescriptionCache ()
     {
-        fileTypeDescriptionCache.clear ();
+        fileMetadataCache.clear ( FileMetadataProperty.typeDescription );
     }
 
     /**
@@ -2921,7 +2929,7 @@ public final class FileUtils
      */
     public static void clearFileTypeDescriptionCache ( @NotNull final String absolutePath )
     {
-        fileTypeDescriptionCache.remove ( absolutePath );
+        fileMetadataCache.remove ( absolutePath, FileMetadataProperty.typeDescription );
     }
 
     /**
@@ -2937,9 +2945,10 @@ public final class FileUtils
         if ( file != null )
         {
             final String absolutePath = file.getAbsolutePath ();
-            if ( fileTypeDescriptionCache.containsKey ( absolutePath ) )
+            final String cached = fileMetadataCache.get ( absolutePath, FileMetadataProperty.typeDescription, String.class );
+            if ( cached != null )
             {
-                description = fileTypeDescriptionCache.get ( absolutePath );
+                description = cached;
             }
             else if ( file.exists () )
             {
@@ -2951,7 +2960,7 @@ public final class FileUtils
                 {
                     description = "";
                 }
-                fileTypeDescriptionCache.put ( absolutePath, absolutePath );
+                fileMetadataCache.put ( absolutePath, FileMetadataProperty.typeDescription, description );
             }
         }
         return description;
@@ -3222,33 +3231,39 @@ public final class FileUtils
     }
 
     /**
-     * Starts tracking file for possible changes.
+     * Returns new tracking timer for the specified file.
+     * Returned timer is not started, you have to start it yourself.
      *
      * @param file     file to track
      * @param listener system file listener
      * @return tracking timer
+     * @deprecated each returned timer checks its file separately, use {@link #startTracking(File, SystemFileListener)} instead
      */
     @NotNull
+    @Deprecated
     public static WebTimer trackFile ( @NotNull final File file, @NotNull final SystemFileListener listener )
     {
         return trackFile ( file, listener, FILE_TRACKING_DELAY );
     }
 
     /**
-     * Starts tracking file for possible changes.
+     * Returns new tracking timer for the specified file.
+     * Returned timer is not started, you have to start it yourself.
      *
      * @param file     file to track
      * @param listener system file listener
      * @param delay    delay between checks for changes
      * @return tracking timer
+     * @deprecated each returned timer checks its file separately, use {@link #startTracking(File, SystemFileListener, long)} instead
      */
     @NotNull
+    @Deprecated
     public static WebTimer trackFile ( @NotNull final File file, @NotNull final SystemFileListener listener, final long delay )
     {
         final WebTimer tracker = new WebTimer ( "File tracker - " + file.getName (), delay, 0 );
         tracker.addActionListener ( new ActionListener ()
         {
-            private Long lastModified = null;
+            private long lastModified = file.lastModified ();
 
             @Override
             public void actionPerformed ( @NotNull final ActionEvent e )
@@ -3272,4 +3287,43 @@ public final class FileUtils
         tracker.setUseDaemonThread ( true );
         return tracker;
     }
+
+    /**
+     * Starts tracking file for possible changes.
+     * Tracking will automatically stop once file is deleted, renamed or moved.
+     *
+     * @param file     file to track
+     * @param listener system file listener
+     * @see FileTracker
+     */
+    public static void startTracking ( @NotNull final File file, @NotNull final SystemFileListener listener )
+    {
+        startTracking ( file, listener, FILE_TRACKING_DELAY );
+    }
+
+    /**
+     * Starts tracking file for possible changes.
+     * Tracking will automatically stop once file is deleted, renamed or moved.
+     *
+     * @param file     file to track
+     * @param listener system file listener
+     * @param delay    delay between checks for changes
+     * @see FileTracker
+     */
+    public static void startTracking ( @NotNull final File file, @NotNull final SystemFileListener listener, final long delay )
+    {
+        FileTracker.track ( file, listener, delay );
+    }
+
+    /**
+     * Stops tracking file for possible changes.
+     *
+     * @param file     tracked file
+     * @param listener system file listener
+     * @see FileTracker
+     */
+    public static void stopTracking ( @NotNull final File file, @NotNull final SystemFileListener listener )
+    {
+        FileTracker.untrack ( file, listener );
+    }
 }
\ No newline at end of file
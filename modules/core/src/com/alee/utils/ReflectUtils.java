@@ -970,6 +970,43 @@ public final class ReflectUtils
         }
     }
 
+    /**
+     * Applies specified value to accessible object field.
+     * Value is set directly if {@code direct} is {@code true}, otherwise or if direct update is not allowed it is set through
+     * {@link #setFieldValue(Object, Field, Object)} which removes final modifier first.
+     * Returned value can be cached and passed back on subsequent calls to avoid repeated direct update attempts for the same field.
+     *
+     * @param object object instance
+     * @param field  accessible object field
+     * @param value  field value
+     * @param direct whether or not value should be set directly first
+     * @return {@code true} if value was set directly, {@code false} otherwise
+     * @throws IllegalAccessException if field is inaccessible
+     */
+    public static boolean setFieldValue ( final Object object, final Field field, final Object value, final boolean direct )
+            throws IllegalAccessException
+    {
+        boolean set = false;
+        if ( direct )
+        {
+            try
+            {
+                // Accessible non-static final fields can be set directly
+                field.set ( object, value );
+                set = true;
+            }
+            catch ( final IllegalAccessException e )
+            {
+                // Falling back to modifiers update
+            }
+        }
+        if ( !set )
+        {
+            setFieldValue ( object, field, value );
+        }
+        return set;
+    }
+
     /**
      * Returns object field value.
      * This method allows to access even private object fields.
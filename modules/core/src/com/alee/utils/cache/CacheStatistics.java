@@ -0,0 +1,134 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.cache;
+
+/**
+ * Hit, miss and eviction statistics collected by a cache.
+ * It can be used to find appropriate cache size or memory budget.
+ * All methods are thread-safe, so statistics can be read without acquiring the cache lock.
+ *
+ * @author Mikle Garin
+ */
+public final class CacheStatistics
+{
+    /**
+     * Amount of requests that were served from cache.
+     */
+    private long hits;
+
+    /**
+     * Amount of requests that were not served from cache.
+     */
+    private long misses;
+
+    /**
+     * Amount of evicted, expired and invalidated entries.
+     */
+    private long evictions;
+
+    /**
+     * Constructs new {@link CacheStatistics}.
+     */
+    public CacheStatistics ()
+    {
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+    /**
+     * Records request that was served from cache.
+     */
+    public synchronized void hit ()
+    {
+        hits++;
+    }
+
+    /**
+     * Records request that was not served from cache.
+     */
+    public synchronized void miss ()
+    {
+        misses++;
+    }
+
+    /**
+     * Records evicted, expired or invalidated entry.
+     */
+    public synchronized void evicted ()
+    {
+        evictions++;
+    }
+
+    /**
+     * Returns amount of requests that were served from cache.
+     *
+     * @return amount of requests that were served from cache
+     */
+    public synchronized long getHits ()
+    {
+        return hits;
+    }
+
+    /**
+     * Returns amount of requests that were not served from cache.
+     *
+     * @return amount of requests that were not served from cache
+     */
+    public synchronized long getMisses ()
+    {
+        return misses;
+    }
+
+    /**
+     * Returns amount of evicted, expired and invalidated entries.
+     *
+     * @return amount of evicted, expired and invalidated entries
+     */
+    public synchronized long getEvictions ()
+    {
+        return evictions;
+    }
+
+    /**
+     * Returns ratio of requests served from cache to all requests between {@code 0} and {@code 1}.
+     *
+     * @return ratio of requests served from cache to all requests between {@code 0} and {@code 1}
+     */
+    public synchronized double getHitRate ()
+    {
+        final long requests = hits + misses;
+        return requests > 0 ? ( double ) hits / requests : 0;
+    }
+
+    /**
+     * Resets all statistics.
+     */
+    public synchronized void reset ()
+    {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public synchronized String toString ()
+    {
+        return getClass ().getSimpleName () + "[hits=" + hits + ";misses=" + misses + ";evictions=" + evictions + "]";
+    }
+}
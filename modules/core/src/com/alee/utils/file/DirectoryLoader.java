@@ -0,0 +1,203 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.task.TaskManager;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.FileUtils;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Asynchronous directory content loader.
+ * Directory files are listed, filtered and sorted on {@link TaskManager#FILE_SYSTEM} task group, file metadata used for sorting is
+ * requested once per file through {@link FileSortKey}s. Sorted files are then passed into {@link #loaded(List)} on the EDT in
+ * batches, each batch is twice as large as the previous one so that first files are displayed quickly while the overall amount of
+ * batches stays small even for huge directories.
+ *
+ * Loading can be cancelled at any time from the EDT, no {@link #loaded(List)} or {@link #finished()} calls happen afterwards.
+ *
+ * @author Mikle Garin
+ * @see FileSortKey
+ */
+public abstract class DirectoryLoader implements Runnable
+{
+    /**
+     * Size of the first files batch passed into {@link #loaded(List)}.
+     */
+    public static final int INITIAL_BATCH_SIZE = 500;
+
+    /**
+     * Directory to load files from.
+     */
+    @NotNull
+    protected final File directory;
+
+    /**
+     * {@link FileFilter} for loaded files.
+     */
+    @Nullable
+    protected final FileFilter fileFilter;
+
+    /**
+     * Whether or not loading was cancelled.
+     */
+    protected volatile boolean cancelled;
+
+    /**
+     * Constructs new {@link DirectoryLoader}.
+     *
+     * @param directory  directory to load files from
+     * @param fileFilter {@link FileFilter} for loaded files
+     */
+    public DirectoryLoader ( @NotNull final File directory, @Nullable final FileFilter fileFilter )
+    {
+        this.directory = directory;
+        this.fileFilter = fileFilter;
+        this.cancelled = false;
+    }
+
+    /**
+     * Returns directory to load files from.
+     *
+     * @return directory to load files from
+     */
+    @NotNull
+    public File getDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Starts loading directory files on {@link TaskManager#FILE_SYSTEM} task group.
+     */
+    public void load ()
+    {
+        TaskManager.execute ( TaskManager.FILE_SYSTEM, this );
+    }
+
+    /**
+     * Cancels loading.
+     * Should be called from the EDT to guarantee that no further {@link #loaded(List)} or {@link #finished()} calls happen.
+     */
+    public void cancel ()
+    {
+        cancelled = true;
+    }
+
+    /**
+     * Returns whether or not loading was cancelled.
+     *
+     * @return {@code true} if loading was cancelled, {@code false} otherwise
+     */
+    public boolean isCancelled ()
+    {
+        return cancelled;
+    }
+
+    @Override
+    public void run ()
+    {
+        try
+        {
+            // Listing and filtering files
+            final File[] files = FileUtils.listFiles ( directory, ( FileFilter ) null );
+            final FileSortKey[] keys = new FileSortKey[ files.length ];
+            int count = 0;
+            for ( int i = 0; i < files.length && !cancelled; i++ )
+            {
+                if ( fileFilter == null || fileFilter.accept ( files[ i ] ) )
+                {
+                    keys[ count++ ] = new FileSortKey ( files[ i ] );
+                }
+            }
+
+            // Sorting files
+            if ( !cancelled )
+            {
+                Arrays.sort ( keys, 0, count );
+            }
+
+            // Passing files in growing batches
+            int from = 0;
+            int batchSize = INITIAL_BATCH_SIZE;
+            while ( from < count && !cancelled )
+            {
+                final int to = Math.min ( count, from + batchSize );
+                final List<File> batch = new ArrayList<File> ( to - from );
+                for ( int i = from; i < to; i++ )
+                {
+                    batch.add ( keys[ i ].getFile () );
+                }
+                CoreSwingUtils.invokeLater ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        if ( !cancelled )
+                        {
+                            loaded ( batch );
+                        }
+                    }
+                } );
+                from = to;
+                batchSize *= 2;
+            }
+        }
+        catch ( final Exception e )
+        {
+            LoggerFactory.getLogger ( DirectoryLoader.class ).error ( "Unable to load directory: " + directory, e );
+        }
+        finally
+        {
+            // Informing about loading end
+            CoreSwingUtils.invokeLater ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    if ( !cancelled )
+                    {
+                        finished ();
+                    }
+                }
+            } );
+        }
+    }
+
+    /**
+     * Informs about next sorted batch of loaded files.
+     * This method is always called on the EDT.
+     *
+     * @param files next sorted batch of loaded files
+     */
+    protected abstract void loaded ( @NotNull List<File> files );
+
+    /**
+     * Informs that directory loading is finished.
+     * This method is always called on the EDT, even if loading failed.
+     */
+    protected abstract void finished ();
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.CollectionUtils;
+import com.alee.utils.FileUtils;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manages asynchronous loading of the directory displayed in a file component through {@link DirectoryLoader}.
+ * It keeps track of the current loading, remembers selection requested while files are loading and restores it once loading is
+ * finished. When the same directory is reloaded its old files stay displayed until the first batch of new files arrives.
+ *
+ * All methods of this class should be called on the EDT.
+ *
+ * @author Mikle Garin
+ * @see DirectoryLoader
+ */
+public abstract class DisplayedDirectoryLoader
+{
+    /**
+     * {@link DirectoryLoader} for displayed directory files.
+     * It is {@code null} when no files are being loaded.
+     */
+    @Nullable
+    protected DirectoryLoader loader;
+
+    /**
+     * Files that should be selected once displayed directory files are loaded.
+     */
+    @Nullable
+    protected List<File> pendingSelection;
+
+    /**
+     * Whether or not old files are still displayed and should be replaced with the next loaded batch.
+     */
+    protected boolean replaceFiles;
+
+    /**
+     * Starts loading files of the specified directory, disk roots are displayed if directory is {@code null}.
+     * Loading of previously displayed directory files is cancelled if it is still in progress.
+     *
+     * @param directory     directory to load files from
+     * @param fileFilter    {@link FileFilter} for loaded files
+     * @param sameDirectory whether or not the same directory is being reloaded
+     */
+    public void load ( @Nullable final File directory, @Nullable final FileFilter fileFilter, final boolean sameDirectory )
+    {
+        // Saving selection to restore later
+        final List<File> oldSelection = pendingSelection != null ? pendingSelection : getSelectedFiles ();
+
+        // Cancelling outdated loading
+        cancel ();
+
+        if ( directory != null )
+        {
+            if ( sameDirectory )
+            {
+                // Keeping old files displayed until the first batch arrives
+                pendingSelection = oldSelection;
+                replaceFiles = true;
+            }
+            else
+            {
+                setFiles ( new ArrayList<File> ( 0 ) );
+            }
+
+            // Loading directory files
+            loader = new DirectoryLoader ( directory, fileFilter )
+            {
+                @Override
+                protected void loaded ( @NotNull final List<File> files )
+                {
+                    DisplayedDirectoryLoader.this.loaded ( files );
+                }
+
+                @Override
+                protected void finished ()
+                {
+                    DisplayedDirectoryLoader.this.finished ();
+                }
+            };
+            loader.load ();
+        }
+        else
+        {
+            // Displaying disk roots
+            setFiles ( CollectionUtils.asList ( FileUtils.getDiskRoots () ) );
+
+            // Restoring selection if its same folder
+            if ( sameDirectory )
+            {
+                setSelectedFiles ( oldSelection );
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not displayed directory files are being loaded.
+     *
+     * @return {@code true} if displayed directory files are being loaded, {@code false} otherwise
+     */
+    public boolean isLoading ()
+    {
+        return loader != null;
+    }
+
+    /**
+     * Cancels displayed directory files loading if it is in progress.
+     */
+    public void cancel ()
+    {
+        if ( loader != null )
+        {
+            loader.cancel ();
+            loader = null;
+        }
+        pendingSelection = null;
+        replaceFiles = false;
+    }
+
+    /**
+     * Remembers files requested to be selected if displayed directory files are being loaded.
+     *
+     * @param files files requested to be selected
+     */
+    public void selectionRequested ( @Nullable final List<File> files )
+    {
+        if ( isLoading () )
+        {
+            pendingSelection = files;
+        }
+    }
+
+    /**
+     * Selects files requested to be selected while displayed directory files were loading.
+     * Selection is only restored if nothing was selected in the meantime.
+     */
+    public void restoreSelection ()
+    {
+        final List<File> files = pendingSelection;
+        pendingSelection = null;
+        if ( files != null && isSelectionEmpty () )
+        {
+            if ( files.size () == 1 )
+            {
+                setSelectedFile ( files.get ( 0 ) );
+            }
+            else
+            {
+                setSelectedFiles ( files );
+            }
+        }
+    }
+
+    /**
+     * Displays next sorted batch of loaded files.
+     *
+     * @param files next sorted batch of loaded files
+     */
+    protected void loaded ( @NotNull final List<File> files )
+    {
+        if ( replaceFiles )
+        {
+            replaceFiles ( files );
+        }
+        else
+        {
+            addFiles ( files );
+        }
+    }
+
+    /**
+     * Completes displayed directory files loading.
+     */
+    protected void finished ()
+    {
+        if ( replaceFiles )
+        {
+            // Reloaded directory is empty now
+            replaceFiles ( new ArrayList<File> ( 0 ) );
+        }
+        loader = null;
+        restoreSelection ();
+    }
+
+    /**
+     * Replaces old displayed files with the specified ones.
+     * Selection made while old files were displayed takes priority over the one saved upon reload.
+     *
+     * @param files new displayed files
+     */
+    protected void replaceFiles ( @NotNull final List<File> files )
+    {
+        if ( !isSelectionEmpty () )
+        {
+            pendingSelection = getSelectedFiles ();
+        }
+        replaceFiles = false;
+        setFiles ( files );
+    }
+
+    /**
+     * Replaces all displayed files with the specified ones.
+     *
+     * @param files new displayed files
+     */
+    protected abstract void setFiles ( @NotNull List<File> files );
+
+    /**
+     * Adds specified files to the end of displayed files.
+     *
+     * @param files files to add
+     */
+    protected abstract void addFiles ( @NotNull List<File> files );
+
+    /**
+     * Returns whether or not no files are selected.
+     *
+     * @return {@code true} if no files are selected, {@code false} otherwise
+     */
+    protected abstract boolean isSelectionEmpty ();
+
+    /**
+     * Returns selected files.
+     *
+     * @return selected files
+     */
+    @NotNull
+    protected abstract List<File> getSelectedFiles ();
+
+    /**
+     * Selects specified file and scrolls view to it.
+     *
+     * @param file file to select
+     */
+    protected abstract void setSelectedFile ( @NotNull File file );
+
+    /**
+     * Selects specified files.
+     *
+     * @param files files to select
+     */
+    protected abstract void setSelectedFiles ( @NotNull List<File> files );
+}
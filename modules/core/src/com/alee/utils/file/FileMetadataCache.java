@@ -0,0 +1,384 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.cache.CacheStatistics;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache for file metadata used by {@link com.alee.utils.FileUtils} methods.
+ * It keeps a single entry with all {@link FileMetadataProperty} values per file path and evicts least recently used entries once
+ * maximum size is reached. Entries can also expire after specified time to live.
+ *
+ * Cached entries are also automatically invalidated whenever modification time of their parent directory changes, which happens when
+ * files are created, deleted or renamed within it. Parent directory modification time is checked at most once per validation delay to
+ * avoid excessive file system calls, so cache still does its job when used within renderers.
+ *
+ * Cache also collects {@link CacheStatistics} which can be used to find appropriate cache size.
+ *
+ * @author Mikle Garin
+ * @see FileMetadataProperty
+ * @see com.alee.utils.FileUtils#setFileMetadataCache(FileMetadataCache)
+ */
+public class FileMetadataCache
+{
+    /**
+     * Amount of available {@link FileMetadataProperty}s.
+     */
+    protected static final int PROPERTIES = FileMetadataProperty.values ().length;
+
+    /**
+     * Maximum amount of cached files.
+     */
+    protected final int maximumSize;
+
+    /**
+     * Time in milliseconds cached entries live for, zero or less means that entries do not expire.
+     */
+    protected final long timeToLive;
+
+    /**
+     * Minimum time in milliseconds between parent directory modification time checks, less than zero disables the checks.
+     */
+    protected final long validationDelay;
+
+    /**
+     * Cached file entries in least recently used order.
+     */
+    @NotNull
+    protected final LinkedHashMap<String, FileEntry> entries;
+
+    /**
+     * Parent directories states in least recently used order.
+     */
+    @NotNull
+    protected final LinkedHashMap<String, DirectoryState> directories;
+
+    /**
+     * {@link CacheStatistics}.
+     */
+    @NotNull
+    protected final CacheStatistics statistics;
+
+    /**
+     * Constructs new {@link FileMetadataCache}.
+     */
+    public FileMetadataCache ()
+    {
+        this ( 20000, 0, 1000 );
+    }
+
+    /**
+     * Constructs new {@link FileMetadataCache}.
+     *
+     * @param maximumSize     maximum amount of cached files
+     * @param timeToLive      time in milliseconds cached entries live for, zero or less means that entries do not expire
+     * @param validationDelay minimum time in milliseconds between parent directory modification time checks, less than zero disables them
+     */
+    public FileMetadataCache ( final int maximumSize, final long timeToLive, final long validationDelay )
+    {
+        if ( maximumSize <= 0 )
+        {
+            throw new IllegalArgumentException ( "Maximum cache size must be positive: " + maximumSize );
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.validationDelay = validationDelay;
+        this.statistics = new CacheStatistics ();
+        this.entries = new LinkedHashMap<String, FileEntry> ( 16, 0.75f, true )
+        {
+            @Override
+            protected boolean removeEldestEntry ( final Map.Entry<String, FileEntry> eldest )
+            {
+                final boolean remove = size () > FileMetadataCache.this.maximumSize;
+                if ( remove )
+                {
+                    statistics.evicted ();
+                }
+                return remove;
+            }
+        };
+        this.directories = new LinkedHashMap<String, DirectoryState> ( 16, 0.75f, true )
+        {
+            @Override
+            protected boolean removeEldestEntry ( final Map.Entry<String, DirectoryState> eldest )
+            {
+                return size () > FileMetadataCache.this.maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Returns cached {@link FileMetadataProperty} value for the specified file path or {@code null} if it is not cached.
+     *
+     * @param absolutePath absolute file path
+     * @param property     {@link FileMetadataProperty}
+     * @param type         value type
+     * @param <T>          value type
+     * @return cached {@link FileMetadataProperty} value for the specified file path or {@code null} if it is not cached
+     */
+    @Nullable
+    public synchronized <T> T get ( @NotNull final String absolutePath, @NotNull final FileMetadataProperty property,
+                                    @NotNull final Class<T> type )
+    {
+        final FileEntry entry = validEntry ( absolutePath );
+        final Object value = entry != null ? entry.values[ property.ordinal () ] : null;
+        if ( value != null )
+        {
+            statistics.hit ();
+        }
+        else
+        {
+            statistics.miss ();
+        }
+        return type.cast ( value );
+    }
+
+    /**
+     * Caches {@link FileMetadataProperty} value for the specified file path.
+     *
+     * @param absolutePath absolute file path
+     * @param property     {@link FileMetadataProperty}
+     * @param value        {@link FileMetadataProperty} value
+     */
+    public synchronized void put ( @NotNull final String absolutePath, @NotNull final FileMetadataProperty property,
+                                   @NotNull final Object value )
+    {
+        FileEntry entry = validEntry ( absolutePath );
+        if ( entry == null )
+        {
+            final String parent = new File ( absolutePath ).getParent ();
+            final DirectoryState directory = parent != null ? directoryState ( parent ) : null;
+            entry = new FileEntry ( parent, directory != null ? directory.generation : 0 );
+            entries.put ( absolutePath, entry );
+        }
+        entry.values[ property.ordinal () ] = value;
+    }
+
+    /**
+     * Removes cached {@link FileMetadataProperty} value for the specified file path.
+     *
+     * @param absolutePath absolute file path
+     * @param property     {@link FileMetadataProperty}
+     */
+    public synchronized void remove ( @NotNull final String absolutePath, @NotNull final FileMetadataProperty property )
+    {
+        final FileEntry entry = entries.get ( absolutePath );
+        if ( entry != null )
+        {
+            entry.values[ property.ordinal () ] = null;
+        }
+    }
+
+    /**
+     * Removes all cached values for the specified file path.
+     *
+     * @param absolutePath absolute file path
+     */
+    public synchronized void remove ( @NotNull final String absolutePath )
+    {
+        entries.remove ( absolutePath );
+    }
+
+    /**
+     * Removes cached {@link FileMetadataProperty} values for all file paths.
+     *
+     * @param property {@link FileMetadataProperty}
+     */
+    public synchronized void clear ( @NotNull final FileMetadataProperty property )
+    {
+        for ( final FileEntry entry : entries.values () )
+        {
+            entry.values[ property.ordinal () ] = null;
+        }
+    }
+
+    /**
+     * Removes all cached values.
+     */
+    public synchronized void clear ()
+    {
+        entries.clear ();
+        directories.clear ();
+    }
+
+    /**
+     * Returns amount of cached files.
+     *
+     * @return amount of cached files
+     */
+    public synchronized int size ()
+    {
+        return entries.size ();
+    }
+
+    /**
+     * Returns maximum amount of cached files.
+     *
+     * @return maximum amount of cached files
+     */
+    public int getMaximumSize ()
+    {
+        return maximumSize;
+    }
+
+    /**
+     * Returns {@link CacheStatistics}.
+     *
+     * @return {@link CacheStatistics}
+     */
+    @NotNull
+    public CacheStatistics getStatistics ()
+    {
+        return statistics;
+    }
+
+    /**
+     * Returns valid {@link FileEntry} for the specified file path or {@code null} if there is none.
+     * Expired and invalidated entries are removed from the cache.
+     *
+     * @param absolutePath absolute file path
+     * @return valid {@link FileEntry} for the specified file path or {@code null} if there is none
+     */
+    @Nullable
+    protected FileEntry validEntry ( @NotNull final String absolutePath )
+    {
+        FileEntry entry = entries.get ( absolutePath );
+        if ( entry != null )
+        {
+            final boolean expired = timeToLive > 0 && System.currentTimeMillis () - entry.created > timeToLive;
+            if ( expired || entry.parent != null && directoryState ( entry.parent ).generation != entry.generation )
+            {
+                entries.remove ( absolutePath );
+                statistics.evicted ();
+                entry = null;
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Returns up-to-date {@link DirectoryState} for the specified directory path.
+     *
+     * @param absolutePath absolute directory path
+     * @return up-to-date {@link DirectoryState} for the specified directory path
+     */
+    @NotNull
+    protected DirectoryState directoryState ( @NotNull final String absolutePath )
+    {
+        final long time = System.currentTimeMillis ();
+        DirectoryState state = directories.get ( absolutePath );
+        if ( state == null )
+        {
+            state = new DirectoryState ( validationDelay >= 0 ? new File ( absolutePath ).lastModified () : 0, time );
+            directories.put ( absolutePath, state );
+        }
+        else if ( validationDelay >= 0 && time - state.checked > validationDelay )
+        {
+            final long lastModified = new File ( absolutePath ).lastModified ();
+            if ( lastModified != state.lastModified )
+            {
+                state.lastModified = lastModified;
+                state.generation++;
+            }
+            state.checked = time;
+        }
+        return state;
+    }
+
+    /**
+     * Cached file entry.
+     */
+    protected static class FileEntry
+    {
+        /**
+         * Parent directory path.
+         */
+        @Nullable
+        protected final String parent;
+
+        /**
+         * Parent directory state generation this entry was created in.
+         */
+        protected final int generation;
+
+        /**
+         * Entry creation time.
+         */
+        protected final long created;
+
+        /**
+         * Cached {@link FileMetadataProperty} values.
+         */
+        @NotNull
+        protected final Object[] values;
+
+        /**
+         * Constructs new {@link FileEntry}.
+         *
+         * @param parent     parent directory path
+         * @param generation parent directory state generation this entry was created in
+         */
+        public FileEntry ( @Nullable final String parent, final int generation )
+        {
+            this.parent = parent;
+            this.generation = generation;
+            this.created = System.currentTimeMillis ();
+            this.values = new Object[ PROPERTIES ];
+        }
+    }
+
+    /**
+     * Directory modification state.
+     */
+    protected static class DirectoryState
+    {
+        /**
+         * Last known directory modification time.
+         */
+        protected long lastModified;
+
+        /**
+         * Last time directory modification time was checked.
+         */
+        protected long checked;
+
+        /**
+         * State generation, incremented each time directory modification is detected.
+         */
+        protected int generation;
+
+        /**
+         * Constructs new {@link DirectoryState}.
+         *
+         * @param lastModified last known directory modification time
+         * @param checked      last time directory modification time was checked
+         */
+        public DirectoryState ( final long lastModified, final long checked )
+        {
+            this.lastModified = lastModified;
+            this.checked = checked;
+            this.generation = 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+/**
+ * File metadata properties cached within {@link FileMetadataCache}.
+ * Each one of them represents result of a separate {@link com.alee.utils.FileUtils} method.
+ *
+ * @author Mikle Garin
+ * @see FileMetadataCache
+ */
+public enum FileMetadataProperty
+{
+    /**
+     * {@link com.alee.utils.FileUtils#isDrive(java.io.File)} result.
+     */
+    drive,
+
+    /**
+     * {@link com.alee.utils.FileUtils#isComputer(java.io.File)} result.
+     */
+    computer,
+
+    /**
+     * {@link com.alee.utils.FileUtils#isCdDrive(java.io.File)} result.
+     */
+    cdDrive,
+
+    /**
+     * {@link com.alee.utils.FileUtils#isFile(java.io.File)} result.
+     */
+    file,
+
+    /**
+     * {@link com.alee.utils.FileUtils#isDirectory(java.io.File)} result.
+     */
+    directory,
+
+    /**
+     * {@link com.alee.utils.FileUtils#isHidden(java.io.File)} result.
+     */
+    hidden,
+
+    /**
+     * {@link com.alee.utils.FileUtils#getDisplayFileName(java.io.File)} result.
+     */
+    displayName,
+
+    /**
+     * {@link com.alee.utils.FileUtils#getFileDescription(java.io.File, String)} result.
+     */
+    description,
+
+    /**
+     * {@link com.alee.utils.FileUtils#getFileTypeDescription(java.io.File)} result.
+     */
+    typeDescription,
+
+    /**
+     * {@link com.alee.utils.FileUtils#getDisplayFileCreationDate(java.io.File)} result.
+     */
+    creationDate,
+
+    /**
+     * {@link com.alee.utils.FileUtils#getDisplayFileModificationDate(java.io.File)} result.
+     */
+    modificationDate
+}
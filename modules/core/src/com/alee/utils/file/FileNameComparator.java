@@ -32,56 +32,72 @@ public class FileNameComparator implements Comparator<String>, Serializable
     @Override
     public int compare ( final String name1, final String name2 )
     {
+        final int result;
         if ( name1 != null && name2 != null )
         {
-            final String lower1 = name1.toLowerCase ( Locale.ROOT );
-            final String lower2 = name2.toLowerCase ( Locale.ROOT );
-            int thisMarker = 0;
-            int thatMarker = 0;
-            final int s1Length = lower1.length ();
-            final int s2Length = lower2.length ();
-            while ( thisMarker < s1Length && thatMarker < s2Length )
-            {
-                final String thisChunk = getChunk ( lower1, s1Length, thisMarker );
-                thisMarker += thisChunk.length ();
+            result = compareLowercase ( name1.toLowerCase ( Locale.ROOT ), name2.toLowerCase ( Locale.ROOT ) );
+        }
+        else
+        {
+            result = 0;
+        }
+        return result;
+    }
 
-                final String thatChunk = getChunk ( lower2, s2Length, thatMarker );
-                thatMarker += thatChunk.length ();
+    /**
+     * Compares file names that are already converted to lowercase using {@link Locale#ROOT}.
+     * This allows callers that cache lowercase names, like {@link FileSortKey}, to avoid converting them on each comparison.
+     *
+     * @param lower1 first lowercase file name
+     * @param lower2 second lowercase file name
+     * @return comparison result
+     */
+    public int compareLowercase ( final String lower1, final String lower2 )
+    {
+        int thisMarker = 0;
+        int thatMarker = 0;
+        final int s1Length = lower1.length ();
+        final int s2Length = lower2.length ();
+        while ( thisMarker < s1Length && thatMarker < s2Length )
+        {
+            final String thisChunk = getChunk ( lower1, s1Length, thisMarker );
+            thisMarker += thisChunk.length ();
 
-                // If both chunks contain numeric characters, sort them numerically
-                int result;
-                if ( isDigit ( thisChunk.charAt ( 0 ) ) && isDigit ( thatChunk.charAt ( 0 ) ) )
-                {
-                    // Simple chunk comparison by length.
-                    final int thisChunkLength = thisChunk.length ();
-                    result = thisChunkLength - thatChunk.length ();
+            final String thatChunk = getChunk ( lower2, s2Length, thatMarker );
+            thatMarker += thatChunk.length ();
 
-                    // If equal, the first different number counts
-                    if ( result == 0 )
+            // If both chunks contain numeric characters, sort them numerically
+            int result;
+            if ( isDigit ( thisChunk.charAt ( 0 ) ) && isDigit ( thatChunk.charAt ( 0 ) ) )
+            {
+                // Simple chunk comparison by length.
+                final int thisChunkLength = thisChunk.length ();
+                result = thisChunkLength - thatChunk.length ();
+
+                // If equal, the first different number counts
+                if ( result == 0 )
+                {
+                    for ( int i = 0; i < thisChunkLength; i++ )
                     {
-                        for ( int i = 0; i < thisChunkLength; i++ )
+                        result = thisChunk.charAt ( i ) - thatChunk.charAt ( i );
+                        if ( result != 0 )
                         {
-                            result = thisChunk.charAt ( i ) - thatChunk.charAt ( i );
-                            if ( result != 0 )
-                            {
-                                return result;
-                            }
+                            return result;
                         }
                     }
                 }
-                else
-                {
-                    result = thisChunk.compareTo ( thatChunk );
-                }
+            }
+            else
+            {
+                result = thisChunk.compareTo ( thatChunk );
+            }
 
-                if ( result != 0 )
-                {
-                    return result;
-                }
+            if ( result != 0 )
+            {
+                return result;
             }
-            return s1Length - s2Length;
         }
-        return 0;
+        return s1Length - s2Length;
     }
 
     /**
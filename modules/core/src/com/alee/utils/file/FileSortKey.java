@@ -0,0 +1,127 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.utils.FileUtils;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * {@link File} sort key providing the same order as {@link FileComparator}.
+ * Directory and hidden marks as well as lowercase file name are requested only once upon key creation, so unlike
+ * {@link FileComparator} it doesn't access {@link FileUtils} caches or file system on each comparison.
+ *
+ * @author Mikle Garin
+ * @see FileComparator
+ * @see FileUtils#sortFiles(File[])
+ */
+public final class FileSortKey implements Comparable<FileSortKey>
+{
+    /**
+     * {@link File} name comparator.
+     */
+    @NotNull
+    private static final FileNameComparator fileNameComparator = new FileNameComparator ();
+
+    /**
+     * {@link File} this key is created for.
+     */
+    @NotNull
+    private final File file;
+
+    /**
+     * Whether or not {@link File} is a directory.
+     */
+    private final boolean directory;
+
+    /**
+     * Whether or not {@link File} is hidden.
+     */
+    private final boolean hidden;
+
+    /**
+     * Lowercase {@link File} name.
+     */
+    @NotNull
+    private final String name;
+
+    /**
+     * Constructs new {@link FileSortKey}.
+     *
+     * @param file {@link File} to create key for
+     */
+    public FileSortKey ( @NotNull final File file )
+    {
+        this.file = file;
+        this.directory = FileUtils.isDirectory ( file );
+        this.hidden = FileUtils.isHidden ( file );
+        this.name = file.getName ().toLowerCase ( Locale.ROOT );
+    }
+
+    /**
+     * Returns {@link File} this key is created for.
+     *
+     * @return {@link File} this key is created for
+     */
+    @NotNull
+    public File getFile ()
+    {
+        return file;
+    }
+
+    /**
+     * Returns whether or not {@link File} is a directory.
+     *
+     * @return {@code true} if {@link File} is a directory, {@code false} otherwise
+     */
+    public boolean isDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Returns whether or not {@link File} is hidden.
+     *
+     * @return {@code true} if {@link File} is hidden, {@code false} otherwise
+     */
+    public boolean isHidden ()
+    {
+        return hidden;
+    }
+
+    @Override
+    public int compareTo ( @NotNull final FileSortKey other )
+    {
+        final int result;
+        if ( directory != other.directory )
+        {
+            result = directory ? -1 : 1;
+        }
+        else if ( hidden != other.hidden )
+        {
+            result = hidden ? -1 : 1;
+        }
+        else
+        {
+            result = fileNameComparator.compareLowercase ( name, other.name );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.swing.SharedTimerScheduler;
+import com.alee.utils.swing.WebTimer;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engine that tracks any amount of files for possible changes using a single shared {@link WebTimer}.
+ * Each tracked file is checked only once per its tracking delay regardless of how many {@link SystemFileListener}s are tracking it.
+ * Checks are performed outside of Event Dispatch Thread and all changes found within one check are dispatched together in a single
+ * Event Dispatch Thread call, so {@link SystemFileListener}s are still informed on Event Dispatch Thread.
+ *
+ * Tracking is based on polling because file system watch service is not available in all supported JDK versions.
+ *
+ * @author Mikle Garin
+ * @see SystemFileListener
+ * @see com.alee.utils.FileUtils#startTracking(File, SystemFileListener)
+ */
+public final class FileTracker
+{
+    /**
+     * Lock for all tracking operations.
+     */
+    @NotNull
+    private static final Object lock = new Object ();
+
+    /**
+     * Tracked files.
+     */
+    @NotNull
+    private static final Map<File, TrackedFile> trackedFiles = new HashMap<File, TrackedFile> ();
+
+    /**
+     * {@link WebTimer} performing checks.
+     * It only exists while there are files being tracked.
+     */
+    @Nullable
+    private static WebTimer timer;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private FileTracker ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Starts tracking file for possible changes.
+     * Tracking will automatically stop once file is deleted, renamed or moved.
+     *
+     * @param file     file to track
+     * @param listener {@link SystemFileListener}
+     * @param delay    delay between checks for changes in milliseconds
+     */
+    public static void track ( @NotNull final File file, @NotNull final SystemFileListener listener, final long delay )
+    {
+        if ( delay <= 0 )
+        {
+            throw new IllegalArgumentException ( "File tracking delay must be positive: " + delay );
+        }
+        final File absolute = file.getAbsoluteFile ();
+        synchronized ( lock )
+        {
+            TrackedFile trackedFile = trackedFiles.get ( absolute );
+            if ( trackedFile == null )
+            {
+                trackedFile = new TrackedFile ( file, absolute.lastModified () );
+                trackedFiles.put ( absolute, trackedFile );
+            }
+            trackedFile.listeners.add ( listener );
+            trackedFile.delay = trackedFile.delay > 0 ? Math.min ( trackedFile.delay, delay ) : delay;
+            trackedFile.nextCheck = Math.min ( trackedFile.nextCheck, System.currentTimeMillis () + delay );
+            updateTimer ();
+        }
+    }
+
+    /**
+     * Stops tracking file changes for the specified {@link SystemFileListener}.
+     *
+     * @param file     tracked file
+     * @param listener {@link SystemFileListener}
+     */
+    public static void untrack ( @NotNull final File file, @NotNull final SystemFileListener listener )
+    {
+        final File absolute = file.getAbsoluteFile ();
+        synchronized ( lock )
+        {
+            final TrackedFile trackedFile = trackedFiles.get ( absolute );
+            if ( trackedFile != null && trackedFile.listeners.remove ( listener ) )
+            {
+                if ( trackedFile.listeners.isEmpty () )
+                {
+                    trackedFiles.remove ( absolute );
+                }
+                updateTimer ();
+            }
+        }
+    }
+
+    /**
+     * Returns whether or not specified file is tracked.
+     *
+     * @param file file to check
+     * @return {@code true} if specified file is tracked, {@code false} otherwise
+     */
+    public static boolean isTracked ( @NotNull final File file )
+    {
+        synchronized ( lock )
+        {
+            return trackedFiles.containsKey ( file.getAbsoluteFile () );
+        }
+    }
+
+    /**
+     * Updates {@link WebTimer} according to currently tracked files.
+     * Timer runs with the smallest delay among all tracked files and stops when there is nothing left to track.
+     * Must be called under the lock.
+     */
+    private static void updateTimer ()
+    {
+        long delay = Long.MAX_VALUE;
+        for ( final TrackedFile trackedFile : trackedFiles.values () )
+        {
+            delay = Math.min ( delay, trackedFile.delay );
+        }
+        if ( trackedFiles.isEmpty () )
+        {
+            if ( timer != null )
+            {
+                timer.stop ();
+                timer = null;
+            }
+        }
+        else if ( timer == null || timer.getDelay () != delay )
+        {
+            if ( timer != null )
+            {
+                timer.stop ();
+            }
+            final long tick = delay;
+            timer = new WebTimer ( "FileTracker", delay, delay );
+            timer.setScheduler ( SharedTimerScheduler.get () );
+            timer.setUseEventDispatchThread ( false );
+            timer.setUseDaemonThread ( true );
+            timer.setNonBlockingStop ( true );
+            timer.addActionListener ( new ActionListener ()
+            {
+                @Override
+                public void actionPerformed ( @NotNull final ActionEvent e )
+                {
+                    check ( tick );
+                }
+            } );
+            timer.start ();
+        }
+    }
+
+    /**
+     * Checks all tracked files which are due for a check and dispatches found changes.
+     *
+     * @param tick current delay between checks
+     */
+    private static void check ( final long tick )
+    {
+        // Collecting files due for the check
+        // Half of the tick is used as tolerance to avoid skipping files due to slight timer inaccuracy
+        final long now = System.currentTimeMillis ();
+        final List<TrackedFile> due = new ArrayList<TrackedFile> ();
+        synchronized ( lock )
+        {
+            for ( final TrackedFile trackedFile : trackedFiles.values () )
+            {
+                if ( trackedFile.nextCheck <= now + tick / 2 )
+                {
+                    trackedFile.nextCheck = now + trackedFile.delay;
+                    due.add ( trackedFile );
+                }
+            }
+        }
+
+        // Checking files outside of the lock
+        // File#lastModified() returns zero for missing file, so in most cases that is the only file system call we need
+        final List<TrackedFile> modified = new ArrayList<TrackedFile> ( 0 );
+        final List<TrackedFile> unbound = new ArrayList<TrackedFile> ( 0 );
+        for ( final TrackedFile trackedFile : due )
+        {
+            final long lastModified = trackedFile.file.lastModified ();
+            if ( lastModified == 0L && !trackedFile.file.exists () )
+            {
+                unbound.add ( trackedFile );
+            }
+            else if ( lastModified != trackedFile.lastModified )
+            {
+                trackedFile.lastModified = lastModified;
+                modified.add ( trackedFile );
+            }
+        }
+
+        // Dispatching all changes at once
+        if ( !modified.isEmpty () || !unbound.isEmpty () )
+        {
+            final List<Runnable> events = new ArrayList<Runnable> ( modified.size () + unbound.size () );
+            synchronized ( lock )
+            {
+                for ( final TrackedFile trackedFile : modified )
+                {
+                    for ( final SystemFileListener listener : trackedFile.listeners )
+                    {
+                        events.add ( new Runnable ()
+                        {
+                            @Override
+                            public void run ()
+                            {
+                                listener.modified ( trackedFile.file );
+                            }
+                        } );
+                    }
+                }
+                for ( final TrackedFile trackedFile : unbound )
+                {
+                    if ( trackedFiles.remove ( trackedFile.file.getAbsoluteFile () ) != null )
+                    {
+                        for ( final SystemFileListener listener : trackedFile.listeners )
+                        {
+                            events.add ( new Runnable ()
+                            {
+                                @Override
+                                public void run ()
+                                {
+                                    listener.unbound ( trackedFile.file );
+                                }
+                            } );
+                        }
+                    }
+                }
+                if ( !unbound.isEmpty () )
+                {
+                    updateTimer ();
+                }
+            }
+            if ( !events.isEmpty () )
+            {
+                CoreSwingUtils.invokeLater ( new Runnable ()
+                {
+                    @Override
+                    public void run ()
+                    {
+                        for ( final Runnable event : events )
+                        {
+                            event.run ();
+                        }
+                    }
+                } );
+            }
+        }
+    }
+
+    /**
+     * Tracked file data.
+     */
+    private static final class TrackedFile
+    {
+        /**
+         * Tracked file.
+         */
+        @NotNull
+        private final File file;
+
+        /**
+         * {@link SystemFileListener}s tracking this file.
+         */
+        @NotNull
+        private final List<SystemFileListener> listeners;
+
+        /**
+         * Smallest delay between checks requested by {@link SystemFileListener}s.
+         */
+        private long delay;
+
+        /**
+         * Time of the next check.
+         */
+        private long nextCheck;
+
+        /**
+         * Last known file modification time.
+         */
+        private long lastModified;
+
+        /**
+         * Constructs new {@link TrackedFile}.
+         *
+         * @param file         tracked file
+         * @param lastModified last known file modification time
+         */
+        private TrackedFile ( @NotNull final File file, final long lastModified )
+        {
+            this.file = file;
+            this.listeners = new ArrayList<SystemFileListener> ( 1 );
+            this.delay = 0;
+            this.nextCheck = Long.MAX_VALUE;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.swing;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.ReflectUtils;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link TimerScheduler} implementation that multiplexes any amount of {@link WebTimer}s onto a small pool of shared threads.
+ * It uses two separate lazily created {@link ScheduledThreadPoolExecutor}s - one for daemon and one for non-daemon timers.
+ * That way non-daemon {@link WebTimer}s still prevent JVM shutdown while they are running and daemon ones do not.
+ *
+ * Pool threads are allowed to time out when there is nothing to execute, so idle scheduler doesn't keep any threads alive.
+ *
+ * @author Mikle Garin
+ * @see TimerScheduler
+ * @see WebTimer
+ */
+public class SharedTimerScheduler implements TimerScheduler
+{
+    /**
+     * Shared {@link SharedTimerScheduler} instance.
+     */
+    @Nullable
+    private static SharedTimerScheduler instance;
+
+    /**
+     * Pool threads name prefix.
+     */
+    @NotNull
+    protected final String name;
+
+    /**
+     * Maximum amount of threads used by each of the pools.
+     */
+    protected final int threads;
+
+    /**
+     * Time in milliseconds idle pool threads are kept alive.
+     */
+    protected final long keepAlive;
+
+    /**
+     * {@link ScheduledThreadPoolExecutor} for daemon {@link WebTimer}s.
+     */
+    @Nullable
+    protected ScheduledThreadPoolExecutor daemonExecutor;
+
+    /**
+     * {@link ScheduledThreadPoolExecutor} for non-daemon {@link WebTimer}s.
+     */
+    @Nullable
+    protected ScheduledThreadPoolExecutor userExecutor;
+
+    /**
+     * Constructs new {@link SharedTimerScheduler}.
+     */
+    public SharedTimerScheduler ()
+    {
+        this ( WebTimer.defaultThreadName, Math.max ( 2, Runtime.getRuntime ().availableProcessors () ), 5000 );
+    }
+
+    /**
+     * Constructs new {@link SharedTimerScheduler}.
+     *
+     * @param name      pool threads name prefix
+     * @param threads   maximum amount of threads used by each of the pools
+     * @param keepAlive time in milliseconds idle pool threads are kept alive
+     */
+    public SharedTimerScheduler ( @NotNull final String name, final int threads, final long keepAlive )
+    {
+        if ( threads < 1 )
+        {
+            throw new IllegalArgumentException ( "Threads amount must be positive: " + threads );
+        }
+        this.name = name;
+        this.threads = threads;
+        this.keepAlive = Math.max ( 1, keepAlive );
+    }
+
+    /**
+     * Returns shared {@link SharedTimerScheduler} instance.
+     *
+     * @return shared {@link SharedTimerScheduler} instance
+     */
+    @NotNull
+    public static synchronized SharedTimerScheduler get ()
+    {
+        if ( instance == null )
+        {
+            instance = new SharedTimerScheduler ();
+        }
+        return instance;
+    }
+
+    @NotNull
+    @Override
+    public Future<?> schedule ( @NotNull final Runnable runnable, final long delay, final boolean daemon )
+    {
+        return executor ( daemon ).schedule ( runnable, Math.max ( 0, delay ), TimeUnit.MILLISECONDS );
+    }
+
+    /**
+     * Returns {@link ScheduledThreadPoolExecutor} for either daemon or non-daemon {@link WebTimer}s.
+     *
+     * @param daemon whether or not {@link ScheduledThreadPoolExecutor} for daemon {@link WebTimer}s is requested
+     * @return {@link ScheduledThreadPoolExecutor} for either daemon or non-daemon {@link WebTimer}s
+     */
+    @NotNull
+    protected synchronized ScheduledThreadPoolExecutor executor ( final boolean daemon )
+    {
+        ScheduledThreadPoolExecutor executor = daemon ? daemonExecutor : userExecutor;
+        if ( executor == null )
+        {
+            executor = createExecutor ( daemon );
+            if ( daemon )
+            {
+                daemonExecutor = executor;
+            }
+            else
+            {
+                userExecutor = executor;
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Returns new {@link ScheduledThreadPoolExecutor} for either daemon or non-daemon {@link WebTimer}s.
+     *
+     * @param daemon whether or not {@link ScheduledThreadPoolExecutor} for daemon {@link WebTimer}s should be created
+     * @return new {@link ScheduledThreadPoolExecutor} for either daemon or non-daemon {@link WebTimer}s
+     */
+    @NotNull
+    protected ScheduledThreadPoolExecutor createExecutor ( final boolean daemon )
+    {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor ( threads, new ThreadFactory ()
+        {
+            /**
+             * {@link Thread} number.
+             */
+            private final AtomicInteger number = new AtomicInteger ( 0 );
+
+            @NotNull
+            @Override
+            public Thread newThread ( @NotNull final Runnable runnable )
+            {
+                final Thread thread = new Thread ( runnable );
+                thread.setName ( name + ( daemon ? "-daemon-" : "-" ) + number.getAndIncrement () );
+                thread.setDaemon ( daemon );
+                return thread;
+            }
+        } );
+        executor.setKeepAliveTime ( keepAlive, TimeUnit.MILLISECONDS );
+        executor.allowCoreThreadTimeOut ( true );
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy ( false );
+        try
+        {
+            // Removing cancelled tasks from the queue right away, available since JDK 7
+            // Otherwise frequently restarted timers with long delays would pile up cancelled tasks in the queue
+            ReflectUtils.callMethod ( executor, "setRemoveOnCancelPolicy", true );
+        }
+        catch ( final Exception ignored )
+        {
+            // Cancelled tasks will be removed from the queue once their delay expires
+        }
+        return executor;
+    }
+
+    /**
+     * Shuts down all threads used by this {@link SharedTimerScheduler}.
+     * Any pending {@link WebTimer} cycles are discarded, but this {@link SharedTimerScheduler} can still be used afterwards.
+     */
+    public synchronized void shutdown ()
+    {
+        if ( daemonExecutor != null )
+        {
+            daemonExecutor.shutdownNow ();
+            daemonExecutor = null;
+        }
+        if ( userExecutor != null )
+        {
+            userExecutor.shutdownNow ();
+            userExecutor = null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.swing;
+
+import com.alee.api.annotations.NotNull;
+
+import java.util.concurrent.Future;
+
+/**
+ * Execution backend for {@link WebTimer} cycles.
+ * It allows multiple {@link WebTimer}s to share the same execution threads instead of spawning a separate {@link Thread} for each one.
+ *
+ * Implementations must be thread-safe as {@link WebTimer}s might schedule their cycles from any thread at any time.
+ *
+ * @author Mikle Garin
+ * @see WebTimer#setScheduler(TimerScheduler)
+ * @see WebTimer#defaultScheduler
+ * @see SharedTimerScheduler
+ */
+public interface TimerScheduler
+{
+    /**
+     * Schedules single execution of the specified {@link Runnable} after the specified delay.
+     * Returned {@link Future} will be used by {@link WebTimer} to cancel pending execution whenever it is stopped.
+     *
+     * @param runnable {@link Runnable} to execute
+     * @param delay    delay before execution in milliseconds
+     * @param daemon   whether or not pending execution should allow JVM to shutdown
+     * @return {@link Future} of the scheduled execution
+     */
+    @NotNull
+    Future<?> schedule ( @NotNull Runnable runnable, long delay, boolean daemon );
+}
@@ -23,6 +23,7 @@ import com.alee.utils.CollectionUtils;
 import com.alee.utils.CoreSwingUtils;
 import com.alee.utils.TimeUtils;
 import com.alee.utils.parsing.DurationUnits;
+import org.slf4j.LoggerFactory;
 
 import javax.swing.event.EventListenerList;
 import java.awt.event.ActionEvent;
@@ -31,6 +32,7 @@ import java.io.Serializable;
 import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * This timer is a small extension for standard javax.swing.Timer. Instead of running in a single queue it creates separate Threads for
@@ -40,6 +42,10 @@ import java.util.Map;
  * Also this Timer implementation offers a variety of additional features and improvements which standard timer doesn't have (for example
  * you can dispatch events in a separate non-EDT thread and as a result avoid using EDT at all where it is not necessary).
  *
+ * When large amount of timers is running simultaneously separate Threads might become an issue on their own, so instead of them any
+ * {@link TimerScheduler} can be provided to execute timer cycles, for example {@link SharedTimerScheduler} that multiplexes all timers
+ * onto a small pool of shared threads. It can be set for each separate timer or globally through {@link #defaultScheduler}.
+ *
  * @author Mikle Garin
  * @see javax.swing.Timer
  * @see com.alee.utils.swing.TimerActionListener
@@ -61,6 +67,13 @@ public class WebTimer implements Serializable
      */
     public static boolean useEdtByDefault = true;
 
+    /**
+     * Default {@link TimerScheduler} for newly created timers.
+     * {@code null} means that each timer will be using its own separate {@link Thread} for execution.
+     */
+    @Nullable
+    public static TimerScheduler defaultScheduler = null;
+
     /**
      * Delay between timer cycles in milliseconds.
      */
@@ -102,6 +115,14 @@ public class WebTimer implements Serializable
      */
     protected boolean nonBlockingStop = false;
 
+    /**
+     * {@link TimerScheduler} used to execute timer cycles.
+     * {@code null} means that timer will be using its own separate {@link Thread} for execution.
+     * This option should be set before starting timer to have any effect.
+     */
+    @Nullable
+    protected TimerScheduler scheduler;
+
     /**
      * Action command for fired events.
      */
@@ -162,6 +183,12 @@ public class WebTimer implements Serializable
     @Nullable
     protected transient Thread exec;
 
+    /**
+     * Last {@link TimerScheduler} execution.
+     */
+    @Nullable
+    protected transient ScheduledExecution execution;
+
     /**
      * Constructs timer with specified delay.
      *
@@ -313,6 +340,7 @@ public class WebTimer implements Serializable
         this.actionCommand = "";
         this.name = name;
         this.cyclesLimit = 0;
+        this.scheduler = defaultScheduler;
         this.listeners = new EventListenerList ();
 
         // Runtime variables
@@ -323,6 +351,7 @@ public class WebTimer implements Serializable
         this.sleepTime = 0;
         this.cycleCount = 0;
         this.exec = null;
+        this.execution = null;
 
         // Provided settings
         setDelay ( delay );
@@ -560,6 +589,33 @@ public class WebTimer implements Serializable
         return this;
     }
 
+    /**
+     * Returns {@link TimerScheduler} used to execute timer cycles.
+     * {@code null} means that timer is using its own separate {@link Thread} for execution.
+     *
+     * @return {@link TimerScheduler} used to execute timer cycles
+     */
+    @Nullable
+    public TimerScheduler getScheduler ()
+    {
+        return scheduler;
+    }
+
+    /**
+     * Sets {@link TimerScheduler} used to execute timer cycles.
+     * {@code null} means that timer will be using its own separate {@link Thread} for execution.
+     * This option should be set before starting timer to have any effect.
+     *
+     * @param scheduler {@link TimerScheduler} used to execute timer cycles
+     * @return this {@link WebTimer}
+     */
+    @NotNull
+    public WebTimer setScheduler ( @Nullable final TimerScheduler scheduler )
+    {
+        this.scheduler = scheduler;
+        return this;
+    }
+
     /**
      * Returns action command for fired events.
      *
@@ -799,7 +855,7 @@ public class WebTimer implements Serializable
      */
     public synchronized boolean isRunning ()
     {
-        return exec != null && exec.isAlive ();
+        return exec != null && exec.isAlive () || execution != null && !execution.isDone ();
     }
 
     /**
@@ -814,8 +870,16 @@ public class WebTimer implements Serializable
             lastId = id;
             id++;
 
-            // Starting new cycling thread
+            // Scheduling cycles through the scheduler
             final int currentId = lastId;
+            if ( scheduler != null )
+            {
+                execution = new ScheduledExecution ( scheduler, currentId );
+                execution.start ();
+                return;
+            }
+
+            // Starting new cycling thread
             exec = new Thread ( new Runnable ()
             {
                 @Override
@@ -953,6 +1017,256 @@ public class WebTimer implements Serializable
                 }
             }
         }
+        else if ( execution != null && !execution.isDone () )
+        {
+            // Stop execution from inside
+            setAlive ( lastId, false );
+
+            // Cancel pending or interrupt ongoing cycle
+            execution.cancel ();
+
+            // Depending on behavior we might wait for current cycle to finish
+            if ( !nonBlockingStop )
+            {
+                execution.await ();
+            }
+        }
+    }
+
+    /**
+     * Timer execution performed through {@link TimerScheduler}.
+     * Each timer cycle is scheduled separately only after previous one is completed, same as cycles of the separate {@link Thread}.
+     */
+    protected class ScheduledExecution implements Runnable
+    {
+        /**
+         * {@link TimerScheduler} used for this execution.
+         */
+        @NotNull
+        protected final TimerScheduler scheduler;
+
+        /**
+         * Unique (within one timer instance) ID of this execution.
+         */
+        protected final int id;
+
+        /**
+         * Whether or not initial delay have not yet passed.
+         */
+        protected boolean initial;
+
+        /**
+         * {@link Future} of the scheduled cycle.
+         */
+        @Nullable
+        protected Future<?> future;
+
+        /**
+         * {@link Thread} currently running the cycle.
+         */
+        @Nullable
+        protected Thread runner;
+
+        /**
+         * Whether or not this execution is finished.
+         */
+        protected boolean done;
+
+        /**
+         * Constructs new {@link ScheduledExecution}.
+         *
+         * @param scheduler {@link TimerScheduler} used for this execution
+         * @param id        unique (within one timer instance) ID of this execution
+         */
+        public ScheduledExecution ( @NotNull final TimerScheduler scheduler, final int id )
+        {
+            this.scheduler = scheduler;
+            this.id = id;
+            this.initial = true;
+            this.done = false;
+        }
+
+        /**
+         * Starts this execution.
+         */
+        public synchronized void start ()
+        {
+            // Adding live execution into map
+            setAlive ( id, true );
+
+            // Initial delay
+            schedule ( getInitialDelay () < 0 ? getDelay () : getInitialDelay () );
+        }
+
+        @Override
+        public void run ()
+        {
+            synchronized ( this )
+            {
+                if ( done )
+                {
+                    return;
+                }
+                runner = Thread.currentThread ();
+            }
+            boolean proceed = false;
+            try
+            {
+                if ( initial )
+                {
+                    // Checking if we should stop execution after initial delay
+                    initial = false;
+                    if ( shouldContinue ( -1, id ) )
+                    {
+                        // Clearing cycles count
+                        cycleCount = 0;
+                        proceed = cycle ();
+                    }
+                }
+                else if ( shouldContinue ( cycleCount, id ) )
+                {
+                    proceed = cycle ();
+                }
+            }
+            catch ( final Exception e )
+            {
+                LoggerFactory.getLogger ( WebTimer.class ).error ( "Timer execution failed: " + WebTimer.this, e );
+            }
+            finally
+            {
+                synchronized ( this )
+                {
+                    // Clearing interruption caused by cancel so it doesn't affect shared thread
+                    runner = null;
+                    Thread.interrupted ();
+
+                    // Scheduling next cycle or finishing execution
+                    if ( proceed && running.get ( id ) )
+                    {
+                        schedule ( getDelay () );
+                    }
+                    else
+                    {
+                        finish ();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Performs single timer cycle.
+         * Returns whether or not next cycle should be scheduled.
+         *
+         * @return {@code true} if next cycle should be scheduled, {@code false} otherwise
+         */
+        protected boolean cycle ()
+        {
+            // Firing events
+            fireActionPerformed ( id );
+
+            // Incrementing cycles count
+            cycleCount++;
+
+            // Checking if we should stop execution due to changes through events
+            return repeats && shouldContinue ( cycleCount, id );
+        }
+
+        /**
+         * Schedules next cycle with the specified delay.
+         *
+         * @param delay delay in milliseconds
+         */
+        protected void schedule ( final long delay )
+        {
+            if ( delay > 0 )
+            {
+                sleepStart = System.currentTimeMillis ();
+                sleepTime = delay;
+            }
+            try
+            {
+                future = scheduler.schedule ( this, delay, useDaemonThread );
+            }
+            catch ( final RuntimeException e )
+            {
+                finish ();
+                throw e;
+            }
+        }
+
+        /**
+         * Cancels pending cycle or interrupts ongoing one.
+         */
+        public synchronized void cancel ()
+        {
+            if ( !done )
+            {
+                if ( runner != null )
+                {
+                    // Cycle will finish execution on its own
+                    if ( runner != Thread.currentThread () )
+                    {
+                        runner.interrupt ();
+                    }
+                }
+                else
+                {
+                    // Cancelling pending cycle
+                    if ( future != null )
+                    {
+                        future.cancel ( false );
+                    }
+                    finish ();
+                }
+            }
+        }
+
+        /**
+         * Waits until this execution is finished.
+         */
+        public synchronized void await ()
+        {
+            if ( runner != Thread.currentThread () )
+            {
+                try
+                {
+                    while ( !done )
+                    {
+                        wait ();
+                    }
+                }
+                catch ( final InterruptedException ignored )
+                {
+                    // No need to log interruption
+                }
+            }
+        }
+
+        /**
+         * Returns whether or not this execution is finished.
+         *
+         * @return {@code true} if this execution is finished, {@code false} otherwise
+         */
+        public synchronized boolean isDone ()
+        {
+            return done;
+        }
+
+        /**
+         * Finishes this execution.
+         */
+        protected void finish ()
+        {
+            if ( !done )
+            {
+                done = true;
+                future = null;
+
+                // Removing finished execution from map
+                cleanUp ( id );
+                notifyAll ();
+            }
+        }
     }
 
     /**
@@ -0,0 +1,185 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image.gif;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Set of JUnit tests for {@link GifDecoder}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class GifDecoderTest
+{
+    /**
+     * Amount of frames in test GIF.
+     */
+    private static final int FRAMES = 6;
+
+    /**
+     * Testing that streaming decoder composes the same frames as eager one.
+     */
+    @Test
+    public void streamingFrames ()
+    {
+        final byte[] gif = createGif ();
+        final GifDecoder eager = read ( gif, false );
+        final GifDecoder streaming = read ( gif, true );
+        for ( int i = 0; i < FRAMES; i++ )
+        {
+            checkFrame ( i, eager.getFrame ( i ), streaming.getFrame ( i ) );
+        }
+        for ( int i = FRAMES - 1; i >= 0; i-- )
+        {
+            checkFrame ( i, eager.getFrame ( i ), streaming.getFrame ( i ) );
+        }
+    }
+
+    /**
+     * Testing that frame copies taken in streaming mode do not affect frames composed by decoder.
+     */
+    @Test
+    public void streamingFrameCopy ()
+    {
+        final byte[] gif = createGif ();
+        final GifDecoder eager = read ( gif, false );
+        final GifDecoder streaming = read ( gif, true );
+
+        final BufferedImage displayed = streaming.getFrame ( 3 );
+        final int[] pixels = pixels ( displayed );
+        for ( int i = 0; i < FRAMES; i++ )
+        {
+            final BufferedImage copy = streaming.getFrameCopy ( i );
+            checkFrame ( i, eager.getFrame ( i ), copy );
+            if ( copy == displayed )
+            {
+                throw new RuntimeException ( "Frame copy " + i + " is the image reused by decoder" );
+            }
+            if ( !Arrays.equals ( pixels, pixels ( displayed ) ) )
+            {
+                throw new RuntimeException ( "Frame copy " + i + " modified composed frame" );
+            }
+        }
+        checkFrame ( 4, eager.getFrame ( 4 ), streaming.getFrame ( 4 ) );
+    }
+
+    /**
+     * Testing that frame returned in streaming mode stays intact while next frame is composed, including animation restart.
+     */
+    @Test
+    public void displayedFrameIntact ()
+    {
+        final byte[] gif = createGif ();
+        final GifDecoder eager = read ( gif, false );
+        final GifDecoder streaming = read ( gif, true );
+        final int[] sequence = { 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 4, 2, 5, 5, 0 };
+        int displayedIndex = sequence[ 0 ];
+        BufferedImage displayed = streaming.getFrame ( displayedIndex );
+        for ( int i = 1; i < sequence.length; i++ )
+        {
+            final BufferedImage next = streaming.getFrame ( sequence[ i ] );
+            checkFrame ( displayedIndex, eager.getFrame ( displayedIndex ), displayed );
+            checkFrame ( sequence[ i ], eager.getFrame ( sequence[ i ] ), next );
+            displayedIndex = sequence[ i ];
+            displayed = next;
+        }
+    }
+
+    /**
+     * Returns decoder that has read specified GIF data.
+     *
+     * @param gif       GIF data
+     * @param streaming whether or not frames should be composed on demand
+     * @return decoder that has read specified GIF data
+     */
+    private GifDecoder read ( final byte[] gif, final boolean streaming )
+    {
+        final GifDecoder decoder = new GifDecoder ();
+        decoder.setStreaming ( streaming );
+        final int status = decoder.read ( new BufferedInputStream ( new ByteArrayInputStream ( gif ) ) );
+        if ( status != GifDecoder.STATUS_OK || decoder.getFrameCount () != FRAMES )
+        {
+            throw new RuntimeException ( "Unable to read GIF: " + status );
+        }
+        return decoder;
+    }
+
+    /**
+     * Returns GIF data with frames that differ from each other.
+     *
+     * @return GIF data with frames that differ from each other
+     */
+    private byte[] createGif ()
+    {
+        final Color[] colors = { Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW, Color.MAGENTA, Color.CYAN };
+        final ByteArrayOutputStream os = new ByteArrayOutputStream ();
+        final GifEncoder encoder = new GifEncoder ();
+        encoder.start ( os );
+        encoder.setRepeat ( 0 );
+        encoder.setDelay ( 100 );
+        for ( int i = 0; i < FRAMES; i++ )
+        {
+            final BufferedImage image = new BufferedImage ( 16, 16, BufferedImage.TYPE_INT_RGB );
+            final Graphics2D g2d = image.createGraphics ();
+            g2d.setPaint ( Color.WHITE );
+            g2d.fillRect ( 0, 0, 16, 16 );
+            g2d.setPaint ( colors[ i ] );
+            g2d.fillRect ( i * 2, i * 2, 4, 4 );
+            g2d.dispose ();
+            encoder.addFrame ( image );
+        }
+        encoder.finish ();
+        return os.toByteArray ();
+    }
+
+    /**
+     * Asserts that frame images have the same pixels.
+     *
+     * @param index    frame index
+     * @param expected expected frame image
+     * @param actual   actual frame image
+     */
+    private void checkFrame ( final int index, final BufferedImage expected, final BufferedImage actual )
+    {
+        if ( actual == null || !Arrays.equals ( pixels ( expected ), pixels ( actual ) ) )
+        {
+            throw new RuntimeException ( "Unexpected frame " + index + " pixels" );
+        }
+    }
+
+    /**
+     * Returns image pixels.
+     *
+     * @param image image
+     * @return image pixels
+     */
+    private int[] pixels ( final BufferedImage image )
+    {
+        return image.getRGB ( 0, 0, image.getWidth (), image.getHeight (), null, 0, image.getWidth () );
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.graphics.image.gif;
+
+import com.alee.utils.CoreSwingUtils;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link GifIcon}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class GifIconTest
+{
+    /**
+     * Delay between frames in milliseconds.
+     */
+    private static final int DELAY = 20;
+
+    /**
+     * Testing that animation painted through {@link JList} renderer keeps running while {@link JList} is showing.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void showingRenderer () throws InterruptedException
+    {
+        final GifIcon icon = new GifIcon ( new ByteArrayInputStream ( createGif () ) );
+        final AtomicInteger changes = new AtomicInteger ( 0 );
+        icon.addFrameChangeListener ( new FrameChangeListener ()
+        {
+            @Override
+            public void frameChanged ( final GifIcon gifIcon, final int index, final GifFrame frame )
+            {
+                changes.incrementAndGet ();
+            }
+        } );
+        final JList list = paintList ( icon, true );
+        if ( !icon.components.containsKey ( list ) || icon.components.size () != 1 )
+        {
+            throw new RuntimeException ( "List wasn't tracked instead of renderer: " + icon.components.keySet () );
+        }
+        changes.set ( 0 );
+        Thread.sleep ( DELAY * 20 );
+        if ( icon.isPaused () || changes.get () < 3 )
+        {
+            throw new RuntimeException ( "Animation painted through showing list renderer was paused" );
+        }
+        icon.stopAnimation ();
+    }
+
+    /**
+     * Testing that animation painted through {@link JList} renderer is paused once {@link JList} is not showing.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void hiddenRenderer () throws InterruptedException
+    {
+        final GifIcon icon = new GifIcon ( new ByteArrayInputStream ( createGif () ) );
+        paintList ( icon, false );
+        Thread.sleep ( DELAY * 20 );
+        if ( !icon.isPaused () )
+        {
+            throw new RuntimeException ( "Animation painted through hidden list renderer wasn't paused" );
+        }
+        icon.stopAnimation ();
+    }
+
+    /**
+     * Paints {@link JList} that displays specified {@link GifIcon} through its renderer.
+     *
+     * @param icon    {@link GifIcon}
+     * @param showing whether or not {@link JList} should report itself as showing
+     * @return painted {@link JList}
+     */
+    private JList paintList ( final GifIcon icon, final boolean showing )
+    {
+        final JList[] list = new JList[ 1 ];
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                list[ 0 ] = new JList ( new Object[]{ "gif" } )
+                {
+                    /**
+                     * Serial version UID.
+                     */
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public boolean isShowing ()
+                    {
+                        return showing;
+                    }
+                };
+                list[ 0 ].setCellRenderer ( new DefaultListCellRenderer ()
+                {
+                    /**
+                     * Serial version UID.
+                     */
+                    private static final long serialVersionUID = 1L;
+
+                    @Override
+                    public Component getListCellRendererComponent ( final JList list, final Object value, final int index,
+                                                                    final boolean isSelected, final boolean cellHasFocus )
+                    {
+                        super.getListCellRendererComponent ( list, value, index, isSelected, cellHasFocus );
+                        setIcon ( icon );
+                        return this;
+                    }
+                } );
+                list[ 0 ].setSize ( list[ 0 ].getPreferredSize () );
+                final BufferedImage image = new BufferedImage ( list[ 0 ].getWidth (), list[ 0 ].getHeight (),
+                        BufferedImage.TYPE_INT_ARGB );
+                final Graphics2D g2d = image.createGraphics ();
+                list[ 0 ].paint ( g2d );
+                g2d.dispose ();
+            }
+        } );
+        return list[ 0 ];
+    }
+
+    /**
+     * Returns GIF data with a few frames.
+     *
+     * @return GIF data with a few frames
+     */
+    private byte[] createGif ()
+    {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream ();
+        final GifEncoder encoder = new GifEncoder ();
+        encoder.start ( os );
+        encoder.setRepeat ( 0 );
+        encoder.setDelay ( DELAY );
+        for ( int i = 0; i < 4; i++ )
+        {
+            final BufferedImage image = new BufferedImage ( 16, 16, BufferedImage.TYPE_INT_RGB );
+            final Graphics2D g2d = image.createGraphics ();
+            g2d.setPaint ( Color.WHITE );
+            g2d.fillRect ( 0, 0, 16, 16 );
+            g2d.setPaint ( Color.BLACK );
+            g2d.fillRect ( i * 3, i * 3, 4, 4 );
+            g2d.dispose ();
+            encoder.addFrame ( image );
+        }
+        encoder.finish ();
+        return os.toByteArray ();
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.settings;
+
+import com.alee.api.resource.FileResource;
+import com.alee.utils.FileUtils;
+import com.alee.utils.XmlUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * Set of JUnit tests for {@link SettingsJournal}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SettingsJournalTest
+{
+    /**
+     * Temporary settings directory.
+     */
+    private File directory;
+
+    /**
+     * {@link SettingsGroup} snapshot file.
+     */
+    private File snapshot;
+
+    /**
+     * {@link SettingsGroup} journal file.
+     */
+    private File journal;
+
+    /**
+     * Initializes {@link SettingsGroup} XML aliases.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        XmlUtils.processAnnotations ( SettingsGroup.class );
+    }
+
+    /**
+     * Preparing empty settings directory.
+     *
+     * @throws IOException if temporary directory cannot be created
+     */
+    @Before
+    public void before () throws IOException
+    {
+        directory = File.createTempFile ( "SettingsJournalTest", "" );
+        directory.delete ();
+        directory.mkdirs ();
+        snapshot = new File ( directory, "group.xml" );
+        journal = new File ( directory, "group.xml.journal" );
+    }
+
+    /**
+     * Removing settings directory.
+     */
+    @After
+    public void after ()
+    {
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Testing that records are replayed in the order they were written.
+     *
+     * @throws IOException if journal cannot be read
+     */
+    @Test
+    public void replay () throws IOException
+    {
+        final SettingsJournal settingsJournal = new SettingsJournal ( Long.MAX_VALUE );
+        settingsJournal.put ( "group", snapshot, journal, "a", "1" );
+        settingsJournal.put ( "group", snapshot, journal, "b", "2" );
+        settingsJournal.put ( "group", snapshot, journal, "c", null );
+        settingsJournal.remove ( "group", snapshot, journal, "a" );
+        settingsJournal.put ( "group", snapshot, journal, "b", "3" );
+        settingsJournal.flush ();
+
+        final SettingsGroup group = new SettingsGroup ( "group" );
+        final int count = SettingsJournal.replay ( journal, group );
+        if ( count != 5 )
+        {
+            throw new RuntimeException ( "Unexpected amount of replayed records: " + count );
+        }
+        checkGroup ( group, 2, null, "3" );
+        if ( !group.settings ().containsKey ( "c" ) || group.get ( "c" ) != null )
+        {
+            throw new RuntimeException ( "Null value wasn't replayed" );
+        }
+    }
+
+    /**
+     * Testing that incomplete record at the end of the journal is ignored and truncated.
+     *
+     * @throws IOException if journal cannot be read or written
+     */
+    @Test
+    public void tornTail () throws IOException
+    {
+        final long valid = writeValidRecord ();
+        final DataOutputStream dos = new DataOutputStream ( new FileOutputStream ( journal, true ) );
+        try
+        {
+            dos.writeByte ( 1 );
+            dos.writeUTF ( "b" );
+            dos.writeBoolean ( true );
+            dos.writeInt ( 100 );
+            dos.write ( new byte[ 10 ] );
+        }
+        finally
+        {
+            dos.close ();
+        }
+        checkReplay ( valid );
+    }
+
+    /**
+     * Testing that record with corrupted value length is treated as incomplete instead of being read.
+     *
+     * @throws IOException if journal cannot be read or written
+     */
+    @Test
+    public void corruptedLength () throws IOException
+    {
+        final long valid = writeValidRecord ();
+        final DataOutputStream dos = new DataOutputStream ( new FileOutputStream ( journal, true ) );
+        try
+        {
+            dos.writeByte ( 1 );
+            dos.writeUTF ( "b" );
+            dos.writeBoolean ( true );
+            dos.writeInt ( Integer.MAX_VALUE );
+            dos.write ( new byte[ 10 ] );
+        }
+        finally
+        {
+            dos.close ();
+        }
+        checkReplay ( valid );
+    }
+
+    /**
+     * Testing that journal is merged into snapshot once it grows beyond the compaction threshold.
+     */
+    @Test
+    public void compaction ()
+    {
+        final SettingsJournal settingsJournal = new SettingsJournal ( Long.MAX_VALUE );
+        settingsJournal.put ( "group", snapshot, journal, "a", "1" );
+        settingsJournal.put ( "group", snapshot, journal, "b", "2" );
+        settingsJournal.flush ();
+        if ( snapshot.exists () || !journal.exists () )
+        {
+            throw new RuntimeException ( "Journal was compacted before reaching threshold" );
+        }
+
+        settingsJournal.setCompactionThreshold ( 1 );
+        settingsJournal.remove ( "group", snapshot, journal, "a" );
+        settingsJournal.flush ();
+        if ( !snapshot.exists () || journal.exists () )
+        {
+            throw new RuntimeException ( "Journal wasn't compacted" );
+        }
+        checkGroup ( XmlUtils.<SettingsGroup>fromXML ( new FileResource ( snapshot ) ), 1, null, "2" );
+
+        settingsJournal.put ( "group", snapshot, journal, "a", "3" );
+        settingsJournal.flush ();
+        if ( journal.exists () || new File ( snapshot.getPath () + SettingsManager.getBackupFilesExtension () ).exists () )
+        {
+            throw new RuntimeException ( "Journal or backup snapshot wasn't removed" );
+        }
+        checkGroup ( XmlUtils.<SettingsGroup>fromXML ( new FileResource ( snapshot ) ), 2, "3", "2" );
+    }
+
+    /**
+     * Testing that snapshot only replaces journal records queued before it.
+     *
+     * @throws IOException if journal cannot be read
+     */
+    @Test
+    public void snapshot () throws IOException
+    {
+        final SettingsJournal settingsJournal = new SettingsJournal ( Long.MAX_VALUE );
+        settingsJournal.put ( "group", snapshot, journal, "a", "1" );
+        settingsJournal.put ( "group", snapshot, journal, "b", "2" );
+        final SettingsGroup saved = new SettingsGroup ( "group" );
+        saved.put ( "a", "1" );
+        saved.put ( "b", "2" );
+        settingsJournal.save ( saved, snapshot, journal );
+        saved.put ( "b", "3" );
+        settingsJournal.put ( "group", snapshot, journal, "b", "3" );
+        settingsJournal.flush ();
+
+        final SettingsGroup group = XmlUtils.fromXML ( new FileResource ( snapshot ) );
+        checkGroup ( group, 2, "1", "2" );
+        final int count = SettingsJournal.replay ( journal, group );
+        if ( count != 1 )
+        {
+            throw new RuntimeException ( "Unexpected amount of replayed records: " + count );
+        }
+        checkGroup ( group, 2, "1", "3" );
+    }
+
+    /**
+     * Testing that change made while {@link SettingsManager} serializes the same group for saving is not lost.
+     *
+     * @throws IOException          if journal cannot be read
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void concurrentSave () throws IOException, InterruptedException
+    {
+        final boolean saveOnChange = SettingsManager.isSaveOnChange ();
+        final boolean journalingEnabled = SettingsManager.isJournalingEnabled ();
+        final String group = "SettingsJournalTest";
+        final String flushGroup = "SettingsJournalTest.flush";
+        SettingsManager.setGroupFilePath ( group, directory.getAbsolutePath () );
+        SettingsManager.setGroupFilePath ( flushGroup, directory.getAbsolutePath () );
+        SettingsManager.setSaveOnChange ( true );
+        SettingsManager.setJournalingEnabled ( true );
+        try
+        {
+            // Changing value from another thread while group is being serialized
+            final Thread setter = new Thread ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    SettingsManager.set ( group, "a", "2" );
+                }
+            } );
+            final BlockingValue value = new BlockingValue ();
+            SettingsManager.set ( group, "a", value );
+            value.callback = new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    try
+                    {
+                        setter.start ();
+                        setter.join ( 500 );
+                        Thread.sleep ( 200 );
+                    }
+                    catch ( final InterruptedException e )
+                    {
+                        throw new RuntimeException ( e );
+                    }
+                }
+            };
+            SettingsManager.saveSettingsGroup ( group );
+            setter.join ();
+
+            // Waiting for journaled changes to be written and restoring group from snapshot and journal
+            SettingsManager.saveSettingsGroup ( flushGroup );
+            final String extension = SettingsManager.getSettingsFilesExtension ();
+            final File groupSnapshot = new File ( directory, group + extension );
+            final File groupJournal = new File ( directory, group + extension + SettingsManager.getJournalFilesExtension () );
+            final SettingsGroup restored = XmlUtils.fromXML ( new FileResource ( groupSnapshot ) );
+            if ( groupJournal.exists () )
+            {
+                SettingsJournal.replay ( groupJournal, restored );
+            }
+            if ( !"2".equals ( restored.get ( "a" ) ) )
+            {
+                throw new RuntimeException ( "Concurrent change was lost: " + restored.settings () );
+            }
+        }
+        finally
+        {
+            SettingsManager.resetGroup ( group );
+            SettingsManager.resetGroup ( flushGroup );
+            SettingsManager.setSaveOnChange ( saveOnChange );
+            SettingsManager.setJournalingEnabled ( journalingEnabled );
+        }
+    }
+
+    /**
+     * Writes single valid record into the journal and returns journal size.
+     *
+     * @return journal size
+     */
+    private long writeValidRecord ()
+    {
+        final SettingsJournal settingsJournal = new SettingsJournal ( Long.MAX_VALUE );
+        settingsJournal.put ( "group", snapshot, journal, "a", "1" );
+        settingsJournal.flush ();
+        return journal.length ();
+    }
+
+    /**
+     * Asserts that only the valid record is replayed and journal is truncated to its end.
+     *
+     * @param valid size of the valid journal part
+     * @throws IOException if journal cannot be read
+     */
+    private void checkReplay ( final long valid ) throws IOException
+    {
+        final SettingsGroup group = new SettingsGroup ( "group" );
+        final int count = SettingsJournal.replay ( journal, group );
+        if ( count != 1 )
+        {
+            throw new RuntimeException ( "Unexpected amount of replayed records: " + count );
+        }
+        checkGroup ( group, 1, "1", null );
+        if ( journal.length () != valid )
+        {
+            throw new RuntimeException ( "Journal wasn't truncated: " + journal.length () + ", expected: " + valid );
+        }
+    }
+
+    /**
+     * Asserts {@link SettingsGroup} content.
+     *
+     * @param group {@link SettingsGroup}
+     * @param size  expected amount of settings
+     * @param a     expected value under "a" key
+     * @param b     expected value under "b" key
+     */
+    private void checkGroup ( final SettingsGroup group, final int size, final String a, final String b )
+    {
+        final String actualA = group.get ( "a" );
+        final String actualB = group.get ( "b" );
+        if ( group.settings ().size () != size ||
+                ( a != null ? !a.equals ( actualA ) : actualA != null ) ||
+                ( b != null ? !b.equals ( actualB ) : actualB != null ) )
+        {
+            throw new RuntimeException ( "Unexpected settings: " + group.settings () );
+        }
+    }
+
+    /**
+     * Value that runs callback while being serialized.
+     */
+    private static final class BlockingValue implements Serializable
+    {
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Callback to run once upon next serialization.
+         */
+        private transient Runnable callback;
+
+        /**
+         * Serializes this value and runs callback.
+         *
+         * @param out {@link ObjectOutputStream}
+         * @throws IOException if value cannot be serialized
+         */
+        private void writeObject ( final ObjectOutputStream out ) throws IOException
+        {
+            out.defaultWriteObject ();
+            final Runnable runnable = callback;
+            callback = null;
+            if ( runnable != null )
+            {
+                runnable.run ();
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.managers.task.TaskManager;
+import com.alee.utils.CollectionUtils;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Set of JUnit tests for {@link DisplayedDirectoryLoader}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class DisplayedDirectoryLoaderTest
+{
+    /**
+     * Temporary directory.
+     */
+    private File directory;
+
+    /**
+     * Files within temporary directory.
+     */
+    private List<File> files;
+
+    /**
+     * Initializes {@link TaskManager}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        TaskManager.initialize ();
+    }
+
+    /**
+     * Preparing temporary directory with a few files.
+     *
+     * @throws IOException if temporary files cannot be created
+     */
+    @Before
+    public void before () throws IOException
+    {
+        directory = File.createTempFile ( "DisplayedDirectoryLoaderTest", "" );
+        directory.delete ();
+        directory.mkdirs ();
+        files = new ArrayList<File> ();
+        for ( final String name : new String[]{ "a.txt", "b.txt", "c.txt" } )
+        {
+            final File file = new File ( directory, name );
+            file.createNewFile ();
+            files.add ( file );
+        }
+    }
+
+    /**
+     * Removing temporary directory.
+     */
+    @After
+    public void after ()
+    {
+        FileUtils.deleteFile ( directory );
+    }
+
+    /**
+     * Testing that files of another directory are cleared right away.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void otherDirectory () throws InterruptedException
+    {
+        final TestLoader loader = new TestLoader ( CollectionUtils.asList ( new File ( "old" ) ) );
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                loader.load ( directory, null, false );
+                checkFiles ( loader, new ArrayList<File> ( 0 ) );
+            }
+        } );
+        loader.await ();
+        checkFiles ( loader, files );
+    }
+
+    /**
+     * Testing that old files stay displayed until the first batch arrives when the same directory is reloaded.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void sameDirectory () throws InterruptedException
+    {
+        final TestLoader loader = new TestLoader ( CollectionUtils.asList ( files.get ( 0 ), files.get ( 1 ) ) );
+        loader.selected.add ( files.get ( 1 ) );
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                loader.load ( directory, null, true );
+                checkFiles ( loader, CollectionUtils.asList ( files.get ( 0 ), files.get ( 1 ) ) );
+            }
+        } );
+        loader.await ();
+        checkFiles ( loader, files );
+        if ( !loader.selected.equals ( CollectionUtils.asList ( files.get ( 1 ) ) ) )
+        {
+            throw new RuntimeException ( "Selection wasn't restored: " + loader.selected );
+        }
+    }
+
+    /**
+     * Testing that old files are removed when reloaded directory turns out to be empty.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void emptiedDirectory () throws InterruptedException
+    {
+        final TestLoader loader = new TestLoader ( new ArrayList<File> ( files ) );
+        for ( final File file : files )
+        {
+            file.delete ();
+        }
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                loader.load ( directory, null, true );
+                checkFiles ( loader, files );
+            }
+        } );
+        loader.await ();
+        checkFiles ( loader, new ArrayList<File> ( 0 ) );
+    }
+
+    /**
+     * Asserts displayed files.
+     *
+     * @param loader   {@link TestLoader}
+     * @param expected expected displayed files
+     */
+    private void checkFiles ( final TestLoader loader, final List<File> expected )
+    {
+        if ( !loader.files.equals ( expected ) )
+        {
+            throw new RuntimeException ( "Unexpected files: " + loader.files + ", expected: " + expected );
+        }
+    }
+
+    /**
+     * {@link DisplayedDirectoryLoader} displaying files in a simple {@link List}.
+     */
+    private static final class TestLoader extends DisplayedDirectoryLoader
+    {
+        /**
+         * Displayed files.
+         */
+        private final List<File> files;
+
+        /**
+         * Selected files.
+         */
+        private final List<File> selected;
+
+        /**
+         * Loading end latch.
+         */
+        private final CountDownLatch finished;
+
+        /**
+         * Constructs new {@link TestLoader}.
+         *
+         * @param files initially displayed files
+         */
+        public TestLoader ( final List<File> files )
+        {
+            this.files = files;
+            this.selected = new ArrayList<File> ();
+            this.finished = new CountDownLatch ( 1 );
+        }
+
+        /**
+         * Waits for loading end and ensures that all pending EDT events are processed.
+         *
+         * @throws InterruptedException if test was interrupted
+         */
+        public void await () throws InterruptedException
+        {
+            if ( !finished.await ( 5, TimeUnit.SECONDS ) )
+            {
+                throw new RuntimeException ( "Loading wasn't finished" );
+            }
+            CoreSwingUtils.invokeAndWait ( new Runnable ()
+            {
+                @Override
+                public void run ()
+                {
+                    /**
+                     * Waiting for the EDT.
+                     */
+                }
+            } );
+        }
+
+        @Override
+        protected void finished ()
+        {
+            super.finished ();
+            finished.countDown ();
+        }
+
+        @Override
+        protected void setFiles ( @NotNull final List<File> files )
+        {
+            this.files.clear ();
+            this.files.addAll ( files );
+            selected.clear ();
+        }
+
+        @Override
+        protected void addFiles ( @NotNull final List<File> files )
+        {
+            this.files.addAll ( files );
+        }
+
+        @Override
+        protected boolean isSelectionEmpty ()
+        {
+            return selected.isEmpty ();
+        }
+
+        @NotNull
+        @Override
+        protected List<File> getSelectedFiles ()
+        {
+            return new ArrayList<File> ( selected );
+        }
+
+        @Override
+        protected void setSelectedFile ( @NotNull final File file )
+        {
+            setSelectedFiles ( CollectionUtils.asList ( file ) );
+        }
+
+        @Override
+        protected void setSelectedFiles ( @NotNull final List<File> files )
+        {
+            selected.clear ();
+            for ( final File file : files )
+            {
+                if ( this.files.contains ( file ) )
+                {
+                    selected.add ( file );
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Set of JUnit tests for {@link FileMetadataCache}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class FileMetadataCacheTest
+{
+    /**
+     * Testing that all properties of a single file share one entry and are evicted together.
+     */
+    @Test
+    public void leastRecentlyUsedEviction ()
+    {
+        final FileMetadataCache cache = new FileMetadataCache ( 2, 0, -1 );
+        cache.put ( "/a", FileMetadataProperty.hidden, true );
+        cache.put ( "/a", FileMetadataProperty.displayName, "a" );
+        cache.put ( "/b", FileMetadataProperty.hidden, true );
+        if ( cache.size () != 2 )
+        {
+            throw new RuntimeException ( "Properties of a single file should share one entry" );
+        }
+
+        cache.get ( "/a", FileMetadataProperty.hidden, Boolean.class );
+        cache.put ( "/c", FileMetadataProperty.hidden, true );
+        checkValue ( cache, "/a", true );
+        checkValue ( cache, "/b", null );
+        checkValue ( cache, "/c", true );
+        if ( !"a".equals ( cache.get ( "/a", FileMetadataProperty.displayName, String.class ) ) )
+        {
+            throw new RuntimeException ( "Recently used entry lost some of its properties" );
+        }
+        if ( cache.size () != 2 || cache.getStatistics ().getEvictions () != 1 )
+        {
+            throw new RuntimeException ( "Unexpected evictions: " + cache.getStatistics () );
+        }
+    }
+
+    /**
+     * Testing that single property can be removed or cleared without affecting other properties.
+     */
+    @Test
+    public void propertyRemoval ()
+    {
+        final FileMetadataCache cache = new FileMetadataCache ( 10, 0, -1 );
+        cache.put ( "/a", FileMetadataProperty.hidden, true );
+        cache.put ( "/a", FileMetadataProperty.file, true );
+        cache.put ( "/b", FileMetadataProperty.hidden, false );
+        cache.put ( "/b", FileMetadataProperty.file, true );
+
+        cache.remove ( "/a", FileMetadataProperty.hidden );
+        checkValue ( cache, "/a", null );
+        checkValue ( cache, "/b", false );
+
+        cache.clear ( FileMetadataProperty.hidden );
+        checkValue ( cache, "/b", null );
+        if ( cache.get ( "/a", FileMetadataProperty.file, Boolean.class ) != Boolean.TRUE ||
+                cache.get ( "/b", FileMetadataProperty.file, Boolean.class ) != Boolean.TRUE )
+        {
+            throw new RuntimeException ( "Other properties should be kept" );
+        }
+
+        cache.remove ( "/a" );
+        if ( cache.size () != 1 || cache.get ( "/a", FileMetadataProperty.file, Boolean.class ) != null )
+        {
+            throw new RuntimeException ( "Entry wasn't removed" );
+        }
+    }
+
+    /**
+     * Testing entries expiration.
+     */
+    @Test
+    public void expiration ()
+    {
+        final FileMetadataCache cache = new FileMetadataCache ( 10, 1, -1 );
+        cache.put ( "/a", FileMetadataProperty.hidden, true );
+        sleep ();
+        checkValue ( cache, "/a", null );
+        if ( cache.size () != 0 || cache.getStatistics ().getEvictions () != 1 )
+        {
+            throw new RuntimeException ( "Expired entry wasn't removed: " + cache.getStatistics () );
+        }
+    }
+
+    /**
+     * Testing entries invalidation upon parent directory modification.
+     *
+     * @throws IOException if temporary file cannot be created
+     */
+    @Test
+    public void directoryInvalidation () throws IOException
+    {
+        final File file = File.createTempFile ( "FileMetadataCacheTest", ".tmp" );
+        try
+        {
+            final File directory = file.getParentFile ();
+            final long lastModified = directory.lastModified ();
+            try
+            {
+                final FileMetadataCache cache = new FileMetadataCache ( 10, 0, 0 );
+                cache.put ( file.getAbsolutePath (), FileMetadataProperty.hidden, false );
+                checkValue ( cache, file.getAbsolutePath (), false );
+
+                directory.setLastModified ( lastModified - 10000 );
+                sleep ();
+                checkValue ( cache, file.getAbsolutePath (), null );
+            }
+            finally
+            {
+                directory.setLastModified ( lastModified );
+            }
+        }
+        finally
+        {
+            file.delete ();
+        }
+    }
+
+    /**
+     * Asserts cached value.
+     *
+     * @param cache    {@link FileMetadataCache}
+     * @param path     file path
+     * @param expected expected value
+     */
+    private void checkValue ( final FileMetadataCache cache, final String path, final Boolean expected )
+    {
+        final Boolean value = cache.get ( path, FileMetadataProperty.hidden, Boolean.class );
+        if ( value != expected )
+        {
+            throw new RuntimeException ( "Unexpected cached value for " + path + ": " + value + ", expected: " + expected );
+        }
+    }
+
+    /**
+     * Waits for validation delay to pass.
+     */
+    private void sleep ()
+    {
+        try
+        {
+            Thread.sleep ( 5 );
+        }
+        catch ( final InterruptedException e )
+        {
+            throw new RuntimeException ( e );
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.file;
+
+import com.alee.utils.FileUtils;
+import com.alee.utils.swing.WebTimer;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link FileTracker}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class FileTrackerTest
+{
+    /**
+     * Delay between checks used in tests.
+     */
+    private static final long DELAY = 20;
+
+    /**
+     * Testing modification and removal notifications.
+     *
+     * @throws IOException          if temporary file cannot be created
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void modifiedAndUnbound () throws IOException, InterruptedException
+    {
+        final File file = File.createTempFile ( "FileTrackerTest", ".tmp" );
+        try
+        {
+            final CountDownLatch modified = new CountDownLatch ( 1 );
+            final CountDownLatch unbound = new CountDownLatch ( 1 );
+            FileTracker.track ( file, new SystemFileListener ()
+            {
+                @Override
+                public void modified ( final File file )
+                {
+                    modified.countDown ();
+                }
+
+                @Override
+                public void unbound ( final File file )
+                {
+                    unbound.countDown ();
+                }
+            }, DELAY );
+            if ( !FileTracker.isTracked ( file ) )
+            {
+                throw new RuntimeException ( "File is not tracked: " + file );
+            }
+
+            file.setLastModified ( file.lastModified () - 10000 );
+            if ( !modified.await ( 5, TimeUnit.SECONDS ) )
+            {
+                throw new RuntimeException ( "File modification wasn't reported: " + file );
+            }
+
+            file.delete ();
+            if ( !unbound.await ( 5, TimeUnit.SECONDS ) )
+            {
+                throw new RuntimeException ( "File removal wasn't reported: " + file );
+            }
+            if ( FileTracker.isTracked ( file ) )
+            {
+                throw new RuntimeException ( "Removed file is still tracked: " + file );
+            }
+        }
+        finally
+        {
+            file.delete ();
+        }
+    }
+
+    /**
+     * Testing that listener doesn't receive any notifications once it stops tracking file.
+     *
+     * @throws IOException          if temporary file cannot be created
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void untrack () throws IOException, InterruptedException
+    {
+        final File file = File.createTempFile ( "FileTrackerTest", ".tmp" );
+        try
+        {
+            final AtomicInteger notifications = new AtomicInteger ( 0 );
+            final SystemFileListener listener = new SystemFileListener ()
+            {
+                @Override
+                public void modified ( final File file )
+                {
+                    notifications.incrementAndGet ();
+                }
+
+                @Override
+                public void unbound ( final File file )
+                {
+                    notifications.incrementAndGet ();
+                }
+            };
+            FileTracker.track ( file, listener, DELAY );
+            FileTracker.untrack ( file, listener );
+            if ( FileTracker.isTracked ( file ) )
+            {
+                throw new RuntimeException ( "File is still tracked: " + file );
+            }
+
+            file.setLastModified ( file.lastModified () - 10000 );
+            Thread.sleep ( DELAY * 10 );
+            if ( notifications.get () != 0 )
+            {
+                throw new RuntimeException ( "Listener was notified after it stopped tracking file: " + file );
+            }
+        }
+        finally
+        {
+            file.delete ();
+        }
+    }
+
+    /**
+     * Testing that deprecated {@link FileUtils#trackFile(File, SystemFileListener, long)} timer reports changes.
+     *
+     * @throws IOException          if temporary file cannot be created
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    @SuppressWarnings ( "deprecation" )
+    public void trackFile () throws IOException, InterruptedException
+    {
+        final File file = File.createTempFile ( "FileTrackerTest", ".tmp" );
+        try
+        {
+            final AtomicInteger modified = new AtomicInteger ( 0 );
+            final CountDownLatch unbound = new CountDownLatch ( 1 );
+            final WebTimer timer = FileUtils.trackFile ( file, new SystemFileListener ()
+            {
+                @Override
+                public void modified ( final File file )
+                {
+                    modified.incrementAndGet ();
+                }
+
+                @Override
+                public void unbound ( final File file )
+                {
+                    unbound.countDown ();
+                }
+            }, DELAY );
+            timer.start ();
+
+            Thread.sleep ( DELAY * 10 );
+            if ( modified.get () != 0 )
+            {
+                throw new RuntimeException ( "Unmodified file was reported as modified: " + file );
+            }
+
+            file.setLastModified ( file.lastModified () - 10000 );
+            Thread.sleep ( DELAY * 10 );
+            if ( modified.get () != 1 )
+            {
+                throw new RuntimeException ( "File modification wasn't reported: " + file );
+            }
+
+            file.delete ();
+            if ( !unbound.await ( 5, TimeUnit.SECONDS ) )
+            {
+                throw new RuntimeException ( "File removal wasn't reported: " + file );
+            }
+        }
+        finally
+        {
+            file.delete ();
+        }
+    }
+}
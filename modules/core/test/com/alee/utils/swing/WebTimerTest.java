@@ -0,0 +1,147 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.utils.swing;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link WebTimer} running on {@link SharedTimerScheduler}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class WebTimerTest
+{
+    /**
+     * Amount of timers running at once in stress test.
+     */
+    private static final int TIMERS = 10000;
+
+    /**
+     * Amount of cycles each timer performs in stress test.
+     */
+    private static final int CYCLES = 3;
+
+    /**
+     * Stress test running lots of concurrent timers on a few shared threads.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void concurrentTimers () throws InterruptedException
+    {
+        final SharedTimerScheduler scheduler = new SharedTimerScheduler ( "WebTimerTest", 4, 1000 );
+        try
+        {
+            final int threadsBefore = Thread.activeCount ();
+            final CountDownLatch latch = new CountDownLatch ( TIMERS * CYCLES );
+            final AtomicInteger fired = new AtomicInteger ( 0 );
+            final ActionListener listener = new ActionListener ()
+            {
+                @Override
+                public void actionPerformed ( final ActionEvent e )
+                {
+                    fired.incrementAndGet ();
+                    latch.countDown ();
+                }
+            };
+
+            final WebTimer[] timers = new WebTimer[ TIMERS ];
+            for ( int i = 0; i < TIMERS; i++ )
+            {
+                timers[ i ] = new WebTimer ( 10, i % 50, listener );
+                timers[ i ].setScheduler ( scheduler );
+                timers[ i ].setUseEventDispatchThread ( false );
+                timers[ i ].setCyclesLimit ( CYCLES );
+                timers[ i ].start ();
+            }
+            final int threadsDuring = Thread.activeCount ();
+            if ( !latch.await ( 60, TimeUnit.SECONDS ) )
+            {
+                throw new RuntimeException ( "Timers didn't finish in time, cycles performed: " + fired.get () );
+            }
+            if ( threadsDuring - threadsBefore > 8 )
+            {
+                throw new RuntimeException ( "Too many threads were used: " + ( threadsDuring - threadsBefore ) );
+            }
+            for ( final WebTimer timer : timers )
+            {
+                timer.stop ();
+                if ( timer.isRunning () || timer.getCycleCount () != CYCLES )
+                {
+                    throw new RuntimeException ( "Unexpected timer state: " + timer + ", cycles: " + timer.getCycleCount () );
+                }
+            }
+            if ( fired.get () != TIMERS * CYCLES )
+            {
+                throw new RuntimeException ( "Unexpected amount of cycles performed: " + fired.get () );
+            }
+        }
+        finally
+        {
+            scheduler.shutdown ();
+        }
+    }
+
+    /**
+     * Testing that stopped timer doesn't perform any further cycles.
+     *
+     * @throws InterruptedException if test was interrupted
+     */
+    @Test
+    public void stopTimer () throws InterruptedException
+    {
+        final SharedTimerScheduler scheduler = new SharedTimerScheduler ( "WebTimerTest", 1, 1000 );
+        try
+        {
+            final AtomicInteger fired = new AtomicInteger ( 0 );
+            final WebTimer timer = new WebTimer ( 5, new ActionListener ()
+            {
+                @Override
+                public void actionPerformed ( final ActionEvent e )
+                {
+                    fired.incrementAndGet ();
+                }
+            } );
+            timer.setScheduler ( scheduler );
+            timer.setUseEventDispatchThread ( false );
+            timer.start ();
+            Thread.sleep ( 100 );
+            timer.stop ();
+
+            final int stoppedAt = fired.get ();
+            Thread.sleep ( 100 );
+            if ( timer.isRunning () || stoppedAt == 0 || fired.get () != stoppedAt )
+            {
+                throw new RuntimeException ( "Timer wasn't stopped properly, cycles performed: " + stoppedAt + " / " + fired.get () );
+            }
+        }
+        finally
+        {
+            scheduler.shutdown ();
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.alee.laf.table.WebTable;
 import com.alee.managers.style.StyleId;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.FileUtils;
+import com.alee.utils.file.DisplayedDirectoryLoader;
 import com.alee.utils.filefilter.AbstractFileFilter;
 import com.alee.utils.filefilter.NonHiddenFilter;
 
@@ -61,6 +62,49 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     protected File displayedDirectory;
 
+    /**
+     * {@link DisplayedDirectoryLoader} for displayed directory files.
+     */
+    protected transient DisplayedDirectoryLoader directoryLoader = new DisplayedDirectoryLoader ()
+    {
+        @Override
+        protected void setFiles ( @NotNull final List<File> files )
+        {
+            getFileTableModel ().setFiles ( files );
+        }
+
+        @Override
+        protected void addFiles ( @NotNull final List<File> files )
+        {
+            getFileTableModel ().addFiles ( files );
+        }
+
+        @Override
+        protected boolean isSelectionEmpty ()
+        {
+            return getSelectedRowCount () == 0;
+        }
+
+        @NotNull
+        @Override
+        protected List<File> getSelectedFiles ()
+        {
+            return WebFileTable.this.getSelectedFiles ();
+        }
+
+        @Override
+        protected void setSelectedFile ( @NotNull final File file )
+        {
+            WebFileTable.this.setSelectedFile ( file, true );
+        }
+
+        @Override
+        protected void setSelectedFiles ( @NotNull final List<File> files )
+        {
+            WebFileTable.this.setSelectedFiles ( files );
+        }
+    };
+
     /**
      * Constructs empty WebFileTable.
      */
@@ -260,6 +304,9 @@ public class WebFileTable extends WebTable implements FileTableColumns
     /**
      * Sets displayed directory.
      * This will force list to load and display files from the specified directory.
+     * Directory files are loaded asynchronously and added into the table in sorted batches, see {@link DisplayedDirectoryLoader}.
+     * Loading of previously displayed directory files is cancelled if it is still in progress.
+     * Old files stay displayed until the first batch arrives if the same directory is reloaded.
      *
      * @param file new displayed directory
      */
@@ -268,22 +315,20 @@ public class WebFileTable extends WebTable implements FileTableColumns
         // Stop cell editing
         stopCellEditing ();
 
-        // Saving selection to restore later
-        final List<File> oldSelection = getSelectedFiles ();
-
-        // Update files data
-        final File[] listedFiles = file != null ? FileUtils.listFiles ( file, ( FileFilter ) fileFilter ) : null;
-        final File[] files = file != null ? FileUtils.sortFiles ( listedFiles ) : FileUtils.getDiskRoots ();
-        getFileTableModel ().setFiles ( CollectionUtils.asList ( files ) );
-
-        // Restoring selection if its same folder
-        if ( FileUtils.equals ( displayedDirectory, file ) )
-        {
-            setSelectedFiles ( oldSelection );
-        }
-
-        // Saving new displayed directory
+        // Loading directory files
+        final boolean sameDirectory = FileUtils.equals ( displayedDirectory, file );
         displayedDirectory = file;
+        directoryLoader.load ( file, fileFilter, sameDirectory );
+    }
+
+    /**
+     * Returns whether or not displayed directory files are being loaded.
+     *
+     * @return {@code true} if displayed directory files are being loaded, {@code false} otherwise
+     */
+    public boolean isLoading ()
+    {
+        return directoryLoader.isLoading ();
     }
 
     /**
@@ -293,6 +338,7 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     public void setFiles ( final Collection<File> files )
     {
+        directoryLoader.cancel ();
         displayedDirectory = null;
         getFileTableModel ().setFiles ( files );
     }
@@ -384,6 +430,7 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     public void setSelectedFile ( final File file, final boolean scroll )
     {
+        directoryLoader.selectionRequested ( file != null ? CollectionUtils.asList ( file ) : null );
         final int row = getFileTableModel ().getFileRow ( file );
         setSelectedRow ( row == -1 ? -1 : convertRowIndexToView ( row ), scroll );
     }
@@ -395,6 +442,7 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     public void setSelectedFiles ( final File[] files )
     {
+        directoryLoader.selectionRequested ( CollectionUtils.asList ( files ) );
         clearSelection ();
         for ( final File file : files )
         {
@@ -424,6 +472,7 @@ public class WebFileTable extends WebTable implements FileTableColumns
      */
     public void setSelectedFiles ( final Collection<File> files )
     {
+        directoryLoader.selectionRequested ( new ArrayList<File> ( files ) );
         clearSelection ();
         for ( final File file : files )
         {
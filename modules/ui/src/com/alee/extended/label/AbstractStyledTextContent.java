@@ -21,6 +21,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.merge.behavior.OmitOnMerge;
+import com.alee.painter.cache.AssetKey;
 import com.alee.painter.decoration.DecorationException;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.painter.decoration.content.AbstractTextContent;
@@ -34,6 +35,7 @@ import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 import javax.swing.*;
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -334,7 +336,9 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
     }
 
     /**
-     * Performs styled text layout.
+     * Returns styled text layout.
+     * Layouts are cached in {@link StyledTextLayoutCache} and shared between components displaying equal styled text.
+     * Returned rows must not be modified.
      *
      * @param c      painted component
      * @param d      painted decoration state
@@ -343,6 +347,45 @@ public abstract class AbstractStyledTextContent<C extends JComponent, D extends
      */
     @NotNull
     protected List<StyledTextRow> layout ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds )
+    {
+        final AssetKey key = getLayoutKey ( c, d, bounds );
+        List<StyledTextRow> rows = StyledTextLayoutCache.get ( key );
+        if ( rows == null )
+        {
+            rows = StyledTextLayoutCache.put ( key, Collections.unmodifiableList ( createLayout ( c, d, bounds ) ) );
+        }
+        return rows;
+    }
+
+    /**
+     * Returns {@link AssetKey} for the styled text layout.
+     * It should include every setting that affects {@link #createLayout(JComponent, IDecoration, Rectangle)} result.
+     * Only bounds size is included since layout rows do not contain any coordinates.
+     *
+     * @param c      painted component
+     * @param d      painted decoration state
+     * @param bounds painting bounds
+     * @return {@link AssetKey} for the styled text layout
+     */
+    @NotNull
+    protected AssetKey getLayoutKey ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds )
+    {
+        final Font font = c.getFont ();
+        return new AssetKey ( StyledTextLayoutCache.class, textRanges, font, c.getFontMetrics ( font ).getFontRenderContext (),
+                bounds.width, bounds.height, getMnemonicIndex ( c, d ), getMaximumRows ( c, d ), getRowGap ( c, d ),
+                getWrapType ( c, d ), isPreserveLineBreaks ( c, d ), getScriptFontRatio ( c, d ) );
+    }
+
+    /**
+     * Performs styled text layout.
+     *
+     * @param c      painted component
+     * @param d      painted decoration state
+     * @param bounds painting bounds
+     * @return List of rows to paint
+     */
+    @NotNull
+    protected List<StyledTextRow> createLayout ( @NotNull final C c, @NotNull final D d, @NotNull final Rectangle bounds )
     {
         final int endY = bounds.y + bounds.height;
         final int endX = bounds.x + bounds.width;
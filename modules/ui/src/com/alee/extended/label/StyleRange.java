@@ -340,6 +340,34 @@ public class StyleRange implements MergeBehavior<StyleRange>, Cloneable
         return customStyles;
     }
 
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( this == object )
+        {
+            equals = true;
+        }
+        else if ( object instanceof StyleRange )
+        {
+            final StyleRange range = ( StyleRange ) object;
+            equals = startIndex == range.startIndex && length == range.length && style == range.style &&
+                    Objects.equals ( foreground, range.foreground ) && Objects.equals ( background, range.background ) &&
+                    Objects.equals ( customStyles, range.customStyles );
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return Objects.hash ( startIndex, length, style, foreground, background, customStyles );
+    }
+
     @NotNull
     @Override
     public StyleRange merge ( @NotNull final RecursiveMerge merge, @NotNull final Class type, @NotNull final StyleRange object,
@@ -0,0 +1,148 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.label;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.painter.cache.AssetKey;
+import com.alee.utils.UtilityException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Shared cache for styled text layouts created by {@link AbstractStyledTextContent}.
+ * Layouts are keyed by {@link TextRange}s, font and every setting that affects the layout, so equal texts displayed
+ * by different components - for instance by list, table or tree cell renderers - share single layout.
+ * Least recently used layouts are evicted once cache capacity is exceeded.
+ *
+ * @author Mikle Garin
+ * @see AbstractStyledTextContent#layout(javax.swing.JComponent, com.alee.painter.decoration.IDecoration, java.awt.Rectangle)
+ */
+public final class StyledTextLayoutCache
+{
+    /**
+     * Default maximum amount of cached layouts.
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /**
+     * Cached layouts in least recently used order.
+     */
+    @NotNull
+    private static final LinkedHashMap<AssetKey, List<StyledTextRow>> layouts =
+            new LinkedHashMap<AssetKey, List<StyledTextRow>> ( 64, 0.75f, true );
+
+    /**
+     * Maximum amount of cached layouts.
+     */
+    private static int capacity = DEFAULT_CAPACITY;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private StyledTextLayoutCache ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns cached layout for the specified {@link AssetKey} or {@code null} if it is not cached.
+     *
+     * @param key layout {@link AssetKey}
+     * @return cached layout for the specified {@link AssetKey} or {@code null} if it is not cached
+     */
+    @Nullable
+    public static synchronized List<StyledTextRow> get ( @NotNull final AssetKey key )
+    {
+        return layouts.get ( key );
+    }
+
+    /**
+     * Caches specified layout under the specified {@link AssetKey} and returns it.
+     * Cached layout is shared between components and must not be modified afterwards.
+     *
+     * @param key    layout {@link AssetKey}
+     * @param layout layout to cache
+     * @return cached layout
+     */
+    @NotNull
+    public static synchronized List<StyledTextRow> put ( @NotNull final AssetKey key, @NotNull final List<StyledTextRow> layout )
+    {
+        if ( capacity > 0 )
+        {
+            layouts.put ( key, layout );
+            trim ();
+        }
+        return layout;
+    }
+
+    /**
+     * Removes all cached layouts.
+     */
+    public static synchronized void clear ()
+    {
+        layouts.clear ();
+    }
+
+    /**
+     * Returns maximum amount of cached layouts.
+     *
+     * @return maximum amount of cached layouts
+     */
+    public static synchronized int getCapacity ()
+    {
+        return capacity;
+    }
+
+    /**
+     * Sets maximum amount of cached layouts.
+     * Zero capacity disables layouts caching.
+     *
+     * @param capacity maximum amount of cached layouts
+     */
+    public static synchronized void setCapacity ( final int capacity )
+    {
+        StyledTextLayoutCache.capacity = Math.max ( 0, capacity );
+        trim ();
+    }
+
+    /**
+     * Returns amount of cached layouts.
+     *
+     * @return amount of cached layouts
+     */
+    public static synchronized int size ()
+    {
+        return layouts.size ();
+    }
+
+    /**
+     * Evicts least recently used layouts until cache fits its capacity.
+     */
+    private static void trim ()
+    {
+        final Iterator<List<StyledTextRow>> iterator = layouts.values ().iterator ();
+        while ( layouts.size () > capacity && iterator.hasNext () )
+        {
+            iterator.next ();
+            iterator.remove ();
+        }
+    }
+}
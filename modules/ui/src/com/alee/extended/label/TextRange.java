@@ -19,6 +19,7 @@ package com.alee.extended.label;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.api.jdk.Objects;
 
 /**
  * This class represents part of the multi-styled text with its own style.
@@ -84,4 +85,30 @@ public class TextRange
     {
         return styleRange;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( this == object )
+        {
+            equals = true;
+        }
+        else if ( object instanceof TextRange )
+        {
+            final TextRange range = ( TextRange ) object;
+            equals = text.equals ( range.text ) && Objects.equals ( styleRange, range.styleRange );
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return 31 * text.hashCode () + ( styleRange != null ? styleRange.hashCode () : 0 );
+    }
+}
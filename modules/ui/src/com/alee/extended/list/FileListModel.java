@@ -182,6 +182,16 @@ public class FileListModel extends WebListModel<FileElement>
         setAll ( toElementsList ( data ) );
     }
 
+    /**
+     * Adds specified files to the end of the list.
+     *
+     * @param data files list
+     */
+    public void addData ( final List<File> data )
+    {
+        addAll ( toElementsList ( data ) );
+    }
+
     /**
      * Returns files under the specified directory.
      *
@@ -21,7 +21,9 @@ import com.alee.api.annotations.NotNull;
 import com.alee.laf.list.WebList;
 import com.alee.laf.list.editor.ListCellEditor;
 import com.alee.managers.style.StyleId;
+import com.alee.utils.CollectionUtils;
 import com.alee.utils.FileUtils;
+import com.alee.utils.file.DisplayedDirectoryLoader;
 import com.alee.utils.filefilter.NonHiddenFilter;
 
 import javax.swing.*;
@@ -79,6 +81,49 @@ public class WebFileList extends WebList
      */
     protected File displayedDirectory = null;
 
+    /**
+     * {@link DisplayedDirectoryLoader} for displayed directory files.
+     */
+    protected transient DisplayedDirectoryLoader directoryLoader = new DisplayedDirectoryLoader ()
+    {
+        @Override
+        protected void setFiles ( @NotNull final List<File> files )
+        {
+            getFileListModel ().setData ( files );
+        }
+
+        @Override
+        protected void addFiles ( @NotNull final List<File> files )
+        {
+            getFileListModel ().addData ( files );
+        }
+
+        @Override
+        protected boolean isSelectionEmpty ()
+        {
+            return WebFileList.this.isSelectionEmpty ();
+        }
+
+        @NotNull
+        @Override
+        protected List<File> getSelectedFiles ()
+        {
+            return WebFileList.this.getSelectedFiles ();
+        }
+
+        @Override
+        protected void setSelectedFile ( @NotNull final File file )
+        {
+            WebFileList.this.setSelectedFile ( file, true );
+        }
+
+        @Override
+        protected void setSelectedFiles ( @NotNull final List<File> files )
+        {
+            WebFileList.this.setSelectedFiles ( files );
+        }
+    };
+
     /**
      * Constructs empty file list.
      */
@@ -419,6 +464,9 @@ public class WebFileList extends WebList
     /**
      * Sets displayed directory.
      * This will force list to load and display files from the specified directory.
+     * Directory files are loaded asynchronously and added into the list in sorted batches, see {@link DisplayedDirectoryLoader}.
+     * Loading of previously displayed directory files is cancelled if it is still in progress.
+     * Old files stay displayed until the first batch arrives if the same directory is reloaded.
      *
      * @param file new displayed directory
      */
@@ -427,21 +475,20 @@ public class WebFileList extends WebList
         // Stop cell editing
         stopCellEditing ();
 
-        // Saving selection to restore later
-        final List<File> oldSelection = getSelectedFiles ();
-
-        // Getting files and updating list model
-        final File[] files = file != null ? FileUtils.sortFiles ( file.listFiles ( fileFilter ) ) : FileUtils.getDiskRoots ();
-        getFileListModel ().setData ( files );
-
-        // Restoring selection if its same folder
-        if ( FileUtils.equals ( displayedDirectory, file ) )
-        {
-            setSelectedFiles ( oldSelection );
-        }
-
-        // Saving new displayed directory
+        // Loading directory files
+        final boolean sameDirectory = FileUtils.equals ( displayedDirectory, file );
         this.displayedDirectory = file;
+        directoryLoader.load ( file, fileFilter, sameDirectory );
+    }
+
+    /**
+     * Returns whether or not displayed directory files are being loaded.
+     *
+     * @return {@code true} if displayed directory files are being loaded, {@code false} otherwise
+     */
+    public boolean isLoading ()
+    {
+        return directoryLoader.isLoading ();
     }
 
     /**
@@ -489,6 +536,7 @@ public class WebFileList extends WebList
      */
     public void setSelectedFile ( final File file, final boolean shouldScroll )
     {
+        directoryLoader.selectionRequested ( file != null ? CollectionUtils.asList ( file ) : null );
         final FileElement element = getFileListModel ().getElement ( file );
         if ( element != null )
         {
@@ -507,6 +555,7 @@ public class WebFileList extends WebList
      */
     public void setSelectedFiles ( final Collection<File> files )
     {
+        directoryLoader.selectionRequested ( new ArrayList<File> ( files ) );
         final List<FileElement> elements = new ArrayList<FileElement> ( files.size () );
         for ( final File file : files )
         {
@@ -21,21 +21,33 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.Clone;
 import com.alee.api.clone.behavior.OmitOnClone;
+import com.alee.api.clone.behavior.PreserveOnClone;
 import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.api.resource.Resource;
 import com.alee.api.ui.DisabledCopySupplier;
 import com.alee.api.ui.TransparentCopySupplier;
 import com.alee.managers.icon.data.IconAdjustment;
+import com.alee.painter.cache.AssetCache;
+import com.alee.painter.cache.AssetKey;
+import com.alee.utils.FileUtils;
+import com.alee.utils.IOUtils;
+import com.alee.utils.concurrent.DaemonThreadFactory;
 import com.kitfox.svg.*;
 import com.kitfox.svg.animation.AnimationElement;
 import com.kitfox.svg.app.beans.SVGIcon;
 import com.kitfox.svg.xml.StyleAttribute;
+import org.slf4j.LoggerFactory;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.net.URI;
-import java.util.ArrayList;
+import java.util.*;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Slightly customized SvgSalamander library {@link SVGIcon} implementation.
@@ -47,11 +59,25 @@ import java.util.List;
  * When you want to modify some SVG settings you will have to find specific SVG elements within {@link SVGDiagram}.
  * This is where css-like selectors will help you a lot, check out {@link SvgSelector} JavaDoc for more information on syntax.
  *
+ * Rasterized icon images are shared through {@link AssetCache} between all {@link SvgIcon}s loaded from the same SVG content
+ * with the same element attributes, so clones and icons provided to different components are only rasterized once per size and scale.
+ * Elements modified directly should be passed to {@link #update(SVGElement)} afterwards to refresh already rasterized image.
+ * Use {@link #rasterize(Collection)} to rasterize multiple icons in parallel in advance.
+ *
  * @author Mikle Garin
  * @see SvgSelector
  */
 public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, TransparentCopySupplier<SvgIcon>, Cloneable
 {
+    /**
+     * SVG content checksum.
+     * It identifies icon source in raster {@link AssetKey}s.
+     */
+    @PreserveOnClone
+    @OmitOnMerge
+    @NotNull
+    protected transient String source;
+
     /**
      * Cached raster image.
      */
@@ -60,6 +86,13 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
     @Nullable
     protected transient BufferedImage cache;
 
+    /**
+     * Scale cached raster image was created for.
+     */
+    @OmitOnClone
+    @OmitOnMerge
+    protected transient double cacheScale;
+
     /**
      * Constructs new {@link SvgIcon} based on {@link Resource}.
      *
@@ -82,13 +115,15 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
         try
         {
             // Loading SVG icon
+            final byte[] data = IOUtils.toByteArray ( resource.getInputStream () );
             final SVGUniverse universe = new SVGUniverse ();
-            final URI uri = universe.loadSVG ( resource.getInputStream (), "SvgIcon", true );
+            final URI uri = universe.loadSVG ( new ByteArrayInputStream ( data ), "SvgIcon", true );
 
             // Checking diagram
             checkDiagram ( universe, uri );
 
             // Updating settings
+            source = FileUtils.computeMD5 ( new ByteArrayInputStream ( data ) );
             setSvgUniverse ( universe );
             setSvgURI ( uri );
             setAntiAlias ( true );
@@ -156,12 +191,14 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
 
     /**
      * Returns SVG diagram root.
+     * Since returned element might be modified directly, cached raster image is dropped and will be checked against SVG diagram state.
      *
      * @return SVG diagram root
      */
     @NotNull
     public SVGRoot getRoot ()
     {
+        cache = null;
         return getDiagram ().getRoot ();
     }
 
@@ -337,6 +374,47 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
         }
     }
 
+    /**
+     * Returns checksum of current SVG diagram state.
+     * It identifies icon adjustments and any other element modifications in raster {@link AssetKey}s.
+     *
+     * @return checksum of current SVG diagram state
+     */
+    @NotNull
+    protected String getState ()
+    {
+        final StringBuilder state = new StringBuilder ();
+        appendState ( state, getDiagram ().getRoot () );
+        return FileUtils.computeMD5 ( state.toString () );
+    }
+
+    /**
+     * Appends state of the specified element and all of its children to {@link StringBuilder}.
+     *
+     * @param state   {@link StringBuilder} to append state to
+     * @param element SVG element
+     */
+    protected void appendState ( @NotNull final StringBuilder state, @NotNull final SVGElement element )
+    {
+        state.append ( '<' ).append ( element.getTagName () );
+        for ( final String attribute : new TreeSet<String> ( element.getPresentationAttributes () ) )
+        {
+            final StyleAttribute value = element.getPresAbsolute ( attribute );
+            state.append ( ' ' ).append ( attribute ).append ( '=' ).append ( value != null ? value.getStringValue () : "" );
+        }
+        for ( final String attribute : new TreeSet<String> ( element.getInlineAttributes () ) )
+        {
+            final StyleAttribute value = element.getStyleAbsolute ( attribute );
+            state.append ( ' ' ).append ( attribute ).append ( ':' ).append ( value != null ? value.getStringValue () : "" );
+        }
+        state.append ( '>' );
+        for ( int i = 0; i < element.getNumChildren (); i++ )
+        {
+            appendState ( state, element.getChild ( i ) );
+        }
+        state.append ( "</>" );
+    }
+
     /**
      * Updates specified element data.
      *
@@ -362,22 +440,63 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
     @Override
     public void paintIcon ( @NotNull final Component component, @NotNull final Graphics g, final int x, final int y )
     {
-        // Validating cache
         final Dimension size = getPreferredSize ();
-        if ( cache == null || cache.getWidth () != size.width || cache.getHeight () != size.height )
+        final double scale = getScale ( g );
+        final BufferedImage raster = getRaster ( size, scale );
+        if ( scale == 1d )
+        {
+            g.drawImage ( raster, x, y, null );
+        }
+        else
+        {
+            // Raster image matches device pixels so it is not upscaled
+            g.drawImage ( raster, x, y, size.width, size.height, null );
+        }
+    }
+
+    /**
+     * Returns scale of the specified {@link Graphics} transform.
+     * Transforms other than scale and translation are not taken into account.
+     *
+     * @param g {@link Graphics}
+     * @return scale of the specified {@link Graphics} transform
+     */
+    protected double getScale ( @NotNull final Graphics g )
+    {
+        double scale = 1d;
+        if ( g instanceof Graphics2D )
         {
-            // Flushing previous icon cache
-            if ( cache != null )
+            final AffineTransform transform = ( ( Graphics2D ) g ).getTransform ();
+            if ( ( transform.getType () & ~( AffineTransform.TYPE_TRANSLATION | AffineTransform.TYPE_UNIFORM_SCALE ) ) == 0 )
             {
-                cache.flush ();
+                scale = Math.max ( 1d, transform.getScaleX () );
             }
-
-            // Create new cached image
-            cache = asBufferedImage ( size );
         }
+        return scale;
+    }
 
-        // Painting SVG icon from raster cache image
-        g.drawImage ( cache, x, y, null );
+    /**
+     * Returns raster image of this {@link SvgIcon} for the specified size and scale.
+     * Raster images are shared through {@link AssetCache} and must not be modified.
+     *
+     * @param size  icon size
+     * @param scale device scale
+     * @return raster image of this {@link SvgIcon} for the specified size and scale
+     */
+    @NotNull
+    protected synchronized BufferedImage getRaster ( @NotNull final Dimension size, final double scale )
+    {
+        final int width = ( int ) Math.ceil ( size.width * scale );
+        final int height = ( int ) Math.ceil ( size.height * scale );
+        if ( cache == null || cache.getWidth () != width || cache.getHeight () != height || cacheScale != scale )
+        {
+            final AssetKey key = new AssetKey ( SvgIcon.class, source, getState (), getAntiAlias (), getAutosize (),
+                    getInterpolation (), isClipToViewbox (), size.width, size.height, scale );
+            final BufferedImage raster = AssetCache.get ( key, BufferedImage.class );
+            cache = raster != null ? raster : AssetCache.put ( key, asBufferedImage ( width, height ) );
+            cacheScale = scale;
+        }
+        return cache;
     }
 
     /**
@@ -425,22 +544,87 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
     @NotNull
     public BufferedImage asBufferedImage ( final int width, final int height )
     {
-        // Save initial preferred size
-        final Dimension ps = getPreferredSize ();
-
-        // Setup temporary preferred size
-        setPreferredSize ( width, height );
-
-        // Create image
         final BufferedImage image = new BufferedImage ( width, height, BufferedImage.TYPE_INT_ARGB );
         final Graphics2D g2d = image.createGraphics ();
-        super.paintIcon ( null, g2d, 0, 0 );
+        paintDiagram ( g2d, width, height );
         g2d.dispose ();
+        return image;
+    }
+
+    /**
+     * Paints SVG diagram fitted into the specified size according to icon settings.
+     * Unlike {@link SVGIcon#paintIcon(Component, Graphics, int, int)} it doesn't use preferred icon size and shared transform,
+     * so icon can be rendered at any size without affecting other threads painting it.
+     *
+     * @param g2d    {@link Graphics2D}
+     * @param width  painted diagram width
+     * @param height painted diagram height
+     */
+    protected void paintDiagram ( @NotNull final Graphics2D g2d, final int width, final int height )
+    {
+        final SVGDiagram diagram = getDiagram ();
+        final int autosize = getAutosize ();
+        if ( autosize == AUTOSIZE_NONE || width > 0 && height > 0 )
+        {
+            // Rendering hints
+            g2d.setRenderingHint ( RenderingHints.KEY_ANTIALIASING,
+                    getAntiAlias () ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF );
+            switch ( getInterpolation () )
+            {
+                case INTERP_NEAREST_NEIGHBOR:
+                    g2d.setRenderingHint ( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR );
+                    break;
 
-        // Restoring initial preferred size
-        setPreferredSize ( ps );
+                case INTERP_BILINEAR:
+                    g2d.setRenderingHint ( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR );
+                    break;
 
-        return image;
+                case INTERP_BICUBIC:
+                    g2d.setRenderingHint ( RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC );
+                    break;
+            }
+
+            // Fitting diagram into the requested size
+            if ( autosize != AUTOSIZE_NONE )
+            {
+                final double scaleX = width / ( double ) diagram.getWidth ();
+                final double scaleY = height / ( double ) diagram.getHeight ();
+                switch ( autosize )
+                {
+                    case AUTOSIZE_BESTFIT:
+                        g2d.scale ( Math.min ( scaleX, scaleY ), Math.min ( scaleX, scaleY ) );
+                        break;
+
+                    case AUTOSIZE_HORIZ:
+                        g2d.scale ( scaleX, scaleX );
+                        break;
+
+                    case AUTOSIZE_VERT:
+                        g2d.scale ( scaleY, scaleY );
+                        break;
+
+                    case AUTOSIZE_STRETCH:
+                        g2d.scale ( scaleX, scaleY );
+                        break;
+                }
+            }
+
+            // Rendering diagram
+            diagram.setIgnoringClipHeuristic ( !isClipToViewbox () );
+            if ( isClipToViewbox () )
+            {
+                g2d.clip ( new Rectangle ( 0, 0, ( int ) Math.ceil ( diagram.getWidth () ), ( int ) Math.ceil ( diagram.getHeight () ) ) );
+            }
+            try
+            {
+                diagram.render ( g2d );
+            }
+            catch ( final SVGException e )
+            {
+                final String msg = "Unable to render SVG diagram: %s";
+                throw new RuntimeException ( String.format ( msg, getSvgURI () ), e );
+            }
+        }
     }
 
     /**
@@ -475,6 +659,62 @@ public class SvgIcon extends SVGIcon implements DisabledCopySupplier<SvgIcon>, T
         return svgIcon;
     }
 
+    /**
+     * Rasterizes specified {@link SvgIcon}s at their preferred size in parallel.
+     * Rasterized images are placed into {@link AssetCache} so that they can be painted right away afterwards.
+     * This method returns once all {@link SvgIcon}s are rasterized.
+     *
+     * @param icons {@link SvgIcon}s to rasterize
+     */
+    public static void rasterize ( @NotNull final Collection<? extends SvgIcon> icons )
+    {
+        rasterize ( icons, 1d );
+    }
+
+    /**
+     * Rasterizes specified {@link SvgIcon}s at their preferred size and specified device scale in parallel.
+     * Rasterized images are placed into {@link AssetCache} so that they can be painted right away afterwards.
+     * This method returns once all {@link SvgIcon}s are rasterized.
+     *
+     * @param icons {@link SvgIcon}s to rasterize
+     * @param scale device scale, for instance {@code 2d} for icons painted on HiDPI screens
+     */
+    public static void rasterize ( @NotNull final Collection<? extends SvgIcon> icons, final double scale )
+    {
+        final int threads = Math.min ( icons.size (), Runtime.getRuntime ().availableProcessors () );
+        if ( threads > 0 )
+        {
+            final ExecutorService executor = Executors.newFixedThreadPool ( threads, new DaemonThreadFactory ( "SvgIcon.rasterize" ) );
+            try
+            {
+                final List<Future<?>> futures = new ArrayList<Future<?>> ( icons.size () );
+                for ( final SvgIcon icon : icons )
+                {
+                    futures.add ( executor.submit ( new Runnable ()
+                    {
+                        @Override
+                        public void run ()
+                        {
+                            icon.getRaster ( icon.getPreferredSize (), Math.max ( 1d, scale ) );
+                        }
+                    } ) );
+                }
+                for ( final Future<?> future : futures )
+                {
+                    future.get ();
+                }
+            }
+            catch ( final Exception e )
+            {
+                LoggerFactory.getLogger ( SvgIcon.class ).error ( "Unable to rasterize SVG icons", e );
+            }
+            finally
+            {
+                executor.shutdown ();
+            }
+        }
+    }
+
     @NotNull
     @Override
     protected SvgIcon clone ()
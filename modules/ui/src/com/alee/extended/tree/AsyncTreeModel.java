@@ -70,17 +70,12 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
     protected transient Map<String, Boolean> nodeCached;
 
     /**
-     * Cache for children nodes returned by data provider (parent identifier -&gt; list of raw child nodes).
-     * This map contains raw children which weren't affected by sorting and filtering operations.
-     * If children needs to be re-sorted or re-filtered they are simply taken from the cache and re-organized once again.
-     */
-    protected transient Map<String, List<N>> rawNodeChildrenCache;
-
-    /**
-     * Direct nodes cache (node identifier -&gt; node).
+     * Nodes and raw children cache.
      * Used for quick node search within the tree.
+     * Raw children are children returned by data provider which weren't affected by sorting and filtering operations.
+     * If children needs to be re-sorted or re-filtered they are simply taken from the cache and re-organized once again.
      */
-    protected transient Map<String, N> nodeById;
+    protected transient UniqueNodeIndex<N> nodeIndex;
 
     /**
      * Asynchronous tree that uses this model.
@@ -138,8 +133,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
     {
         WebLookAndFeel.checkEventDispatchThread ();
         this.nodeCached = new HashMap<String, Boolean> ( 50 );
-        this.rawNodeChildrenCache = new HashMap<String, List<N>> ( 10 );
-        this.nodeById = new HashMap<String, N> ( 50 );
+        this.nodeIndex = new UniqueNodeIndex<N> ();
         this.tree = tree;
         this.rootNode = null;
         addAsyncTreeModelListener ( tree );
@@ -154,15 +148,13 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
     {
         WebLookAndFeel.checkEventDispatchThread ();
         removeAsyncTreeModelListener ( tree );
-        for ( final Map.Entry<String, N> entry : nodeById.entrySet () )
+        for ( final N node : nodeIndex.getNodes () )
         {
-            final N node = entry.getValue ();
             node.detachLoadIconObserver ( tree );
         }
         this.rootNode = null;
         this.tree = null;
-        this.nodeById = null;
-        this.rawNodeChildrenCache = null;
+        this.nodeIndex = null;
         this.nodeCached = null;
     }
 
@@ -314,7 +306,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
     protected int loadEmptyChildren ( @NotNull final N parent )
     {
         // Caching empty raw children
-        rawNodeChildrenCache.put ( parent.getId (), new ArrayList<N> ( 0 ) );
+        nodeIndex.putChildren ( parent.getId (), new ArrayList<N> ( 0 ) );
 
         // Updatng cache
         nodeCached.put ( parent.getId (), true );
@@ -450,7 +442,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
             WebLookAndFeel.checkEventDispatchThread ();
 
             // Caching raw children
-            rawNodeChildrenCache.put ( parent.getId (), children );
+            nodeIndex.putChildren ( parent.getId (), children );
             cacheNodesById ( children );
 
             // Adding image observers
@@ -498,7 +490,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
             WebLookAndFeel.checkEventDispatchThread ();
 
             // Caching children
-            rawNodeChildrenCache.put ( parent.getId (), new ArrayList<N> ( 0 ) );
+            nodeIndex.putChildren ( parent.getId (), new ArrayList<N> ( 0 ) );
             nodeCached.put ( parent.getId (), true );
 
             // Updating parent node load state
@@ -552,7 +544,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( !parent.isLoading () )
         {
             // Caching raw children
-            rawNodeChildrenCache.put ( parent.getId (), children );
+            nodeIndex.putChildren ( parent.getId (), children );
             cacheNodesById ( children );
 
             // Filtering and sorting raw children
@@ -612,11 +604,11 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( parent.isLoaded () )
         {
             // Adding new raw children
-            List<N> cachedChildren = rawNodeChildrenCache.get ( parent.getId () );
+            List<N> cachedChildren = nodeIndex.getChildren ( parent.getId () );
             if ( cachedChildren == null )
             {
                 cachedChildren = new ArrayList<N> ( children.size () );
-                rawNodeChildrenCache.put ( parent.getId (), cachedChildren );
+                nodeIndex.putChildren ( parent.getId (), cachedChildren );
             }
             cachedChildren.addAll ( children );
             cacheNodesById ( children );
@@ -656,11 +648,11 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( parentNode.isLoaded () )
         {
             // Inserting new raw children
-            List<N> cachedChildren = rawNodeChildrenCache.get ( parentNode.getId () );
+            List<N> cachedChildren = nodeIndex.getChildren ( parentNode.getId () );
             if ( cachedChildren == null )
             {
                 cachedChildren = new ArrayList<N> ( 1 );
-                rawNodeChildrenCache.put ( parentNode.getId (), cachedChildren );
+                nodeIndex.putChildren ( parentNode.getId (), cachedChildren );
             }
             cachedChildren.add ( index, childNode );
             cacheNodeById ( childNode );
@@ -712,11 +704,11 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( parent.isLoaded () )
         {
             // Inserting new raw children
-            List<N> cachedChildren = rawNodeChildrenCache.get ( parent.getId () );
+            List<N> cachedChildren = nodeIndex.getChildren ( parent.getId () );
             if ( cachedChildren == null )
             {
                 cachedChildren = new ArrayList<N> ( 1 );
-                rawNodeChildrenCache.put ( parent.getId (), cachedChildren );
+                nodeIndex.putChildren ( parent.getId (), cachedChildren );
             }
             cachedChildren.addAll ( index, children );
             cacheNodesById ( children );
@@ -771,11 +763,11 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( parent.isLoaded () )
         {
             // Inserting new raw children
-            List<N> cachedChildren = rawNodeChildrenCache.get ( parent.getId () );
+            List<N> cachedChildren = nodeIndex.getChildren ( parent.getId () );
             if ( cachedChildren == null )
             {
                 cachedChildren = new ArrayList<N> ( 1 );
-                rawNodeChildrenCache.put ( parent.getId (), cachedChildren );
+                nodeIndex.putChildren ( parent.getId (), cachedChildren );
             }
             for ( int i = children.length - 1; i >= 0; i-- )
             {
@@ -829,7 +821,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( parent != null && parent.isLoaded () )
         {
             // Removing raw children
-            final List<N> children = rawNodeChildrenCache.get ( parent.getId () );
+            final List<N> children = nodeIndex.getChildren ( parent.getId () );
             if ( children != null )
             {
                 children.remove ( child );
@@ -862,7 +854,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         if ( parent.isLoaded () )
         {
             // Removing raw children
-            final List<N> removed = rawNodeChildrenCache.get ( parent.getId () );
+            final List<N> removed = nodeIndex.getChildren ( parent.getId () );
 
             // Clearing node children caches
             clearNodeChildrenCache ( parent, false );
@@ -906,7 +898,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
             if ( parent != null && parent.isLoaded () )
             {
                 // Updating children caches
-                final List<N> children = rawNodeChildrenCache.get ( parent.getId () );
+                final List<N> children = nodeIndex.getChildren ( parent.getId () );
                 if ( children != null )
                 {
                     children.remove ( child );
@@ -1055,7 +1047,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
     protected void filterAndSort ( @NotNull final N parent, final boolean recursively, final boolean performUpdates )
     {
         // Process this action only if node children are already loaded and cached
-        if ( parent.isLoaded () && rawNodeChildrenCache.containsKey ( parent.getId () ) )
+        if ( parent.isLoaded () && nodeIndex.containsChildren ( parent.getId () ) )
         {
             // Children are already loaded, simply updating their sorting and filtering
             filterAndSortRecursively ( parent, recursively, performUpdates );
@@ -1105,7 +1097,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
 
         // Updating node children sorting and filtering
         // Process this action only if node children are already loaded and cached
-        final List<N> cachedChildren = rawNodeChildrenCache.get ( parent.getId () );
+        final List<N> cachedChildren = nodeIndex.getChildren ( parent.getId () );
         if ( cachedChildren != null )
         {
             // Removing old children
@@ -1189,7 +1181,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         checkInstalled ();
 
         // Get node from cache
-        return nodeById.get ( nodeId );
+        return nodeIndex.getNode ( nodeId );
     }
 
     /**
@@ -1219,14 +1211,14 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
         // Clears node cache
         if ( clearNode )
         {
-            nodeById.remove ( node.getId () );
+            nodeIndex.removeNode ( node.getId () );
         }
 
         // Clears node children cached state
         nodeCached.remove ( node.getId () );
 
         // Clears node raw children cache
-        final List<N> children = rawNodeChildrenCache.remove ( node.getId () );
+        final List<N> children = nodeIndex.removeChildren ( node.getId () );
 
         // Clears chld nodes cache
         if ( children != null )
@@ -1270,7 +1262,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
      */
     protected void cacheNodeById ( @NotNull final N node )
     {
-        nodeById.put ( node.getId (), node );
+        nodeIndex.putNode ( node );
     }
 
     /**
@@ -1282,7 +1274,7 @@ public class AsyncTreeModel<N extends AsyncUniqueNode> extends WebTreeModel<N> i
     {
         for ( final N node : nodes )
         {
-            nodeById.put ( node.getId (), node );
+            nodeIndex.putNode ( node );
         }
     }
 
@@ -22,13 +22,24 @@ import com.alee.api.annotations.Nullable;
 import com.alee.laf.checkbox.CheckState;
 import com.alee.laf.tree.NodesAcceptPolicy;
 
+import javax.swing.*;
 import javax.swing.event.EventListenerList;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
 import javax.swing.tree.MutableTreeNode;
+import javax.swing.tree.TreeModel;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.util.*;
 
 /**
  * Default checking model for {@link WebCheckBoxTree}.
  *
+ * Model keeps amount of checked and mixed children for parent nodes, so check state of each parent node can be resolved
+ * without iterating through its children. Those counters are collected lazily and are updated along with node states.
+ * Counters are dropped whenever children are inserted into or removed from parent node or tree structure changes,
+ * so they are re-collected even if children were replaced with the same amount of different nodes.
+ *
  * @param <N> {@link MutableTreeNode} type
  * @param <T> {@link WebCheckBoxTree} type
  * @author Mikle Garin
@@ -47,6 +58,18 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
     @NotNull
     protected Map<N, CheckState> nodeCheckStates;
 
+    /**
+     * Amounts of checked and mixed children for parent {@link MutableTreeNode}s.
+     */
+    @NotNull
+    private Map<N, ChildrenStates> childrenStates;
+
+    /**
+     * Listener dropping {@link #childrenStates} on tree model changes.
+     */
+    @NotNull
+    private final ModelChangesListener modelChangesListener;
+
     /**
      * Model listeners.
      * todo Remove and simply fire this through {@link #checkBoxTree}.
@@ -71,8 +94,11 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
     {
         this.checkBoxTree = checkBoxTree;
         this.nodeCheckStates = new WeakHashMap<N, CheckState> ();
+        this.childrenStates = new WeakHashMap<N, ChildrenStates> ();
         this.listeners = new EventListenerList ();
         this.nodesComparator = createNodesComparator ();
+        this.modelChangesListener = new ModelChangesListener ();
+        this.modelChangesListener.install ();
     }
 
     /**
@@ -107,12 +133,12 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
         else
         {
             // Collecting unchecked nodes
-            final List<N> runthrough = new ArrayList<N> ();
+            final LinkedList<N> runthrough = new LinkedList<N> ();
             runthrough.add ( checkBoxTree.getRootNode () );
             while ( !runthrough.isEmpty () )
             {
                 // Removing first element to shrink runthrough list
-                final N node = runthrough.remove ( 0 );
+                final N node = runthrough.removeFirst ();
                 final CheckState nodeState = nodeCheckStates.get ( node );
                 final boolean unchecked = nodeState == null || nodeState == CheckState.unchecked;
 
@@ -180,10 +206,7 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
 
         // Updating states
         final List<N> toUpdate = new ArrayList<N> ();
-        for ( final N node : nodes )
-        {
-            setCheckedImpl ( node, checked, toUpdate, changes );
-        }
+        setCheckedImpl ( nodes, checked, toUpdate, changes );
         repaintTreeNodes ( toUpdate );
 
         // Informing about state changes
@@ -200,13 +223,66 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
      */
     protected void setCheckedImpl ( @NotNull final N node, final boolean checked, @NotNull final List<N> toUpdate,
                                     @Nullable final List<CheckStateChange<N>> changes )
+    {
+        if ( setNodeChecked ( node, checked, toUpdate, changes ) && checkBoxTree.isRecursiveCheckingEnabled () )
+        {
+            updateParentStates ( node, toUpdate, changes );
+        }
+    }
+
+    /**
+     * Sets whether the specified tree nodes are checked or not.
+     * Parent node states are updated only once all specified nodes are updated, so each parent state changes at most once
+     * for each of its paths to the specified nodes instead of changing for every single child node.
+     *
+     * @param nodes    tree nodes to process
+     * @param checked  whether the specified tree nodes are checked or not
+     * @param toUpdate list of nodes for later update
+     * @param changes  list to collect state changes into
+     */
+    protected void setCheckedImpl ( @NotNull final Collection<N> nodes, final boolean checked, @NotNull final List<N> toUpdate,
+                                    @Nullable final List<CheckStateChange<N>> changes )
+    {
+        // Updating node and child node states
+        final List<N> changed = new ArrayList<N> ( nodes.size () );
+        for ( final N node : nodes )
+        {
+            if ( setNodeChecked ( node, checked, toUpdate, changes ) )
+            {
+                changed.add ( node );
+            }
+        }
+
+        // Updating parent node states
+        if ( checkBoxTree.isRecursiveCheckingEnabled () )
+        {
+            for ( final N node : changed )
+            {
+                updateParentStates ( node, toUpdate, changes );
+            }
+        }
+    }
+
+    /**
+     * Sets whether the specified tree node is checked or not and updates its child node states if needed.
+     * Parent node states are not updated by this method.
+     *
+     * @param node     tree node to process
+     * @param checked  whether the specified tree node is checked or not
+     * @param toUpdate list of nodes for later update
+     * @param changes  list to collect state changes into
+     * @return {@code true} if node check state has changed, {@code false} otherwise
+     */
+    protected boolean setNodeChecked ( @NotNull final N node, final boolean checked, @NotNull final List<N> toUpdate,
+                                       @Nullable final List<CheckStateChange<N>> changes )
     {
         // Remembering old and new states
         final CheckState oldState = getCheckState ( node );
         final CheckState newState = checked ? CheckState.checked : CheckState.unchecked;
 
         // Updating node if check state has actually changed
-        if ( oldState != newState )
+        final boolean stateChanged = oldState != newState;
+        if ( stateChanged )
         {
             // Changing node check state
             updateNodeState ( node, newState, toUpdate );
@@ -217,17 +293,18 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
                 changes.add ( new CheckStateChange<N> ( node, oldState, newState ) );
             }
 
-            // Updating parent and child node states
+            // Updating child node states
             if ( checkBoxTree.isRecursiveCheckingEnabled () )
             {
                 updateChildNodesState ( node, newState, toUpdate, changes );
-                updateParentStates ( node, toUpdate, changes );
             }
         }
+        return stateChanged;
     }
 
     /**
      * Updates parent nodes check states.
+     * Update stops at the first parent node which state didn't change since states above it cannot be affected.
      *
      * @param node     node to start checking parents from
      * @param toUpdate list of nodes for later update
@@ -236,49 +313,25 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
     protected void updateParentStates ( @NotNull final N node, @NotNull final List<N> toUpdate,
                                         @Nullable final List<CheckStateChange<N>> changes )
     {
-        // Updating all parent node states
+        updateParentStates ( node, false, toUpdate, changes );
+    }
+
+    /**
+     * Updates parent nodes check states.
+     *
+     * @param node     node to start checking parents from
+     * @param all      whether or not all parent node states should be updated, even if some of them didn't change
+     * @param toUpdate list of nodes for later update
+     * @param changes  list to collect state changes into
+     */
+    protected void updateParentStates ( @NotNull final N node, final boolean all, @NotNull final List<N> toUpdate,
+                                        @Nullable final List<CheckStateChange<N>> changes )
+    {
         N parent = getParent ( node );
         while ( parent != null )
         {
             // Calculating parent state
-            CheckState state = CheckState.unchecked;
-            boolean hasChecked = false;
-            boolean hasUnchecked = false;
-            for ( int i = 0; i < getChildCount ( parent ); i++ )
-            {
-                final CheckState checkState = getCheckState ( getChildAt ( parent, i ) );
-                if ( checkState == CheckState.mixed )
-                {
-                    state = CheckState.mixed;
-                    break;
-                }
-                else if ( checkState == CheckState.checked )
-                {
-                    hasChecked = true;
-                    if ( hasUnchecked )
-                    {
-                        state = CheckState.mixed;
-                        break;
-                    }
-                    else
-                    {
-                        state = CheckState.checked;
-                    }
-                }
-                else if ( checkState == CheckState.unchecked )
-                {
-                    hasUnchecked = true;
-                    if ( hasChecked )
-                    {
-                        state = CheckState.mixed;
-                        break;
-                    }
-                    else
-                    {
-                        state = CheckState.unchecked;
-                    }
-                }
-            }
+            final CheckState state = getChildrenState ( parent );
 
             final CheckState oldState = getCheckState ( parent );
             if ( oldState != state )
@@ -292,6 +345,11 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
                 // Updating state
                 updateNodeState ( parent, state, toUpdate );
             }
+            else if ( !all )
+            {
+                // States above are not affected
+                break;
+            }
 
             // Moving upstairs
             parent = getParent ( parent );
@@ -336,15 +394,70 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
      */
     protected void updateNodeState ( @NotNull final N node, @NotNull final CheckState newState, @NotNull final List<N> toUpdate )
     {
+        final CheckState oldState;
         if ( newState != CheckState.unchecked )
         {
-            nodeCheckStates.put ( node, newState );
+            oldState = nodeCheckStates.put ( node, newState );
         }
         else
         {
-            nodeCheckStates.remove ( node );
+            oldState = nodeCheckStates.remove ( node );
         }
         toUpdate.add ( node );
+
+        // Updating parent node counters
+        if ( oldState != newState )
+        {
+            final N parent = getParent ( node );
+            if ( parent != null )
+            {
+                final ChildrenStates states = childrenStates.get ( parent );
+                if ( states != null )
+                {
+                    states.update ( oldState, -1 );
+                    states.update ( newState, 1 );
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns check state for the specified parent {@link MutableTreeNode} based on its children check states.
+     * Node without children is considered to be unchecked.
+     *
+     * @param parent parent {@link MutableTreeNode}
+     * @return check state for the specified parent {@link MutableTreeNode} based on its children check states
+     */
+    @NotNull
+    protected CheckState getChildrenState ( @NotNull final N parent )
+    {
+        final int childCount = getChildCount ( parent );
+        ChildrenStates states = childrenStates.get ( parent );
+        if ( states == null || states.total != childCount )
+        {
+            // Collecting children counters
+            states = new ChildrenStates ( childCount );
+            for ( int i = 0; i < childCount; i++ )
+            {
+                states.update ( nodeCheckStates.get ( getChildAt ( parent, i ) ), 1 );
+            }
+            childrenStates.put ( parent, states );
+        }
+
+        final CheckState state;
+        if ( states.mixed > 0 || states.checked > 0 && states.checked < states.total )
+        {
+            state = CheckState.mixed;
+        }
+        else if ( states.checked > 0 )
+        {
+            state = CheckState.checked;
+        }
+        else
+        {
+            state = CheckState.unchecked;
+        }
+        return state;
     }
 
     @Override
@@ -389,10 +502,7 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
                 break;
             }
         }
-        for ( final N node : nodes )
-        {
-            setCheckedImpl ( node, check, toUpdate, changes );
-        }
+        setCheckedImpl ( nodes, check, toUpdate, changes );
         repaintTreeNodes ( toUpdate );
 
         // Informing about state changes
@@ -424,6 +534,7 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
         {
             nodeCheckStates.put ( node, CheckState.checked );
         }
+        childrenStates.clear ();
         repaintVisibleTreeRect ();
 
         // Informing about state changes
@@ -450,6 +561,7 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
 
         // Updating states
         nodeCheckStates.clear ();
+        childrenStates.clear ();
         repaintVisibleTreeRect ();
 
         // Informing about state changes
@@ -516,7 +628,7 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
             // Updating node states
             for ( final N node : checked )
             {
-                updateParentStates ( node, toUpdate, changes );
+                updateParentStates ( node, true, toUpdate, changes );
                 updateChildNodesState ( node, CheckState.checked, toUpdate, changes );
             }
         }
@@ -541,6 +653,7 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
                     }
                 }
             }
+            childrenStates.clear ();
         }
         repaintTreeNodes ( toUpdate );
 
@@ -555,17 +668,20 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
      */
     protected void filterOutChildNodes ( @NotNull final List<N> nodes )
     {
+        final Set<N> parents = Collections.newSetFromMap ( new IdentityHashMap<N, Boolean> ( nodes.size () ) );
+        parents.addAll ( nodes );
         final Iterator<N> checkedIterator = nodes.iterator ();
         while ( checkedIterator.hasNext () )
         {
-            final N node = checkedIterator.next ();
-            for ( final N otherNode : nodes )
+            N parent = getParent ( checkedIterator.next () );
+            while ( parent != null )
             {
-                if ( isChildNode ( node, otherNode ) )
+                if ( parents.contains ( parent ) )
                 {
                     checkedIterator.remove ();
                     break;
                 }
+                parent = getParent ( parent );
             }
         }
     }
@@ -649,12 +765,21 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
 
     /**
      * Repaints specified tree nodes.
+     * Whole visible tree rect is repainted instead if there are more nodes to repaint than tree rows since retrieving bounds
+     * for each node might take longer than repainting.
      *
      * @param nodes tree nodes to repaint
      */
     protected void repaintTreeNodes ( @NotNull final List<N> nodes )
     {
-        checkBoxTree.repaint ( nodes );
+        if ( nodes.size () > checkBoxTree.getRowCount () )
+        {
+            repaintVisibleTreeRect ();
+        }
+        else
+        {
+            checkBoxTree.repaint ( nodes );
+        }
     }
 
     @Override
@@ -684,4 +809,164 @@ public class DefaultTreeCheckingModel<N extends MutableTreeNode, T extends WebCh
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Listener dropping children counters on {@link TreeModel} changes.
+     * It removes itself once {@link #checkBoxTree} no longer uses this {@link DefaultTreeCheckingModel}.
+     */
+    private final class ModelChangesListener implements TreeModelListener, PropertyChangeListener
+    {
+        /**
+         * {@link TreeModel} this listener is attached to.
+         */
+        @Nullable
+        private TreeModel model;
+
+        /**
+         * Installs this listener into {@link #checkBoxTree} and its {@link TreeModel}.
+         */
+        public void install ()
+        {
+            checkBoxTree.addPropertyChangeListener ( JTree.TREE_MODEL_PROPERTY, this );
+            setModel ( checkBoxTree.getModel () );
+        }
+
+        /**
+         * Uninstalls this listener from {@link #checkBoxTree} and its {@link TreeModel}.
+         */
+        public void uninstall ()
+        {
+            checkBoxTree.removePropertyChangeListener ( JTree.TREE_MODEL_PROPERTY, this );
+            setModel ( null );
+        }
+
+        /**
+         * Moves this listener to the specified {@link TreeModel}.
+         *
+         * @param model {@link TreeModel} to listen to
+         */
+        private void setModel ( @Nullable final TreeModel model )
+        {
+            if ( this.model != null )
+            {
+                this.model.removeTreeModelListener ( this );
+            }
+            this.model = model;
+            if ( model != null )
+            {
+                model.addTreeModelListener ( this );
+            }
+        }
+
+        /**
+         * Returns whether or not {@link #checkBoxTree} still uses this {@link DefaultTreeCheckingModel}.
+         * Listener is uninstalled if it doesn't.
+         *
+         * @return {@code true} if {@link #checkBoxTree} still uses this {@link DefaultTreeCheckingModel}, {@code false} otherwise
+         */
+        private boolean isActual ()
+        {
+            final boolean actual = checkBoxTree.getCheckingModel () == DefaultTreeCheckingModel.this;
+            if ( !actual )
+            {
+                uninstall ();
+            }
+            return actual;
+        }
+
+        @Override
+        public void propertyChange ( @NotNull final PropertyChangeEvent event )
+        {
+            if ( isActual () )
+            {
+                setModel ( ( TreeModel ) event.getNewValue () );
+                childrenStates.clear ();
+            }
+        }
+
+        @Override
+        public void treeNodesChanged ( @NotNull final TreeModelEvent event )
+        {
+            /**
+             * Node changes do not affect children counters.
+             */
+        }
+
+        @Override
+        public void treeNodesInserted ( @NotNull final TreeModelEvent event )
+        {
+            if ( isActual () )
+            {
+                childrenStates.remove ( event.getTreePath ().getLastPathComponent () );
+            }
+        }
+
+        @Override
+        public void treeNodesRemoved ( @NotNull final TreeModelEvent event )
+        {
+            if ( isActual () )
+            {
+                childrenStates.remove ( event.getTreePath ().getLastPathComponent () );
+            }
+        }
+
+        @Override
+        public void treeStructureChanged ( @NotNull final TreeModelEvent event )
+        {
+            if ( isActual () )
+            {
+                childrenStates.clear ();
+            }
+        }
+    }
+
+    /**
+     * Amounts of checked and mixed children for single parent {@link MutableTreeNode}.
+     */
+    private static final class ChildrenStates
+    {
+        /**
+         * Total amount of children these counters were collected for.
+         */
+        private final int total;
+
+        /**
+         * Amount of checked children.
+         */
+        private int checked;
+
+        /**
+         * Amount of mixed children.
+         */
+        private int mixed;
+
+        /**
+         * Constructs new empty {@link ChildrenStates}.
+         *
+         * @param total total amount of children
+         */
+        public ChildrenStates ( final int total )
+        {
+            this.total = total;
+        }
+
+        /**
+         * Updates counter for the specified check state.
+         * {@code null} state is considered to be unchecked and is not counted.
+         *
+         * @param state check state
+         * @param delta counter change
+         */
+        public void update ( @Nullable final CheckState state, final int delta )
+        {
+            if ( state == CheckState.checked )
+            {
+                checked += delta;
+            }
+            else if ( state == CheckState.mixed )
+            {
+                mixed += delta;
+            }
+        }
+    }
+}
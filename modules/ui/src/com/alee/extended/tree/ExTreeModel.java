@@ -47,23 +47,12 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
     protected final ExTreeDataProvider<N> dataProvider;
 
     /**
-     * Cache for children nodes returned by data provider (parent ID -&gt; list of raw child nodes).
-     * This map contains raw children which weren't affected by sorting and filtering operations.
+     * Nodes, their parents and raw children cache.
+     * Used for quick node and node parent search within the tree.
+     * Raw children are children returned by data provider which weren't affected by sorting and filtering operations.
      * If children needs to be re-sorted or re-filtered they are simply taken from the cache and re-organized once again.
      */
-    protected transient Map<String, List<N>> rawNodeChildrenCache;
-
-    /**
-     * Nodes cache.
-     * Used for quick node search within the tree.
-     */
-    protected transient Map<String, N> nodeById;
-
-    /**
-     * Nodes parent cache.
-     * Used for node parent retrieval within the tree.
-     */
-    protected transient Map<String, String> parentById;
+    protected transient UniqueNodeIndex<N> nodeIndex;
 
     /**
      * {@link WebTree} that uses this model
@@ -119,9 +108,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
     public void install ( @NotNull final WebTree<N> tree )
     {
         WebLookAndFeel.checkEventDispatchThread ();
-        this.rawNodeChildrenCache = new HashMap<String, List<N>> ( 10 );
-        this.nodeById = new HashMap<String, N> ( 50 );
-        this.parentById = new HashMap<String, String> ( 50 );
+        this.nodeIndex = new UniqueNodeIndex<N> ();
         this.tree = tree;
         this.rootNode = loadRootNode ();
         loadTreeData ( getRoot () );
@@ -137,9 +124,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
         WebLookAndFeel.checkEventDispatchThread ();
         this.rootNode = null;
         this.tree = null;
-        this.parentById = null;
-        this.nodeById = null;
-        this.rawNodeChildrenCache = null;
+        this.nodeIndex = null;
     }
 
     /**
@@ -765,7 +750,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
         checkInstalled ();
 
         // Get node from cache
-        return nodeById.get ( nodeId );
+        return nodeIndex.getNode ( nodeId );
     }
 
     /**
@@ -798,7 +783,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
         checkInstalled ();
 
         // Get actual children from cache
-        final List<N> children = rawNodeChildrenCache.get ( parent.getId () );
+        final List<N> children = nodeIndex.getChildren ( parent.getId () );
         if ( children == null )
         {
             throw new RuntimeException ( "Raw children are not available for node: " + parent );
@@ -820,7 +805,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
         checkInstalled ();
 
         // Get actual child at specified index from cache
-        final List<N> children = rawNodeChildrenCache.get ( parent.getId () );
+        final List<N> children = nodeIndex.getChildren ( parent.getId () );
         if ( children == null )
         {
             throw new RuntimeException ( "Raw children are not available for node: " + parent );
@@ -836,7 +821,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
      */
     protected void setRawChildren ( @NotNull final N parent, @NotNull final List<N> nodes )
     {
-        rawNodeChildrenCache.put ( parent.getId (), nodes );
+        nodeIndex.putChildren ( parent.getId (), nodes );
     }
 
     /**
@@ -912,12 +897,12 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
         // Clears node cache
         if ( clearNode )
         {
-            nodeById.remove ( node.getId () );
-            parentById.remove ( node.getId () );
+            nodeIndex.removeNode ( node.getId () );
+            nodeIndex.setParentId ( node.getId (), null );
         }
 
         // Clears node raw children cache
-        final List<N> children = rawNodeChildrenCache.remove ( node.getId () );
+        final List<N> children = nodeIndex.removeChildren ( node.getId () );
         if ( CollectionUtils.notEmpty ( children ) )
         {
             clearRawChildren ( children, true );
@@ -959,7 +944,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
      */
     protected void cacheNodeById ( @NotNull final N node )
     {
-        nodeById.put ( node.getId (), node );
+        nodeIndex.putNode ( node );
     }
 
     /**
@@ -1001,8 +986,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
         checkInstalled ();
 
         // Get parent from cache
-        final String parentId = parentById.get ( nodeId );
-        return findNode ( parentId );
+        return findNode ( nodeIndex.getParentId ( nodeId ) );
     }
 
     /**
@@ -1013,7 +997,7 @@ public class ExTreeModel<N extends UniqueNode> extends WebTreeModel<N> implement
      */
     protected void cacheParentId ( @NotNull final N node, @Nullable final String parentId )
     {
-        parentById.put ( node.getId (), parentId );
+        nodeIndex.setParentId ( node.getId (), parentId );
     }
 
     /**
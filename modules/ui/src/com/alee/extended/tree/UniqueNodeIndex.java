@@ -0,0 +1,446 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.tree;
+
+import com.alee.api.Identifiable;
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.laf.tree.UniqueNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact index of {@link UniqueNode}s used by tree models for quick node, parent and raw children retrieval by node identifier.
+ *
+ * All data is kept in parallel arrays of a single open-addressing hash table instead of separate {@link java.util.HashMap}s,
+ * so there are no entry objects and every node identifier is referenced only once. Parent of each node is stored as an index
+ * of the parent table slot in {@code int} array, so parent identifiers are not referenced at all.
+ *
+ * Table slot is kept while it contains node, raw children, parent or while it is a parent of some other slot.
+ * Once slot is no longer used it is marked as deleted and is reused or dropped on the next table resize.
+ *
+ * @param <N> {@link UniqueNode} type, only its {@link Identifiable#getId()} is used by the index
+ * @author Mikle Garin
+ * @see ExTreeModel
+ * @see AsyncTreeModel
+ */
+public final class UniqueNodeIndex<N extends Identifiable>
+{
+    /**
+     * Marker for deleted table slots.
+     */
+    private static final String DELETED = new String ( "deleted" );
+
+    /**
+     * Minimum table capacity.
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Node identifiers.
+     */
+    @NotNull
+    private String[] ids;
+
+    /**
+     * Nodes.
+     */
+    @NotNull
+    private ArrayList<N> nodes;
+
+    /**
+     * Raw children {@link List}s.
+     */
+    @NotNull
+    private ArrayList<List<N>> children;
+
+    /**
+     * Parent slot indices, {@code -1} for slots without parent.
+     */
+    @NotNull
+    private int[] parents;
+
+    /**
+     * Amount of slots referencing each slot as their parent.
+     */
+    @NotNull
+    private int[] references;
+
+    /**
+     * Amount of used slots.
+     */
+    private int size;
+
+    /**
+     * Amount of used and deleted slots.
+     */
+    private int occupied;
+
+    /**
+     * Constructs new empty {@link UniqueNodeIndex}.
+     */
+    public UniqueNodeIndex ()
+    {
+        allocate ( MIN_CAPACITY );
+    }
+
+    /**
+     * Returns amount of identifiers in this index.
+     *
+     * @return amount of identifiers in this index
+     */
+    public int size ()
+    {
+        return size;
+    }
+
+    /**
+     * Removes everything from this index.
+     */
+    public void clear ()
+    {
+        allocate ( MIN_CAPACITY );
+    }
+
+    /**
+     * Returns {@link UniqueNode} with the specified identifier, {@code null} if it is not in the index.
+     *
+     * @param id {@link UniqueNode} identifier
+     * @return {@link UniqueNode} with the specified identifier, {@code null} if it is not in the index
+     */
+    @Nullable
+    public N getNode ( @Nullable final String id )
+    {
+        final int slot = id != null ? find ( id ) : -1;
+        return slot != -1 ? nodes.get ( slot ) : null;
+    }
+
+    /**
+     * Returns all {@link UniqueNode}s in this index.
+     *
+     * @return all {@link UniqueNode}s in this index
+     */
+    @NotNull
+    public List<N> getNodes ()
+    {
+        final List<N> result = new ArrayList<N> ( size );
+        for ( final N node : nodes )
+        {
+            if ( node != null )
+            {
+                result.add ( node );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds specified {@link UniqueNode} into the index.
+     *
+     * @param node {@link UniqueNode} to add
+     */
+    public void putNode ( @NotNull final N node )
+    {
+        ensureCapacity ( 1 );
+        nodes.set ( insert ( node.getId () ), node );
+    }
+
+    /**
+     * Removes {@link UniqueNode} with the specified identifier from the index.
+     * Raw children and parent of that {@link UniqueNode} are kept.
+     *
+     * @param id {@link UniqueNode} identifier
+     */
+    public void removeNode ( @NotNull final String id )
+    {
+        final int slot = find ( id );
+        if ( slot != -1 )
+        {
+            nodes.set ( slot, null );
+            release ( slot );
+        }
+    }
+
+    /**
+     * Returns raw children of the {@link UniqueNode} with the specified identifier, {@code null} if they are not in the index.
+     *
+     * @param id {@link UniqueNode} identifier
+     * @return raw children of the {@link UniqueNode} with the specified identifier, {@code null} if they are not in the index
+     */
+    @Nullable
+    public List<N> getChildren ( @NotNull final String id )
+    {
+        final int slot = find ( id );
+        return slot != -1 ? children.get ( slot ) : null;
+    }
+
+    /**
+     * Returns whether or not raw children of the {@link UniqueNode} with the specified identifier are in the index.
+     *
+     * @param id {@link UniqueNode} identifier
+     * @return {@code true} if raw children of the {@link UniqueNode} with the specified identifier are in the index,
+     * {@code false} otherwise
+     */
+    public boolean containsChildren ( @NotNull final String id )
+    {
+        return getChildren ( id ) != null;
+    }
+
+    /**
+     * Adds raw children of the {@link UniqueNode} with the specified identifier into the index.
+     *
+     * @param id       {@link UniqueNode} identifier
+     * @param children raw children {@link List}
+     */
+    public void putChildren ( @NotNull final String id, @NotNull final List<N> children )
+    {
+        ensureCapacity ( 1 );
+        this.children.set ( insert ( id ), children );
+    }
+
+    /**
+     * Removes raw children of the {@link UniqueNode} with the specified identifier from the index.
+     *
+     * @param id {@link UniqueNode} identifier
+     * @return removed raw children {@link List}, {@code null} if there were none
+     */
+    @Nullable
+    public List<N> removeChildren ( @NotNull final String id )
+    {
+        final List<N> removed;
+        final int slot = find ( id );
+        if ( slot != -1 )
+        {
+            removed = children.set ( slot, null );
+            release ( slot );
+        }
+        else
+        {
+            removed = null;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns parent identifier of the {@link UniqueNode} with the specified identifier, {@code null} if it is not in the index.
+     *
+     * @param id {@link UniqueNode} identifier
+     * @return parent identifier of the {@link UniqueNode} with the specified identifier, {@code null} if it is not in the index
+     */
+    @Nullable
+    public String getParentId ( @NotNull final String id )
+    {
+        final int slot = find ( id );
+        return slot != -1 && parents[ slot ] != -1 ? ids[ parents[ slot ] ] : null;
+    }
+
+    /**
+     * Sets parent identifier of the {@link UniqueNode} with the specified identifier.
+     *
+     * @param id       {@link UniqueNode} identifier
+     * @param parentId parent {@link UniqueNode} identifier, {@code null} to remove parent
+     */
+    public void setParentId ( @NotNull final String id, @Nullable final String parentId )
+    {
+        // Both slots are inserted without resizing table in between
+        ensureCapacity ( 2 );
+        final int parent = parentId != null ? insert ( parentId ) : -1;
+        final int slot = parentId != null ? insert ( id ) : find ( id );
+        if ( slot != -1 )
+        {
+            final int previous = parents[ slot ];
+            parents[ slot ] = parent;
+            if ( parent != -1 )
+            {
+                references[ parent ]++;
+            }
+            if ( previous != -1 )
+            {
+                references[ previous ]--;
+                release ( previous );
+            }
+            release ( slot );
+        }
+    }
+
+    /**
+     * Returns slot containing the specified identifier, {@code -1} if there is none.
+     *
+     * @param id identifier
+     * @return slot containing the specified identifier, {@code -1} if there is none
+     */
+    private int find ( @NotNull final String id )
+    {
+        final int mask = ids.length - 1;
+        int slot = hash ( id ) & mask;
+        String key;
+        while ( ( key = ids[ slot ] ) != null )
+        {
+            if ( key != DELETED && key.equals ( id ) )
+            {
+                return slot;
+            }
+            slot = slot + 1 & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns slot containing the specified identifier, inserts identifier into a free slot if there is none.
+     * Table must have enough capacity for insertion.
+     *
+     * @param id identifier
+     * @return slot containing the specified identifier
+     */
+    private int insert ( @NotNull final String id )
+    {
+        final int mask = ids.length - 1;
+        int slot = hash ( id ) & mask;
+        int free = -1;
+        String key;
+        while ( ( key = ids[ slot ] ) != null )
+        {
+            if ( key == DELETED )
+            {
+                if ( free == -1 )
+                {
+                    free = slot;
+                }
+            }
+            else if ( key.equals ( id ) )
+            {
+                return slot;
+            }
+            slot = slot + 1 & mask;
+        }
+        if ( free == -1 )
+        {
+            free = slot;
+            occupied++;
+        }
+        ids[ free ] = id;
+        parents[ free ] = -1;
+        size++;
+        return free;
+    }
+
+    /**
+     * Marks specified slot as deleted if it is no longer used.
+     *
+     * @param slot slot to check
+     */
+    private void release ( final int slot )
+    {
+        if ( nodes.get ( slot ) == null && children.get ( slot ) == null && parents[ slot ] == -1 && references[ slot ] == 0 )
+        {
+            ids[ slot ] = DELETED;
+            size--;
+        }
+    }
+
+    /**
+     * Resizes table if it cannot fit the specified amount of new identifiers.
+     *
+     * @param count amount of new identifiers
+     */
+    private void ensureCapacity ( final int count )
+    {
+        if ( ( long ) ( occupied + count ) * 4 > ( long ) ids.length * 3 )
+        {
+            int capacity = MIN_CAPACITY;
+            while ( ( long ) ( size + count ) * 2 > capacity )
+            {
+                capacity <<= 1;
+            }
+            resize ( capacity );
+        }
+    }
+
+    /**
+     * Moves all used slots into a new table of the specified capacity.
+     *
+     * @param capacity new table capacity
+     */
+    private void resize ( final int capacity )
+    {
+        final String[] oldIds = ids;
+        final List<N> oldNodes = nodes;
+        final List<List<N>> oldChildren = children;
+        final int[] oldParents = parents;
+        final int[] oldReferences = references;
+        allocate ( capacity );
+
+        // Moving slots and remembering where they were moved to
+        final int[] moved = new int[ oldIds.length ];
+        for ( int i = 0; i < oldIds.length; i++ )
+        {
+            final String id = oldIds[ i ];
+            if ( id != null && id != DELETED )
+            {
+                final int slot = insert ( id );
+                nodes.set ( slot, oldNodes.get ( i ) );
+                children.set ( slot, oldChildren.get ( i ) );
+                references[ slot ] = oldReferences[ i ];
+                moved[ i ] = slot;
+            }
+        }
+        occupied = size;
+
+        // Updating parent slots
+        for ( int i = 0; i < oldIds.length; i++ )
+        {
+            final String id = oldIds[ i ];
+            if ( id != null && id != DELETED && oldParents[ i ] != -1 )
+            {
+                parents[ moved[ i ] ] = moved[ oldParents[ i ] ];
+            }
+        }
+    }
+
+    /**
+     * Allocates new empty table of the specified capacity.
+     *
+     * @param capacity table capacity
+     */
+    private void allocate ( final int capacity )
+    {
+        ids = new String[ capacity ];
+        nodes = new ArrayList<N> ( Collections.<N>nCopies ( capacity, null ) );
+        children = new ArrayList<List<N>> ( Collections.<List<N>>nCopies ( capacity, null ) );
+        parents = new int[ capacity ];
+        Arrays.fill ( parents, -1 );
+        references = new int[ capacity ];
+        size = 0;
+        occupied = 0;
+    }
+
+    /**
+     * Returns spread hash code of the specified identifier.
+     *
+     * @param id identifier
+     * @return spread hash code of the specified identifier
+     */
+    private static int hash ( @NotNull final String id )
+    {
+        final int h = id.hashCode () * 0x9E3779B9;
+        return h ^ h >>> 16;
+    }
+}
@@ -4,6 +4,7 @@ import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
 import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.list.ListLanguageSensitiveDataTracker;
 import com.alee.managers.language.Language;
 import com.alee.managers.language.LanguageListener;
 import com.alee.managers.language.LanguageSensitive;
@@ -34,6 +35,7 @@ public class ComboBoxPainter<C extends JComboBox, U extends WComboBoxUI, D exten
      * Listeners.
      */
     protected transient LanguageListener languageSensitive;
+    protected transient ListLanguageSensitiveDataTracker languageSensitiveData;
 
     /**
      * {@link ComboBoxPaintParameters} provided for paint operation.
@@ -68,6 +70,12 @@ public class ComboBoxPainter<C extends JComboBox, U extends WComboBoxUI, D exten
         {
             ui.getListBox ().setEnabled ( component.isEnabled () );
         }
+
+        // Tracking model data changes
+        if ( Objects.equals ( property, WebLookAndFeel.MODEL_PROPERTY ) && languageSensitiveData != null )
+        {
+            languageSensitiveData.setModel ( ( ListModel ) newValue );
+        }
     }
 
     /**
@@ -105,6 +113,9 @@ public class ComboBoxPainter<C extends JComboBox, U extends WComboBoxUI, D exten
      */
     protected void installLanguageListeners ()
     {
+        languageSensitiveData = new ListLanguageSensitiveDataTracker ();
+        languageSensitiveData.setModel ( component.getModel () );
+
         languageSensitive = new LanguageListener ()
         {
             @Override
@@ -136,16 +147,8 @@ public class ComboBoxPainter<C extends JComboBox, U extends WComboBoxUI, D exten
         }
         else
         {
-            // Checking existing combobox items for being language-sensitive
-            final ListModel model = component.getModel ();
-            for ( int i = 0; i < model.getSize (); i++ )
-            {
-                if ( model.getElementAt ( i ) instanceof LanguageSensitive )
-                {
-                    sensitive = true;
-                    break;
-                }
-            }
+            // Checking whether or not combobox items are language-sensitive
+            sensitive = languageSensitiveData.isLanguageSensitive ( component );
         }
         return sensitive;
     }
@@ -157,6 +160,8 @@ public class ComboBoxPainter<C extends JComboBox, U extends WComboBoxUI, D exten
     {
         UILanguageManager.removeLanguageListener ( component, languageSensitive );
         languageSensitive = null;
+        languageSensitiveData.uninstall ();
+        languageSensitiveData = null;
     }
 
     @NotNull
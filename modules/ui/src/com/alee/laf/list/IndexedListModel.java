@@ -0,0 +1,366 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.list;
+
+import com.alee.api.jdk.Objects;
+
+import java.util.*;
+
+/**
+ * {@link WebListModel} variant meant for lists with large amount of elements that are frequently changed.
+ *
+ * Model keeps optional element-to-index hash index which is used by {@link #indexOf(Object)}, {@link #contains(Object)},
+ * {@link #remove(Object)} and {@link #update(Object)} methods instead of iterating through all elements.
+ * Indices are not updated for elements shifted by insertions or removals, instead amount of inserted and removed elements
+ * is tracked and element is looked up only within that distance from its indexed position. Once that distance grows too large
+ * index is rebuilt upon next lookup. Index is only used while model elements are distinct, otherwise model falls back to
+ * iterating through elements since only first occurrence of each element must be found.
+ *
+ * Bulk removal compacts model elements within a single pass and then informs about each removed range of elements, so it is
+ * considerably faster than removing elements one by one. Bulk update informs about each updated range of elements once.
+ *
+ * @param <T> element type
+ * @author Mikle Garin
+ */
+public class IndexedListModel<T> extends WebListModel<T>
+{
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Whether or not element-to-index hash index is used.
+     */
+    protected boolean indexed = true;
+
+    /**
+     * Element-to-index hash index.
+     * It is {@code null} when it is not yet built, is outdated or cannot be used because of duplicate elements.
+     */
+    protected transient Map<T, Integer> index;
+
+    /**
+     * Whether or not {@link #index} should be rebuilt upon next lookup.
+     */
+    protected transient boolean outdated = true;
+
+    /**
+     * Amount of elements inserted since {@link #index} was built.
+     */
+    protected transient int inserted;
+
+    /**
+     * Amount of elements removed since {@link #index} was built.
+     */
+    protected transient int removed;
+
+    /**
+     * Constructs empty model.
+     */
+    public IndexedListModel ()
+    {
+        super ();
+    }
+
+    /**
+     * Constructs model with the specified elements.
+     *
+     * @param data model data
+     */
+    public IndexedListModel ( final Collection<T> data )
+    {
+        super ( data );
+    }
+
+    /**
+     * Returns whether or not element-to-index hash index is used.
+     *
+     * @return {@code true} if element-to-index hash index is used, {@code false} otherwise
+     */
+    public boolean isIndexed ()
+    {
+        return indexed;
+    }
+
+    /**
+     * Sets whether or not element-to-index hash index should be used.
+     * Disabling index releases all memory used by it.
+     *
+     * @param indexed whether or not element-to-index hash index should be used
+     */
+    public void setIndexed ( final boolean indexed )
+    {
+        this.indexed = indexed;
+        dropIndex ();
+    }
+
+    @Override
+    public boolean contains ( final T element )
+    {
+        return indexOf ( element ) != -1;
+    }
+
+    @Override
+    public int indexOf ( final T element )
+    {
+        int result = -1;
+        if ( indexed && outdated )
+        {
+            buildIndex ();
+        }
+        if ( index != null )
+        {
+            final Integer cached = index.get ( element );
+            if ( cached != null )
+            {
+                // Element can only be shifted by the amount of inserted or removed elements
+                final int from = Math.max ( 0, cached - removed );
+                final int to = Math.min ( delegate.size () - 1, cached + inserted );
+                for ( int i = from; i <= to; i++ )
+                {
+                    if ( Objects.equals ( delegate.get ( i ), element ) )
+                    {
+                        result = i;
+                        break;
+                    }
+                }
+            }
+        }
+        else
+        {
+            result = super.indexOf ( element );
+        }
+        return result;
+    }
+
+    @Override
+    public void addAll ( final int index, final Collection<T> elements )
+    {
+        if ( elements.size () > 0 )
+        {
+            // Index is updated before listeners are informed so they can look up elements
+            delegate.addAll ( index, elements );
+            if ( elementsChanged ( elements.size (), 0 ) )
+            {
+                int position = index;
+                for ( final T element : elements )
+                {
+                    if ( this.index.put ( element, position++ ) != null )
+                    {
+                        // Duplicate element was added
+                        dropIndex ();
+                        break;
+                    }
+                }
+            }
+            fireIntervalAdded ( this, index, index + elements.size () - 1 );
+        }
+    }
+
+    @Override
+    public T set ( final int index, final T element )
+    {
+        // Index is updated before listeners are informed so they can look up elements
+        final T previous = delegate.elementAt ( index );
+        delegate.setElementAt ( element, index );
+        if ( this.index != null )
+        {
+            this.index.remove ( previous );
+            if ( this.index.put ( element, index ) != null )
+            {
+                // Duplicate element was set
+                dropIndex ();
+            }
+        }
+        fireContentsChanged ( this, index, index );
+        return previous;
+    }
+
+    @Override
+    public void removeAll ( final Collection<T> elements )
+    {
+        final int[] indices = indicesOf ( elements );
+        if ( indices.length > 0 )
+        {
+            // Moving remaining elements in place of removed ones within a single pass
+            final boolean updateIndex = elementsChanged ( 0, indices.length );
+            final int size = delegate.size ();
+            int target = indices[ 0 ];
+            int next = 0;
+            for ( int i = indices[ 0 ]; i < size; i++ )
+            {
+                final T element = delegate.get ( i );
+                if ( next < indices.length && indices[ next ] == i )
+                {
+                    if ( updateIndex )
+                    {
+                        index.remove ( element );
+                    }
+                    next++;
+                }
+                else
+                {
+                    delegate.set ( target++, element );
+                }
+            }
+            delegate.setSize ( target );
+
+            // Informing about removed ranges starting from the last one to keep other indices intact
+            int rangeEnd = -1;
+            for ( int i = indices.length - 1; i >= 0; i-- )
+            {
+                if ( rangeEnd == -1 )
+                {
+                    rangeEnd = indices[ i ];
+                }
+                if ( i == 0 || indices[ i - 1 ] != indices[ i ] - 1 )
+                {
+                    fireIntervalRemoved ( this, indices[ i ], rangeEnd );
+                    rangeEnd = -1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeInterval ( final int start, final int end )
+    {
+        if ( start <= end && elementsChanged ( 0, end - start + 1 ) )
+        {
+            for ( int i = start; i <= end; i++ )
+            {
+                index.remove ( delegate.get ( i ) );
+            }
+        }
+        super.removeInterval ( start, end );
+    }
+
+    /**
+     * Updates cells for all specified elements.
+     * It ensures that minimal amount of {@link #fireContentsChanged(Object, int, int)} calls are made.
+     *
+     * @param elements elements to update
+     */
+    public void update ( final Collection<T> elements )
+    {
+        final int[] indices = indicesOf ( elements );
+        int rangeStart = -1;
+        for ( int i = 0; i < indices.length; i++ )
+        {
+            if ( rangeStart == -1 )
+            {
+                rangeStart = indices[ i ];
+            }
+            if ( i == indices.length - 1 || indices[ i + 1 ] != indices[ i ] + 1 )
+            {
+                fireContentsChanged ( this, rangeStart, indices[ i ] );
+                rangeStart = -1;
+            }
+        }
+    }
+
+    @Override
+    protected int[] indicesOf ( final Collection<T> elements )
+    {
+        final int[] indices;
+        if ( indexed && elements.size () < delegate.size () / 4 )
+        {
+            // Looking up elements through the index
+            final int[] found = new int[ elements.size () ];
+            int count = 0;
+            for ( final T element : elements )
+            {
+                final int elementIndex = indexOf ( element );
+                if ( elementIndex != -1 )
+                {
+                    found[ count++ ] = elementIndex;
+                }
+            }
+            Arrays.sort ( found, 0, count );
+
+            // Removing duplicate indices
+            int distinct = 0;
+            for ( int i = 0; i < count; i++ )
+            {
+                if ( distinct == 0 || found[ distinct - 1 ] != found[ i ] )
+                {
+                    found[ distinct++ ] = found[ i ];
+                }
+            }
+            indices = Arrays.copyOf ( found, distinct );
+        }
+        else
+        {
+            // Single pass through all elements is faster for large amount of elements
+            indices = super.indicesOf ( elements );
+        }
+        return indices;
+    }
+
+    /**
+     * Registers inserted and removed elements and returns whether or not {@link #index} should be updated.
+     * Once too many elements are inserted or removed lookups become slow, so index is dropped to be rebuilt upon next lookup.
+     *
+     * @param inserted amount of inserted elements
+     * @param removed  amount of removed elements
+     * @return {@code true} if {@link #index} should be updated, {@code false} if there is no index to update
+     */
+    protected boolean elementsChanged ( final int inserted, final int removed )
+    {
+        this.inserted += inserted;
+        this.removed += removed;
+        if ( ( long ) this.inserted + this.removed > Math.max ( 32, ( int ) Math.sqrt ( delegate.size () ) ) )
+        {
+            dropIndex ();
+        }
+        return index != null;
+    }
+
+    /**
+     * Builds {@link #index} for all elements.
+     * Index is not built if model contains duplicate elements until enough elements are changed.
+     */
+    protected void buildIndex ()
+    {
+        final int size = delegate.size ();
+        Map<T, Integer> index = new HashMap<T, Integer> ( Math.max ( 16, size * 4 / 3 + 1 ) );
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( index.put ( delegate.get ( i ), i ) != null )
+            {
+                // Index cannot be used with duplicate elements
+                index = null;
+                break;
+            }
+        }
+        this.index = index;
+        outdated = false;
+        inserted = 0;
+        removed = 0;
+    }
+
+    /**
+     * Drops {@link #index} so that it is rebuilt upon next lookup.
+     */
+    protected void dropIndex ()
+    {
+        index = null;
+        outdated = indexed;
+    }
+}
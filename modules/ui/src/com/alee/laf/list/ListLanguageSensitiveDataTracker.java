@@ -0,0 +1,116 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.list;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.managers.language.LanguageSensitive;
+import com.alee.managers.language.LanguageSensitiveDataTracker;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+/**
+ * {@link LanguageSensitiveDataTracker} for {@link ListModel} elements.
+ * It listens to the tracked {@link ListModel} itself, so painters only need to provide current model whenever it changes.
+ *
+ * Selection changes reported by combobox models and content updates fired by {@link ListPainter}s upon language changes
+ * do not change model elements, so they are ignored.
+ *
+ * @author Mikle Garin
+ * @see ListPainter
+ * @see com.alee.laf.combobox.ComboBoxPainter
+ */
+public class ListLanguageSensitiveDataTracker extends LanguageSensitiveDataTracker<ListDataEvent> implements ListDataListener
+{
+    /**
+     * Tracked {@link ListModel}.
+     */
+    @Nullable
+    protected ListModel model;
+
+    /**
+     * Starts tracking specified {@link ListModel}, stops tracking previous one.
+     *
+     * @param model {@link ListModel} to track
+     */
+    public void setModel ( @Nullable final ListModel model )
+    {
+        if ( this.model != null )
+        {
+            this.model.removeListDataListener ( this );
+        }
+        this.model = model;
+        if ( model != null )
+        {
+            model.addListDataListener ( this );
+        }
+        reset ();
+    }
+
+    /**
+     * Stops tracking current {@link ListModel}.
+     */
+    public void uninstall ()
+    {
+        setModel ( null );
+    }
+
+    @Override
+    protected boolean containsLanguageSensitive ( @Nullable final ListDataEvent event )
+    {
+        boolean sensitive = false;
+        if ( model != null )
+        {
+            final int first = event != null ? Math.max ( 0, event.getIndex0 () ) : 0;
+            final int last = event != null ? Math.min ( event.getIndex1 (), model.getSize () - 1 ) : model.getSize () - 1;
+            for ( int i = first; i <= last; i++ )
+            {
+                if ( model.getElementAt ( i ) instanceof LanguageSensitive )
+                {
+                    sensitive = true;
+                    break;
+                }
+            }
+        }
+        return sensitive;
+    }
+
+    @Override
+    public void intervalAdded ( @NotNull final ListDataEvent e )
+    {
+        added ( e );
+    }
+
+    @Override
+    public void intervalRemoved ( @NotNull final ListDataEvent e )
+    {
+        removed ( e );
+    }
+
+    @Override
+    public void contentsChanged ( @NotNull final ListDataEvent e )
+    {
+        // Skipping selection changes and updates fired by painters upon language changes
+        if ( ( e.getIndex0 () != -1 || e.getIndex1 () != -1 ) && !( e.getSource () instanceof ListPainter ) )
+        {
+            changed ( e );
+        }
+    }
+}
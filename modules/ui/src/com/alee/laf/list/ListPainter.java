@@ -2,6 +2,8 @@ package com.alee.laf.list;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.api.jdk.Objects;
+import com.alee.laf.WebLookAndFeel;
 import com.alee.managers.language.Language;
 import com.alee.managers.language.LanguageListener;
 import com.alee.managers.language.LanguageSensitive;
@@ -56,6 +58,7 @@ public class ListPainter<C extends JList, U extends WListUI, D extends IDecorati
      */
     protected transient ListSelectionListener listSelectionListener;
     protected transient LanguageListener languageSensitive;
+    protected transient ListLanguageSensitiveDataTracker languageSensitiveData;
 
     /**
      * Painting variables.
@@ -118,11 +121,27 @@ public class ListPainter<C extends JList, U extends WListUI, D extends IDecorati
         listSelectionListener = null;
     }
 
+    @Override
+    protected void propertyChanged ( @NotNull final String property, @Nullable final Object oldValue, @Nullable final Object newValue )
+    {
+        // Perform basic actions on property changes
+        super.propertyChanged ( property, oldValue, newValue );
+
+        // Tracking model data changes
+        if ( Objects.equals ( property, WebLookAndFeel.MODEL_PROPERTY ) && languageSensitiveData != null )
+        {
+            languageSensitiveData.setModel ( ( ListModel ) newValue );
+        }
+    }
+
     /**
      * Installs language listeners.
      */
     protected void installLanguageListeners ()
     {
+        languageSensitiveData = new ListLanguageSensitiveDataTracker ();
+        languageSensitiveData.setModel ( component.getModel () );
+
         languageSensitive = new LanguageListener ()
         {
             @Override
@@ -180,16 +199,8 @@ public class ListPainter<C extends JList, U extends WListUI, D extends IDecorati
         }
         else
         {
-            // Checking existing list items for being language-sensitive
-            final ListModel model = component.getModel ();
-            for ( int i = 0; i < model.getSize (); i++ )
-            {
-                if ( model.getElementAt ( i ) instanceof LanguageSensitive )
-                {
-                    sensitive = true;
-                    break;
-                }
-            }
+            // Checking whether or not list items are language-sensitive
+            sensitive = languageSensitiveData.isLanguageSensitive ( component );
         }
         return sensitive;
     }
@@ -201,6 +212,8 @@ public class ListPainter<C extends JList, U extends WListUI, D extends IDecorati
     {
         UILanguageManager.removeLanguageListener ( component, languageSensitive );
         languageSensitive = null;
+        languageSensitiveData.uninstall ();
+        languageSensitiveData = null;
     }
 
     /**
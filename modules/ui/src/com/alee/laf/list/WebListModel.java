@@ -18,7 +18,6 @@
 package com.alee.laf.list;
 
 import com.alee.utils.CollectionUtils;
-import com.alee.utils.compare.IntegerComparator;
 
 import javax.swing.*;
 import java.util.*;
@@ -325,7 +324,7 @@ public class WebListModel<T> extends AbstractListModel
         if ( elements.size () > 0 )
         {
             delegate.addAll ( index, elements );
-            fireIntervalAdded ( this, index, elements.size () - 1 );
+            fireIntervalAdded ( this, index, index + elements.size () - 1 );
         }
     }
 
@@ -440,63 +439,52 @@ public class WebListModel<T> extends AbstractListModel
     /**
      * Removes the specified elements from this model.
      * It ensures that minimal amount of {@link #fireIntervalRemoved(Object, int, int)} calls are made.
-     * todo If two+ non-distinct elements are provided - only one will be removed at a time
+     * Only first occurrence of each distinct element is removed.
      *
      * @param elements the components to be removed
      */
     public void removeAll ( final Collection<T> elements )
     {
         // Collecting indices to remove
-        final List<Integer> indices = new ArrayList<Integer> ( elements.size () );
-        for ( final T element : elements )
-        {
-            final int index = delegate.indexOf ( element );
-            if ( index != -1 )
-            {
-                indices.add ( index );
-            }
-        }
-
-        // Making sure there are no duplicate indices
-        CollectionUtils.distinct ( indices );
+        final int[] indices = indicesOf ( elements );
 
-        // Sorting indices
-        CollectionUtils.sort ( indices, IntegerComparator.instance () );
-
-        // Collecting ranges
-        int rangeStart = -1;
+        // Removing ranges starting from the last one to keep other indices intact
         int rangeEnd = -1;
-        for ( int i = indices.size () - 1; i >= 0; i-- )
+        for ( int i = indices.length - 1; i >= 0; i-- )
         {
-            final int index = indices.get ( i );
-
-            // Checking range
-            if ( rangeStart == -1 || rangeEnd == -1 )
-            {
-                // We are in the first iteration
-                // Updating range with initial values
-                rangeStart = index;
-                rangeEnd = index;
-            }
-            else if ( index == rangeStart - 1 )
+            if ( rangeEnd == -1 )
             {
-                // Current index is next to previous range start
-                // Simply moving range start to this index
-                rangeStart = index;
+                rangeEnd = indices[ i ];
             }
-            else
+            if ( i == 0 || indices[ i - 1 ] != indices[ i ] - 1 )
             {
-                // Updating range with new values
-                rangeStart = index;
-                rangeEnd = index;
+                removeInterval ( indices[ i ], rangeEnd );
+                rangeEnd = -1;
             }
+        }
+    }
 
-            // Removing interval
-            if ( i == 0 || rangeStart - 1 != indices.get ( i - 1 ) )
+    /**
+     * Returns sorted indices of the first occurrences of the specified elements in this model.
+     * Elements that are not in this model are ignored, duplicate elements are only counted once.
+     * All elements are found within a single pass through this model.
+     *
+     * @param elements elements to find indices for
+     * @return sorted indices of the first occurrences of the specified elements in this model
+     */
+    protected int[] indicesOf ( final Collection<T> elements )
+    {
+        final Set<T> remaining = new HashSet<T> ( elements );
+        final int[] indices = new int[ remaining.size () ];
+        int count = 0;
+        for ( int i = 0; i < delegate.size () && count < indices.length; i++ )
+        {
+            if ( remaining.remove ( delegate.get ( i ) ) )
             {
-                removeInterval ( rangeStart, rangeEnd );
+                indices[ count++ ] = i;
             }
         }
+        return count < indices.length ? Arrays.copyOf ( indices, count ) : indices;
     }
 
     /**
@@ -515,8 +503,8 @@ public class WebListModel<T> extends AbstractListModel
      *
      * @param start interval start index, inclusive
      * @param end   interval end index, inclusive
-     * @throws ArrayIndexOutOfBoundsException if interval is invalid
-     * @throws IllegalArgumentException       if {@code from} is larger than {@code to}
+     * @throws IndexOutOfBoundsException if interval is invalid
+     * @throws IllegalArgumentException  if {@code from} is larger than {@code to}
      */
     public void removeInterval ( final int start, final int end )
     {
@@ -524,10 +512,7 @@ public class WebListModel<T> extends AbstractListModel
         {
             throw new IllegalArgumentException ( "Interval end index cannot be less than start index" );
         }
-        for ( int i = end; i >= start; i-- )
-        {
-            delegate.removeElementAt ( i );
-        }
+        delegate.subList ( start, end + 1 ).clear ();
         fireIntervalRemoved ( this, start, end );
     }
 
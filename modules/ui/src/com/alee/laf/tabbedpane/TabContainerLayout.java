@@ -82,6 +82,18 @@ public class TabContainerLayout extends AbstractLayoutManager implements Mergeab
         return tabSize != null ? tabSize : TabSize.preferred;
     }
 
+    /**
+     * Restores transient fields upon deserialization, since field initializers are not invoked for deserialized objects.
+     *
+     * @return this {@link TabContainerLayout}
+     */
+    @NotNull
+    protected Object readResolve ()
+    {
+        runCount = 1;
+        return this;
+    }
+
     /**
      * Returns cached tab run count.
      *
@@ -0,0 +1,161 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.jdk.Objects;
+import com.alee.extended.behavior.AbstractComponentBehavior;
+import com.alee.extended.behavior.Behavior;
+import com.alee.laf.WebLookAndFeel;
+
+import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+/**
+ * {@link Behavior} that packs {@link JTable} column widths incrementally whenever {@link TableModel} data changes.
+ * Columns are measured by {@link TablePacker} using the specified {@link TablePackSampling} strategy.
+ * Changes made while columns are being packed are covered by a single additional packing performed once current one is finished.
+ *
+ * @author Mikle Garin
+ * @see TablePacker
+ * @see WebTable#setAutoPackMode(TablePackSampling)
+ */
+public class TableAutoPacker extends AbstractComponentBehavior<JTable> implements PropertyChangeListener, TableModelListener
+{
+    /**
+     * {@link TablePacker} used for packing columns.
+     */
+    @NotNull
+    protected final TablePacker packer;
+
+    /**
+     * Whether or not columns should be packed again once current packing is finished.
+     */
+    protected boolean dirty;
+
+    /**
+     * Constructs new {@link TableAutoPacker}.
+     *
+     * @param table    {@link JTable} this behavior is attached to
+     * @param sampling {@link TablePackSampling} strategy
+     */
+    public TableAutoPacker ( @NotNull final JTable table, @NotNull final TablePackSampling sampling )
+    {
+        super ( table );
+        this.packer = new TablePacker ( table, sampling, TablePacker.DEFAULT_SAMPLE_SIZE )
+        {
+            @Override
+            protected void finish ( @NotNull final Runnable runnable )
+            {
+                super.finish ( runnable );
+                if ( dirty && !isPacking () )
+                {
+                    dirty = false;
+                    packColumnWidthsIncrementally ();
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns {@link TablePacker} used for packing columns.
+     * It can be used to adjust packing settings.
+     *
+     * @return {@link TablePacker} used for packing columns
+     */
+    @NotNull
+    public TablePacker getPacker ()
+    {
+        return packer;
+    }
+
+    /**
+     * Installs this {@link TableAutoPacker} into the {@link #component}.
+     */
+    public void install ()
+    {
+        if ( component.getModel () != null )
+        {
+            component.getModel ().addTableModelListener ( this );
+        }
+        component.addPropertyChangeListener ( this );
+        pack ();
+    }
+
+    /**
+     * Uninstalls this {@link TableAutoPacker} from the {@link #component}.
+     */
+    public void uninstall ()
+    {
+        packer.cancel ();
+        dirty = false;
+        component.removePropertyChangeListener ( this );
+        if ( component.getModel () != null )
+        {
+            component.getModel ().removeTableModelListener ( this );
+        }
+    }
+
+    @Override
+    public void propertyChange ( @NotNull final PropertyChangeEvent event )
+    {
+        if ( Objects.equals ( event.getPropertyName (), WebLookAndFeel.MODEL_PROPERTY ) )
+        {
+            // Move table model listener to new model
+            final TableModel oldModel = ( TableModel ) event.getOldValue ();
+            if ( oldModel != null )
+            {
+                oldModel.removeTableModelListener ( this );
+            }
+            final TableModel newModel = ( TableModel ) event.getNewValue ();
+            if ( newModel != null )
+            {
+                newModel.addTableModelListener ( this );
+            }
+
+            // Pack columns for new data
+            pack ();
+        }
+    }
+
+    @Override
+    public void tableChanged ( @Nullable final TableModelEvent event )
+    {
+        pack ();
+    }
+
+    /**
+     * Packs columns incrementally or marks them to be packed once current packing is finished.
+     */
+    public void pack ()
+    {
+        if ( packer.isPacking () )
+        {
+            dirty = true;
+        }
+        else
+        {
+            packer.packColumnWidthsIncrementally ();
+        }
+    }
+}
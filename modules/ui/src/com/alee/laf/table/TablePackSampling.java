@@ -0,0 +1,51 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+/**
+ * Strategies for choosing table rows measured by {@link TablePacker} when packing column widths.
+ * Measuring only a sample of rows allows packing columns of tables with large models without freezing the UI.
+ *
+ * @author Mikle Garin
+ * @see TablePacker
+ * @see WebTable#setAutoPackMode(TablePackSampling)
+ */
+public enum TablePackSampling
+{
+    /**
+     * All rows are measured.
+     * Exact but slow on large models.
+     */
+    all,
+
+    /**
+     * Only first N rows are measured.
+     */
+    first,
+
+    /**
+     * N randomly chosen rows are measured.
+     */
+    random,
+
+    /**
+     * N rows with the longest text representation of the cell value are measured.
+     * Values of all rows are converted into text, but only chosen rows are measured with renderers.
+     */
+    longest
+}
@@ -0,0 +1,649 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.CoreSwingUtils;
+
+import javax.swing.*;
+import javax.swing.table.JTableHeader;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
+import java.awt.*;
+import java.util.BitSet;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+/**
+ * Packs {@link JTable} column widths and row heights according to cell renderers preferred sizes.
+ *
+ * Column widths are measured only on rows chosen by {@link TablePackSampling} strategy, so packing columns of large tables doesn't
+ * require measuring every single cell. Packing can either be performed right away or incrementally - in that case measurement is
+ * split into time slices performed one by one on the EDT so that UI stays responsive while large tables are being packed.
+ * Packed sizes are applied to the {@link JTable} only once measurement is complete.
+ *
+ * Single {@link TablePacker} instance can only perform one incremental packing at a time, starting new one cancels previous one.
+ * All methods of this class must be called on the EDT.
+ *
+ * @author Mikle Garin
+ * @see TablePackSampling
+ */
+public class TablePacker
+{
+    /**
+     * Default amount of sampled rows.
+     */
+    public static final int DEFAULT_SAMPLE_SIZE = 1000;
+
+    /**
+     * Default duration of a single incremental packing time slice in milliseconds.
+     */
+    public static final long DEFAULT_TIME_SLICE = 10;
+
+    /**
+     * {@link JTable} to pack.
+     */
+    @NotNull
+    protected final JTable table;
+
+    /**
+     * {@link TablePackSampling} strategy for column widths.
+     */
+    @NotNull
+    protected TablePackSampling sampling;
+
+    /**
+     * Amount of sampled rows.
+     */
+    protected int sampleSize;
+
+    /**
+     * Column side margin.
+     */
+    protected int margin;
+
+    /**
+     * Minimum and maximum column widths.
+     */
+    protected int minWidth;
+    protected int maxWidth;
+
+    /**
+     * Duration of a single incremental packing time slice in milliseconds.
+     */
+    protected long timeSlice;
+
+    /**
+     * Currently running incremental packing, {@code null} if there is none.
+     */
+    @Nullable
+    protected transient Runnable packing;
+
+    /**
+     * Constructs new {@link TablePacker} that measures all rows.
+     *
+     * @param table {@link JTable} to pack
+     */
+    public TablePacker ( @NotNull final JTable table )
+    {
+        this ( table, TablePackSampling.all, DEFAULT_SAMPLE_SIZE );
+    }
+
+    /**
+     * Constructs new {@link TablePacker}.
+     *
+     * @param table      {@link JTable} to pack
+     * @param sampling   {@link TablePackSampling} strategy for column widths
+     * @param sampleSize amount of sampled rows
+     */
+    public TablePacker ( @NotNull final JTable table, @NotNull final TablePackSampling sampling, final int sampleSize )
+    {
+        this.table = table;
+        this.sampling = sampling;
+        this.sampleSize = sampleSize;
+        this.margin = 2;
+        this.minWidth = 0;
+        this.maxWidth = Integer.MAX_VALUE;
+        this.timeSlice = DEFAULT_TIME_SLICE;
+    }
+
+    /**
+     * Returns {@link TablePackSampling} strategy for column widths.
+     *
+     * @return {@link TablePackSampling} strategy for column widths
+     */
+    @NotNull
+    public TablePackSampling getSampling ()
+    {
+        return sampling;
+    }
+
+    /**
+     * Sets {@link TablePackSampling} strategy for column widths.
+     *
+     * @param sampling {@link TablePackSampling} strategy for column widths
+     */
+    public void setSampling ( @NotNull final TablePackSampling sampling )
+    {
+        this.sampling = sampling;
+    }
+
+    /**
+     * Returns amount of sampled rows.
+     *
+     * @return amount of sampled rows
+     */
+    public int getSampleSize ()
+    {
+        return sampleSize;
+    }
+
+    /**
+     * Sets amount of sampled rows.
+     *
+     * @param sampleSize amount of sampled rows
+     */
+    public void setSampleSize ( final int sampleSize )
+    {
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Returns column side margin.
+     *
+     * @return column side margin
+     */
+    public int getMargin ()
+    {
+        return margin;
+    }
+
+    /**
+     * Sets column side margin.
+     *
+     * @param margin column side margin
+     */
+    public void setMargin ( final int margin )
+    {
+        this.margin = margin;
+    }
+
+    /**
+     * Returns minimum column width.
+     *
+     * @return minimum column width
+     */
+    public int getMinWidth ()
+    {
+        return minWidth;
+    }
+
+    /**
+     * Sets minimum column width.
+     *
+     * @param minWidth minimum column width
+     */
+    public void setMinWidth ( final int minWidth )
+    {
+        this.minWidth = minWidth;
+    }
+
+    /**
+     * Returns maximum column width.
+     *
+     * @return maximum column width
+     */
+    public int getMaxWidth ()
+    {
+        return maxWidth;
+    }
+
+    /**
+     * Sets maximum column width.
+     *
+     * @param maxWidth maximum column width
+     */
+    public void setMaxWidth ( final int maxWidth )
+    {
+        this.maxWidth = maxWidth;
+    }
+
+    /**
+     * Returns duration of a single incremental packing time slice in milliseconds.
+     *
+     * @return duration of a single incremental packing time slice in milliseconds
+     */
+    public long getTimeSlice ()
+    {
+        return timeSlice;
+    }
+
+    /**
+     * Sets duration of a single incremental packing time slice in milliseconds.
+     *
+     * @param timeSlice duration of a single incremental packing time slice in milliseconds
+     */
+    public void setTimeSlice ( final long timeSlice )
+    {
+        this.timeSlice = timeSlice;
+    }
+
+    /**
+     * Returns whether or not incremental packing is currently running.
+     *
+     * @return {@code true} if incremental packing is currently running, {@code false} otherwise
+     */
+    public boolean isPacking ()
+    {
+        return packing != null;
+    }
+
+    /**
+     * Cancels currently running incremental packing.
+     */
+    public void cancel ()
+    {
+        packing = null;
+    }
+
+    /**
+     * Packs all {@link JTable} columns to their preferred width right away.
+     */
+    public void packColumnWidths ()
+    {
+        cancel ();
+        for ( int column = 0; column < table.getColumnCount (); column++ )
+        {
+            packColumnWidth ( column );
+        }
+    }
+
+    /**
+     * Packs {@link JTable} column at the specified index to its preferred width right away.
+     *
+     * @param column column index
+     */
+    public void packColumnWidth ( final int column )
+    {
+        int width = getHeaderWidth ( column );
+        final int[] rows = sampleRows ( column );
+        for ( final int row : rows )
+        {
+            width = Math.max ( width, getCellSize ( row, column ).width );
+        }
+        setColumnWidth ( column, width );
+    }
+
+    /**
+     * Packs all {@link JTable} columns to their preferred width incrementally on the EDT.
+     * Widths are applied once all columns are measured.
+     */
+    public void packColumnWidthsIncrementally ()
+    {
+        final int columnCount = table.getColumnCount ();
+        final int[] widths = new int[ columnCount ];
+        start ( new Runnable ()
+        {
+            /**
+             * Currently measured column.
+             */
+            private int column = -1;
+
+            /**
+             * Rows sampled for the currently measured column.
+             */
+            private int[] rows;
+
+            /**
+             * Rows with the longest values collected so far for {@link TablePackSampling#longest} strategy.
+             */
+            private PriorityQueue<Long> longest;
+
+            /**
+             * Next row to check for {@link TablePackSampling#longest} strategy.
+             */
+            private int scanned;
+
+            /**
+             * Next measured row index in {@link #rows}.
+             */
+            private int index;
+
+            @Override
+            public void run ()
+            {
+                final long end = System.currentTimeMillis () + timeSlice;
+                while ( System.currentTimeMillis () < end )
+                {
+                    if ( longest != null )
+                    {
+                        if ( scanned < table.getRowCount () )
+                        {
+                            offerLongest ( longest, scanned++, column );
+                        }
+                        else
+                        {
+                            rows = toRows ( longest );
+                            longest = null;
+                        }
+                    }
+                    else if ( rows == null || index == rows.length )
+                    {
+                        column++;
+                        if ( column == columnCount || columnCount != table.getColumnCount () )
+                        {
+                            // Applying measured widths
+                            for ( int i = 0; i < Math.min ( columnCount, table.getColumnCount () ); i++ )
+                            {
+                                setColumnWidth ( i, widths[ i ] );
+                            }
+                            finish ( this );
+                            return;
+                        }
+                        widths[ column ] = getHeaderWidth ( column );
+                        if ( sampling == TablePackSampling.longest && sampleSize < table.getRowCount () )
+                        {
+                            // Values are checked within time slices as well
+                            longest = new PriorityQueue<Long> ( sampleSize + 1 );
+                            scanned = 0;
+                        }
+                        else
+                        {
+                            rows = sampleRows ( column );
+                        }
+                        index = 0;
+                    }
+                    else
+                    {
+                        final int row = rows[ index++ ];
+                        if ( row < table.getRowCount () )
+                        {
+                            widths[ column ] = Math.max ( widths[ column ], getCellSize ( row, column ).width );
+                        }
+                    }
+                }
+                next ( this );
+            }
+        } );
+    }
+
+    /**
+     * Packs all {@link JTable} rows to their preferred height right away.
+     * Every row is measured since each row has its own height.
+     */
+    public void packRowHeights ()
+    {
+        cancel ();
+        for ( int row = 0; row < table.getRowCount (); row++ )
+        {
+            table.setRowHeight ( row, getRowHeight ( row ) );
+        }
+    }
+
+    /**
+     * Packs all {@link JTable} rows to their preferred height incrementally on the EDT.
+     * Every row is measured since each row has its own height, heights are applied once all rows are measured.
+     */
+    public void packRowHeightsIncrementally ()
+    {
+        final int rowCount = table.getRowCount ();
+        final int[] heights = new int[ rowCount ];
+        start ( new Runnable ()
+        {
+            /**
+             * Next measured row.
+             */
+            private int row = 0;
+
+            @Override
+            public void run ()
+            {
+                final long end = System.currentTimeMillis () + timeSlice;
+                while ( row < rowCount && System.currentTimeMillis () < end )
+                {
+                    if ( row < table.getRowCount () )
+                    {
+                        heights[ row ] = getRowHeight ( row );
+                    }
+                    row++;
+                }
+                if ( row == rowCount )
+                {
+                    // Applying measured heights
+                    for ( int i = 0; i < Math.min ( rowCount, table.getRowCount () ); i++ )
+                    {
+                        table.setRowHeight ( i, heights[ i ] );
+                    }
+                    finish ( this );
+                }
+                else
+                {
+                    next ( this );
+                }
+            }
+        } );
+    }
+
+    /**
+     * Starts new incremental packing cancelling the previous one.
+     *
+     * @param runnable incremental packing
+     */
+    protected void start ( @NotNull final Runnable runnable )
+    {
+        packing = runnable;
+        next ( runnable );
+    }
+
+    /**
+     * Schedules next time slice of the specified incremental packing.
+     *
+     * @param runnable incremental packing
+     */
+    protected void next ( @NotNull final Runnable runnable )
+    {
+        CoreSwingUtils.invokeLater ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                // Skipping cancelled or replaced packing
+                if ( packing == runnable )
+                {
+                    runnable.run ();
+                }
+            }
+        } );
+    }
+
+    /**
+     * Marks specified incremental packing as finished.
+     *
+     * @param runnable incremental packing
+     */
+    protected void finish ( @NotNull final Runnable runnable )
+    {
+        if ( packing == runnable )
+        {
+            packing = null;
+        }
+    }
+
+    /**
+     * Returns view rows to measure for the specified column according to {@link TablePackSampling} strategy.
+     *
+     * @param column column index
+     * @return view rows to measure for the specified column
+     */
+    @NotNull
+    protected int[] sampleRows ( final int column )
+    {
+        final int rowCount = table.getRowCount ();
+        final int[] rows;
+        if ( sampling == TablePackSampling.all || sampleSize >= rowCount )
+        {
+            rows = new int[ rowCount ];
+            for ( int row = 0; row < rowCount; row++ )
+            {
+                rows[ row ] = row;
+            }
+        }
+        else if ( sampling == TablePackSampling.first )
+        {
+            rows = new int[ sampleSize ];
+            for ( int row = 0; row < sampleSize; row++ )
+            {
+                rows[ row ] = row;
+            }
+        }
+        else if ( sampling == TablePackSampling.random )
+        {
+            // Floyd's algorithm for choosing distinct rows
+            final Random random = new Random ();
+            final BitSet chosen = new BitSet ( rowCount );
+            for ( int bound = rowCount - sampleSize; bound < rowCount; bound++ )
+            {
+                final int row = random.nextInt ( bound + 1 );
+                chosen.set ( chosen.get ( row ) ? bound : row );
+            }
+            rows = new int[ sampleSize ];
+            for ( int row = chosen.nextSetBit ( 0 ), i = 0; row >= 0; row = chosen.nextSetBit ( row + 1 ), i++ )
+            {
+                rows[ i ] = row;
+            }
+        }
+        else
+        {
+            final PriorityQueue<Long> longest = new PriorityQueue<Long> ( sampleSize + 1 );
+            for ( int row = 0; row < rowCount; row++ )
+            {
+                offerLongest ( longest, row, column );
+            }
+            rows = toRows ( longest );
+        }
+        return rows;
+    }
+
+    /**
+     * Offers specified cell to the queue of rows with the longest values.
+     * Each queue entry contains text length in high bits and row in low bits, so the shortest value is always at the queue head.
+     *
+     * @param longest queue of rows with the longest values
+     * @param row     row index
+     * @param column  column index
+     */
+    protected void offerLongest ( @NotNull final PriorityQueue<Long> longest, final int row, final int column )
+    {
+        final Object value = table.getValueAt ( row, column );
+        final int length = value != null ? value.toString ().length () : 0;
+        longest.add ( ( long ) length << 32 | row );
+        if ( longest.size () > sampleSize )
+        {
+            longest.poll ();
+        }
+    }
+
+    /**
+     * Returns rows from the queue of rows with the longest values.
+     *
+     * @param longest queue of rows with the longest values
+     * @return rows from the queue of rows with the longest values
+     */
+    @NotNull
+    protected int[] toRows ( @NotNull final PriorityQueue<Long> longest )
+    {
+        final int[] rows = new int[ longest.size () ];
+        for ( int i = 0; i < rows.length; i++ )
+        {
+            rows[ i ] = ( int ) ( longest.poll () & 0xFFFFFFFFL );
+        }
+        return rows;
+    }
+
+    /**
+     * Returns preferred width of the specified column header.
+     *
+     * @param column column index
+     * @return preferred width of the specified column header
+     */
+    protected int getHeaderWidth ( final int column )
+    {
+        int width = 0;
+        final JTableHeader header = table.getTableHeader ();
+        if ( header != null )
+        {
+            final TableColumn tableColumn = table.getColumnModel ().getColumn ( column );
+            TableCellRenderer renderer = tableColumn.getHeaderRenderer ();
+            if ( renderer == null )
+            {
+                renderer = header.getDefaultRenderer ();
+            }
+            final Component component = renderer.getTableCellRendererComponent ( table, tableColumn.getHeaderValue (), false, false,
+                    -1, column );
+            width = component.getPreferredSize ().width;
+        }
+        return width;
+    }
+
+    /**
+     * Returns preferred height of the specified row.
+     *
+     * @param row row index
+     * @return preferred height of the specified row
+     */
+    protected int getRowHeight ( final int row )
+    {
+        int height = 0;
+        for ( int column = 0; column < table.getColumnCount (); column++ )
+        {
+            height = Math.max ( height, getCellSize ( row, column ).height );
+        }
+        return height;
+    }
+
+    /**
+     * Returns preferred size of the specified cell.
+     *
+     * @param row    row index
+     * @param column column index
+     * @return preferred size of the specified cell
+     */
+    @NotNull
+    protected Dimension getCellSize ( final int row, final int column )
+    {
+        final TableCellRenderer renderer = table.getCellRenderer ( row, column );
+        final Object value = table.getValueAt ( row, column );
+        final Component component = renderer.getTableCellRendererComponent ( table, value, false, false, row, column );
+        return component != null ? component.getPreferredSize () : new Dimension ( 0, 0 );
+    }
+
+    /**
+     * Applies measured width to the specified column.
+     *
+     * @param column column index
+     * @param width  measured width
+     */
+    protected void setColumnWidth ( final int column, final int width )
+    {
+        final int packed = Math.max ( minWidth, Math.min ( width + 2 * margin, maxWidth ) );
+        final TableColumn tableColumn = table.getColumnModel ().getColumn ( column );
+        tableColumn.setPreferredWidth ( packed );
+        tableColumn.setWidth ( packed );
+    }
+}
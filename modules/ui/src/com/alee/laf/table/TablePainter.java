@@ -3,9 +3,11 @@ package com.alee.laf.table;
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
 import com.alee.api.jdk.Objects;
+import com.alee.laf.WebLookAndFeel;
 import com.alee.managers.language.Language;
 import com.alee.managers.language.LanguageListener;
 import com.alee.managers.language.LanguageSensitive;
+import com.alee.managers.language.LanguageSensitiveDataTracker;
 import com.alee.managers.language.UILanguageManager;
 import com.alee.painter.DefaultPainter;
 import com.alee.painter.SectionPainter;
@@ -17,6 +19,8 @@ import com.alee.utils.ReflectUtils;
 import com.alee.utils.general.Pair;
 
 import javax.swing.*;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
 import javax.swing.table.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
@@ -77,12 +81,20 @@ public class TablePainter<C extends JTable, U extends WTableUI, D extends IDecor
      */
     protected transient MouseAdapter mouseAdapter;
     protected transient LanguageListener languageSensitive;
+    protected transient LanguageSensitiveDataTracker<TableModelEvent> languageSensitiveData;
+    protected transient TableModelListener languageSensitiveDataListener;
 
     /**
      * Runtime variables.
      */
     protected transient TableCellArea rolloverCell;
 
+    /**
+     * Whether or not table rows are currently being updated by this painter upon {@link Language} change.
+     * Such updates do not change table data, so they are not passed to {@link #languageSensitiveData}.
+     */
+    protected transient boolean languageUpdate;
+
     /**
      * Painting variables.
      */
@@ -232,11 +244,88 @@ public class TablePainter<C extends JTable, U extends WTableUI, D extends IDecor
                 null;
     }
 
+    @Override
+    protected void propertyChanged ( @NotNull final String property, @Nullable final Object oldValue, @Nullable final Object newValue )
+    {
+        // Perform basic actions on property changes
+        super.propertyChanged ( property, oldValue, newValue );
+
+        // Tracking model data changes
+        if ( Objects.equals ( property, WebLookAndFeel.MODEL_PROPERTY ) && languageSensitiveDataListener != null )
+        {
+            if ( oldValue != null )
+            {
+                ( ( TableModel ) oldValue ).removeTableModelListener ( languageSensitiveDataListener );
+            }
+            if ( newValue != null )
+            {
+                ( ( TableModel ) newValue ).addTableModelListener ( languageSensitiveDataListener );
+            }
+            languageSensitiveData.reset ();
+        }
+    }
+
     /**
      * Installs language listeners.
      */
     protected void installLanguageListeners ()
     {
+        languageSensitiveData = new LanguageSensitiveDataTracker<TableModelEvent> ()
+        {
+            @Override
+            protected boolean containsLanguageSensitive ( @Nullable final TableModelEvent event )
+            {
+                boolean sensitive = false;
+                final TableModel model = component.getModel ();
+                final int firstRow = event != null ? Math.max ( 0, event.getFirstRow () ) : 0;
+                final int lastRow = event != null ? Math.min ( event.getLastRow (), model.getRowCount () - 1 ) : model.getRowCount () - 1;
+                final boolean allColumns = event == null || event.getColumn () == TableModelEvent.ALL_COLUMNS;
+                final int firstColumn = allColumns ? 0 : event.getColumn ();
+                final int lastColumn = allColumns ? model.getColumnCount () - 1 : event.getColumn ();
+                for ( int row = firstRow; row <= lastRow && !sensitive; row++ )
+                {
+                    for ( int col = firstColumn; col <= lastColumn; col++ )
+                    {
+                        if ( model.getValueAt ( row, col ) instanceof LanguageSensitive )
+                        {
+                            sensitive = true;
+                            break;
+                        }
+                    }
+                }
+                return sensitive;
+            }
+        };
+        languageSensitiveDataListener = new TableModelListener ()
+        {
+            @Override
+            public void tableChanged ( final TableModelEvent e )
+            {
+                // Skipping updates fired by this painter upon language changes
+                if ( !languageUpdate )
+                {
+                    if ( e.getType () == TableModelEvent.INSERT )
+                    {
+                        languageSensitiveData.added ( e );
+                    }
+                    else if ( e.getType () == TableModelEvent.DELETE )
+                    {
+                        languageSensitiveData.removed ( e );
+                    }
+                    else if ( e.getFirstRow () == TableModelEvent.HEADER_ROW || e.getLastRow () == Integer.MAX_VALUE )
+                    {
+                        // Structure or all data have changed, data will only be checked when needed
+                        languageSensitiveData.reset ();
+                    }
+                    else
+                    {
+                        languageSensitiveData.changed ( e );
+                    }
+                }
+            }
+        };
+        component.getModel ().addTableModelListener ( languageSensitiveDataListener );
+
         languageSensitive = new LanguageListener ()
         {
             @Override
@@ -250,7 +339,15 @@ public class TablePainter<C extends JTable, U extends WTableUI, D extends IDecor
                         if ( model instanceof AbstractTableModel )
                         {
                             // Calling public model methods when possible
-                            ( ( AbstractTableModel ) model ).fireTableRowsUpdated ( 0, model.getRowCount () - 1 );
+                            languageUpdate = true;
+                            try
+                            {
+                                ( ( AbstractTableModel ) model ).fireTableRowsUpdated ( 0, model.getRowCount () - 1 );
+                            }
+                            finally
+                            {
+                                languageUpdate = false;
+                            }
                         }
                         else
                         {
@@ -308,22 +405,7 @@ public class TablePainter<C extends JTable, U extends WTableUI, D extends IDecor
                 if ( !sensitive )
                 {
                     // Checking whether or not table data is language-sensitive
-                    final TableModel model = component.getModel ();
-                    for ( int row = 0; row < model.getRowCount (); row++ )
-                    {
-                        for ( int col = 0; col < model.getColumnCount (); col++ )
-                        {
-                            if ( model.getValueAt ( row, col ) instanceof LanguageSensitive )
-                            {
-                                sensitive = true;
-                                break;
-                            }
-                        }
-                        if ( sensitive )
-                        {
-                            break;
-                        }
-                    }
+                    sensitive = languageSensitiveData.isLanguageSensitive ( component );
                 }
             }
         }
@@ -337,6 +419,9 @@ public class TablePainter<C extends JTable, U extends WTableUI, D extends IDecor
     {
         UILanguageManager.removeLanguageListener ( component, languageSensitive );
         languageSensitive = null;
+        component.getModel ().removeTableModelListener ( languageSensitiveDataListener );
+        languageSensitiveDataListener = null;
+        languageSensitiveData = null;
     }
 
     @Override
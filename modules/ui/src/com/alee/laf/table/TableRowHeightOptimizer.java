@@ -25,22 +25,32 @@ import com.alee.laf.WebLookAndFeel;
 import com.alee.utils.CoreSwingUtils;
 
 import javax.swing.*;
-import javax.swing.event.TableModelEvent;
-import javax.swing.event.TableModelListener;
+import javax.swing.event.*;
 import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableColumnModel;
 import javax.swing.table.TableModel;
 import java.awt.*;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
 
 /**
  * {@link Behavior} that adjusts {@link JTable} row height on the fly according to data from {@link TableModel}.
  * Note that this behavior will not cover all possible cell sizes as it will only use a small chunk of {@link TableModel} data to test
  * {@link TableCellRenderer} preferred size, otherwise we are risking to hit various issues with {@link TableModel}s of large size.
  *
+ * Measured height of each model row is cached and only rows mentioned in {@link TableModelEvent}s are measured again.
+ * All {@link TableModelEvent}s received before optimization happens are coalesced into a single optimization.
+ * All cached row heights are reset whenever columns, their widths or renderers, table font or row height change.
+ *
  * @author Mikle Garin
  */
-public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> implements PropertyChangeListener, TableModelListener
+public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable>
+        implements PropertyChangeListener, TableModelListener, TableColumnModelListener
 {
     /**
      * Initial row height of the {@link JTable}.
@@ -54,6 +64,36 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
      */
     protected boolean adjusting;
 
+    /**
+     * Measured heights of model rows, {@code -1} stands for rows that were not measured yet.
+     * Only first {@link #rowCount} values are used.
+     */
+    @NotNull
+    protected int[] rowHeights;
+
+    /**
+     * Amount of model rows tracked in {@link #rowHeights}.
+     */
+    protected int rowCount;
+
+    /**
+     * First and last view column used for rows measurement.
+     * Cached row heights are reset whenever these change.
+     */
+    protected int firstColumn;
+    protected int lastColumn;
+
+    /**
+     * {@link TableColumn}s this {@link TableRowHeightOptimizer} listens to for renderer changes.
+     */
+    @NotNull
+    protected List<TableColumn> columns;
+
+    /**
+     * Whether or not row height optimization is already scheduled.
+     */
+    protected boolean optimizationScheduled;
+
     /**
      * Constructs new {@link TableRowHeightOptimizer}.
      *
@@ -62,6 +102,8 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
     public TableRowHeightOptimizer ( @NotNull final JTable table )
     {
         super ( table );
+        this.rowHeights = new int[ 0 ];
+        this.columns = new ArrayList<TableColumn> ( 0 );
     }
 
     /**
@@ -70,11 +112,17 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
     public void install ()
     {
         initialRowHeight = component.getRowHeight ();
+        resetRowHeights ();
         optimizeRowHeight ();
         if ( component.getModel () != null )
         {
             component.getModel ().addTableModelListener ( this );
         }
+        if ( component.getColumnModel () != null )
+        {
+            component.getColumnModel ().addColumnModelListener ( this );
+        }
+        updateColumnListeners ();
         component.addPropertyChangeListener ( this );
     }
 
@@ -84,19 +132,35 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
     public void uninstall ()
     {
         component.removePropertyChangeListener ( this );
+        removeColumnListeners ();
+        if ( component.getColumnModel () != null )
+        {
+            component.getColumnModel ().removeColumnModelListener ( this );
+        }
         if ( component.getModel () != null )
         {
             component.getModel ().removeTableModelListener ( this );
         }
         restoreRowHeight ();
         initialRowHeight = 0;
+        rowHeights = new int[ 0 ];
+        rowCount = 0;
     }
 
     @Override
     public void propertyChange ( @NotNull final PropertyChangeEvent event )
     {
         final String propertyName = event.getPropertyName ();
-        if ( Objects.equals ( propertyName, WebLookAndFeel.MODEL_PROPERTY ) )
+        if ( event.getSource () instanceof TableColumn )
+        {
+            if ( Objects.equals ( propertyName, TableColumn.CELL_RENDERER_PROPERTY ) )
+            {
+                // Column renderer affects all row heights
+                resetRowHeights ();
+                scheduleOptimization ();
+            }
+        }
+        else if ( Objects.equals ( propertyName, WebLookAndFeel.MODEL_PROPERTY ) )
         {
             // Move table model listener to new model
             final TableModel oldModel = ( TableModel ) event.getOldValue ();
@@ -111,33 +175,255 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
             }
 
             // Update row height
+            resetRowHeights ();
             optimizeRowHeight ();
         }
+        else if ( Objects.equals ( propertyName, WebTable.COLUMN_MODEL_PROPERTY ) )
+        {
+            // Move column model listener to new model
+            final TableColumnModel oldModel = ( TableColumnModel ) event.getOldValue ();
+            if ( oldModel != null )
+            {
+                oldModel.removeColumnModelListener ( this );
+            }
+            final TableColumnModel newModel = ( TableColumnModel ) event.getNewValue ();
+            if ( newModel != null )
+            {
+                newModel.addColumnModelListener ( this );
+            }
+            updateColumnListeners ();
+
+            // Update row height
+            resetRowHeights ();
+            scheduleOptimization ();
+        }
+        else if ( Objects.equals ( propertyName, WebLookAndFeel.FONT_PROPERTY ) )
+        {
+            // Font affects all row heights
+            resetRowHeights ();
+            scheduleOptimization ();
+        }
         else if ( Objects.equals ( propertyName, WebTable.ROW_HEIGHT_PROPERTY ) && !adjusting )
         {
             // Save new row height
             initialRowHeight = component.getRowHeight ();
 
             // Overwrite row height
+            resetRowHeights ();
             optimizeRowHeight ();
         }
     }
 
     @Override
-    public void tableChanged ( @NotNull final TableModelEvent event )
+    public void columnAdded ( @NotNull final TableColumnModelEvent event )
+    {
+        updateColumnListeners ();
+        resetRowHeights ();
+        scheduleOptimization ();
+    }
+
+    @Override
+    public void columnRemoved ( @NotNull final TableColumnModelEvent event )
+    {
+        updateColumnListeners ();
+        resetRowHeights ();
+        scheduleOptimization ();
+    }
+
+    @Override
+    public void columnMoved ( @NotNull final TableColumnModelEvent event )
+    {
+        if ( event.getFromIndex () != event.getToIndex () )
+        {
+            resetRowHeights ();
+            scheduleOptimization ();
+        }
+    }
+
+    @Override
+    public void columnMarginChanged ( @NotNull final ChangeEvent event )
+    {
+        // Column width changes are also reported as margin changes
+        resetRowHeights ();
+        scheduleOptimization ();
+    }
+
+    @Override
+    public void columnSelectionChanged ( @NotNull final ListSelectionEvent event )
     {
         /**
-         * This call must be made later due to the way {@link javax.swing.table.TableRowSorter} is implemented.
-         * Otherwise this listener will receive outdated information from the methods that go to the sorter instead of the model.
+         * Column selection doesn't affect row heights.
          */
-        CoreSwingUtils.invokeLater ( new Runnable ()
+    }
+
+    @Override
+    public void tableChanged ( @NotNull final TableModelEvent event )
+    {
+        // Updating cached row heights
+        final int firstRow = event.getFirstRow ();
+        final int lastRow = event.getLastRow ();
+        if ( firstRow == TableModelEvent.HEADER_ROW || lastRow == Integer.MAX_VALUE )
+        {
+            resetRowHeights ();
+        }
+        else if ( event.getType () == TableModelEvent.INSERT )
+        {
+            if ( firstRow <= rowCount )
+            {
+                insertRows ( firstRow, lastRow - firstRow + 1 );
+            }
+            else
+            {
+                resetRowHeights ();
+            }
+        }
+        else if ( lastRow >= rowCount )
+        {
+            resetRowHeights ();
+        }
+        else if ( event.getType () == TableModelEvent.DELETE )
+        {
+            deleteRows ( firstRow, lastRow - firstRow + 1 );
+        }
+        else
+        {
+            Arrays.fill ( rowHeights, firstRow, lastRow + 1, -1 );
+        }
+
+        // Update row height
+        scheduleOptimization ();
+    }
+
+    /**
+     * Schedules {@link JTable} row height optimization.
+     * This call must be made later due to the way {@link javax.swing.table.TableRowSorter} is implemented.
+     * Otherwise this listener will receive outdated information from the methods that go to the sorter instead of the model.
+     * Only one optimization is scheduled at a time, any changes made before it is performed are covered by it.
+     */
+    protected void scheduleOptimization ()
+    {
+        if ( !optimizationScheduled )
         {
-            @Override
-            public void run ()
+            optimizationScheduled = true;
+            CoreSwingUtils.invokeLater ( new Runnable ()
             {
-                optimizeRowHeight ();
+                @Override
+                public void run ()
+                {
+                    optimizationScheduled = false;
+                    optimizeRowHeight ();
+                }
+            } );
+        }
+    }
+
+    /**
+     * Moves renderer change listeners to the current {@link TableColumn}s.
+     */
+    protected void updateColumnListeners ()
+    {
+        removeColumnListeners ();
+        final TableColumnModel columnModel = component.getColumnModel ();
+        if ( columnModel != null )
+        {
+            final Enumeration<TableColumn> enumeration = columnModel.getColumns ();
+            while ( enumeration.hasMoreElements () )
+            {
+                final TableColumn column = enumeration.nextElement ();
+                column.addPropertyChangeListener ( this );
+                columns.add ( column );
             }
-        } );
+        }
+    }
+
+    /**
+     * Removes renderer change listeners from all {@link TableColumn}s.
+     */
+    protected void removeColumnListeners ()
+    {
+        for ( final TableColumn column : columns )
+        {
+            column.removePropertyChangeListener ( this );
+        }
+        columns.clear ();
+    }
+
+    /**
+     * Resets all cached row heights.
+     */
+    protected void resetRowHeights ()
+    {
+        final TableModel model = component.getModel ();
+        rowCount = model != null ? model.getRowCount () : 0;
+        if ( rowHeights.length < rowCount )
+        {
+            rowHeights = new int[ rowCount ];
+        }
+        Arrays.fill ( rowHeights, -1 );
+    }
+
+    /**
+     * Inserts specified amount of rows that were not measured yet into the cached row heights.
+     *
+     * @param index first inserted row index
+     * @param count amount of inserted rows
+     */
+    protected void insertRows ( final int index, final int count )
+    {
+        if ( rowCount + count > rowHeights.length )
+        {
+            rowHeights = Arrays.copyOf ( rowHeights, Math.max ( rowCount + count, rowHeights.length * 3 / 2 + 1 ) );
+        }
+        System.arraycopy ( rowHeights, index, rowHeights, index + count, rowCount - index );
+        Arrays.fill ( rowHeights, index, index + count, -1 );
+        rowCount += count;
+    }
+
+    /**
+     * Removes specified amount of rows from the cached row heights.
+     *
+     * @param index first removed row index
+     * @param count amount of removed rows
+     */
+    protected void deleteRows ( final int index, final int count )
+    {
+        System.arraycopy ( rowHeights, index + count, rowHeights, index, rowCount - index - count );
+        rowCount -= count;
+        Arrays.fill ( rowHeights, rowCount, rowCount + count, -1 );
+    }
+
+    /**
+     * Returns cached height of the specified row, measures it if it wasn't measured yet.
+     *
+     * @param model {@link TableModel}
+     * @param row   table row index
+     * @param cMin  first measured column index
+     * @param cMax  last measured column index
+     * @return height of the specified row
+     */
+    protected int getRowHeight ( @NotNull final TableModel model, final int row, final int cMin, final int cMax )
+    {
+        if ( cMin != firstColumn || cMax != lastColumn || rowCount != model.getRowCount () )
+        {
+            // Measured columns or model have changed
+            resetRowHeights ();
+            firstColumn = cMin;
+            lastColumn = cMax;
+        }
+        final int modelRow = component.getRowCount () > 0 ? component.convertRowIndexToModel ( row ) : row;
+        int height = rowHeights[ modelRow ];
+        if ( height < 0 )
+        {
+            height = 0;
+            for ( int col = cMin; col <= cMax; col++ )
+            {
+                final Component renderer = prepareRenderer ( model, row, col );
+                final Dimension ps = renderer.getPreferredSize ();
+                height = Math.max ( height, ps.height );
+            }
+            rowHeights[ modelRow ] = height;
+        }
+        return height;
     }
 
     /**
@@ -159,27 +445,19 @@ public class TableRowHeightOptimizer extends AbstractComponentBehavior<JTable> i
                     final Point lowerLeft = new Point ( ltr ? vr.x + 1 : vr.x + vr.width - 1, vr.y + vr.height - 1 );
                     final Point upperRight = new Point ( ltr ? vr.x + vr.width - 1 : vr.x + 1, vr.y + 1 );
                     final int rMin = Math.max ( 0, component.rowAtPoint ( upperLeft ) );
-                    final int rMax = Math.min ( component.getRowCount () - 1, component.rowAtPoint ( lowerLeft ) );
+                    final int lowerRow = component.rowAtPoint ( lowerLeft );
+                    final int rMax = lowerRow != -1 ? lowerRow : component.getRowCount () - 1;
                     final int cMin = Math.max ( 0, component.columnAtPoint ( upperLeft ) );
-                    final int cMax = Math.min ( component.getColumnCount () - 1, component.columnAtPoint ( upperRight ) );
+                    final int rightColumn = component.columnAtPoint ( upperRight );
+                    final int cMax = rightColumn != -1 ? rightColumn : component.getColumnCount () - 1;
                     for ( int row = rMin; row <= rMax; row++ )
                     {
-                        for ( int col = cMin; col < cMax; col++ )
-                        {
-                            final Component renderer = prepareRenderer ( model, row, col );
-                            final Dimension ps = renderer.getPreferredSize ();
-                            maxHeight = Math.max ( maxHeight, ps.height );
-                        }
+                        maxHeight = Math.max ( maxHeight, getRowHeight ( model, row, cMin, cMax ) );
                     }
                 }
                 else
                 {
-                    for ( int col = 0; col < component.getColumnCount (); col++ )
-                    {
-                        final Component renderer = prepareRenderer ( model, 0, col );
-                        final Dimension ps = renderer.getPreferredSize ();
-                        maxHeight = Math.max ( maxHeight, ps.height );
-                    }
+                    maxHeight = Math.max ( maxHeight, getRowHeight ( model, 0, 0, component.getColumnCount () - 1 ) );
                 }
             }
         }
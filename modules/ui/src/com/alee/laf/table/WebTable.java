@@ -64,6 +64,7 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
      */
     public static final String TABLE_HEADER_PROPERTY = "tableHeader";
     public static final String ROW_HEIGHT_PROPERTY = "rowHeight";
+    public static final String COLUMN_MODEL_PROPERTY = "columnModel";
 
     /**
      * Client properties used for backward compatibility with Swing {@link JTable}.
@@ -94,6 +95,11 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
      */
     protected transient TableRowHeightOptimizer rowHeightOptimizer;
 
+    /**
+     * {@link TableAutoPacker} if columns auto-packing is enabled, {@code null} otherwise.
+     */
+    protected transient TableAutoPacker autoPacker;
+
     /**
      * Constructs new table.
      */
@@ -344,6 +350,47 @@ public class WebTable extends JTable implements Styleable, EventMethods, Languag
         }
     }
 
+    /**
+     * Returns {@link TablePackSampling} strategy used for columns auto-packing, {@code null} if auto-packing is disabled.
+     *
+     * @return {@link TablePackSampling} strategy used for columns auto-packing, {@code null} if auto-packing is disabled
+     */
+    public TablePackSampling getAutoPackMode ()
+    {
+        return autoPacker != null ? autoPacker.getPacker ().getSampling () : null;
+    }
+
+    /**
+     * Sets {@link TablePackSampling} strategy used for columns auto-packing.
+     * Columns are packed incrementally whenever table data changes, {@code null} disables auto-packing.
+     *
+     * @param mode {@link TablePackSampling} strategy used for columns auto-packing, {@code null} to disable auto-packing
+     */
+    public void setAutoPackMode ( final TablePackSampling mode )
+    {
+        if ( mode != null )
+        {
+            if ( autoPacker == null )
+            {
+                autoPacker = new TableAutoPacker ( this, mode );
+                autoPacker.install ();
+            }
+            else if ( autoPacker.getPacker ().getSampling () != mode )
+            {
+                autoPacker.getPacker ().setSampling ( mode );
+                autoPacker.pack ();
+            }
+        }
+        else
+        {
+            if ( autoPacker != null )
+            {
+                autoPacker.uninstall ();
+                autoPacker = null;
+            }
+        }
+    }
+
     /**
      * Optimizes table column widths to fit content.
      */
@@ -6,9 +6,11 @@ import com.alee.api.jdk.Objects;
 import com.alee.api.jdk.Predicate;
 import com.alee.extended.tree.WebAsyncTree;
 import com.alee.extended.tree.WebExTree;
+import com.alee.laf.WebLookAndFeel;
 import com.alee.managers.language.Language;
 import com.alee.managers.language.LanguageListener;
 import com.alee.managers.language.LanguageSensitive;
+import com.alee.managers.language.LanguageSensitiveDataTracker;
 import com.alee.managers.language.UILanguageManager;
 import com.alee.managers.style.BoundsType;
 import com.alee.painter.DefaultPainter;
@@ -23,10 +25,7 @@ import com.alee.utils.GeometryUtils;
 import com.alee.utils.SwingUtils;
 
 import javax.swing.*;
-import javax.swing.event.TreeExpansionEvent;
-import javax.swing.event.TreeExpansionListener;
-import javax.swing.event.TreeSelectionEvent;
-import javax.swing.event.TreeSelectionListener;
+import javax.swing.event.*;
 import javax.swing.plaf.TreeUI;
 import javax.swing.tree.*;
 import java.awt.*;
@@ -98,11 +97,13 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
     protected transient TreeExpansionListener treeExpansionListener;
     protected transient MouseAdapter mouseAdapter;
     protected transient LanguageListener languageSensitive;
+    protected transient LanguageSensitiveDataTracker<TreeModelEvent> languageSensitiveData;
+    protected transient TreeModelListener languageSensitiveDataListener;
 
     /**
      * Runtime variables.
      */
-    protected transient List<Integer> initialSelection = new ArrayList<Integer> ();
+    protected transient BitSet initialSelection = new BitSet ();
     protected transient Point selectionStart = null;
     protected transient Point selectionEnd = null;
     protected transient TreePath draggablePath = null;
@@ -465,7 +466,7 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
 
             /**
              * Performs selection validation and updates.
-             * todo Modify selection instead of overwriting each time?
+             * Only rows intersecting selection rectangle vertically are checked, so selection cost doesn't depend on rows count.
              *
              * @param e mouse event
              */
@@ -474,84 +475,107 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
                 // Selection rect
                 final Rectangle selection = GeometryUtils.getNonNullContainingRect ( selectionStart, selectionEnd );
 
+                // Rows within selection rect
+                final BitSet selectedRows = getRowsInside ( selection );
+
                 // Compute new selection
-                final List<Integer> newSelection = new ArrayList<Integer> ();
+                final BitSet newSelection;
                 if ( SwingUtils.isShift ( e ) )
                 {
-                    for ( int row = 0; row < component.getRowCount (); row++ )
-                    {
-                        if ( ui.getRowBounds ( row ).intersects ( selection ) && !initialSelection.contains ( row ) )
-                        {
-                            newSelection.add ( row );
-                        }
-                    }
-                    newSelection.addAll ( initialSelection );
+                    newSelection = ( BitSet ) initialSelection.clone ();
+                    newSelection.or ( selectedRows );
                 }
                 else if ( SwingUtils.isCtrl ( e ) )
                 {
-                    final List<Integer> excludedRows = new ArrayList<Integer> ();
-                    for ( int row = 0; row < component.getRowCount (); row++ )
-                    {
-                        if ( ui.getRowBounds ( row ).intersects ( selection ) )
-                        {
-                            if ( initialSelection.contains ( row ) )
-                            {
-                                excludedRows.add ( row );
-                            }
-                            else
-                            {
-                                newSelection.add ( row );
-                            }
-                        }
-                    }
-                    for ( final int row : initialSelection )
-                    {
-                        if ( !excludedRows.contains ( row ) )
-                        {
-                            newSelection.add ( row );
-                        }
-                    }
+                    newSelection = ( BitSet ) initialSelection.clone ();
+                    newSelection.xor ( selectedRows );
                 }
                 else
                 {
-                    for ( int row = 0; row < component.getRowCount (); row++ )
+                    newSelection = selectedRows;
+                }
+
+                // Change selection if it is not the same as before
+                if ( !getSelectedRows ().equals ( newSelection ) )
+                {
+                    if ( !newSelection.isEmpty () )
                     {
-                        if ( ui.getRowBounds ( row ).intersects ( selection ) )
+                        final int[] rows = new int[ newSelection.cardinality () ];
+                        for ( int row = newSelection.nextSetBit ( 0 ), i = 0; row >= 0; row = newSelection.nextSetBit ( row + 1 ), i++ )
                         {
-                            newSelection.add ( row );
+                            rows[ i ] = row;
                         }
+                        component.setSelectionRows ( rows );
+                    }
+                    else
+                    {
+                        component.clearSelection ();
                     }
                 }
+            }
 
-                // Change selection if it is not the same as before
-                if ( !CollectionUtils.equals ( getSelectedRows (), newSelection, true ) )
+            /**
+             * Returns rows intersecting the specified selection rectangle.
+             * Search starts from the row closest to the selection top and stops at the first row below selection bottom.
+             *
+             * @param selection selection rectangle
+             * @return rows intersecting the specified selection rectangle
+             */
+            @NotNull
+            private BitSet getRowsInside ( @NotNull final Rectangle selection )
+            {
+                final BitSet rows = new BitSet ();
+                final int rowCount = component.getRowCount ();
+                int row = component.getClosestRowForLocation ( selection.x, selection.y );
+                if ( row != -1 )
                 {
-                    if ( newSelection.size () > 0 )
+                    // Closest row might be located below selection top
+                    while ( row > 0 )
                     {
-                        component.setSelectionRows ( CollectionUtils.toIntArray ( newSelection ) );
+                        final Rectangle bounds = ui.getRowBounds ( row - 1 );
+                        if ( bounds != null && bounds.y + bounds.height > selection.y )
+                        {
+                            row--;
+                        }
+                        else
+                        {
+                            break;
+                        }
                     }
-                    else
+                    for ( ; row < rowCount; row++ )
                     {
-                        component.clearSelection ();
+                        final Rectangle bounds = ui.getRowBounds ( row );
+                        if ( bounds != null )
+                        {
+                            if ( bounds.y >= selection.y + selection.height )
+                            {
+                                break;
+                            }
+                            if ( bounds.intersects ( selection ) )
+                            {
+                                rows.set ( row );
+                            }
+                        }
                     }
                 }
+                return rows;
             }
 
             /**
-             * Returns selected rows list.
+             * Returns selected rows.
              *
-             * @return selected rows list
+             * @return selected rows
              */
             @NotNull
-            private List<Integer> getSelectedRows ()
+            private BitSet getSelectedRows ()
             {
-                final List<Integer> selection = new ArrayList<Integer> ();
+                final BitSet selection = new BitSet ();
                 final int[] selectionRows = component.getSelectionRows ();
                 if ( selectionRows != null )
                 {
                     for ( final int row : selectionRows )
                     {
-                        selection.add ( row );
+                        selection.set ( row );
                     }
                 }
                 return selection;
@@ -585,6 +609,92 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
      */
     protected void installLanguageListeners ()
     {
+        languageSensitiveData = new LanguageSensitiveDataTracker<TreeModelEvent> ()
+        {
+            @Override
+            protected boolean containsLanguageSensitive ( @Nullable final TreeModelEvent event )
+            {
+                final boolean sensitive;
+                if ( event != null )
+                {
+                    final Object[] children = event.getChildren ();
+                    if ( children != null )
+                    {
+                        // Checking affected nodes and their children
+                        boolean childrenSensitive = false;
+                        final LinkedList<Object> nodes = new LinkedList<Object> ( Arrays.asList ( children ) );
+                        while ( !nodes.isEmpty () )
+                        {
+                            final Object node = nodes.removeFirst ();
+                            if ( node instanceof LanguageSensitive )
+                            {
+                                childrenSensitive = true;
+                                break;
+                            }
+                            else if ( node instanceof TreeNode )
+                            {
+                                final TreeNode treeNode = ( TreeNode ) node;
+                                for ( int i = 0; i < treeNode.getChildCount (); i++ )
+                                {
+                                    nodes.add ( treeNode.getChildAt ( i ) );
+                                }
+                            }
+                        }
+                        sensitive = childrenSensitive;
+                    }
+                    else
+                    {
+                        // Checking affected root node
+                        final TreePath path = event.getTreePath ();
+                        sensitive = path != null && path.getLastPathComponent () instanceof LanguageSensitive;
+                    }
+                }
+                else
+                {
+                    // Checking all nodes
+                    sensitive = TreeUtils.getTreeWalker ( component ).anyMatch ( new Predicate<TreeNode> ()
+                    {
+                        @Override
+                        public boolean test ( final TreeNode treeNode )
+                        {
+                            return treeNode instanceof LanguageSensitive;
+                        }
+                    } );
+                }
+                return sensitive;
+            }
+        };
+        languageSensitiveDataListener = new TreeModelListener ()
+        {
+            @Override
+            public void treeNodesInserted ( final TreeModelEvent e )
+            {
+                languageSensitiveData.added ( e );
+            }
+
+            @Override
+            public void treeNodesRemoved ( final TreeModelEvent e )
+            {
+                languageSensitiveData.removed ( e );
+            }
+
+            @Override
+            public void treeNodesChanged ( final TreeModelEvent e )
+            {
+                languageSensitiveData.changed ( e );
+            }
+
+            @Override
+            public void treeStructureChanged ( final TreeModelEvent e )
+            {
+                languageSensitiveData.reset ();
+            }
+        };
+        if ( component.getModel () != null )
+        {
+            component.getModel ().addTreeModelListener ( languageSensitiveDataListener );
+        }
+
         languageSensitive = new LanguageListener ()
         {
             @Override
@@ -626,14 +736,7 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
                 component.getModel () instanceof LanguageSensitive ||
                 component instanceof WebExTree && ( ( WebExTree ) component ).getDataProvider () instanceof LanguageSensitive ||
                 component instanceof WebAsyncTree && ( ( WebAsyncTree ) component ).getDataProvider () instanceof LanguageSensitive ||
-                TreeUtils.getTreeWalker ( component ).anyMatch ( new Predicate<TreeNode> ()
-                {
-                    @Override
-                    public boolean test ( final TreeNode treeNode )
-                    {
-                        return treeNode instanceof LanguageSensitive;
-                    }
-                } );
+                languageSensitiveData.isLanguageSensitive ( component );
     }
 
     /**
@@ -643,6 +746,12 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
     {
         UILanguageManager.removeLanguageListener ( component, languageSensitive );
         languageSensitive = null;
+        if ( component.getModel () != null )
+        {
+            component.getModel ().removeTreeModelListener ( languageSensitiveDataListener );
+        }
+        languageSensitiveDataListener = null;
+        languageSensitiveData = null;
     }
 
     @Override
@@ -651,6 +760,20 @@ public class TreePainter<C extends JTree, U extends WTreeUI, D extends IDecorati
         // Perform basic actions on property changes
         super.propertyChanged ( property, oldValue, newValue );
 
+        // Tracking model data changes
+        if ( Objects.equals ( property, WebLookAndFeel.MODEL_PROPERTY ) && languageSensitiveDataListener != null )
+        {
+            if ( oldValue != null )
+            {
+                ( ( TreeModel ) oldValue ).removeTreeModelListener ( languageSensitiveDataListener );
+            }
+            if ( newValue != null )
+            {
+                ( ( TreeModel ) newValue ).addTreeModelListener ( languageSensitiveDataListener );
+            }
+            languageSensitiveData.reset ();
+        }
+
         // Update visual drop location
         if ( Objects.equals ( property, WebTree.DROP_LOCATION_PROPERTY ) && dropLocationPainter != null )
         {
@@ -23,10 +23,16 @@ import com.alee.api.annotations.Nullable;
 import com.alee.utils.ReflectUtils;
 import com.alee.utils.TextUtils;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Custom {@link javax.swing.tree.MutableTreeNode} implementation for {@link com.alee.extended.tree.WebExTree}.
  * This node always contains an identifier unique within its tree component model.
  *
+ * By default random identifiers are generated for new nodes. Compact identifiers mode can be enabled through
+ * {@link #setCompactIds(boolean)} to generate short sequential identifiers instead, which is faster and takes noticeably less
+ * memory for trees with large amount of nodes. Compact identifiers are only unique within single application run.
+ *
  * @param <N> tree node type
  * @param <T> stored object type
  * @author Mikle Garin
@@ -42,6 +48,23 @@ public class UniqueNode<N extends UniqueNode<N, T>, T> extends WebTreeNode<N, T>
      */
     protected static final String ID_PREFIX = "UN";
 
+    /**
+     * Prefix for compact node ID.
+     * It contains symbol that is never used in random identifiers to avoid any clashes with them.
+     */
+    protected static final String COMPACT_ID_PREFIX = "UN#";
+
+    /**
+     * Whether or not compact sequential identifiers are generated for new nodes.
+     */
+    private static volatile boolean compactIds = false;
+
+    /**
+     * Last generated compact identifier number.
+     */
+    @NotNull
+    private static final AtomicLong lastCompactId = new AtomicLong ( 0 );
+
     /**
      * Unique node ID.
      */
@@ -53,7 +76,7 @@ public class UniqueNode<N extends UniqueNode<N, T>, T> extends WebTreeNode<N, T>
      */
     public UniqueNode ()
     {
-        this ( TextUtils.generateId ( ID_PREFIX ), null );
+        this ( generateId (), null );
     }
 
     /**
@@ -63,7 +86,7 @@ public class UniqueNode<N extends UniqueNode<N, T>, T> extends WebTreeNode<N, T>
      */
     public UniqueNode ( @Nullable final T userObject )
     {
-        this ( TextUtils.generateId ( ID_PREFIX ), userObject );
+        this ( generateId (), userObject );
     }
 
     /**
@@ -78,6 +101,39 @@ public class UniqueNode<N extends UniqueNode<N, T>, T> extends WebTreeNode<N, T>
         this.id = id;
     }
 
+    /**
+     * Returns whether or not compact sequential identifiers are generated for new nodes.
+     *
+     * @return {@code true} if compact sequential identifiers are generated for new nodes, {@code false} otherwise
+     */
+    public static boolean isCompactIds ()
+    {
+        return compactIds;
+    }
+
+    /**
+     * Sets whether or not compact sequential identifiers should be generated for new nodes.
+     * This setting affects all nodes created afterwards, identifiers of existing nodes are not changed.
+     *
+     * @param compact whether or not compact sequential identifiers should be generated for new nodes
+     */
+    public static void setCompactIds ( final boolean compact )
+    {
+        UniqueNode.compactIds = compact;
+    }
+
+    /**
+     * Returns new node identifier.
+     *
+     * @return new node identifier
+     */
+    @NotNull
+    protected static String generateId ()
+    {
+        return compactIds ? COMPACT_ID_PREFIX + Long.toString ( lastCompactId.incrementAndGet (), Character.MAX_RADIX ) :
+                TextUtils.generateId ( ID_PREFIX );
+    }
+
     /**
      * Returns node ID and creates it if it doesn't exist.
      *
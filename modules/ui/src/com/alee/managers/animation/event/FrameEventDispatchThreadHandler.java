@@ -0,0 +1,148 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.animation.event;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.utils.CoreSwingUtils;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event handler that sends tasks into Swing Event Dispatch Thread in batches.
+ *
+ * Unlike {@link EventDispatchThreadHandler} it doesn't post separate {@link Runnable} for each event.
+ * Events are collected into a batch and there is only one batch dispatch {@link Runnable} in the event queue at any time.
+ * So all transition updates made within one animation frame are applied within single Event Dispatch Thread cycle and
+ * repaints requested by them are coalesced by {@link javax.swing.RepaintManager} into a single paint per window.
+ * Events are still performed in the order they were received.
+ *
+ * @author Mikle Garin
+ * @see <a href="https://github.com/mgarin/weblaf/wiki/How-to-use-AnimationManager">How to use AnimationManager</a>
+ * @see com.alee.managers.animation.AnimationManager
+ */
+public final class FrameEventDispatchThreadHandler implements EventHandler
+{
+    /**
+     * Globally available handler instance.
+     * Useful since there might be no point in spawning additional instances.
+     */
+    private static FrameEventDispatchThreadHandler instance;
+
+    /**
+     * Events waiting to be performed.
+     */
+    @NotNull
+    private final List<Runnable> events;
+
+    /**
+     * Batch dispatch {@link Runnable}.
+     */
+    @NotNull
+    private final Runnable dispatcher;
+
+    /**
+     * Returns globally available handler instance.
+     *
+     * @return globally available handler instance
+     */
+    public static FrameEventDispatchThreadHandler get ()
+    {
+        if ( instance == null )
+        {
+            synchronized ( FrameEventDispatchThreadHandler.class )
+            {
+                if ( instance == null )
+                {
+                    instance = new FrameEventDispatchThreadHandler ();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Constructs new {@link FrameEventDispatchThreadHandler}.
+     */
+    public FrameEventDispatchThreadHandler ()
+    {
+        this.events = new ArrayList<Runnable> ();
+        this.dispatcher = new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                dispatch ();
+            }
+        };
+    }
+
+    @Override
+    public void handle ( @NotNull final Runnable event )
+    {
+        final boolean schedule;
+        synchronized ( events )
+        {
+            schedule = events.isEmpty ();
+            events.add ( event );
+        }
+        if ( schedule )
+        {
+            CoreSwingUtils.invokeLater ( dispatcher );
+        }
+    }
+
+    /**
+     * Returns amount of events waiting to be performed.
+     *
+     * @return amount of events waiting to be performed
+     */
+    public int getPendingEvents ()
+    {
+        synchronized ( events )
+        {
+            return events.size ();
+        }
+    }
+
+    /**
+     * Performs all collected events.
+     * Events received while this batch is performed will be dispatched within the next batch.
+     */
+    private void dispatch ()
+    {
+        final List<Runnable> batch;
+        synchronized ( events )
+        {
+            batch = new ArrayList<Runnable> ( events );
+            events.clear ();
+        }
+        for ( final Runnable event : batch )
+        {
+            try
+            {
+                event.run ();
+            }
+            catch ( final Exception e )
+            {
+                LoggerFactory.getLogger ( FrameEventDispatchThreadHandler.class ).error ( "Unable to perform transition event", e );
+            }
+        }
+    }
+}
@@ -29,10 +29,9 @@ import java.awt.*;
 import java.awt.event.AWTEventListener;
 import java.awt.event.MouseEvent;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.lang.reflect.Method;
+import java.util.*;
 import java.util.List;
-import java.util.Map;
 
 /**
  * This manager allows you to track certain component their children hover state by adding your custom {@link HoverTracker} or
@@ -59,11 +58,27 @@ public final class HoverManager
 
     /**
      * {@link HoverTracker}s registered for specific {@link JComponent}s.
+     * These trackers are only involved with their tracked {@link JComponent} and its children, so on hover change only those
+     * registered for {@link JComponent}s in old and new hover owners ancestry are checked.
      */
     @NotNull
     private static final WeakComponentDataOrderedSet<JComponent, HoverTracker> trackers =
             new WeakComponentDataOrderedSet<JComponent, HoverTracker> ( "HoverManager.HoverTracker", 200 );
 
+    /**
+     * {@link HoverTracker}s with custom {@link HoverTracker#isInvolved(JComponent, Component)} implementation.
+     * These trackers might be involved with any {@link Component}, so they are checked on every hover change.
+     */
+    @NotNull
+    private static final WeakComponentDataOrderedSet<JComponent, HoverTracker> customTrackers =
+            new WeakComponentDataOrderedSet<JComponent, HoverTracker> ( "HoverManager.CustomHoverTracker", 10 );
+
+    /**
+     * Whether or not {@link HoverTracker} classes use default {@link DefaultHoverTracker#isInvolved(JComponent, Component)}.
+     */
+    @NotNull
+    private static final Map<Class<?>, Boolean> defaultInvolvement = new HashMap<Class<?>, Boolean> ( 10 );
+
     /**
      * Reference to previously hovered {@link Component}.
      */
@@ -465,7 +480,14 @@ public final class HoverManager
      */
     public static void addHoverTracker ( @NotNull final JComponent component, @NotNull final HoverTracker hoverTracker )
     {
-        trackers.add ( component, hoverTracker );
+        if ( isDefaultInvolvement ( hoverTracker ) )
+        {
+            trackers.add ( component, hoverTracker );
+        }
+        else
+        {
+            customTrackers.add ( component, hoverTracker );
+        }
     }
 
     /**
@@ -477,6 +499,7 @@ public final class HoverManager
     public static void removeHoverTracker ( @NotNull final JComponent component, @NotNull final HoverTracker hoverTracker )
     {
         trackers.remove ( component, hoverTracker );
+        customTrackers.remove ( component, hoverTracker );
     }
 
     /**
@@ -487,6 +510,65 @@ public final class HoverManager
     public static void removeHoverTrackers ( @NotNull final JComponent component )
     {
         trackers.clear ( component );
+        customTrackers.clear ( component );
+    }
+
+    /**
+     * Returns whether or not specified {@link HoverTracker} uses default {@link DefaultHoverTracker#isInvolved(JComponent, Component)}.
+     * Such {@link HoverTracker} is only involved with its tracked {@link JComponent} and its children.
+     *
+     * @param hoverTracker {@link HoverTracker} to check
+     * @return {@code true} if specified {@link HoverTracker} uses default involvement check, {@code false} otherwise
+     */
+    private static boolean isDefaultInvolvement ( @NotNull final HoverTracker hoverTracker )
+    {
+        final boolean isDefault;
+        if ( hoverTracker instanceof DefaultHoverTracker )
+        {
+            final Class<? extends HoverTracker> type = hoverTracker.getClass ();
+            synchronized ( defaultInvolvement )
+            {
+                Boolean value = defaultInvolvement.get ( type );
+                if ( value == null )
+                {
+                    try
+                    {
+                        final Method method = type.getMethod ( "isInvolved", JComponent.class, Component.class );
+                        value = method.getDeclaringClass () == DefaultHoverTracker.class;
+                    }
+                    catch ( final NoSuchMethodException e )
+                    {
+                        value = false;
+                    }
+                    defaultInvolvement.put ( type, value );
+                }
+                isDefault = value;
+            }
+        }
+        else
+        {
+            isDefault = false;
+        }
+        return isDefault;
+    }
+
+    /**
+     * Provides {@link HoverTracker}s registered for the specified {@link Component} and its ancestors into {@link BiConsumer}.
+     *
+     * @param component {@link Component} to start from
+     * @param visited   {@link Set} of {@link Component}s which trackers were already provided
+     * @param consumer  {@link BiConsumer} for tracked {@link JComponent} and {@link HoverTracker}
+     */
+    private static void updateTrackers ( @Nullable final Component component, @NotNull final Set<Component> visited,
+                                         @NotNull final BiConsumer<JComponent, HoverTracker> consumer )
+    {
+        for ( Component ancestor = component; ancestor != null && visited.add ( ancestor ); ancestor = ancestor.getParent () )
+        {
+            if ( ancestor instanceof JComponent )
+            {
+                trackers.forEachData ( ( JComponent ) ancestor, consumer );
+            }
+        }
     }
 
     /**
@@ -510,8 +592,8 @@ public final class HoverManager
             hoverOwner = new WeakReference<Component> ( newHover );
             hoverOwnerWindow = new WeakReference<Window> ( CoreSwingUtils.getWindowAncestor ( newHover ) );
 
-            // Iterating through all registered hover trackers
-            trackers.forEachData ( new BiConsumer<JComponent, HoverTracker> ()
+            // Checking hover trackers that might be affected by this change
+            final BiConsumer<JComponent, HoverTracker> update = new BiConsumer<JComponent, HoverTracker> ()
             {
                 @Override
                 public void accept ( final JComponent tracked, final HoverTracker hoverTracker )
@@ -536,7 +618,15 @@ public final class HoverManager
                         }
                     }
                 }
-            } );
+            };
+
+            // Default trackers can only be involved if tracked component is in old or new hover owner ancestry
+            final Set<Component> visited = Collections.newSetFromMap ( new IdentityHashMap<Component, Boolean> () );
+            updateTrackers ( oldHover, visited, update );
+            updateTrackers ( newHover, visited, update );
+
+            // Custom trackers have to be checked every time
+            customTrackers.forEachData ( update );
 
             // Firing global component listeners
             globalComponentHoverListeners.forEachData ( new BiConsumer<JComponent, GlobalHoverListener> ()
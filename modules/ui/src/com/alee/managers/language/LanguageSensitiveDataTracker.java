@@ -0,0 +1,139 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.language;
+
+import com.alee.api.annotations.Nullable;
+
+import javax.swing.*;
+
+/**
+ * Tracks whether or not component data contains {@link LanguageSensitive} elements based on data change events.
+ * It is used by component painters to avoid checking all data elements upon each {@link Language} change.
+ *
+ * Tracker knows either that data contains {@link LanguageSensitive} elements, that it doesn't contain them or that it is unknown.
+ * While data doesn't contain {@link LanguageSensitive} elements only added and changed elements are checked. Once data contains them
+ * removed or changed elements make the state unknown since it is not possible to check removed elements anymore. Unknown state is
+ * resolved by checking all data elements, but only upon the next {@link #isLanguageSensitive()} call.
+ *
+ * Component can also have {@link #LANGUAGE_SENSITIVE_DATA_PROPERTY} client property set to explicitly specify whether or not its data
+ * is language-sensitive, in that case data elements are not checked at all.
+ *
+ * @param <E> data change event type
+ * @author Mikle Garin
+ */
+public abstract class LanguageSensitiveDataTracker<E>
+{
+    /**
+     * {@link Boolean} client property that explicitly specifies whether or not component data is language-sensitive.
+     */
+    public static final String LANGUAGE_SENSITIVE_DATA_PROPERTY = "languageSensitiveData";
+
+    /**
+     * Whether or not data contains {@link LanguageSensitive} elements, {@code null} if it is unknown.
+     */
+    @Nullable
+    protected Boolean sensitive;
+
+    /**
+     * Returns whether or not data of the specified component is language-sensitive.
+     * Data elements are only checked if it is unknown whether or not there are {@link LanguageSensitive} elements.
+     *
+     * @param component component to check {@link #LANGUAGE_SENSITIVE_DATA_PROPERTY} client property for
+     * @return {@code true} if data of the specified component is language-sensitive, {@code false} otherwise
+     */
+    public boolean isLanguageSensitive ( @Nullable final JComponent component )
+    {
+        final Object property = component != null ? component.getClientProperty ( LANGUAGE_SENSITIVE_DATA_PROPERTY ) : null;
+        return property instanceof Boolean ? ( Boolean ) property : isLanguageSensitive ();
+    }
+
+    /**
+     * Returns whether or not data contains {@link LanguageSensitive} elements.
+     * Data elements are only checked if it is unknown whether or not there are {@link LanguageSensitive} elements.
+     *
+     * @return {@code true} if data contains {@link LanguageSensitive} elements, {@code false} otherwise
+     */
+    public boolean isLanguageSensitive ()
+    {
+        if ( sensitive == null )
+        {
+            sensitive = containsLanguageSensitive ( null );
+        }
+        return sensitive;
+    }
+
+    /**
+     * Informs tracker that all data might have changed.
+     */
+    public void reset ()
+    {
+        sensitive = null;
+    }
+
+    /**
+     * Informs tracker that some data elements were added.
+     *
+     * @param event data change event
+     */
+    public void added ( @Nullable final E event )
+    {
+        if ( sensitive == Boolean.FALSE && containsLanguageSensitive ( event ) )
+        {
+            sensitive = true;
+        }
+    }
+
+    /**
+     * Informs tracker that some data elements were removed.
+     *
+     * @param event data change event
+     */
+    public void removed ( @Nullable final E event )
+    {
+        if ( sensitive == Boolean.TRUE )
+        {
+            sensitive = null;
+        }
+    }
+
+    /**
+     * Informs tracker that some data elements were changed.
+     *
+     * @param event data change event
+     */
+    public void changed ( @Nullable final E event )
+    {
+        if ( sensitive == Boolean.TRUE )
+        {
+            sensitive = null;
+        }
+        else
+        {
+            added ( event );
+        }
+    }
+
+    /**
+     * Returns whether or not data elements affected by the specified data change event contain {@link LanguageSensitive} elements.
+     *
+     * @param event data change event, {@code null} means that all data elements should be checked
+     * @return {@code true} if data elements affected by the specified data change event contain {@link LanguageSensitive} elements,
+     * {@code false} otherwise
+     */
+    protected abstract boolean containsLanguageSensitive ( @Nullable E event );
+}
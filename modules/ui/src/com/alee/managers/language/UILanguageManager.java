@@ -38,6 +38,7 @@ import com.alee.laf.tooltip.SwingToolTipLanguage;
 import com.alee.managers.language.data.Dictionary;
 import com.alee.managers.tooltip.CustomToolTipLanguage;
 import com.alee.utils.ArrayUtils;
+import com.alee.utils.collection.WeakHashSet;
 import com.alee.utils.swing.WeakComponentData;
 import com.alee.utils.swing.WeakComponentDataOrderedSet;
 
@@ -61,6 +62,15 @@ import java.util.*;
  */
 public final class UILanguageManager
 {
+    /**
+     * Default maximum time in milliseconds spent on components language update within a single EDT cycle.
+     * Time slicing is disabled by default, so all components are updated right away upon language change.
+     *
+     * @see #getUpdateTimeSlice()
+     * @see #setUpdateTimeSlice(long)
+     */
+    public static final long DEFAULT_UPDATE_TIME_SLICE = 0;
+
     /**
      * Unknown {@link Locale} icon.
      * todo Move into {@link com.alee.managers.icon.IconManager}
@@ -108,6 +118,37 @@ public final class UILanguageManager
     private static final WeakComponentData<JComponent, TranslationKey> components =
             new WeakComponentData<JComponent, TranslationKey> ( "WebLanguageManager.TranslationKey", 100 );
 
+    /**
+     * Registered components indexed by their translation keys.
+     * Used to find components affected by changes in specific translations without iterating through all of them.
+     *
+     * @see #updateComponents(Set)
+     */
+    @NotNull
+    private static final Map<String, Set<JComponent>> componentsByKey = new HashMap<String, Set<JComponent>> ();
+
+    /**
+     * Components awaiting language update, showing ones are kept separately to be updated first.
+     * Both sets only keep weak references to {@link JComponent}s and are guarded by {@link #pendingShowing} lock.
+     *
+     * @see #scheduleUpdate(Collection)
+     * @see #processUpdates()
+     */
+    @NotNull
+    private static final Set<JComponent> pendingShowing = new WeakHashSet<JComponent> ();
+    @NotNull
+    private static final Set<JComponent> pendingHidden = new WeakHashSet<JComponent> ();
+
+    /**
+     * Whether or not pending updates processing is already scheduled on the EDT.
+     */
+    private static boolean updateScheduled = false;
+
+    /**
+     * Maximum time in milliseconds spent on components language update within a single EDT cycle.
+     */
+    private static volatile long updateTimeSlice = DEFAULT_UPDATE_TIME_SLICE;
+
     /**
      * Special comparator for sorting LanguageUpdaters list.
      */
@@ -309,6 +350,28 @@ public final class UILanguageManager
         checkComponentsTextForTranslations = check;
     }
 
+    /**
+     * Returns maximum time in milliseconds spent on components language update within a single EDT cycle.
+     *
+     * @return maximum time in milliseconds spent on components language update within a single EDT cycle
+     */
+    public static long getUpdateTimeSlice ()
+    {
+        return updateTimeSlice;
+    }
+
+    /**
+     * Sets maximum time in milliseconds spent on components language update within a single EDT cycle.
+     * Components that didn't fit into the time slice are updated in the upcoming EDT cycles, showing ones go first.
+     * Zero or negative value disables time slicing and forces all updates to be performed right away.
+     *
+     * @param timeSlice maximum time in milliseconds spent on components language update within a single EDT cycle
+     */
+    public static void setUpdateTimeSlice ( final long timeSlice )
+    {
+        UILanguageManager.updateTimeSlice = timeSlice;
+    }
+
     /**
      * Returns {@link Icon} for the specified {@link Language}.
      * By default there are {@link Icon}s only for languages supported by WebLaF.
@@ -651,6 +714,7 @@ public final class UILanguageManager
 
         // Registering component
         components.set ( component, new TranslationKey ( key, actualData ) );
+        indexComponent ( component, key );
 
         // Updating component language
         updateComponent ( component );
@@ -667,7 +731,11 @@ public final class UILanguageManager
         mustBeInitialized ();
 
         // Unregistering component
-        components.clear ( component );
+        final TranslationKey translationKey = components.clear ( component );
+        if ( translationKey != null )
+        {
+            unindexComponent ( component, translationKey.getKey () );
+        }
     }
 
     /**
@@ -704,6 +772,7 @@ public final class UILanguageManager
 
     /**
      * Forces full language update for all registered components.
+     * Update can be time-sliced, see {@link #setUpdateTimeSlice(long)} for details.
      */
     public static void updateComponents ()
     {
@@ -711,18 +780,12 @@ public final class UILanguageManager
         mustBeInitialized ();
 
         // Updating all registered components
-        components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
-        {
-            @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
-            {
-                updateComponent ( component );
-            }
-        } );
+        scheduleUpdate ( components.components () );
     }
 
     /**
      * Forces language update for components with the specified keys.
+     * Update can be time-sliced, see {@link #setUpdateTimeSlice(long)} for details.
      *
      * @param keys language keys of the components to update
      */
@@ -731,18 +794,154 @@ public final class UILanguageManager
         // Must be initialized
         mustBeInitialized ();
 
+        // Collecting components registered for provided keys
+        // Entries left empty by garbage-collected components are dropped along the way
+        final List<JComponent> affected = new ArrayList<JComponent> ();
+        synchronized ( componentsByKey )
+        {
+            if ( keys.size () <= componentsByKey.size () )
+            {
+                for ( final String key : keys )
+                {
+                    final Set<JComponent> keyComponents = componentsByKey.get ( key );
+                    if ( keyComponents != null )
+                    {
+                        if ( keyComponents.isEmpty () )
+                        {
+                            componentsByKey.remove ( key );
+                        }
+                        affected.addAll ( keyComponents );
+                    }
+                }
+            }
+            else
+            {
+                final Iterator<Map.Entry<String, Set<JComponent>>> iterator = componentsByKey.entrySet ().iterator ();
+                while ( iterator.hasNext () )
+                {
+                    final Map.Entry<String, Set<JComponent>> entry = iterator.next ();
+                    if ( entry.getValue ().isEmpty () )
+                    {
+                        iterator.remove ();
+                    }
+                    else if ( keys.contains ( entry.getKey () ) )
+                    {
+                        affected.addAll ( entry.getValue () );
+                    }
+                }
+            }
+        }
+
         // Updating components registered for provided keys
-        components.forEach ( new BiConsumer<JComponent, TranslationKey> ()
+        scheduleUpdate ( affected );
+    }
+
+    /**
+     * Schedules language update for the specified {@link JComponent}s and processes as many of them as possible right away.
+     * Showing {@link JComponent}s are updated before hidden ones, remaining updates are processed in upcoming EDT cycles.
+     *
+     * @param components {@link JComponent}s to update
+     */
+    private static void scheduleUpdate ( @NotNull final Collection<JComponent> components )
+    {
+        if ( !components.isEmpty () )
         {
-            @Override
-            public void accept ( @NotNull final JComponent component, @NotNull final TranslationKey translationKey )
+            synchronized ( pendingShowing )
             {
-                if ( keys.contains ( translationKey.getKey () ) )
+                for ( final JComponent component : components )
                 {
-                    updateComponent ( component );
+                    if ( component.isShowing () )
+                    {
+                        pendingHidden.remove ( component );
+                        pendingShowing.add ( component );
+                    }
+                    else if ( !pendingShowing.contains ( component ) )
+                    {
+                        pendingHidden.add ( component );
+                    }
                 }
             }
-        } );
+            processUpdates ();
+        }
+    }
+
+    /**
+     * Processes pending {@link JComponent}s language updates until they are over or current time slice runs out.
+     * In the latter case processing continues in the next EDT cycle.
+     */
+    private static void processUpdates ()
+    {
+        final long timeSlice = updateTimeSlice;
+        final long deadline = System.nanoTime () + timeSlice * 1000000L;
+        while ( true )
+        {
+            // Retrieving next pending component
+            final JComponent component;
+            synchronized ( pendingShowing )
+            {
+                final Set<JComponent> pending = !pendingShowing.isEmpty () ? pendingShowing : pendingHidden;
+                final Iterator<JComponent> iterator = pending.iterator ();
+                if ( iterator.hasNext () )
+                {
+                    component = iterator.next ();
+                    iterator.remove ();
+                }
+                else
+                {
+                    break;
+                }
+            }
+
+            // Updating component unless it was unregistered while waiting
+            if ( components.contains ( component ) )
+            {
+                updateComponent ( component );
+            }
+
+            // Postponing remaining updates to the next EDT cycle
+            if ( timeSlice > 0 && System.nanoTime () >= deadline )
+            {
+                synchronized ( pendingShowing )
+                {
+                    if ( !updateScheduled && ( !pendingShowing.isEmpty () || !pendingHidden.isEmpty () ) )
+                    {
+                        updateScheduled = true;
+                        SwingUtilities.invokeLater ( new Runnable ()
+                        {
+                            @Override
+                            public void run ()
+                            {
+                                synchronized ( pendingShowing )
+                                {
+                                    updateScheduled = false;
+                                    promoteShowing ();
+                                }
+                                processUpdates ();
+                            }
+                        } );
+                    }
+                }
+                break;
+            }
+        }
+    }
+
+    /**
+     * Moves pending hidden {@link JComponent}s that became showing since they were scheduled to the showing ones.
+     * Must be called under {@link #pendingShowing} lock.
+     */
+    private static void promoteShowing ()
+    {
+        final Iterator<JComponent> iterator = pendingHidden.iterator ();
+        while ( iterator.hasNext () )
+        {
+            final JComponent component = iterator.next ();
+            if ( component.isShowing () )
+            {
+                iterator.remove ();
+                pendingShowing.add ( component );
+            }
+        }
     }
 
     /**
@@ -796,7 +995,12 @@ public final class UILanguageManager
 
             // Updating component translation settings
             final TranslationKey translationKey = new TranslationKey ( key, actualData );
-            components.set ( component, translationKey );
+            final TranslationKey oldTranslationKey = components.set ( component, translationKey );
+            if ( oldTranslationKey != null && Objects.notEquals ( oldTranslationKey.getKey (), key ) )
+            {
+                unindexComponent ( component, oldTranslationKey.getKey () );
+                indexComponent ( component, key );
+            }
 
             // Updating component language
             final LanguageUpdater updater = getLanguageUpdater ( component );
@@ -809,6 +1013,48 @@ public final class UILanguageManager
         }
     }
 
+    /**
+     * Adds {@link JComponent} into {@link #componentsByKey} index.
+     *
+     * @param component {@link JComponent} to index
+     * @param key       translation key
+     */
+    private static void indexComponent ( @NotNull final JComponent component, @NotNull final String key )
+    {
+        synchronized ( componentsByKey )
+        {
+            Set<JComponent> keyComponents = componentsByKey.get ( key );
+            if ( keyComponents == null )
+            {
+                keyComponents = new WeakHashSet<JComponent> ( 2 );
+                componentsByKey.put ( key, keyComponents );
+            }
+            keyComponents.add ( component );
+        }
+    }
+
+    /**
+     * Removes {@link JComponent} from {@link #componentsByKey} index.
+     *
+     * @param component {@link JComponent} to remove from index
+     * @param key       translation key
+     */
+    private static void unindexComponent ( @NotNull final JComponent component, @NotNull final String key )
+    {
+        synchronized ( componentsByKey )
+        {
+            final Set<JComponent> keyComponents = componentsByKey.get ( key );
+            if ( keyComponents != null )
+            {
+                keyComponents.remove ( component );
+                if ( keyComponents.isEmpty () )
+                {
+                    componentsByKey.remove ( key );
+                }
+            }
+        }
+    }
+
     /**
      * Returns actual {@link JComponent} translation data based on its translation settings.
      *
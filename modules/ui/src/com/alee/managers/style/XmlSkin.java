@@ -23,7 +23,7 @@ import com.alee.api.resource.Resource;
 import com.alee.managers.icon.set.IconSet;
 import com.alee.managers.style.data.ComponentStyle;
 import com.alee.managers.style.data.SkinInfo;
-import com.alee.utils.XmlUtils;
+import com.alee.managers.style.data.SkinSnapshot;
 
 import javax.swing.*;
 import java.util.List;
@@ -50,12 +50,13 @@ public class XmlSkin extends AbstractSkin
 
     /**
      * Constructs new {@link XmlSkin}.
+     * Resolved {@link SkinInfo} is loaded from {@link SkinSnapshot} whenever snapshots are enabled and it is up-to-date with the XML.
      *
      * @param resource extension {@link Resource}
      */
     public XmlSkin ( @NotNull final Resource resource )
     {
-        this ( ( SkinInfo ) XmlUtils.fromXML ( resource ) );
+        this ( SkinSnapshot.load ( resource ) );
     }
 
     /**
@@ -45,6 +45,8 @@ import javax.swing.*;
 import javax.swing.plaf.ComponentUI;
 import javax.swing.plaf.UIResource;
 import java.awt.*;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashMap;
@@ -847,6 +849,25 @@ public final class ComponentStyle implements CloneBehavior<ComponentStyle>, Seri
         return styleCopy;
     }
 
+    /**
+     * Restores transient parent field for child {@link ComponentStyle}s upon deserialization.
+     *
+     * @param in {@link ObjectInputStream}
+     * @throws IOException            if an I/O error occurs
+     * @throws ClassNotFoundException if class of a serialized object cannot be found
+     */
+    private void readObject ( @NotNull final ObjectInputStream in ) throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject ();
+        if ( CollectionUtils.notEmpty ( nestedStyles ) )
+        {
+            for ( final ComponentStyle child : nestedStyles )
+            {
+                child.setParent ( this );
+            }
+        }
+    }
+
     @NotNull
     @Override
     public ComponentStyle clone ()
@@ -319,6 +319,7 @@ public final class SkinInfoConverter extends ReflectionConverter
             if ( nearClassMap != null )
             {
                 final String xml = nearClassMap.get ( resource.getPath () );
+                SkinSnapshot.included ( resource, xml != null );
                 if ( xml != null )
                 {
                     skinInfo = XmlUtils.fromXML ( xml, context );
@@ -330,6 +331,7 @@ public final class SkinInfoConverter extends ReflectionConverter
             }
             else
             {
+                SkinSnapshot.included ( resource, false );
                 skinInfo = XmlUtils.fromXML ( resource, context );
             }
             return skinInfo;
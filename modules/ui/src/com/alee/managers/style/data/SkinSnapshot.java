@@ -0,0 +1,747 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.api.resource.ClassResource;
+import com.alee.api.resource.FileResource;
+import com.alee.api.resource.Resource;
+import com.alee.api.resource.UrlResource;
+import com.alee.api.version.Version;
+import com.alee.extended.layout.AbstractLineLayout;
+import com.alee.utils.FileUtils;
+import com.alee.utils.UtilityException;
+import com.alee.utils.XmlUtils;
+import org.slf4j.LoggerFactory;
+
+import java.awt.*;
+import java.io.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Binary snapshot storage for resolved {@link SkinInfo} instances.
+ * XML skin is parsed only once - resolved {@link SkinInfo} is then written into a snapshot file along with checksums of all XML
+ * resources that were read to build it, including all nested {@code include} resources.
+ * On subsequent loads snapshot is used instead of XML as long as all those checksums still match.
+ * Any problem with reading or writing snapshot simply results in the skin being parsed from XML as usual.
+ *
+ * Snapshots are disabled by default, they can be enabled by specifying snapshots directory through {@link #setDirectory(File)}.
+ * Snapshots can also be created in advance with {@link #compile(Resource, File)} and shipped along with application.
+ *
+ * Snapshot is read with a restricted {@link ObjectInputStream} that only accepts library classes and a limited set of JDK classes
+ * used within styles, any other class found in the snapshot is rejected and skin is parsed from XML instead.
+ * Objects that are not {@link Serializable} are only written if they are explicitly supported, otherwise snapshot is not created.
+ *
+ * @author Mikle Garin
+ * @see com.alee.managers.style.XmlSkin
+ * @see SkinInfo
+ */
+public final class SkinSnapshot
+{
+    /**
+     * Snapshot format version.
+     * Must be incremented whenever snapshot file structure changes.
+     */
+    private static final int FORMAT = 1;
+
+    /**
+     * Snapshot file extension.
+     */
+    private static final String EXTENSION = ".skin";
+
+    /**
+     * Checksum used for unavailable resources.
+     */
+    private static final long UNAVAILABLE = -1L;
+
+    /**
+     * Package of library classes allowed in snapshots.
+     */
+    @NotNull
+    private static final String ALLOWED_PACKAGE = "com.alee.";
+
+    /**
+     * JDK classes allowed in snapshots.
+     */
+    @NotNull
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<String> ( Arrays.asList (
+            "java.lang.String", "java.lang.Number", "java.lang.Boolean", "java.lang.Character", "java.lang.Byte", "java.lang.Short",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.lang.Enum",
+            "java.util.ArrayList", "java.util.LinkedList", "java.util.HashMap", "java.util.LinkedHashMap", "java.util.HashSet",
+            "java.util.LinkedHashSet", "java.util.concurrent.ConcurrentHashMap", "java.util.concurrent.ConcurrentHashMap$Segment",
+            "java.util.concurrent.locks.ReentrantLock", "java.util.concurrent.locks.ReentrantLock$Sync",
+            "java.util.concurrent.locks.ReentrantLock$NonfairSync", "java.util.concurrent.locks.AbstractQueuedSynchronizer",
+            "java.util.concurrent.locks.AbstractOwnableSynchronizer",
+            "java.awt.Color", "java.awt.Dimension", "java.awt.Insets", "java.awt.Point", "java.awt.Rectangle", "java.awt.Font",
+            "java.awt.geom.Point2D$Float", "java.awt.geom.Point2D$Double", "java.awt.geom.Dimension2D",
+            "java.awt.geom.Rectangle2D$Float", "java.awt.geom.Rectangle2D$Double", "java.awt.geom.RectangularShape",
+            "javax.swing.ImageIcon", "javax.swing.ScrollPaneLayout"
+    ) );
+
+    /**
+     * Resources read while parsing skin XML on the current thread.
+     */
+    @NotNull
+    private static final ThreadLocal<Tracker> tracker = new ThreadLocal<Tracker> ();
+
+    /**
+     * Directory where snapshots are stored.
+     * Snapshots are disabled if it is set to {@code null}, which is the default.
+     */
+    @Nullable
+    private static File directory = null;
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private SkinSnapshot ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns directory where snapshots are stored or {@code null} if snapshots are disabled.
+     *
+     * @return directory where snapshots are stored or {@code null} if snapshots are disabled
+     */
+    @Nullable
+    public static File getDirectory ()
+    {
+        return directory;
+    }
+
+    /**
+     * Sets directory where snapshots are stored.
+     * Specifying existing or new directory enables snapshots, specifying {@code null} disables them.
+     * Make sure that specified directory cannot be modified by anyone except the application itself.
+     *
+     * @param directory directory where snapshots are stored
+     */
+    public static void setDirectory ( @Nullable final File directory )
+    {
+        SkinSnapshot.directory = directory;
+    }
+
+    /**
+     * Returns {@link SkinInfo} for the specified XML {@link Resource}.
+     * Snapshot is used if it exists and is up-to-date, otherwise XML is parsed and snapshot is updated.
+     *
+     * @param resource skin XML {@link Resource}
+     * @return {@link SkinInfo} for the specified XML {@link Resource}
+     */
+    @NotNull
+    public static SkinInfo load ( @NotNull final Resource resource )
+    {
+        final File dir = directory;
+        final String key = getKey ( resource );
+        final File file = dir != null && key != null ? getFile ( dir, key ) : null;
+        if ( file != null && file.isFile () )
+        {
+            final SkinInfo snapshot = read ( file, key );
+            if ( snapshot != null )
+            {
+                return snapshot;
+            }
+        }
+        final Tracker resources = new Tracker ( resource );
+        final SkinInfo skinInfo = parse ( resource, resources );
+        if ( file != null && resources.cacheable )
+        {
+            write ( file, key, skinInfo, resources.resources );
+        }
+        return skinInfo;
+    }
+
+    /**
+     * Parses skin XML from the specified {@link Resource} and writes its snapshot into the specified file.
+     * This can be used to prepare snapshots at build time.
+     *
+     * @param resource skin XML {@link Resource}
+     * @param file     snapshot file
+     * @return {@code true} if snapshot was successfully written, {@code false} otherwise
+     */
+    public static boolean compile ( @NotNull final Resource resource, @NotNull final File file )
+    {
+        final String key = getKey ( resource );
+        final Tracker resources = new Tracker ( resource );
+        final SkinInfo skinInfo = parse ( resource, resources );
+        return key != null && resources.cacheable && write ( file, key, skinInfo, resources.resources );
+    }
+
+    /**
+     * Returns snapshot file for the specified {@link Resource} within the specified directory.
+     *
+     * @param directory snapshots directory
+     * @param resource  skin XML {@link Resource}
+     * @return snapshot file for the specified {@link Resource} within the specified directory
+     */
+    @Nullable
+    public static File getFile ( @NotNull final File directory, @NotNull final Resource resource )
+    {
+        final String key = getKey ( resource );
+        return key != null ? getFile ( directory, key ) : null;
+    }
+
+    /**
+     * Informs tracker on the current thread that specified {@link Resource} was included into the skin being parsed.
+     *
+     * @param resource included XML {@link Resource}
+     * @param custom   whether or not custom XML was used instead of the {@link Resource} content
+     */
+    static void included ( @NotNull final Resource resource, final boolean custom )
+    {
+        final Tracker current = tracker.get ();
+        if ( current != null )
+        {
+            current.resources.add ( resource );
+            if ( custom )
+            {
+                current.cacheable = false;
+            }
+        }
+    }
+
+    /**
+     * Returns {@link SkinInfo} parsed from XML {@link Resource} while tracking all included resources.
+     *
+     * @param resource  skin XML {@link Resource}
+     * @param resources {@link Tracker} for included resources
+     * @return {@link SkinInfo} parsed from XML {@link Resource}
+     */
+    @NotNull
+    private static SkinInfo parse ( @NotNull final Resource resource, @NotNull final Tracker resources )
+    {
+        final Tracker previous = tracker.get ();
+        tracker.set ( resources );
+        try
+        {
+            return XmlUtils.fromXML ( resource );
+        }
+        finally
+        {
+            tracker.set ( previous );
+        }
+    }
+
+    /**
+     * Returns {@link SkinInfo} read from the specified snapshot file or {@code null} if snapshot is outdated or cannot be read.
+     *
+     * @param file     snapshot file
+     * @param resource skin XML {@link Resource}
+     * @return {@link SkinInfo} read from the specified snapshot file or {@code null} if snapshot is outdated or cannot be read
+     */
+    @Nullable
+    static SkinInfo read ( @NotNull final File file, @NotNull final Resource resource )
+    {
+        final String key = getKey ( resource );
+        return key != null ? read ( file, key ) : null;
+    }
+
+    /**
+     * Returns {@link SkinInfo} read from the specified snapshot file or {@code null} if snapshot is outdated or cannot be read.
+     *
+     * @param file snapshot file
+     * @param key  skin XML {@link Resource} key
+     * @return {@link SkinInfo} read from the specified snapshot file or {@code null} if snapshot is outdated or cannot be read
+     */
+    @Nullable
+    private static SkinInfo read ( @NotNull final File file, @NotNull final String key )
+    {
+        ObjectInputStream ois = null;
+        try
+        {
+            ois = new SnapshotInputStream ( new BufferedInputStream ( new FileInputStream ( file ) ) );
+            if ( ois.readInt () != FORMAT || !getVersion ().equals ( ois.readUTF () ) || !key.equals ( ois.readUTF () ) )
+            {
+                return null;
+            }
+            final int count = ois.readInt ();
+            for ( int i = 0; i < count; i++ )
+            {
+                final Resource resource = ( Resource ) ois.readObject ();
+                final long checksum = ois.readLong ();
+                if ( checksum == UNAVAILABLE || checksum != getChecksum ( resource ) )
+                {
+                    return null;
+                }
+            }
+            return ( SkinInfo ) ois.readObject ();
+        }
+        catch ( final Exception e )
+        {
+            final String msg = "Unable to read skin snapshot, XML will be used instead: %s";
+            LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file.getAbsolutePath () ), e );
+            return null;
+        }
+        finally
+        {
+            close ( ois );
+        }
+    }
+
+    /**
+     * Writes {@link SkinInfo} snapshot into the specified file.
+     *
+     * @param file      snapshot file
+     * @param key       skin XML {@link Resource} key
+     * @param skinInfo  {@link SkinInfo} to write
+     * @param resources all XML resources {@link SkinInfo} was built from
+     * @return {@code true} if snapshot was successfully written, {@code false} otherwise
+     */
+    private static boolean write ( @NotNull final File file, @NotNull final String key, @NotNull final SkinInfo skinInfo,
+                                   @NotNull final List<Resource> resources )
+    {
+        final File temp = new File ( file.getParentFile (), file.getName () + ".tmp" );
+        SnapshotOutputStream oos = null;
+        try
+        {
+            FileUtils.ensureDirectoryExists ( file.getParentFile () );
+            oos = new SnapshotOutputStream ( new BufferedOutputStream ( new FileOutputStream ( temp ) ) );
+            oos.writeInt ( FORMAT );
+            oos.writeUTF ( getVersion () );
+            oos.writeUTF ( key );
+            oos.writeInt ( resources.size () );
+            for ( final Resource resource : resources )
+            {
+                oos.writeObject ( resource );
+                oos.writeLong ( getChecksum ( resource ) );
+            }
+            oos.writeObject ( skinInfo );
+            oos.close ();
+            oos = null;
+            if ( file.exists () && !file.delete () || !temp.renameTo ( file ) )
+            {
+                throw new IOException ( "Unable to replace snapshot file" );
+            }
+            return true;
+        }
+        catch ( final Exception e )
+        {
+            final String msg = "Unable to write skin snapshot: %s";
+            LoggerFactory.getLogger ( SkinSnapshot.class ).warn ( String.format ( msg, file.getAbsolutePath () ), e );
+            close ( oos );
+            temp.delete ();
+            return false;
+        }
+    }
+
+    /**
+     * Returns unique key for the specified {@link Resource} or {@code null} if it is not supported.
+     *
+     * @param resource {@link Resource}
+     * @return unique key for the specified {@link Resource} or {@code null} if it is not supported
+     */
+    @Nullable
+    private static String getKey ( @NotNull final Resource resource )
+    {
+        final String key;
+        if ( resource instanceof ClassResource )
+        {
+            key = "class:" + ( ( ClassResource ) resource ).getClassName () + ":" + ( ( ClassResource ) resource ).getPath ();
+        }
+        else if ( resource instanceof FileResource )
+        {
+            key = "file:" + new File ( ( ( FileResource ) resource ).getPath () ).getAbsolutePath ();
+        }
+        else if ( resource instanceof UrlResource )
+        {
+            key = "url:" + ( ( UrlResource ) resource ).getUrl ();
+        }
+        else
+        {
+            key = null;
+        }
+        return key;
+    }
+
+    /**
+     * Returns snapshot file for the specified {@link Resource} key.
+     *
+     * @param directory snapshots directory
+     * @param key       {@link Resource} key
+     * @return snapshot file for the specified {@link Resource} key
+     */
+    @NotNull
+    private static File getFile ( @NotNull final File directory, @NotNull final String key )
+    {
+        final int separator = Math.max ( key.lastIndexOf ( '/' ), key.lastIndexOf ( File.separatorChar ) );
+        final String name = key.substring ( separator + 1 ).replaceAll ( "[^a-zA-Z0-9.-]", "_" );
+        return new File ( directory, name + "-" + Integer.toHexString ( key.hashCode () ) + EXTENSION );
+    }
+
+    /**
+     * Returns library version snapshots are bound to.
+     *
+     * @return library version snapshots are bound to
+     */
+    @NotNull
+    private static String getVersion ()
+    {
+        return new Version ( SkinInfo.class ).toString ();
+    }
+
+    /**
+     * Returns checksum of the specified {@link Resource} content.
+     *
+     * @param resource {@link Resource}
+     * @return checksum of the specified {@link Resource} content
+     */
+    private static long getChecksum ( @NotNull final Resource resource )
+    {
+        InputStream is = null;
+        try
+        {
+            is = resource.getInputStream ();
+            final CRC32 crc = new CRC32 ();
+            final byte[] buffer = new byte[ 8192 ];
+            int read;
+            while ( ( read = is.read ( buffer ) ) != -1 )
+            {
+                crc.update ( buffer, 0, read );
+            }
+            return crc.getValue ();
+        }
+        catch ( final Exception e )
+        {
+            return UNAVAILABLE;
+        }
+        finally
+        {
+            close ( is );
+        }
+    }
+
+    /**
+     * Closes specified {@link Closeable} ignoring any exceptions.
+     *
+     * @param closeable {@link Closeable} to close
+     */
+    private static void close ( @Nullable final Closeable closeable )
+    {
+        if ( closeable != null )
+        {
+            try
+            {
+                closeable.close ();
+            }
+            catch ( final IOException ignored )
+            {
+                // Nothing to do here
+            }
+        }
+    }
+
+    /**
+     * Resources read while parsing single skin XML.
+     */
+    private static final class Tracker
+    {
+        /**
+         * All XML resources skin was built from.
+         */
+        @NotNull
+        private final List<Resource> resources;
+
+        /**
+         * Whether or not parsed skin can be stored in snapshot.
+         */
+        private boolean cacheable;
+
+        /**
+         * Constructs new {@link Tracker}.
+         *
+         * @param resource skin XML {@link Resource}
+         */
+        public Tracker ( @NotNull final Resource resource )
+        {
+            this.resources = new ArrayList<Resource> ( 8 );
+            this.resources.add ( resource );
+            this.cacheable = true;
+        }
+    }
+
+    /**
+     * Returns whether or not class with the specified name is allowed in snapshots.
+     *
+     * @param name class name
+     * @return {@code true} if class with the specified name is allowed in snapshots, {@code false} otherwise
+     */
+    private static boolean isAllowed ( @NotNull final String name )
+    {
+        final boolean allowed;
+        if ( name.startsWith ( "[" ) )
+        {
+            final String component = name.replaceFirst ( "^\\[+", "" );
+            allowed = component.length () == 1 ||
+                    component.startsWith ( "L" ) && component.endsWith ( ";" ) &&
+                            isAllowed ( component.substring ( 1, component.length () - 1 ) );
+        }
+        else
+        {
+            allowed = name.startsWith ( ALLOWED_PACKAGE ) || ALLOWED_CLASSES.contains ( name );
+        }
+        return allowed;
+    }
+
+    /**
+     * {@link ObjectOutputStream} that replaces objects which are not {@link Serializable} with their serializable data.
+     * Some of the style properties like layouts and strokes are not {@link Serializable} so they have to be handled separately.
+     * Classes that are not allowed in snapshots are rejected right away, otherwise snapshot would be written but never read.
+     */
+    private static final class SnapshotOutputStream extends ObjectOutputStream
+    {
+        /**
+         * Replacements provided so far.
+         * Required to preserve identity of objects referenced multiple times.
+         */
+        @NotNull
+        private final Map<Object, Object> replacements;
+
+        /**
+         * Whether or not class that is not allowed in snapshots was encountered.
+         * Stream is aborted at that point and only writes the error, so classes are no longer checked afterwards.
+         */
+        private boolean rejected;
+
+        /**
+         * Constructs new {@link SnapshotOutputStream}.
+         *
+         * @param out {@link OutputStream} to write to
+         * @throws IOException if an I/O error occurs
+         */
+        public SnapshotOutputStream ( @NotNull final OutputStream out ) throws IOException
+        {
+            super ( out );
+            this.replacements = new IdentityHashMap<Object, Object> ();
+            enableReplaceObject ( true );
+        }
+
+        @Override
+        protected void annotateClass ( @NotNull final Class<?> type ) throws IOException
+        {
+            if ( !rejected && !isAllowed ( type.getName () ) )
+            {
+                rejected = true;
+                throw new InvalidClassException ( type.getName (), "Class is not allowed in skin snapshot" );
+            }
+        }
+
+        @Override
+        protected void annotateProxyClass ( @NotNull final Class<?> type ) throws IOException
+        {
+            throw new InvalidClassException ( "Proxy classes are not allowed in skin snapshot" );
+        }
+
+        @Override
+        protected Object replaceObject ( final Object object ) throws IOException
+        {
+            final Object replacement;
+            if ( object == null || object instanceof Serializable )
+            {
+                replacement = object;
+            }
+            else if ( replacements.containsKey ( object ) )
+            {
+                replacement = replacements.get ( object );
+            }
+            else
+            {
+                if ( object.getClass () == BasicStroke.class )
+                {
+                    replacement = new StrokeData ( ( BasicStroke ) object );
+                }
+                else if ( object instanceof AbstractLineLayout )
+                {
+                    replacement = new LineLayoutData ( ( AbstractLineLayout ) object );
+                }
+                else
+                {
+                    throw new NotSerializableException ( object.getClass ().getName () );
+                }
+                replacements.put ( object, replacement );
+            }
+            return replacement;
+        }
+    }
+
+    /**
+     * {@link ObjectInputStream} that only accepts classes allowed in snapshots.
+     * It ensures that modified snapshot file cannot be used to instantiate arbitrary classes available in classpath.
+     */
+    private static final class SnapshotInputStream extends ObjectInputStream
+    {
+        /**
+         * Constructs new {@link SnapshotInputStream}.
+         *
+         * @param in {@link InputStream} to read from
+         * @throws IOException if an I/O error occurs
+         */
+        public SnapshotInputStream ( @NotNull final InputStream in ) throws IOException
+        {
+            super ( in );
+        }
+
+        @Override
+        protected Class<?> resolveClass ( @NotNull final ObjectStreamClass descriptor ) throws IOException, ClassNotFoundException
+        {
+            final String name = descriptor.getName ();
+            if ( !isAllowed ( name ) )
+            {
+                throw new InvalidClassException ( name, "Class is not allowed in skin snapshot" );
+            }
+            return super.resolveClass ( descriptor );
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass ( @NotNull final String[] interfaces ) throws IOException
+        {
+            throw new InvalidClassException ( "Proxy classes are not allowed in skin snapshot" );
+        }
+    }
+
+    /**
+     * Serializable {@link BasicStroke} data.
+     */
+    private static final class StrokeData implements Serializable
+    {
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@link BasicStroke} settings.
+         */
+        private final float width;
+        private final int cap;
+        private final int join;
+        private final float miterLimit;
+        private final float[] dash;
+        private final float dashPhase;
+
+        /**
+         * Constructs new {@link StrokeData}.
+         *
+         * @param stroke {@link BasicStroke}
+         */
+        public StrokeData ( @NotNull final BasicStroke stroke )
+        {
+            this.width = stroke.getLineWidth ();
+            this.cap = stroke.getEndCap ();
+            this.join = stroke.getLineJoin ();
+            this.miterLimit = stroke.getMiterLimit ();
+            this.dash = stroke.getDashArray ();
+            this.dashPhase = stroke.getDashPhase ();
+        }
+
+        /**
+         * Returns {@link BasicStroke} restored from this data.
+         *
+         * @return {@link BasicStroke} restored from this data
+         */
+        private Object readResolve ()
+        {
+            return new BasicStroke ( width, cap, join, miterLimit, dash, dashPhase );
+        }
+    }
+
+    /**
+     * Serializable {@link AbstractLineLayout} data.
+     * Layout is restored through its default constructor, so only layouts without any state besides spacings are supported.
+     */
+    private static final class LineLayoutData implements Serializable
+    {
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * {@link AbstractLineLayout} class.
+         */
+        @NotNull
+        private final Class<? extends AbstractLineLayout> type;
+
+        /**
+         * {@link AbstractLineLayout} settings.
+         */
+        private final int spacing;
+        private final int partsSpacing;
+
+        /**
+         * Constructs new {@link LineLayoutData}.
+         *
+         * @param layout {@link AbstractLineLayout}
+         * @throws NotSerializableException if layout has additional state or cannot be restored through its default constructor
+         */
+        public LineLayoutData ( @NotNull final AbstractLineLayout layout ) throws NotSerializableException
+        {
+            this.type = layout.getClass ();
+            for ( Class<?> owner = type; owner != AbstractLineLayout.class; owner = owner.getSuperclass () )
+            {
+                for ( final Field field : owner.getDeclaredFields () )
+                {
+                    if ( !Modifier.isStatic ( field.getModifiers () ) )
+                    {
+                        throw new NotSerializableException ( type.getName () );
+                    }
+                }
+            }
+            try
+            {
+                type.getConstructor ();
+            }
+            catch ( final NoSuchMethodException e )
+            {
+                throw new NotSerializableException ( type.getName () );
+            }
+            this.spacing = layout.getSpacing ();
+            this.partsSpacing = layout.getPartsSpacing ();
+        }
+
+        /**
+         * Returns {@link AbstractLineLayout} restored from this data.
+         *
+         * @return {@link AbstractLineLayout} restored from this data
+         * @throws ObjectStreamException if layout cannot be restored
+         */
+        private Object readResolve () throws ObjectStreamException
+        {
+            if ( !AbstractLineLayout.class.isAssignableFrom ( type ) )
+            {
+                throw new InvalidObjectException ( "Unsupported layout type: " + type.getName () );
+            }
+            try
+            {
+                final AbstractLineLayout layout = type.getConstructor ().newInstance ();
+                layout.setSpacing ( spacing );
+                layout.setPartsSpacing ( partsSpacing );
+                return layout;
+            }
+            catch ( final Exception e )
+            {
+                throw new InvalidObjectException ( "Unable to restore " + type.getName () + ": " + e.getMessage () );
+            }
+        }
+    }
+}
\ No newline at end of file
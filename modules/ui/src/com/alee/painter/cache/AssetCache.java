@@ -0,0 +1,289 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.cache;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+import com.alee.utils.UtilityException;
+import com.alee.utils.cache.CacheStatistics;
+import com.alee.utils.ninepatch.NinePatchIcon;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shared cache for rendered assets like shadow images, {@link NinePatchIcon}s and textures.
+ * Assets are kept with strong references until total estimated memory used by them exceeds the budget.
+ * Once it does - least recently used assets are evicted until memory usage fits the budget again.
+ *
+ * Cache also collects {@link CacheStatistics} which can be used to choose appropriate budget.
+ *
+ * @author Mikle Garin
+ * @see AssetKey
+ */
+public final class AssetCache
+{
+    /**
+     * Default memory budget in bytes.
+     */
+    public static final long DEFAULT_BUDGET = 32 * 1024 * 1024;
+
+    /**
+     * Cached assets in least recently used order.
+     */
+    @NotNull
+    private static final LinkedHashMap<AssetKey, Asset> assets = new LinkedHashMap<AssetKey, Asset> ( 64, 0.75f, true );
+
+    /**
+     * Memory budget in bytes.
+     */
+    private static long budget = DEFAULT_BUDGET;
+
+    /**
+     * Estimated memory used by cached assets in bytes.
+     */
+    private static long memory = 0;
+
+    /**
+     * {@link CacheStatistics}.
+     */
+    @NotNull
+    private static final CacheStatistics statistics = new CacheStatistics ();
+
+    /**
+     * Private constructor to avoid instantiation.
+     */
+    private AssetCache ()
+    {
+        throw new UtilityException ( "Utility classes are not meant to be instantiated" );
+    }
+
+    /**
+     * Returns cached asset for the specified {@link AssetKey} or {@code null} if it is not cached.
+     *
+     * @param key  {@link AssetKey}
+     * @param type asset type
+     * @param <T>  asset type
+     * @return cached asset for the specified {@link AssetKey} or {@code null} if it is not cached
+     */
+    @Nullable
+    public static synchronized <T> T get ( @NotNull final AssetKey key, @NotNull final Class<T> type )
+    {
+        final Asset asset = assets.get ( key );
+        final T value;
+        if ( asset != null && type.isInstance ( asset.value ) )
+        {
+            statistics.hit ();
+            value = type.cast ( asset.value );
+        }
+        else
+        {
+            statistics.miss ();
+            value = null;
+        }
+        return value;
+    }
+
+    /**
+     * Caches specified asset under the specified {@link AssetKey} and returns it.
+     * Asset that doesn't fit into the memory budget on its own is not cached.
+     *
+     * @param key   {@link AssetKey}
+     * @param value asset to cache
+     * @param <T>   asset type
+     * @return cached asset
+     */
+    @NotNull
+    public static synchronized <T> T put ( @NotNull final AssetKey key, @NotNull final T value )
+    {
+        final long size = sizeOf ( value );
+        if ( size <= budget )
+        {
+            final Asset previous = assets.put ( key, new Asset ( value, size ) );
+            if ( previous != null )
+            {
+                memory -= previous.size;
+            }
+            memory += size;
+            trim ();
+        }
+        return value;
+    }
+
+    /**
+     * Removes all assets produced by the specified producer.
+     *
+     * @param producer asset producer identifier
+     */
+    public static synchronized void clear ( @NotNull final Object producer )
+    {
+        final Iterator<Map.Entry<AssetKey, Asset>> iterator = assets.entrySet ().iterator ();
+        while ( iterator.hasNext () )
+        {
+            final Map.Entry<AssetKey, Asset> entry = iterator.next ();
+            if ( entry.getKey ().getProducer ().equals ( producer ) )
+            {
+                memory -= entry.getValue ().size;
+                iterator.remove ();
+            }
+        }
+    }
+
+    /**
+     * Removes all cached assets.
+     */
+    public static synchronized void clear ()
+    {
+        assets.clear ();
+        memory = 0;
+    }
+
+    /**
+     * Returns memory budget in bytes.
+     *
+     * @return memory budget in bytes
+     */
+    public static synchronized long getBudget ()
+    {
+        return budget;
+    }
+
+    /**
+     * Sets memory budget in bytes.
+     * Least recently used assets are evicted right away if they do not fit into the new budget.
+     *
+     * @param budget memory budget in bytes
+     */
+    public static synchronized void setBudget ( final long budget )
+    {
+        AssetCache.budget = Math.max ( 0, budget );
+        trim ();
+    }
+
+    /**
+     * Returns estimated memory used by cached assets in bytes.
+     *
+     * @return estimated memory used by cached assets in bytes
+     */
+    public static synchronized long getMemoryUsage ()
+    {
+        return memory;
+    }
+
+    /**
+     * Returns amount of cached assets.
+     *
+     * @return amount of cached assets
+     */
+    public static synchronized int size ()
+    {
+        return assets.size ();
+    }
+
+    /**
+     * Returns {@link CacheStatistics}.
+     *
+     * @return {@link CacheStatistics}
+     */
+    @NotNull
+    public static CacheStatistics getStatistics ()
+    {
+        return statistics;
+    }
+
+    /**
+     * Evicts least recently used assets until memory usage fits the budget.
+     */
+    private static void trim ()
+    {
+        final Iterator<Asset> iterator = assets.values ().iterator ();
+        while ( memory > budget && iterator.hasNext () )
+        {
+            memory -= iterator.next ().size;
+            iterator.remove ();
+            statistics.evicted ();
+        }
+    }
+
+    /**
+     * Returns estimated memory used by the specified asset in bytes.
+     *
+     * @param asset asset to estimate memory usage for
+     * @return estimated memory used by the specified asset in bytes
+     */
+    private static long sizeOf ( @NotNull final Object asset )
+    {
+        final long size;
+        if ( asset instanceof BufferedImage )
+        {
+            final DataBuffer buffer = ( ( BufferedImage ) asset ).getRaster ().getDataBuffer ();
+            size = ( long ) buffer.getSize () * buffer.getNumBanks () * DataBuffer.getDataTypeSize ( buffer.getDataType () ) / 8;
+        }
+        else if ( asset instanceof NinePatchIcon )
+        {
+            size = sizeOf ( ( ( NinePatchIcon ) asset ).getRawImage () );
+        }
+        else if ( asset instanceof TexturePaint )
+        {
+            size = sizeOf ( ( ( TexturePaint ) asset ).getImage () );
+        }
+        else if ( asset instanceof Icon )
+        {
+            size = 4L * ( ( Icon ) asset ).getIconWidth () * ( ( Icon ) asset ).getIconHeight ();
+        }
+        else
+        {
+            size = 0;
+        }
+        return size;
+    }
+
+    /**
+     * Cached asset along with its estimated memory usage.
+     */
+    private static final class Asset
+    {
+        /**
+         * Cached asset.
+         */
+        @NotNull
+        private final Object value;
+
+        /**
+         * Estimated memory used by the asset in bytes.
+         */
+        private final long size;
+
+        /**
+         * Constructs new {@link Asset}.
+         *
+         * @param value cached asset
+         * @param size  estimated memory used by the asset in bytes
+         */
+        public Asset ( @NotNull final Object value, final long size )
+        {
+            this.value = value;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.cache;
+
+import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Structured key for assets stored in {@link AssetCache}.
+ * Consists of asset producer identifier and a set of settings asset was produced with.
+ * Settings are compared using {@link Arrays#deepEquals(Object[], Object[])} so nested arrays are also supported.
+ *
+ * @author Mikle Garin
+ * @see AssetCache
+ */
+public final class AssetKey
+{
+    /**
+     * Asset producer identifier.
+     */
+    @NotNull
+    private final Object producer;
+
+    /**
+     * Settings asset was produced with.
+     */
+    @NotNull
+    private final Object[] settings;
+
+    /**
+     * Precalculated hash code.
+     */
+    private final int hashCode;
+
+    /**
+     * Constructs new {@link AssetKey}.
+     *
+     * @param producer asset producer identifier
+     * @param settings settings asset was produced with
+     */
+    public AssetKey ( @NotNull final Object producer, @Nullable final Object... settings )
+    {
+        this.producer = producer;
+        this.settings = settings != null ? settings : new Object[ 0 ];
+        this.hashCode = 31 * producer.hashCode () + Arrays.deepHashCode ( this.settings );
+    }
+
+    /**
+     * Returns asset producer identifier.
+     *
+     * @return asset producer identifier
+     */
+    @NotNull
+    public Object getProducer ()
+    {
+        return producer;
+    }
+
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( object == this )
+        {
+            equals = true;
+        }
+        else if ( object instanceof AssetKey )
+        {
+            final AssetKey other = ( AssetKey ) object;
+            equals = hashCode == other.hashCode && producer.equals ( other.producer ) && Arrays.deepEquals ( settings, other.settings );
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return hashCode;
+    }
+
+    @NotNull
+    @Override
+    public String toString ()
+    {
+        return producer + Arrays.deepToString ( settings );
+    }
+}
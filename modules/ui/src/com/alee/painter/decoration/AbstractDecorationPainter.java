@@ -43,7 +43,6 @@ import com.alee.painter.SectionPainter;
 import com.alee.utils.CollectionUtils;
 import com.alee.utils.SwingUtils;
 import com.alee.utils.SystemUtils;
-import com.alee.utils.TextUtils;
 
 import javax.swing.*;
 import javax.swing.event.AncestorEvent;
@@ -97,9 +96,10 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
      * Runtime variables.
      */
     protected transient List<String> states;
-    protected transient Map<String, D> stateDecorationCache;
+    protected transient BitSet statesMask;
+    protected transient Map<BitSet, D> stateDecorationCache;
     protected transient Map<String, D> decorationCache;
-    protected transient String current;
+    protected transient BitSet current;
     protected transient boolean focused;
     protected transient boolean inFocusedParent;
     protected transient boolean hover;
@@ -114,7 +114,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
          * We should always update states last to ensure initial values are correct.
          * Although we still do it before updating border in {@link super#afterInstall()}.
          */
-        this.states = collectDecorationStates ();
+        setDecorationStates ( collectDecorationStates () );
 
         /**
          * Performing basic actions after installation ends.
@@ -146,6 +146,8 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         this.stateDecorationCache = null;
         this.decorationCache = null;
         this.states = null;
+        this.statesMask = null;
+        this.current = null;
 
         /**
          * Performing basic actions after uninstallation ends.
@@ -1010,9 +1012,9 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         if ( decorations != null && decorations.size () > 0 )
         {
             // Decoration key
-            // States are properly sorted, so their order is always the same
-            final String previous = this.current;
-            current = TextUtils.listToString ( states, "," );
+            // States mask is only updated when states change, so no objects are created here
+            final BitSet previous = this.current;
+            current = statesMask;
 
             // Creating decoration caches
             if ( stateDecorationCache == null )
@@ -1020,7 +1022,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
                 // State decorations cache
                 // Entry: [ component state -> built decoration reference ]
                 // It is used for fastest possible access to component state decorations
-                stateDecorationCache = new HashMap<String, D> ( decorations.size () );
+                stateDecorationCache = new HashMap<BitSet, D> ( decorations.size () );
 
                 // Decoration combinations cache
                 // Entry: [ decorations combination key -> built decoration reference ]
@@ -1133,6 +1135,17 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         return result;
     }
 
+    /**
+     * Saves current decoration states along with their {@link BitSet} mask used as decoration cache key.
+     *
+     * @param states current decoration states
+     */
+    protected final void setDecorationStates ( @NotNull final List<String> states )
+    {
+        this.states = states;
+        this.statesMask = DecorationUtils.getStatesMask ( states );
+    }
+
     /**
      * Returns unique decorations combination key.
      *
@@ -1175,7 +1188,7 @@ public abstract class AbstractDecorationPainter<C extends JComponent, U extends
         if ( !CollectionUtils.equals ( this.states, states, true ) )
         {
             // Saving new decoration states
-            this.states = states;
+            setDecorationStates ( states );
 
             // Updating section painters decoration states
             // This is required to provide state changes into section painters used within this painter
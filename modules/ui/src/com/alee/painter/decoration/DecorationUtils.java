@@ -27,8 +27,11 @@ import com.alee.utils.SwingUtils;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Various utilities used by decoration data.
@@ -37,6 +40,13 @@ import java.util.List;
  */
 public final class DecorationUtils
 {
+    /**
+     * Bit indices assigned to decoration states.
+     * Each distinct state gets its own index upon first usage, indices are never reused.
+     */
+    @NotNull
+    private static final Map<String, Integer> stateIndices = new HashMap<String, Integer> ( 64 );
+
     /**
      * Returns gradient paint.
      *
@@ -154,6 +164,36 @@ public final class DecorationUtils
         return states;
     }
 
+    /**
+     * Returns {@link BitSet} mask for the specified decoration states.
+     * Masks are equal for the same sets of states regardless of states order, so they can be used as decoration cache keys.
+     *
+     * @param states decoration states
+     * @return {@link BitSet} mask for the specified decoration states
+     */
+    @NotNull
+    public static BitSet getStatesMask ( @Nullable final List<String> states )
+    {
+        final BitSet mask = new BitSet ();
+        if ( CollectionUtils.notEmpty ( states ) )
+        {
+            synchronized ( stateIndices )
+            {
+                for ( final String state : states )
+                {
+                    Integer index = stateIndices.get ( state );
+                    if ( index == null )
+                    {
+                        index = stateIndices.size ();
+                        stateIndices.put ( state, index );
+                    }
+                    mask.set ( index );
+                }
+            }
+        }
+        return mask;
+    }
+
     /**
      * Informs about {@link Component} decoration states changes.
      *
@@ -19,6 +19,8 @@ package com.alee.painter.decoration.background;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.painter.cache.AssetCache;
+import com.alee.painter.cache.AssetKey;
 import com.alee.painter.decoration.DecorationException;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.utils.ImageUtils;
@@ -42,6 +44,11 @@ import java.awt.image.BufferedImage;
 public class AlphaLayerBackground<C extends JComponent, D extends IDecoration<C, D>, I extends AlphaLayerBackground<C, D, I>>
         extends AbstractTextureBackground<C, D, I>
 {
+    /**
+     * {@link AssetCache} producer identifier.
+     */
+    protected static final String TEXTURE = "AlphaLayerBackground.texture";
+
     /**
      * Default cell size.
      */
@@ -141,7 +148,12 @@ public class AlphaLayerBackground<C extends JComponent, D extends IDecoration<C,
     @NotNull
     protected BufferedImage createTextureImage ( @NotNull final C c, @NotNull final D d )
     {
-        return createAlphaBackgroundTexture ( getSize ( c, d ), getDarkColor ( c, d ), getLightColor ( c, d ) );
+        final Dimension size = getSize ( c, d );
+        final Color darkColor = getDarkColor ( c, d );
+        final Color lightColor = getLightColor ( c, d );
+        final AssetKey key = new AssetKey ( TEXTURE, size.width, size.height, darkColor, lightColor );
+        final BufferedImage texture = AssetCache.get ( key, BufferedImage.class );
+        return texture != null ? texture : AssetCache.put ( key, createAlphaBackgroundTexture ( size, darkColor, lightColor ) );
     }
 
     /**
@@ -19,6 +19,8 @@ package com.alee.painter.decoration.background;
 
 import com.alee.api.annotations.NotNull;
 import com.alee.api.annotations.Nullable;
+import com.alee.painter.cache.AssetCache;
+import com.alee.painter.cache.AssetKey;
 import com.alee.painter.decoration.DecorationException;
 import com.alee.painter.decoration.IDecoration;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
@@ -41,6 +43,11 @@ import java.awt.image.BufferedImage;
 public class PresetTextureBackground<C extends JComponent, D extends IDecoration<C, D>, I extends PresetTextureBackground<C, D, I>>
         extends AbstractImageTextureBackground<C, D, I>
 {
+    /**
+     * {@link AssetCache} producer identifier.
+     */
+    protected static final String TEXTURE = "PresetTextureBackground.texture";
+
     /**
      * Preset {@link TextureType}.
      */
@@ -69,6 +76,9 @@ public class PresetTextureBackground<C extends JComponent, D extends IDecoration
     @Override
     protected BufferedImage createTextureImage ( @NotNull final C c, @NotNull final D d )
     {
-        return getPreset ( c, d ).getTexture ();
+        final TextureType preset = getPreset ( c, d );
+        final AssetKey key = new AssetKey ( TEXTURE, preset );
+        final BufferedImage texture = AssetCache.get ( key, BufferedImage.class );
+        return texture != null ? texture : AssetCache.put ( key, preset.getTexture () );
     }
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.jdk.Objects;
 import com.alee.api.merge.behavior.OmitOnMerge;
+import com.alee.painter.cache.AssetCache;
+import com.alee.painter.cache.AssetKey;
 import com.alee.painter.decoration.DecorationException;
 import com.alee.painter.decoration.IDecoration;
 import com.alee.utils.ImageUtils;
@@ -32,9 +34,6 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.GeneralPath;
 import java.awt.image.BufferedImage;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Shadow that grows larger to the south part of the component.
@@ -49,10 +48,9 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
         extends AbstractShadow<C, D, I>
 {
     /**
-     * Shadow images cache.
+     * {@link AssetCache} producer identifier.
      */
-    protected static transient final Map<String, WeakReference<NinePatchIcon>> shadowCache =
-            new HashMap<String, WeakReference<NinePatchIcon>> ( 4 );
+    protected static final String SHADOW_ICON = "ExpandingShadow.icon";
 
     /**
      * Last shadow {@link NinePatchIcon} cache key.
@@ -60,7 +58,7 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
     @Nullable
     @OmitOnClone
     @OmitOnMerge
-    protected transient String shadowKey;
+    protected transient AssetKey shadowKey;
 
     /**
      * {@link NinePatchIcon} currently used as shadow.
@@ -103,21 +101,19 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
     @NotNull
     protected NinePatchIcon getShadow ( final int width, final float opacity )
     {
-        final String key = getShadowKey ( width, opacity );
+        final AssetKey key = getShadowKey ( width, opacity );
         if ( shadowIcon == null || Objects.notEquals ( key, shadowKey ) )
         {
             // Updating key
             shadowKey = key;
 
             // Retrieving icon for new key
-            final WeakReference<NinePatchIcon> reference = shadowCache.get ( key );
-            shadowIcon = reference != null ? reference.get () : null;
+            shadowIcon = AssetCache.get ( key, NinePatchIcon.class );
 
             // Creating new shadow icon if needed
             if ( shadowIcon == null )
             {
-                shadowIcon = createShadowIcon ( new Rectangle ( width * 6, width * 6 ), width, opacity );
-                shadowCache.put ( key, new WeakReference<NinePatchIcon> ( shadowIcon ) );
+                shadowIcon = AssetCache.put ( key, createShadowIcon ( new Rectangle ( width * 6, width * 6 ), width, opacity ) );
             }
         }
         return shadowIcon;
@@ -168,8 +164,8 @@ public class ExpandingShadow<C extends JComponent, D extends IDecoration<C, D>,
      * @return shadow image cache key
      */
     @NotNull
-    protected String getShadowKey ( final int width, final float opacity )
+    protected AssetKey getShadowKey ( final int width, final float opacity )
     {
-        return width + "," + opacity;
+        return new AssetKey ( SHADOW_ICON, width, opacity );
     }
 }
\ No newline at end of file
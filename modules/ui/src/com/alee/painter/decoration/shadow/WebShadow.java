@@ -22,13 +22,14 @@ import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.behavior.OmitOnClone;
 import com.alee.api.merge.behavior.OmitOnMerge;
 import com.alee.graphics.filters.ShadowFilter;
+import com.alee.painter.cache.AssetCache;
+import com.alee.painter.cache.AssetKey;
 import com.alee.painter.decoration.WebDecoration;
 import com.alee.painter.decoration.shape.IShape;
 import com.alee.painter.decoration.shape.StretchInfo;
 import com.alee.utils.ColorUtils;
 import com.alee.utils.GraphicsUtils;
 import com.alee.utils.ImageUtils;
-import com.alee.utils.TextUtils;
 import com.alee.utils.general.Pair;
 import com.alee.utils.ninepatch.NinePatchIcon;
 import com.thoughtworks.xstream.annotations.XStreamAlias;
@@ -37,14 +38,11 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.Area;
 import java.awt.image.BufferedImage;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Basic shadow that can be painted on any shape.
  * Shadow is generated through the {@link com.alee.graphics.filters.ShadowFilter} and saved into {@link java.awt.image.BufferedImage}.
- * Generated image with the shadow is usually kept in cache to optimize UI performance.
+ * Generated image with the shadow is usually kept in {@link AssetCache} to optimize UI performance.
  *
  * One generated shadow sometimes might be reused by multiple components of different size.
  * That happens only when {@link com.alee.painter.decoration.shape.IShape} implementation this shadow is based on provides stretch areas.
@@ -59,21 +57,10 @@ import java.util.Map;
 public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I extends WebShadow<C, D, I>> extends AbstractShadow<C, D, I>
 {
     /**
-     * Shadow icons cache.
+     * {@link AssetCache} producer identifiers.
      */
-    protected static transient final Map<String, WeakReference<NinePatchIcon>> shadowIconsCache =
-            new HashMap<String, WeakReference<NinePatchIcon>> ( 100 );
-
-    /**
-     * Shadow images cache.
-     */
-    protected static transient final Map<String, WeakReference<BufferedImage>> shadowImagesCache =
-            new HashMap<String, WeakReference<BufferedImage>> ( 20 );
-
-    /**
-     * Cache key data separator.
-     */
-    protected static final String separator = ",";
+    protected static final String SHADOW_ICON = "WebShadow.icon";
+    protected static final String SHADOW_IMAGE = "WebShadow.image";
 
     /**
      * Reference keeping shadow icon in memory.
@@ -216,12 +203,11 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         // Width and height is added as key in case there are no horizontal and/or vertical stretchable areas
         final int hor = stretchInfo.getHorizontalStretch () == null ? bounds.width : 0;
         final int ver = stretchInfo.getVerticalStretch () == null ? bounds.height : 0;
-        final String key = TextUtils.getSettingsKey ( ShadowType.outer, hor, ver, width, opacity, color, settings );
-        NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
+        final AssetKey key = new AssetKey ( SHADOW_ICON, ShadowType.outer, hor, ver, width, opacity, color, settings );
+        NinePatchIcon shadow = AssetCache.get ( key, NinePatchIcon.class );
         if ( shadow == null )
         {
-            shadow = createShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
-            shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            shadow = AssetCache.put ( key, createShadowIcon ( stretchInfo, bounds, width, opacity, color, shape ) );
         }
         return shadow;
     }
@@ -292,12 +278,11 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                                                  @NotNull final Color color, @NotNull final Shape shape,
                                                  @Nullable final Object... settings )
     {
-        final String key = TextUtils.getSettingsKey ( ShadowType.outer, bounds.width, bounds.height, width, opacity, color, settings );
-        BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
+        final AssetKey key = new AssetKey ( SHADOW_IMAGE, ShadowType.outer, bounds.width, bounds.height, width, opacity, color, settings );
+        BufferedImage shadow = AssetCache.get ( key, BufferedImage.class );
         if ( shadow == null )
         {
-            shadow = createShadowImage ( bounds, width, opacity, color, shape );
-            shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            shadow = AssetCache.put ( key, createShadowImage ( bounds, width, opacity, color, shape ) );
         }
         return shadow;
     }
@@ -365,12 +350,11 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
         // Width and height is added as key in case there are no horizontal and/or vertical stretchable areas
         final int hor = stretchInfo.getHorizontalStretch () == null ? bounds.width : 0;
         final int ver = stretchInfo.getVerticalStretch () == null ? bounds.height : 0;
-        final String key = TextUtils.getSettingsKey ( ShadowType.inner, hor, ver, width, opacity, color, settings );
-        NinePatchIcon shadow = shadowIconsCache.containsKey ( key ) ? shadowIconsCache.get ( key ).get () : null;
+        final AssetKey key = new AssetKey ( SHADOW_ICON, ShadowType.inner, hor, ver, width, opacity, color, settings );
+        NinePatchIcon shadow = AssetCache.get ( key, NinePatchIcon.class );
         if ( shadow == null )
         {
-            shadow = createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, shape );
-            shadowIconsCache.put ( key, new WeakReference<NinePatchIcon> ( shadow ) );
+            shadow = AssetCache.put ( key, createInnerShadowIcon ( stretchInfo, bounds, width, opacity, color, shape ) );
         }
         return shadow;
     }
@@ -442,12 +426,11 @@ public class WebShadow<C extends JComponent, D extends WebDecoration<C, D>, I ex
                                                       @NotNull final Color color, @NotNull final Shape shape,
                                                       @Nullable final Object... settings )
     {
-        final String key = TextUtils.getSettingsKey ( ShadowType.inner, bounds.width, bounds.height, width, opacity, color, settings );
-        BufferedImage shadow = shadowImagesCache.containsKey ( key ) ? shadowImagesCache.get ( key ).get () : null;
+        final AssetKey key = new AssetKey ( SHADOW_IMAGE, ShadowType.inner, bounds.width, bounds.height, width, opacity, color, settings );
+        BufferedImage shadow = AssetCache.get ( key, BufferedImage.class );
         if ( shadow == null )
         {
-            shadow = createInnerShadowImage ( bounds, width, opacity, color, shape );
-            shadowImagesCache.put ( key, new WeakReference<BufferedImage> ( shadow ) );
+            shadow = AssetCache.put ( key, createInnerShadowImage ( bounds, width, opacity, color, shape ) );
         }
         return shadow;
     }
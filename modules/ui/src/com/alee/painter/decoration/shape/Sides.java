@@ -18,6 +18,7 @@
 package com.alee.painter.decoration.shape;
 
 import com.alee.api.annotations.NotNull;
+import com.alee.api.annotations.Nullable;
 import com.alee.api.clone.CloneBehavior;
 import com.alee.api.clone.RecursiveClone;
 import com.alee.api.merge.Overwriting;
@@ -160,6 +161,32 @@ public final class Sides implements Overwriting, CloneBehavior<Sides>, Serializa
         return new Sides ( top, left, bottom, right );
     }
 
+    @Override
+    public boolean equals ( @Nullable final Object object )
+    {
+        final boolean equals;
+        if ( this == object )
+        {
+            equals = true;
+        }
+        else if ( object instanceof Sides )
+        {
+            final Sides sides = ( Sides ) object;
+            equals = top == sides.top && left == sides.left && bottom == sides.bottom && right == sides.right;
+        }
+        else
+        {
+            equals = false;
+        }
+        return equals;
+    }
+
+    @Override
+    public int hashCode ()
+    {
+        return ( top ? 1 : 0 ) | ( left ? 2 : 0 ) | ( bottom ? 4 : 0 ) | ( right ? 8 : 0 );
+    }
+
     @NotNull
     @Override
     public String toString ()
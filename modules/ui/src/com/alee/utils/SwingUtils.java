@@ -26,6 +26,8 @@ import com.alee.extended.date.WebDateField;
 import com.alee.extended.filechooser.WebFileChooserField;
 import com.alee.extended.pathfield.WebPathField;
 import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.table.TablePackSampling;
+import com.alee.laf.table.TablePacker;
 import com.alee.managers.hotkey.HotkeyData;
 import com.alee.painter.decoration.content.TextRasterization;
 import com.alee.utils.collection.ImmutableList;
@@ -339,6 +341,22 @@ public final class SwingUtils
         }
     }
 
+    /**
+     * Packs all table columns to their preferred width measuring only rows chosen by the specified {@link TablePackSampling}.
+     *
+     * @param table      table to process
+     * @param margin     column side margin
+     * @param sampling   {@link TablePackSampling} strategy
+     * @param sampleSize amount of sampled rows
+     */
+    public static void packColumnWidths ( @NotNull final JTable table, final int margin, @NotNull final TablePackSampling sampling,
+                                          final int sampleSize )
+    {
+        final TablePacker packer = new TablePacker ( table, sampling, sampleSize );
+        packer.setMargin ( margin );
+        packer.packColumnWidths ();
+    }
+
     /**
      * Packs table column at the specified index to its preferred width.
      *
@@ -0,0 +1,209 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.svg;
+
+import com.alee.api.resource.ClassResource;
+import com.alee.iconset.LightIconSet;
+import com.alee.painter.cache.AssetCache;
+import com.kitfox.svg.SVGElement;
+import com.kitfox.svg.animation.AnimationElement;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Collections;
+
+/**
+ * Set of JUnit tests for {@link SvgIcon}.
+ *
+ * @author Mikle Garin
+ */
+public final class SvgIconTest
+{
+    /**
+     * Preparing empty cache.
+     */
+    @Before
+    public void before ()
+    {
+        AssetCache.clear ();
+    }
+
+    /**
+     * Cleaning up cache.
+     */
+    @After
+    public void after ()
+    {
+        AssetCache.clear ();
+    }
+
+    /**
+     * Testing that repeated modifications of the same attribute only leave the last value in icon state.
+     */
+    @Test
+    public void repeatedModifications ()
+    {
+        final SvgIcon icon = createIcon ();
+        for ( int i = 0; i < 100; i++ )
+        {
+            setFill ( icon, i % 2 == 0 ? "#ff0000" : "#0000ff" );
+        }
+        icon.removeAttribute ( icon.find ( "path" ).get ( 0 ), SvgElements.STROKE );
+        icon.removeAttribute ( icon.find ( "path" ).get ( 0 ), SvgElements.STROKE );
+
+        final SvgIcon same = createIcon ();
+        setFill ( same, "#0000ff" );
+        same.removeAttribute ( same.find ( "path" ).get ( 0 ), SvgElements.STROKE );
+
+        if ( !icon.getState ().equals ( same.getState () ) )
+        {
+            throw new RuntimeException ( "Icons with the same attribute values have different state" );
+        }
+    }
+
+    /**
+     * Testing that icons with the same effective attribute values share raster image.
+     */
+    @Test
+    public void sharedRaster ()
+    {
+        final SvgIcon modified = createIcon ();
+        setFill ( modified, "#00ff00" );
+        setFill ( modified, "#0000ff" );
+        setFill ( modified, "#ff0000" );
+
+        final SvgIcon same = createIcon ();
+        setFill ( same, "#ff0000" );
+
+        final SvgIcon other = createIcon ();
+        setFill ( other, "#0000ff" );
+
+        final Dimension size = new Dimension ( 16, 16 );
+        if ( modified.getRaster ( size, 1d ) != same.getRaster ( size, 1d ) )
+        {
+            throw new RuntimeException ( "Icons with the same attribute values do not share raster image" );
+        }
+        if ( modified.getRaster ( size, 1d ) == other.getRaster ( size, 1d ) )
+        {
+            throw new RuntimeException ( "Icons with different attribute values share raster image" );
+        }
+    }
+
+    /**
+     * Testing that elements modified directly are not painted using raster image of unmodified icon.
+     */
+    @Test
+    public void directModification ()
+    {
+        final Dimension size = new Dimension ( 16, 16 );
+        final SvgIcon original = createIcon ();
+        final BufferedImage raster = original.getRaster ( size, 1d );
+
+        final SvgIcon modified = createIcon ();
+        try
+        {
+            final SVGElement path = modified.find ( "path" ).get ( 0 );
+            if ( path.hasAttribute ( SvgElements.FILL, AnimationElement.AT_XML ) )
+            {
+                path.setAttribute ( SvgElements.FILL, AnimationElement.AT_XML, "#ff0000" );
+            }
+            else
+            {
+                path.addAttribute ( SvgElements.FILL, AnimationElement.AT_XML, "#ff0000" );
+            }
+            path.updateTime ( 0 );
+        }
+        catch ( final Exception e )
+        {
+            throw new RuntimeException ( "Unable to modify SVG element", e );
+        }
+        if ( modified.getRaster ( size, 1d ) == raster )
+        {
+            throw new RuntimeException ( "Directly modified icon uses raster image of unmodified icon" );
+        }
+    }
+
+    /**
+     * Testing that icons can be rasterized in advance for the specified scale.
+     */
+    @Test
+    public void rasterizeScale ()
+    {
+        final SvgIcon icon = createIcon ();
+        SvgIcon.rasterize ( Collections.singletonList ( icon ), 2d );
+        if ( icon.cache == null || icon.cache.getWidth () != 32 || icon.cache.getHeight () != 32 )
+        {
+            throw new RuntimeException ( "Icon wasn't rasterized for the specified scale" );
+        }
+        if ( createIcon ().getRaster ( new Dimension ( 16, 16 ), 2d ) != icon.cache )
+        {
+            throw new RuntimeException ( "Rasterized image wasn't shared through cache" );
+        }
+    }
+
+    /**
+     * Testing that icon is rendered at any size without changing its preferred size.
+     */
+    @Test
+    public void renderedSize ()
+    {
+        final SvgIcon icon = createIcon ();
+        final BufferedImage image = icon.asBufferedImage ( 64, 64 );
+        if ( !icon.getPreferredSize ().equals ( new Dimension ( 16, 16 ) ) )
+        {
+            throw new RuntimeException ( "Icon preferred size was changed: " + icon.getPreferredSize () );
+        }
+        boolean stretched = false;
+        for ( int x = 32; x < image.getWidth () && !stretched; x++ )
+        {
+            for ( int y = 32; y < image.getHeight () && !stretched; y++ )
+            {
+                stretched = ( image.getRGB ( x, y ) >>> 24 ) != 0;
+            }
+        }
+        if ( !stretched )
+        {
+            throw new RuntimeException ( "Icon wasn't stretched to the requested size" );
+        }
+    }
+
+    /**
+     * Returns new test {@link SvgIcon}.
+     *
+     * @return new test {@link SvgIcon}
+     */
+    private SvgIcon createIcon ()
+    {
+        return new SvgIcon ( new ClassResource ( LightIconSet.class, "icons/flat/home.svg" ) );
+    }
+
+    /**
+     * Sets fill color of the icon path.
+     *
+     * @param icon  {@link SvgIcon}
+     * @param color fill color
+     */
+    private void setFill ( final SvgIcon icon, final String color )
+    {
+        final SVGElement path = icon.find ( "path" ).get ( 0 );
+        icon.setAttribute ( path, SvgElements.FILL, color );
+    }
+}
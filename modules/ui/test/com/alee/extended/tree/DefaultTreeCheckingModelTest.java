@@ -0,0 +1,145 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.tree;
+
+import com.alee.laf.WebLookAndFeel;
+import com.alee.laf.checkbox.CheckState;
+import com.alee.utils.CoreSwingUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+/**
+ * Set of JUnit tests for {@link DefaultTreeCheckingModel}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class DefaultTreeCheckingModelTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.setForceSingleEventsThread ( true );
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Testing that parent state is resolved correctly after children are replaced with the same amount of different nodes.
+     */
+    @Test
+    public void replacedChildren ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final DefaultMutableTreeNode root = new DefaultMutableTreeNode ( "root" );
+                final DefaultMutableTreeNode a = new DefaultMutableTreeNode ( "a" );
+                final DefaultMutableTreeNode b = new DefaultMutableTreeNode ( "b" );
+                root.add ( a );
+                root.add ( b );
+                final DefaultTreeModel model = new DefaultTreeModel ( root );
+                final WebCheckBoxTree<DefaultMutableTreeNode> tree = new WebCheckBoxTree<DefaultMutableTreeNode> ( model );
+
+                tree.setChecked ( a, true );
+                checkState ( tree, root, CheckState.mixed );
+
+                // Replacing both children with the same amount of different nodes
+                final DefaultMutableTreeNode c = new DefaultMutableTreeNode ( "c" );
+                final DefaultMutableTreeNode d = new DefaultMutableTreeNode ( "d" );
+                model.removeNodeFromParent ( a );
+                model.removeNodeFromParent ( b );
+                model.insertNodeInto ( c, root, 0 );
+                model.insertNodeInto ( d, root, 1 );
+
+                tree.setChecked ( c, true );
+                checkState ( tree, root, CheckState.mixed );
+                tree.setChecked ( d, true );
+                checkState ( tree, root, CheckState.checked );
+            }
+        } );
+    }
+
+    /**
+     * Testing that parent state is resolved correctly after tree structure changes.
+     */
+    @Test
+    public void structureChange ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final DefaultMutableTreeNode root = new DefaultMutableTreeNode ( "root" );
+                final DefaultMutableTreeNode a = new DefaultMutableTreeNode ( "a" );
+                final DefaultMutableTreeNode b = new DefaultMutableTreeNode ( "b" );
+                root.add ( a );
+                root.add ( b );
+                final DefaultTreeModel model = new DefaultTreeModel ( root );
+                final WebCheckBoxTree<DefaultMutableTreeNode> tree = new WebCheckBoxTree<DefaultMutableTreeNode> ( model );
+
+                tree.setChecked ( a, true );
+                checkState ( tree, root, CheckState.mixed );
+
+                // Replacing children silently and reporting structure change
+                final DefaultMutableTreeNode c = new DefaultMutableTreeNode ( "c" );
+                final DefaultMutableTreeNode d = new DefaultMutableTreeNode ( "d" );
+                root.removeAllChildren ();
+                root.add ( c );
+                root.add ( d );
+                model.nodeStructureChanged ( root );
+
+                tree.setChecked ( c, true );
+                checkState ( tree, root, CheckState.mixed );
+            }
+        } );
+    }
+
+    /**
+     * Asserts {@link WebCheckBoxTree} node check state.
+     *
+     * @param tree  {@link WebCheckBoxTree}
+     * @param node  {@link DefaultMutableTreeNode}
+     * @param state expected {@link CheckState}
+     */
+    private void checkState ( final WebCheckBoxTree<DefaultMutableTreeNode> tree, final DefaultMutableTreeNode node,
+                              final CheckState state )
+    {
+        if ( tree.getCheckState ( node ) != state )
+        {
+            throw new RuntimeException ( "Unexpected " + node + " state: " + tree.getCheckState ( node ) + ", expected: " + state );
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.extended.tree;
+
+import com.alee.laf.tree.UniqueNode;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import java.util.*;
+
+/**
+ * Set of JUnit tests for {@link UniqueNodeIndex}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class UniqueNodeIndexTest
+{
+    /**
+     * Amount of identifiers used in tests, large enough to cause multiple table resizes.
+     */
+    private static final int COUNT = 1000;
+
+    /**
+     * Testing nodes addition and removal across table resizes.
+     */
+    @Test
+    public void putAndRemoveNodes ()
+    {
+        final UniqueNodeIndex<TestNode> index = new UniqueNodeIndex<TestNode> ();
+        final List<TestNode> nodes = new ArrayList<TestNode> ( COUNT );
+        for ( int i = 0; i < COUNT; i++ )
+        {
+            final TestNode node = new TestNode ( "node" + i );
+            nodes.add ( node );
+            index.putNode ( node );
+        }
+        checkSize ( index, COUNT );
+        for ( final TestNode node : nodes )
+        {
+            checkNode ( index, node.getId (), node );
+        }
+
+        for ( int i = 0; i < COUNT; i += 2 )
+        {
+            index.removeNode ( nodes.get ( i ).getId () );
+        }
+        checkSize ( index, COUNT / 2 );
+        for ( int i = 0; i < COUNT; i++ )
+        {
+            checkNode ( index, nodes.get ( i ).getId (), i % 2 == 0 ? null : nodes.get ( i ) );
+        }
+        if ( index.getNodes ().size () != COUNT / 2 )
+        {
+            throw new RuntimeException ( "Unexpected amount of nodes: " + index.getNodes ().size () );
+        }
+
+        index.clear ();
+        checkSize ( index, 0 );
+        checkNode ( index, nodes.get ( 1 ).getId (), null );
+    }
+
+    /**
+     * Testing that repeatedly added and removed nodes do not exhaust the table.
+     */
+    @Test
+    public void deletedSlotsReuse ()
+    {
+        final UniqueNodeIndex<TestNode> index = new UniqueNodeIndex<TestNode> ();
+        final TestNode kept = new TestNode ( "kept" );
+        index.putNode ( kept );
+        for ( int i = 0; i < COUNT * 10; i++ )
+        {
+            final TestNode node = new TestNode ( "temporary" + i );
+            index.putNode ( node );
+            checkNode ( index, node.getId (), node );
+            index.removeNode ( node.getId () );
+            checkNode ( index, node.getId (), null );
+        }
+        checkSize ( index, 1 );
+        checkNode ( index, kept.getId (), kept );
+    }
+
+    /**
+     * Testing parent references across table resizes and reparenting.
+     */
+    @Test
+    public void reparent ()
+    {
+        final UniqueNodeIndex<TestNode> index = new UniqueNodeIndex<TestNode> ();
+
+        // Building binary tree where children are added before their parents
+        for ( int i = COUNT - 1; i > 0; i-- )
+        {
+            index.setParentId ( "node" + i, "node" + ( ( i - 1 ) / 2 ) );
+        }
+        checkSize ( index, COUNT );
+        for ( int i = 1; i < COUNT; i++ )
+        {
+            checkParent ( index, "node" + i, "node" + ( ( i - 1 ) / 2 ) );
+        }
+        checkParent ( index, "node0", null );
+
+        // Moving all nodes under new parent, former root is no longer referenced
+        for ( int i = 1; i < COUNT; i++ )
+        {
+            index.setParentId ( "node" + i, "root" );
+        }
+        checkSize ( index, COUNT );
+        for ( int i = 1; i < COUNT; i++ )
+        {
+            checkParent ( index, "node" + i, "root" );
+        }
+
+        // Removing parents releases all identifiers
+        for ( int i = 1; i < COUNT; i++ )
+        {
+            index.setParentId ( "node" + i, null );
+        }
+        checkSize ( index, 0 );
+        checkParent ( index, "node1", null );
+    }
+
+    /**
+     * Testing raw children storage along with nodes and parents.
+     */
+    @Test
+    public void children ()
+    {
+        final UniqueNodeIndex<TestNode> index = new UniqueNodeIndex<TestNode> ();
+        final TestNode parent = new TestNode ( "parent" );
+        final List<TestNode> children = new ArrayList<TestNode> ();
+        index.putNode ( parent );
+        for ( int i = 0; i < COUNT; i++ )
+        {
+            final TestNode child = new TestNode ( "child" + i );
+            children.add ( child );
+            index.putNode ( child );
+            index.setParentId ( child.getId (), parent.getId () );
+        }
+        index.putChildren ( parent.getId (), children );
+        if ( index.getChildren ( parent.getId () ) != children || !index.containsChildren ( parent.getId () ) )
+        {
+            throw new RuntimeException ( "Unexpected children" );
+        }
+
+        // Parent slot is kept while it is referenced by children
+        index.removeNode ( parent.getId () );
+        if ( index.removeChildren ( parent.getId () ) != children || index.containsChildren ( parent.getId () ) )
+        {
+            throw new RuntimeException ( "Children were not removed" );
+        }
+        checkSize ( index, COUNT + 1 );
+        for ( final TestNode child : children )
+        {
+            checkParent ( index, child.getId (), parent.getId () );
+            index.removeNode ( child.getId () );
+            index.setParentId ( child.getId (), null );
+        }
+        checkSize ( index, 0 );
+    }
+
+    /**
+     * Testing random operations against reference {@link Map}s.
+     */
+    @Test
+    public void randomOperations ()
+    {
+        final Random random = new Random ( 42 );
+        final UniqueNodeIndex<TestNode> index = new UniqueNodeIndex<TestNode> ();
+        final Map<String, TestNode> nodes = new HashMap<String, TestNode> ();
+        final Map<String, String> parents = new HashMap<String, String> ();
+        for ( int i = 0; i < COUNT * 20; i++ )
+        {
+            final String id = "node" + random.nextInt ( COUNT );
+            switch ( random.nextInt ( 4 ) )
+            {
+                case 0:
+                    final TestNode node = new TestNode ( id );
+                    index.putNode ( node );
+                    nodes.put ( id, node );
+                    break;
+
+                case 1:
+                    index.removeNode ( id );
+                    nodes.remove ( id );
+                    break;
+
+                case 2:
+                    final String parentId = "node" + random.nextInt ( COUNT );
+                    index.setParentId ( id, parentId );
+                    parents.put ( id, parentId );
+                    break;
+
+                default:
+                    index.setParentId ( id, null );
+                    parents.remove ( id );
+                    break;
+            }
+        }
+        for ( int i = 0; i < COUNT; i++ )
+        {
+            final String id = "node" + i;
+            checkNode ( index, id, nodes.get ( id ) );
+            checkParent ( index, id, parents.get ( id ) );
+        }
+        final Set<String> used = new HashSet<String> ( nodes.keySet () );
+        used.addAll ( parents.keySet () );
+        used.addAll ( parents.values () );
+        checkSize ( index, used.size () );
+    }
+
+    /**
+     * Asserts amount of identifiers in {@link UniqueNodeIndex}.
+     *
+     * @param index {@link UniqueNodeIndex}
+     * @param size  expected amount of identifiers
+     */
+    private void checkSize ( final UniqueNodeIndex<TestNode> index, final int size )
+    {
+        if ( index.size () != size )
+        {
+            throw new RuntimeException ( "Unexpected index size: " + index.size () + ", expected: " + size );
+        }
+    }
+
+    /**
+     * Asserts node stored in {@link UniqueNodeIndex} under the specified identifier.
+     *
+     * @param index {@link UniqueNodeIndex}
+     * @param id    node identifier
+     * @param node  expected node
+     */
+    private void checkNode ( final UniqueNodeIndex<TestNode> index, final String id, final TestNode node )
+    {
+        if ( index.getNode ( id ) != node )
+        {
+            throw new RuntimeException ( "Unexpected node for " + id + ": " + index.getNode ( id ) + ", expected: " + node );
+        }
+    }
+
+    /**
+     * Asserts parent identifier stored in {@link UniqueNodeIndex} for the specified identifier.
+     *
+     * @param index    {@link UniqueNodeIndex}
+     * @param id       node identifier
+     * @param parentId expected parent identifier
+     */
+    private void checkParent ( final UniqueNodeIndex<TestNode> index, final String id, final String parentId )
+    {
+        final String actual = index.getParentId ( id );
+        if ( parentId != null ? !parentId.equals ( actual ) : actual != null )
+        {
+            throw new RuntimeException ( "Unexpected parent for " + id + ": " + actual + ", expected: " + parentId );
+        }
+    }
+
+    /**
+     * {@link UniqueNode} used in tests.
+     */
+    private static final class TestNode extends UniqueNode<TestNode, String>
+    {
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs new {@link TestNode}.
+         *
+         * @param id node identifier
+         */
+        public TestNode ( final String id )
+        {
+            super ( id, id );
+        }
+    }
+}
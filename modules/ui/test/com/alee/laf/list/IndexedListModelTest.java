@@ -0,0 +1,271 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.list;
+
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.*;
+
+/**
+ * Set of JUnit tests for {@link IndexedListModel}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class IndexedListModelTest
+{
+    /**
+     * Amount of elements used in tests.
+     */
+    private static final int COUNT = 1000;
+
+    /**
+     * Testing lookups of elements shifted by insertions and removals within the index shift window.
+     */
+    @Test
+    public void shiftedElements ()
+    {
+        final IndexedListModel<String> model = createModel ();
+        final List<String> expected = new ArrayList<String> ( model.getElements () );
+        checkIndices ( model, expected );
+
+        // Shifting all elements by few insertions at the start
+        for ( int i = 0; i < 5; i++ )
+        {
+            model.add ( 0, "inserted" + i );
+            expected.add ( 0, "inserted" + i );
+        }
+        checkIndices ( model, expected );
+
+        // Shifting elements back by few removals
+        for ( int i = 0; i < 3; i++ )
+        {
+            model.remove ( expected.get ( 10 ) );
+            expected.remove ( 10 );
+        }
+        model.removeInterval ( 100, 101 );
+        expected.subList ( 100, 102 ).clear ();
+        checkIndices ( model, expected );
+        if ( model.indexOf ( "element9" ) != 11 )
+        {
+            throw new RuntimeException ( "Unexpected element index: " + model.indexOf ( "element9" ) );
+        }
+    }
+
+    /**
+     * Testing that index is rebuilt once elements are shifted beyond the index shift window.
+     */
+    @Test
+    public void windowOverflow ()
+    {
+        final IndexedListModel<String> model = createModel ();
+        final List<String> expected = new ArrayList<String> ( model.getElements () );
+        checkIndices ( model, expected );
+        for ( int i = 0; i < 100; i++ )
+        {
+            model.add ( 0, "inserted" + i );
+            expected.add ( 0, "inserted" + i );
+            if ( model.indexOf ( "element" + ( COUNT - 1 ) ) != expected.size () - 1 )
+            {
+                throw new RuntimeException ( "Unexpected last element index after " + i + " insertions" );
+            }
+        }
+        checkIndices ( model, expected );
+    }
+
+    /**
+     * Testing that listeners can look up elements as soon as they are informed about changes.
+     */
+    @Test
+    public void listenersLookup ()
+    {
+        final IndexedListModel<String> model = createModel ();
+        model.indexOf ( "element0" );
+        final List<String> failures = new ArrayList<String> ();
+        model.addListDataListener ( new ListDataListener ()
+        {
+            @Override
+            public void intervalAdded ( final ListDataEvent e )
+            {
+                check ( e );
+            }
+
+            @Override
+            public void intervalRemoved ( final ListDataEvent e )
+            {
+                check ( e );
+            }
+
+            @Override
+            public void contentsChanged ( final ListDataEvent e )
+            {
+                check ( e );
+            }
+
+            /**
+             * Checks that all elements can be found at their current positions.
+             *
+             * @param e {@link ListDataEvent}
+             */
+            private void check ( final ListDataEvent e )
+            {
+                for ( int i = 0; i < model.getSize (); i++ )
+                {
+                    if ( model.indexOf ( model.get ( i ) ) != i )
+                    {
+                        failures.add ( e + ": " + model.get ( i ) );
+                        break;
+                    }
+                }
+            }
+        } );
+        model.add ( 10, "added" );
+        model.addAll ( 0, Arrays.asList ( "first", "second" ) );
+        model.set ( 500, "replaced" );
+        model.remove ( "element20" );
+        model.removeAll ( Arrays.asList ( "element30", "element31", "element700" ) );
+        if ( !failures.isEmpty () )
+        {
+            throw new RuntimeException ( "Elements cannot be found during events: " + failures );
+        }
+    }
+
+    /**
+     * Testing that first occurrence is found when model contains duplicate elements.
+     */
+    @Test
+    public void duplicateElements ()
+    {
+        final IndexedListModel<String> model = createModel ();
+        model.indexOf ( "element0" );
+        model.add ( "element5" );
+        model.set ( 10, "element3" );
+        if ( model.indexOf ( "element5" ) != 5 || model.indexOf ( "element3" ) != 3 )
+        {
+            throw new RuntimeException ( "First occurrence of duplicate element wasn't found" );
+        }
+        model.removeInterval ( 0, 5 );
+        if ( model.indexOf ( "element5" ) != model.getSize () - 1 || model.indexOf ( "element3" ) != 4 )
+        {
+            throw new RuntimeException ( "Remaining occurrence of duplicate element wasn't found" );
+        }
+    }
+
+    /**
+     * Testing random operations against reference {@link List}.
+     */
+    @Test
+    public void randomOperations ()
+    {
+        final Random random = new Random ( 42 );
+        final IndexedListModel<String> model = createModel ();
+        final List<String> expected = new ArrayList<String> ( model.getElements () );
+        int counter = 0;
+        for ( int i = 0; i < 2000; i++ )
+        {
+            switch ( random.nextInt ( 5 ) )
+            {
+                case 0:
+                    final int addIndex = random.nextInt ( expected.size () + 1 );
+                    final String added = "random" + counter++;
+                    model.add ( addIndex, added );
+                    expected.add ( addIndex, added );
+                    break;
+
+                case 1:
+                    if ( !expected.isEmpty () )
+                    {
+                        final String removed = expected.remove ( random.nextInt ( expected.size () ) );
+                        model.remove ( removed );
+                    }
+                    break;
+
+                case 2:
+                    if ( !expected.isEmpty () )
+                    {
+                        final int setIndex = random.nextInt ( expected.size () );
+                        final String set = "random" + counter++;
+                        model.set ( setIndex, set );
+                        expected.set ( setIndex, set );
+                    }
+                    break;
+
+                case 3:
+                    final List<String> bulk = new ArrayList<String> ();
+                    for ( int j = 0; j < 3 && !expected.isEmpty (); j++ )
+                    {
+                        bulk.add ( expected.remove ( random.nextInt ( expected.size () ) ) );
+                    }
+                    model.removeAll ( bulk );
+                    break;
+
+                default:
+                    if ( !expected.isEmpty () )
+                    {
+                        final String element = expected.get ( random.nextInt ( expected.size () ) );
+                        if ( model.indexOf ( element ) != expected.indexOf ( element ) )
+                        {
+                            throw new RuntimeException ( "Unexpected index of " + element );
+                        }
+                    }
+                    break;
+            }
+        }
+        checkIndices ( model, expected );
+    }
+
+    /**
+     * Returns new {@link IndexedListModel} with distinct elements.
+     *
+     * @return new {@link IndexedListModel} with distinct elements
+     */
+    private IndexedListModel<String> createModel ()
+    {
+        final List<String> elements = new ArrayList<String> ( COUNT );
+        for ( int i = 0; i < COUNT; i++ )
+        {
+            elements.add ( "element" + i );
+        }
+        return new IndexedListModel<String> ( elements );
+    }
+
+    /**
+     * Asserts that model contains expected elements and each of them is found at its position.
+     *
+     * @param model    {@link IndexedListModel}
+     * @param expected expected elements
+     */
+    private void checkIndices ( final IndexedListModel<String> model, final List<String> expected )
+    {
+        if ( !model.getElements ().equals ( expected ) )
+        {
+            throw new RuntimeException ( "Unexpected model elements" );
+        }
+        for ( int i = 0; i < expected.size (); i++ )
+        {
+            if ( model.indexOf ( expected.get ( i ) ) != i )
+            {
+                throw new RuntimeException ( "Unexpected index of " + expected.get ( i ) + ": " + model.indexOf ( expected.get ( i ) ) );
+            }
+        }
+    }
+}
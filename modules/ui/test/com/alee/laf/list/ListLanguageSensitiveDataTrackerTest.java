@@ -0,0 +1,132 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.list;
+
+import com.alee.managers.language.LanguageSensitive;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Set of JUnit tests for {@link ListLanguageSensitiveDataTracker}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class ListLanguageSensitiveDataTrackerTest
+{
+    /**
+     * Testing that tracker follows model changes.
+     */
+    @Test
+    public void modelChanges ()
+    {
+        final DefaultListModel<Object> model = new DefaultListModel<Object> ();
+        model.addElement ( "a" );
+        final ListLanguageSensitiveDataTracker tracker = new ListLanguageSensitiveDataTracker ();
+        tracker.setModel ( model );
+        checkState ( tracker, false );
+
+        model.addElement ( new Sensitive () );
+        checkState ( tracker, true );
+
+        model.removeElementAt ( 1 );
+        checkState ( tracker, false );
+
+        model.set ( 0, new Sensitive () );
+        checkState ( tracker, true );
+
+        tracker.setModel ( new DefaultListModel<Object> () );
+        checkState ( tracker, false );
+
+        // Previous model is no longer tracked
+        for ( final ListDataListener listener : model.getListDataListeners () )
+        {
+            if ( listener == tracker )
+            {
+                throw new RuntimeException ( "Previous model is still tracked" );
+            }
+        }
+    }
+
+    /**
+     * Testing that selection changes and updates fired by painters do not make state unknown.
+     */
+    @Test
+    public void ignoredEvents ()
+    {
+        final DefaultComboBoxModel<Object> model = new DefaultComboBoxModel<Object> ( new Object[]{ new Sensitive (), "a" } );
+        final AtomicInteger checks = new AtomicInteger ( 0 );
+        final ListLanguageSensitiveDataTracker tracker = new ListLanguageSensitiveDataTracker ()
+        {
+            @Override
+            protected boolean containsLanguageSensitive ( final ListDataEvent event )
+            {
+                if ( event == null )
+                {
+                    checks.incrementAndGet ();
+                }
+                return super.containsLanguageSensitive ( event );
+            }
+        };
+        tracker.setModel ( model );
+        checkState ( tracker, true );
+
+        model.setSelectedItem ( "a" );
+        tracker.contentsChanged ( new ListDataEvent ( new ListPainter (), ListDataEvent.CONTENTS_CHANGED, 0, 1 ) );
+        checkState ( tracker, true );
+        if ( checks.get () != 1 )
+        {
+            throw new RuntimeException ( "Ignored events caused full data check" );
+        }
+
+        tracker.contentsChanged ( new ListDataEvent ( model, ListDataEvent.CONTENTS_CHANGED, 0, 1 ) );
+        checkState ( tracker, true );
+        if ( checks.get () != 2 )
+        {
+            throw new RuntimeException ( "Data change was ignored" );
+        }
+        tracker.uninstall ();
+    }
+
+    /**
+     * Asserts tracker state.
+     *
+     * @param tracker   {@link ListLanguageSensitiveDataTracker}
+     * @param sensitive expected state
+     */
+    private void checkState ( final ListLanguageSensitiveDataTracker tracker, final boolean sensitive )
+    {
+        if ( tracker.isLanguageSensitive () != sensitive )
+        {
+            throw new RuntimeException ( "Unexpected language-sensitive state: " + tracker.isLanguageSensitive () );
+        }
+    }
+
+    /**
+     * {@link LanguageSensitive} element.
+     */
+    private static final class Sensitive implements LanguageSensitive
+    {
+    }
+}
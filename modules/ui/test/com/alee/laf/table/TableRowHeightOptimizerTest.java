@@ -0,0 +1,313 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.laf.table;
+
+import com.alee.utils.CoreSwingUtils;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableCellRenderer;
+import java.awt.*;
+
+/**
+ * Set of JUnit tests for {@link TableRowHeightOptimizer}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class TableRowHeightOptimizerTest
+{
+    /**
+     * Testing that row height is updated when table font changes.
+     */
+    @Test
+    public void fontChange ()
+    {
+        final JTable table = createTable ();
+        final TableRowHeightOptimizer optimizer = install ( table );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.setFont ( table.getFont ().deriveFont ( 40f ) );
+            }
+        } );
+        checkRowHeight ( table, 40 );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.setFont ( table.getFont ().deriveFont ( 60f ) );
+            }
+        } );
+        checkRowHeight ( table, 60 );
+        uninstall ( optimizer );
+    }
+
+    /**
+     * Testing that row height is updated when column renderer changes.
+     */
+    @Test
+    public void rendererChange ()
+    {
+        final JTable table = createTable ();
+        final TableRowHeightOptimizer optimizer = install ( table );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.getColumnModel ().getColumn ( 1 ).setCellRenderer ( new SizedRenderer ( 50 ) );
+            }
+        } );
+        checkRowHeight ( table, 50 );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.getColumnModel ().getColumn ( 1 ).setCellRenderer ( new SizedRenderer ( 5 ) );
+            }
+        } );
+        checkRowHeight ( table, 5 );
+        uninstall ( optimizer );
+    }
+
+    /**
+     * Testing that row height is updated when columns are moved or resized.
+     */
+    @Test
+    public void columnChanges ()
+    {
+        final JTable table = createTable ();
+        final TableRowHeightOptimizer optimizer = install ( table );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.getColumnModel ().getColumn ( 0 ).setCellRenderer ( new SizedRenderer ( 30 ) );
+            }
+        } );
+        checkRowHeight ( table, 30 );
+        final SizedRenderer renderer = ( SizedRenderer ) table.getColumnModel ().getColumn ( 0 ).getCellRenderer ();
+
+        renderer.height = 45;
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.moveColumn ( 0, 1 );
+            }
+        } );
+        checkRowHeight ( table, 45 );
+
+        renderer.height = 35;
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.getColumnModel ().getColumn ( 1 ).setWidth ( 120 );
+            }
+        } );
+        checkRowHeight ( table, 35 );
+        uninstall ( optimizer );
+    }
+
+    /**
+     * Testing that row height is updated when row height is set explicitly.
+     */
+    @Test
+    public void rowHeightChange ()
+    {
+        final JTable table = createTable ();
+        final TableRowHeightOptimizer optimizer = install ( table );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.getColumnModel ().getColumn ( 0 ).setCellRenderer ( new SizedRenderer ( 30 ) );
+            }
+        } );
+        checkRowHeight ( table, 30 );
+        final SizedRenderer renderer = ( SizedRenderer ) table.getColumnModel ().getColumn ( 0 ).getCellRenderer ();
+
+        renderer.height = 25;
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                table.setRowHeight ( 10 );
+            }
+        } );
+        checkRowHeight ( table, 25 );
+        uninstall ( optimizer );
+    }
+
+    /**
+     * Returns new test {@link JTable}.
+     *
+     * @return new test {@link JTable}
+     */
+    private JTable createTable ()
+    {
+        final JTable[] table = new JTable[ 1 ];
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                final Object[][] data = { { "a", "b" }, { "c", "d" } };
+                table[ 0 ] = new JTable ( new DefaultTableModel ( data, new Object[]{ "1", "2" } ) );
+                table[ 0 ].setRowHeight ( 1 );
+                table[ 0 ].getColumnModel ().getColumn ( 0 ).setCellRenderer ( new SizedRenderer ( 1 ) );
+                table[ 0 ].getColumnModel ().getColumn ( 1 ).setCellRenderer ( new FontRenderer () );
+                table[ 0 ].setFont ( table[ 0 ].getFont ().deriveFont ( 1f ) );
+            }
+        } );
+        return table[ 0 ];
+    }
+
+    /**
+     * Returns {@link TableRowHeightOptimizer} installed into specified {@link JTable}.
+     *
+     * @param table {@link JTable}
+     * @return {@link TableRowHeightOptimizer} installed into specified {@link JTable}
+     */
+    private TableRowHeightOptimizer install ( final JTable table )
+    {
+        final TableRowHeightOptimizer optimizer = new TableRowHeightOptimizer ( table );
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                optimizer.install ();
+            }
+        } );
+        return optimizer;
+    }
+
+    /**
+     * Uninstalls {@link TableRowHeightOptimizer}.
+     *
+     * @param optimizer {@link TableRowHeightOptimizer}
+     */
+    private void uninstall ( final TableRowHeightOptimizer optimizer )
+    {
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                optimizer.uninstall ();
+            }
+        } );
+    }
+
+    /**
+     * Performs specified action on the Event Dispatch Thread.
+     *
+     * @param action action to perform
+     */
+    private void perform ( final Runnable action )
+    {
+        CoreSwingUtils.invokeAndWait ( action );
+    }
+
+    /**
+     * Asserts {@link JTable} row height once all scheduled optimizations are performed.
+     *
+     * @param table  {@link JTable}
+     * @param height expected row height
+     */
+    private void checkRowHeight ( final JTable table, final int height )
+    {
+        perform ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                // Waiting for scheduled optimization
+            }
+        } );
+        if ( table.getRowHeight () != height )
+        {
+            throw new RuntimeException ( "Unexpected row height: " + table.getRowHeight () + ", expected: " + height );
+        }
+    }
+
+    /**
+     * {@link TableCellRenderer} with configurable preferred height.
+     */
+    private static final class SizedRenderer extends DefaultTableCellRenderer
+    {
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Preferred renderer height.
+         */
+        private volatile int height;
+
+        /**
+         * Constructs new {@link SizedRenderer}.
+         *
+         * @param height preferred renderer height
+         */
+        public SizedRenderer ( final int height )
+        {
+            this.height = height;
+        }
+
+        @Override
+        public Dimension getPreferredSize ()
+        {
+            return new Dimension ( 10, height );
+        }
+    }
+
+    /**
+     * {@link TableCellRenderer} which preferred height is equal to table font size.
+     */
+    private static final class FontRenderer extends DefaultTableCellRenderer
+    {
+        /**
+         * Serialization version.
+         */
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Dimension getPreferredSize ()
+        {
+            return new Dimension ( 10, getFont () != null ? getFont ().getSize () : 0 );
+        }
+    }
+}
@@ -0,0 +1,308 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.managers.style.data;
+
+import com.alee.api.resource.ClassResource;
+import com.alee.api.resource.Resource;
+import com.alee.laf.WebLookAndFeel;
+import com.alee.skin.dark.WebDarkSkin;
+import com.alee.skin.flat.FlatSkin;
+import com.alee.skin.light.WebLightSkin;
+import com.alee.skin.material.MaterialSkin;
+import com.alee.skin.modena.ModenaSkin;
+import com.alee.utils.CoreSwingUtils;
+import com.alee.utils.FileUtils;
+import com.alee.utils.XmlUtils;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import javax.swing.*;
+import java.io.*;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Set of JUnit tests for {@link SkinSnapshot}.
+ *
+ * @author Mikle Garin
+ */
+@FixMethodOrder ( MethodSorters.JVM )
+public final class SkinSnapshotTest
+{
+    /**
+     * Initializes {@link WebLookAndFeel}.
+     */
+    @BeforeClass
+    public static void initialize ()
+    {
+        CoreSwingUtils.invokeAndWait ( new Runnable ()
+        {
+            @Override
+            public void run ()
+            {
+                WebLookAndFeel.setForceSingleEventsThread ( true );
+                WebLookAndFeel.install ();
+            }
+        } );
+    }
+
+    /**
+     * Testing that snapshots are not used unless enabled explicitly.
+     */
+    @Test
+    public void disabledByDefault ()
+    {
+        if ( SkinSnapshot.getDirectory () != null )
+        {
+            throw new RuntimeException ( "Skin snapshots should be disabled by default" );
+        }
+    }
+
+    /**
+     * Testing that {@link SkinInfo} loaded from snapshot is identical to the one parsed from XML.
+     *
+     * @throws IOException if temporary file cannot be created
+     */
+    @Test
+    public void roundTrip () throws IOException
+    {
+        checkRoundTrip ( new ClassResource ( WebLightSkin.class, "resources/web-light-skin.xml" ) );
+        checkRoundTrip ( new ClassResource ( WebDarkSkin.class, "resources/web-dark-skin.xml" ) );
+        checkRoundTrip ( new ClassResource ( FlatSkin.class, "resources/flat-skin.xml" ) );
+        checkRoundTrip ( new ClassResource ( MaterialSkin.class, "resources/material-skin.xml" ) );
+        checkRoundTrip ( new ClassResource ( ModenaSkin.class, "resources/modena-skin.xml" ) );
+    }
+
+    /**
+     * Testing that snapshot containing classes that are not allowed is rejected.
+     *
+     * @throws IOException if temporary file cannot be created
+     */
+    @Test
+    public void rejectedClasses () throws IOException
+    {
+        final Resource resource = new ClassResource ( WebLightSkin.class, "resources/web-light-skin.xml" );
+        final File snapshot = File.createTempFile ( "SkinSnapshotTest", ".skin" );
+        final File modified = File.createTempFile ( "SkinSnapshotTest", ".skin" );
+        try
+        {
+            if ( !SkinSnapshot.compile ( resource, snapshot ) )
+            {
+                throw new RuntimeException ( "Unable to compile skin snapshot" );
+            }
+
+            // Replacing skin with an object that is not allowed in snapshot
+            final ObjectInputStream ois = new ObjectInputStream ( new FileInputStream ( snapshot ) );
+            final ObjectOutputStream oos = new ObjectOutputStream ( new FileOutputStream ( modified ) );
+            try
+            {
+                oos.writeInt ( ois.readInt () );
+                oos.writeUTF ( ois.readUTF () );
+                oos.writeUTF ( ois.readUTF () );
+                oos.writeInt ( 0 );
+                oos.writeObject ( new TreeSet<String> () );
+            }
+            finally
+            {
+                ois.close ();
+                oos.close ();
+            }
+
+            if ( SkinSnapshot.read ( modified, resource ) != null )
+            {
+                throw new RuntimeException ( "Snapshot with class that is not allowed was accepted" );
+            }
+        }
+        finally
+        {
+            snapshot.delete ();
+            modified.delete ();
+        }
+    }
+
+    /**
+     * Testing that snapshot of the skin using class that is not allowed in snapshot is not written.
+     *
+     * @throws IOException if temporary file cannot be created
+     */
+    @Test
+    public void disallowedProperty () throws IOException
+    {
+        final File directory = File.createTempFile ( "SkinSnapshotTest", "" );
+        directory.delete ();
+        directory.mkdirs ();
+        try
+        {
+            final File snapshot = new File ( directory, "disallowed.skin" );
+            final Resource resource = new ClassResource ( SkinSnapshotTest.class, "resources/disallowed-skin.xml" );
+            if ( SkinSnapshot.compile ( resource, snapshot ) )
+            {
+                throw new RuntimeException ( "Snapshot with class that is not allowed was written" );
+            }
+            final String[] files = directory.list ();
+            if ( files == null || files.length != 0 )
+            {
+                throw new RuntimeException ( "Snapshot files were left: " + Arrays.toString ( files ) );
+            }
+        }
+        finally
+        {
+            FileUtils.deleteFile ( directory );
+        }
+    }
+
+    /**
+     * Asserts that {@link SkinInfo} loaded from snapshot is identical to the one parsed from XML.
+     *
+     * @param resource skin XML {@link Resource}
+     * @throws IOException if temporary file cannot be created
+     */
+    private void checkRoundTrip ( final Resource resource ) throws IOException
+    {
+        final File file = File.createTempFile ( "SkinSnapshotTest", ".skin" );
+        try
+        {
+            if ( !SkinSnapshot.compile ( resource, file ) )
+            {
+                throw new RuntimeException ( "Unable to compile skin snapshot: " + resource );
+            }
+            final SkinInfo snapshot = SkinSnapshot.read ( file, resource );
+            if ( snapshot == null )
+            {
+                throw new RuntimeException ( "Unable to read skin snapshot: " + resource );
+            }
+            final SkinInfo parsed = XmlUtils.fromXML ( resource );
+            compare ( "SkinInfo", parsed, snapshot, new IdentityHashMap<Object, Object> () );
+        }
+        finally
+        {
+            file.delete ();
+        }
+    }
+
+    /**
+     * Asserts that specified objects are identical.
+     * Library objects are compared field by field, including transient fields.
+     *
+     * @param path     path to the compared objects
+     * @param expected expected object
+     * @param actual   actual object
+     * @param visited  already compared library objects
+     */
+    private void compare ( final String path, final Object expected, final Object actual, final Map<Object, Object> visited )
+    {
+        if ( expected == null || actual == null )
+        {
+            if ( expected != actual )
+            {
+                throw new RuntimeException ( "Unexpected value at " + path + ": " + actual + ", expected: " + expected );
+            }
+        }
+        else if ( expected.getClass () != actual.getClass () )
+        {
+            throw new RuntimeException ( "Unexpected type at " + path + ": " + actual.getClass () + ", expected: " + expected.getClass () );
+        }
+        else if ( expected.getClass ().isArray () )
+        {
+            if ( Array.getLength ( expected ) != Array.getLength ( actual ) )
+            {
+                throw new RuntimeException ( "Unexpected array length at " + path );
+            }
+            for ( int i = 0; i < Array.getLength ( expected ); i++ )
+            {
+                compare ( path + "[" + i + "]", Array.get ( expected, i ), Array.get ( actual, i ), visited );
+            }
+        }
+        else if ( expected instanceof List )
+        {
+            final List<?> expectedList = ( List<?> ) expected;
+            final List<?> actualList = ( List<?> ) actual;
+            if ( expectedList.size () != actualList.size () )
+            {
+                throw new RuntimeException ( "Unexpected list size at " + path );
+            }
+            for ( int i = 0; i < expectedList.size (); i++ )
+            {
+                compare ( path + "[" + i + "]", expectedList.get ( i ), actualList.get ( i ), visited );
+            }
+        }
+        else if ( expected instanceof Map )
+        {
+            final Map<?, ?> expectedMap = ( Map<?, ?> ) expected;
+            final Map<?, ?> actualMap = ( Map<?, ?> ) actual;
+            if ( !expectedMap.keySet ().equals ( actualMap.keySet () ) )
+            {
+                throw new RuntimeException ( "Unexpected map keys at " + path + ": " + actualMap.keySet () );
+            }
+            for ( final Map.Entry<?, ?> entry : expectedMap.entrySet () )
+            {
+                compare ( path + "[" + entry.getKey () + "]", entry.getValue (), actualMap.get ( entry.getKey () ), visited );
+            }
+        }
+        else if ( expected instanceof ImageIcon )
+        {
+            final ImageIcon expectedIcon = ( ImageIcon ) expected;
+            final ImageIcon actualIcon = ( ImageIcon ) actual;
+            if ( expectedIcon.getIconWidth () != actualIcon.getIconWidth () ||
+                    expectedIcon.getIconHeight () != actualIcon.getIconHeight () )
+            {
+                throw new RuntimeException ( "Unexpected icon at " + path );
+            }
+        }
+        else if ( expected.getClass ().getName ().startsWith ( "com.alee." ) && !expected.getClass ().isEnum () )
+        {
+            if ( visited.containsKey ( expected ) )
+            {
+                if ( visited.get ( expected ) != actual )
+                {
+                    throw new RuntimeException ( "Unexpected reference at " + path );
+                }
+            }
+            else
+            {
+                visited.put ( expected, actual );
+                for ( Class<?> type = expected.getClass (); type != null && type != Object.class; type = type.getSuperclass () )
+                {
+                    for ( final Field field : type.getDeclaredFields () )
+                    {
+                        if ( !Modifier.isStatic ( field.getModifiers () ) )
+                        {
+                            try
+                            {
+                                field.setAccessible ( true );
+                                compare ( path + "." + field.getName (), field.get ( expected ), field.get ( actual ), visited );
+                            }
+                            catch ( final IllegalAccessException e )
+                            {
+                                throw new RuntimeException ( e );
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        else if ( !expected.equals ( actual ) )
+        {
+            throw new RuntimeException ( "Unexpected value at " + path + ": " + actual + ", expected: " + expected );
+        }
+    }
+}
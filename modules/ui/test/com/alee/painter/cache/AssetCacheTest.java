@@ -0,0 +1,181 @@
+/*
+ * This file is part of WebLookAndFeel library.
+ *
+ * WebLookAndFeel library is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * WebLookAndFeel library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with WebLookAndFeel library.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package com.alee.painter.cache;
+
+import com.alee.utils.ninepatch.NinePatchIcon;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Set of JUnit tests for {@link AssetCache}.
+ *
+ * @author Mikle Garin
+ */
+public final class AssetCacheTest
+{
+    /**
+     * Size of a single test image in bytes.
+     */
+    private static final int IMAGE_SIZE = 10 * 10 * 4;
+
+    /**
+     * Preparing empty cache.
+     */
+    @Before
+    public void before ()
+    {
+        AssetCache.clear ();
+        AssetCache.getStatistics ().reset ();
+        AssetCache.setBudget ( IMAGE_SIZE * 2 );
+    }
+
+    /**
+     * Restoring default cache settings.
+     */
+    @After
+    public void after ()
+    {
+        AssetCache.clear ();
+        AssetCache.getStatistics ().reset ();
+        AssetCache.setBudget ( AssetCache.DEFAULT_BUDGET );
+    }
+
+    /**
+     * Testing structured keys equality.
+     */
+    @Test
+    public void keyEquality ()
+    {
+        final AssetKey key = new AssetKey ( "test", 1, 0.5f, Color.BLACK, new Object[]{ "a", 2 } );
+        final AssetKey same = new AssetKey ( "test", 1, 0.5f, Color.BLACK, new Object[]{ "a", 2 } );
+        final AssetKey other = new AssetKey ( "test", 1, 0.5f, Color.BLACK, new Object[]{ "a", 3 } );
+        if ( !key.equals ( same ) || key.hashCode () != same.hashCode () || key.equals ( other ) )
+        {
+            throw new RuntimeException ( "Unexpected key equality" );
+        }
+    }
+
+    /**
+     * Testing least recently used assets eviction once memory budget is exceeded.
+     */
+    @Test
+    public void budgetEviction ()
+    {
+        final AssetKey a = new AssetKey ( "test", "a" );
+        final AssetKey b = new AssetKey ( "test", "b" );
+        final AssetKey c = new AssetKey ( "test", "c" );
+        AssetCache.put ( a, createImage () );
+        AssetCache.put ( b, createImage () );
+        AssetCache.get ( a, BufferedImage.class );
+        AssetCache.put ( c, createImage () );
+
+        if ( !isCached ( a ) || isCached ( b ) || !isCached ( c ) )
+        {
+            throw new RuntimeException ( "Least recently used asset was not evicted" );
+        }
+        if ( AssetCache.getMemoryUsage () != IMAGE_SIZE * 2 || AssetCache.getStatistics ().getEvictions () != 1 )
+        {
+            throw new RuntimeException ( "Unexpected memory usage: " + AssetCache.getMemoryUsage () );
+        }
+
+        AssetCache.setBudget ( IMAGE_SIZE );
+        if ( AssetCache.size () != 1 || AssetCache.getMemoryUsage () != IMAGE_SIZE )
+        {
+            throw new RuntimeException ( "Cache was not trimmed to the new budget" );
+        }
+    }
+
+    /**
+     * Testing that asset exceeding memory budget on its own is never cached.
+     */
+    @Test
+    public void oversizedAsset ()
+    {
+        final AssetKey key = new AssetKey ( "test", "large" );
+        final BufferedImage image = new BufferedImage ( 100, 100, BufferedImage.TYPE_INT_ARGB );
+        if ( AssetCache.put ( key, image ) != image )
+        {
+            throw new RuntimeException ( "Asset should be returned even if it wasn't cached" );
+        }
+        if ( isCached ( key ) || AssetCache.getMemoryUsage () != 0 )
+        {
+            throw new RuntimeException ( "Asset exceeding memory budget was cached" );
+        }
+    }
+
+    /**
+     * Testing memory accounting when assets are replaced or cleared by producer.
+     */
+    @Test
+    public void memoryAccounting ()
+    {
+        final AssetKey key = new AssetKey ( "first", "a" );
+        AssetCache.put ( key, createImage () );
+        AssetCache.put ( key, createImage () );
+        AssetCache.put ( new AssetKey ( "second", "a" ), createImage () );
+        if ( AssetCache.size () != 2 || AssetCache.getMemoryUsage () != IMAGE_SIZE * 2 )
+        {
+            throw new RuntimeException ( "Replaced asset memory wasn't released: " + AssetCache.getMemoryUsage () );
+        }
+
+        AssetCache.clear ( "first" );
+        if ( AssetCache.size () != 1 || AssetCache.getMemoryUsage () != IMAGE_SIZE || isCached ( key ) )
+        {
+            throw new RuntimeException ( "Producer assets weren't cleared: " + AssetCache.getMemoryUsage () );
+        }
+    }
+
+    /**
+     * Testing that asset of a different type is not returned.
+     */
+    @Test
+    public void assetType ()
+    {
+        final AssetKey key = new AssetKey ( "test", "a" );
+        AssetCache.put ( key, createImage () );
+        if ( AssetCache.get ( key, NinePatchIcon.class ) != null || !isCached ( key ) )
+        {
+            throw new RuntimeException ( "Asset of unexpected type was returned" );
+        }
+    }
+
+    /**
+     * Returns whether or not image is cached under the specified {@link AssetKey}.
+     *
+     * @param key {@link AssetKey}
+     * @return {@code true} if image is cached under the specified {@link AssetKey}, {@code false} otherwise
+     */
+    private static boolean isCached ( final AssetKey key )
+    {
+        return AssetCache.get ( key, BufferedImage.class ) != null;
+    }
+
+    /**
+     * Returns new test image.
+     *
+     * @return new test image
+     */
+    private static BufferedImage createImage ()
+    {
+        return new BufferedImage ( 10, 10, BufferedImage.TYPE_INT_ARGB );
+    }
+}